@@ -0,0 +1,144 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.array;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares an {@link ArrayContainer} with {@link ArrayList} and {@link ArrayDeque} when inserting at the head, in the
+ * middle and at the tail, and when reading by index.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArrayContainerBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int itemsCount;
+
+    private ArrayContainer<Integer> filledContainer;
+
+    private ArrayList<Integer> filledList;
+
+    @Setup
+    public void setUp() {
+        filledContainer = new ArrayContainer<>();
+        filledList = new ArrayList<>();
+
+        for (int item = 0; item < itemsCount; item++) {
+            filledContainer.append(item);
+            filledList.add(item);
+        }
+    }
+
+    @Benchmark
+    public ArrayContainer<Integer> containerAppend() {
+        final ArrayContainer<Integer> container = new ArrayContainer<>();
+        for (int item = 0; item < itemsCount; item++)
+            container.append(item);
+
+        return container;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> listAppend() {
+        final ArrayList<Integer> list = new ArrayList<>();
+        for (int item = 0; item < itemsCount; item++)
+            list.add(item);
+
+        return list;
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> dequeAppend() {
+        final ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for (int item = 0; item < itemsCount; item++)
+            deque.addLast(item);
+
+        return deque;
+    }
+
+    @Benchmark
+    public ArrayContainer<Integer> containerPrepend() {
+        final ArrayContainer<Integer> container = new ArrayContainer<>();
+        for (int item = 0; item < itemsCount; item++)
+            container.prepend(item);
+
+        return container;
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> dequePrepend() {
+        final ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for (int item = 0; item < itemsCount; item++)
+            deque.addFirst(item);
+
+        return deque;
+    }
+
+    @Benchmark
+    public ArrayContainer<Integer> containerInsertMiddle() {
+        final ArrayContainer<Integer> container = new ArrayContainer<>();
+        for (int item = 0; item < itemsCount; item++)
+            container.insert(item / 2, item);
+
+        return container;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> listInsertMiddle() {
+        final ArrayList<Integer> list = new ArrayList<>();
+        for (int item = 0; item < itemsCount; item++)
+            list.add(item / 2, item);
+
+        return list;
+    }
+
+    @Benchmark
+    public long containerGet() {
+        long sum = 0;
+        for (int index = 0; index < itemsCount; index++)
+            sum += filledContainer.get(index);
+
+        return sum;
+    }
+
+    @Benchmark
+    public long listGet() {
+        long sum = 0;
+        for (int index = 0; index < itemsCount; index++)
+            sum += filledList.get(index);
+
+        return sum;
+    }
+}
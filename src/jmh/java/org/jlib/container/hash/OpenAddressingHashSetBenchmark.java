@@ -0,0 +1,106 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares an {@link OpenAddressingHashSet} with {@link HashSet} when adding Items and when looking up contained and
+ * missing Items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenAddressingHashSetBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int itemsCount;
+
+    private Integer[] items;
+
+    private OpenAddressingHashSet<Integer> filledOpenAddressingSet;
+
+    private HashSet<Integer> filledHashSet;
+
+    @Setup
+    public void setUp() {
+        items = new Integer[2 * itemsCount];
+        filledOpenAddressingSet = new OpenAddressingHashSet<>();
+        filledHashSet = new HashSet<>();
+
+        for (int index = 0; index < items.length; index++)
+            items[index] = index * 31;
+
+        for (int index = 0; index < itemsCount; index++) {
+            filledOpenAddressingSet.add(items[index]);
+            filledHashSet.add(items[index]);
+        }
+    }
+
+    @Benchmark
+    public OpenAddressingHashSet<Integer> openAddressingSetAdd() {
+        final OpenAddressingHashSet<Integer> set = new OpenAddressingHashSet<>();
+        for (int index = 0; index < itemsCount; index++)
+            set.add(items[index]);
+
+        return set;
+    }
+
+    @Benchmark
+    public HashSet<Integer> hashSetAdd() {
+        final HashSet<Integer> set = new HashSet<>();
+        for (int index = 0; index < itemsCount; index++)
+            set.add(items[index]);
+
+        return set;
+    }
+
+    @Benchmark
+    public int openAddressingSetContains() {
+        int containedCount = 0;
+        for (final Integer item : items)
+            if (filledOpenAddressingSet.contains(item))
+                containedCount++;
+
+        return containedCount;
+    }
+
+    @Benchmark
+    public int hashSetContains() {
+        int containedCount = 0;
+        for (final Integer item : items)
+            if (filledHashSet.contains(item))
+                containedCount++;
+
+        return containedCount;
+    }
+}
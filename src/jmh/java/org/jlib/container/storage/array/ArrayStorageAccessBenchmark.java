@@ -0,0 +1,133 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.array;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the checked accessors of the array based storages with their unchecked counterparts and plain array access.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArrayStorageAccessBenchmark {
+
+    @Param({ "1024", "65536" })
+    private int capacity;
+
+    private ArrayStorage<Integer> storage;
+
+    private IntArrayStorage intStorage;
+
+    private int[] array;
+
+    @Setup
+    public void setUp() {
+        storage = new ArrayStorage<>(capacity);
+        intStorage = new IntArrayStorage(capacity);
+        array = new int[capacity];
+
+        for (int index = 0; index < capacity; index++) {
+            storage.set(index, index);
+            intStorage.setInt(index, index);
+            array[index] = index;
+        }
+    }
+
+    @Benchmark
+    public long checkedGet() {
+        long sum = 0;
+        for (int index = 0; index < capacity; index++)
+            sum += storage.get(index);
+
+        return sum;
+    }
+
+    @Benchmark
+    public long uncheckedGet() {
+        long sum = 0;
+        for (int index = 0; index < capacity; index++)
+            sum += storage.uncheckedGet(index);
+
+        return sum;
+    }
+
+    @Benchmark
+    public long checkedGetInt() {
+        long sum = 0;
+        for (int index = 0; index < capacity; index++)
+            sum += intStorage.getInt(index);
+
+        return sum;
+    }
+
+    @Benchmark
+    public long uncheckedGetInt() {
+        long sum = 0;
+        for (int index = 0; index < capacity; index++)
+            sum += intStorage.uncheckedGetInt(index);
+
+        return sum;
+    }
+
+    @Benchmark
+    public long arrayGet() {
+        long sum = 0;
+        for (int index = 0; index < capacity; index++)
+            sum += array[index];
+
+        return sum;
+    }
+
+    @Benchmark
+    public IntArrayStorage checkedSetInt() {
+        for (int index = 0; index < capacity; index++)
+            intStorage.setInt(index, index + 1);
+
+        return intStorage;
+    }
+
+    @Benchmark
+    public IntArrayStorage uncheckedSetInt() {
+        for (int index = 0; index < capacity; index++)
+            intStorage.uncheckedSetInt(index, index + 1);
+
+        return intStorage;
+    }
+
+    @Benchmark
+    public int[] arraySet() {
+        for (int index = 0; index < capacity; index++)
+            array[index] = index + 1;
+
+        return array;
+    }
+}
@@ -29,6 +29,7 @@ import org.jlib.container.operation.ToArray;
 import org.jlib.container.operation.ToRandomAccessList;
 import org.jlib.container.operation.ToSequentialList;
 import org.jlib.container.operation.ToSet;
+import org.jlib.container.operation.ToStream;
 
 public interface Container<Item>
     extends Iterable<Item>,
@@ -39,6 +40,7 @@ public interface Container<Item>
             ToArray<Item>,
             ToRandomAccessList<Item>,
             ToSequentialList<Item>,
-            ToSet<Item> {
+            ToSet<Item>,
+            ToStream<Item> {
     // unifying
 }
@@ -0,0 +1,706 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.array;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Arrays.asList;
+import static org.jlib.array.ArrayUtility.array;
+import org.jlib.container.Container;
+import org.jlib.container.basefunction.CachedSequenceHashCode;
+import org.jlib.container.basefunction.IncrementalSequenceHashCode;
+import org.jlib.container.basefunction.SequenceHashCode;
+import org.jlib.container.iterator.NoItemToReplaceException;
+import org.jlib.container.iterator.ReplaceRemoveIterable;
+import org.jlib.container.iterator.ReplaceRemoveIterator;
+import org.jlib.container.operation.ArrayAdoptingList;
+import org.jlib.container.operation.ContainsSingle;
+import org.jlib.container.operation.CopyToArray;
+import org.jlib.container.operation.InvalidContainerIndexException;
+import org.jlib.container.operation.ItemToRemoveNotContainedException;
+import org.jlib.container.operation.RemoveAll;
+import org.jlib.container.operation.RemoveMultipleByValue;
+import org.jlib.container.operation.RemoveSingleByValue;
+import org.jlib.container.operation.Retain;
+import org.jlib.container.operation.containsadapter.ContainsAdapter;
+import org.jlib.container.storage.CompactingRemoveMultipleByValue;
+import org.jlib.container.storage.CompactingRetain;
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.LinearIndexStorageSpliterator;
+import org.jlib.container.storage.array.ArrayStorage;
+import org.jlib.container.storage.capacity.CapacityStrategy;
+import org.jlib.container.storage.capacity.CapacityStrategyFactory;
+import org.jlib.container.storage.capacity.adaptive.AdaptiveCapacityStrategy;
+import org.jlib.iterable.NoItemToRemoveException;
+import static org.jlib.message.Messages.mfmessage;
+import static org.jlib.numeric.Numeric.countInclusive;
+
+/**
+ * <p>
+ * Indexed {@link Container} holding its Items in an {@link ArrayStorage}, indexed from <em>0</em> to
+ * <em>count - 1</em>.
+ * </p>
+ * <p>
+ * Items can be inserted at the head, between two Items or at the tail. The capacity of the {@link ArrayStorage} is
+ * managed by a {@link CapacityStrategy}, by default an {@link AdaptiveCapacityStrategy} reserving head and tail
+ * capacity in proportion to the observed requests. Hence, inserting at either end takes amortized constant time.
+ * Removing an index range shifts the shorter of the remaining parts.
+ * </p>
+ * <p>
+ * The indices are verified once per operation, then the Items are accessed by the unchecked accessors of the
+ * {@link ArrayStorage}. Removing the Items contained in another container or retaining them compacts the remaining
+ * Items in a single pass.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items held in the {@link ArrayContainer}
+ */
+public class ArrayContainer<Item>
+    implements Container<Item>,
+               CachedSequenceHashCode<Item>,
+               CopyToArray<Item>,
+               ReplaceRemoveIterable<Item>,
+               RemoveSingleByValue<Item>,
+               RemoveMultipleByValue<Item>,
+               RemoveAll<Item>,
+               Retain<Item> {
+
+    /** default initial capacity */
+    public static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /** {@link ArrayStorage} holding the Items */
+    private final ArrayStorage<Item> storage;
+
+    /** {@link IndexRange} of the Items in {@link #storage} */
+    private final IndexRange contentIndexRange;
+
+    /** {@link CapacityStrategy} managing the capacity of {@link #storage} */
+    private final CapacityStrategy capacityStrategy;
+
+    /** {@link CompactingRemoveMultipleByValue} of the Items */
+    private final CompactingRemoveMultipleByValue<Item> removeMultiple;
+
+    /** {@link CompactingRetain} of the Items */
+    private final CompactingRetain<Item> retain;
+
+    /** incrementally maintained sequence hash code; {@code null} if not maintained */
+    private IncrementalSequenceHashCode sequenceHashCode;
+
+    public ArrayContainer() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public ArrayContainer(final int initialCapacity) {
+        this(initialCapacity, AdaptiveCapacityStrategy::new);
+    }
+
+    /**
+     * Creates a new empty {@link ArrayContainer}.
+     *
+     * @param initialCapacity
+     *        integer specifying the initial capacity
+     *
+     * @param capacityStrategyFactory
+     *        {@link CapacityStrategyFactory} creating the {@link CapacityStrategy} managing the capacity
+     */
+    public ArrayContainer(final int initialCapacity, final CapacityStrategyFactory capacityStrategyFactory) {
+        storage = new ArrayStorage<>(initialCapacity);
+        contentIndexRange = new IndexRange(0, - 1);
+        capacityStrategy = capacityStrategyFactory.createCapacityStrategy(storage, contentIndexRange);
+        removeMultiple = new CompactingRemoveMultipleByValue<>(storage, contentIndexRange);
+        retain = new CompactingRetain<>(storage, contentIndexRange);
+    }
+
+    @Override
+    public int count() {
+        return contentIndexRange.itemsCount();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return contentIndexRange.itemsCount() == 0;
+    }
+
+    /**
+     * Returns the Item stored at the specified index.
+     *
+     * @param index
+     *        integer specifying the index of the Item
+     *
+     * @return Item stored at {@code index}
+     *
+     * @throws InvalidContainerIndexException
+     *         if {@code index < 0 || index > count() - 1}
+     */
+    public Item get(final int index)
+        throws InvalidContainerIndexException {
+        ensureIndexValid("index", index);
+
+        return storage.uncheckedGet(contentIndexRange.getMinimum() + index);
+    }
+
+    /**
+     * Replaces the Item stored at the specified index by the specified Item.
+     *
+     * @param index
+     *        integer specifying the index of the Item
+     *
+     * @param newItem
+     *        new Item replacing the former
+     *
+     * @throws InvalidContainerIndexException
+     *         if {@code index < 0 || index > count() - 1}
+     */
+    public void set(final int index, final Item newItem)
+        throws InvalidContainerIndexException {
+        ensureIndexValid("index", index);
+
+        safeSet(index, newItem);
+    }
+
+    /**
+     * Replaces the Item stored at the specified valid index, updating the maintained sequence hash code.
+     *
+     * @param index
+     *        integer specifying the index of the Item
+     *
+     * @param newItem
+     *        new Item replacing the former
+     */
+    private void safeSet(final int index, final Item newItem) {
+        final int storageIndex = contentIndexRange.getMinimum() + index;
+
+        if (sequenceHashCode != null)
+            sequenceHashCode.replace(count() - 1 - index, storage.uncheckedGet(storageIndex), newItem);
+
+        storage.uncheckedSet(storageIndex, newItem);
+    }
+
+    /**
+     * Inserts the specified Item in front of the first Item.
+     *
+     * @param item
+     *        inserted Item
+     */
+    public void prepend(final Item item) {
+        capacityStrategy.ensureHeadCapacity(1);
+
+        contentIndexRange.incrementMinimum(- 1);
+        storage.uncheckedSet(contentIndexRange.getMinimum(), item);
+
+        if (sequenceHashCode != null)
+            sequenceHashCode.prepend(item);
+    }
+
+    /**
+     * Inserts the specified Item behind the last Item.
+     *
+     * @param item
+     *        inserted Item
+     */
+    public void append(final Item item) {
+        capacityStrategy.ensureTailCapacity(1);
+
+        contentIndexRange.incrementMaximum(1);
+        storage.uncheckedSet(contentIndexRange.getMaximum(), item);
+
+        if (sequenceHashCode != null)
+            sequenceHashCode.append(item);
+    }
+
+    /**
+     * Inserts the specified Item at the specified index. The indices of the Items formerly stored at {@code index} or
+     * behind are incremented.
+     *
+     * @param index
+     *        integer specifying the index of the inserted Item
+     *
+     * @param item
+     *        inserted Item
+     *
+     * @throws InvalidContainerIndexException
+     *         if {@code index < 0 || index > count()}
+     */
+    public void insert(final int index, final Item item)
+        throws InvalidContainerIndexException {
+        ensureInsertIndexValid(index);
+
+        if (index == 0) {
+            prepend(item);
+            return;
+        }
+
+        if (index == count()) {
+            append(item);
+            return;
+        }
+
+        capacityStrategy.ensureSplitCapacity(contentIndexRange.getMinimum() + index, 1);
+
+        storage.uncheckedSet(contentIndexRange.getMinimum() + index, item);
+
+        if (sequenceHashCode != null)
+            sequenceHashCode.invalidate();
+    }
+
+    /**
+     * Inserts the specified Items at the specified index. The indices of the Items formerly stored at {@code index} or
+     * behind are incremented by the number of inserted Items. The capacity is requested once for all Items.
+     *
+     * @param index
+     *        integer specifying the index of the first inserted Item
+     *
+     * @param items
+     *        array of inserted Items
+     *
+     * @throws InvalidContainerIndexException
+     *         if {@code index < 0 || index > count()}
+     */
+    public void insert(final int index, final Item[] items)
+        throws InvalidContainerIndexException {
+        ensureInsertIndexValid(index);
+
+        if (items.length == 0)
+            return;
+
+        if (index == 0) {
+            capacityStrategy.ensureHeadCapacity(items.length);
+            contentIndexRange.incrementMinimum(- items.length);
+        }
+        else if (index == count()) {
+            capacityStrategy.ensureTailCapacity(items.length);
+            contentIndexRange.incrementMaximum(items.length);
+        }
+        else
+            capacityStrategy.ensureSplitCapacity(contentIndexRange.getMinimum() + index, items.length);
+
+        final int minimumIndex = contentIndexRange.getMinimum() + index;
+
+        storage.setItems(minimumIndex, minimumIndex + items.length - 1, items, 0);
+
+        if (sequenceHashCode != null)
+            updateSequenceHashCodeAfterInsertion(index, items);
+    }
+
+    /**
+     * Updates the maintained sequence hash code after the specified Items have been inserted at the specified index.
+     *
+     * @param index
+     *        integer specifying the index of the first inserted Item
+     *
+     * @param items
+     *        array of the inserted Items
+     */
+    private void updateSequenceHashCodeAfterInsertion(final int index, final Item[] items) {
+        if (index == 0)
+            for (int itemIndex = items.length - 1; itemIndex >= 0; itemIndex--)
+                sequenceHashCode.prepend(items[itemIndex]);
+        else if (index == count() - items.length)
+            for (final Item item : items)
+                sequenceHashCode.append(item);
+        else
+            sequenceHashCode.invalidate();
+    }
+
+    /**
+     * Removes the Item stored at the specified index. The indices of the Items behind are decremented.
+     *
+     * @param index
+     *        integer specifying the index of the removed Item
+     *
+     * @return removed Item
+     *
+     * @throws InvalidContainerIndexException
+     *         if {@code index < 0 || index > count() - 1}
+     */
+    public Item removeAt(final int index)
+        throws InvalidContainerIndexException {
+        final Item removedItem = get(index);
+
+        safeRemove(index, index);
+
+        return removedItem;
+    }
+
+    /**
+     * Removes the first Item.
+     *
+     * @return removed Item
+     *
+     * @throws InvalidContainerIndexException
+     *         if this {@link ArrayContainer} is empty
+     */
+    public Item removeFirst()
+        throws InvalidContainerIndexException {
+        return removeAt(0);
+    }
+
+    /**
+     * Removes the last Item.
+     *
+     * @return removed Item
+     *
+     * @throws InvalidContainerIndexException
+     *         if this {@link ArrayContainer} is empty
+     */
+    public Item removeLast()
+        throws InvalidContainerIndexException {
+        return removeAt(count() - 1);
+    }
+
+    /**
+     * Removes the Items stored in the specified index range. The indices of the Items behind are decremented by the
+     * number of removed Items. An empty index range, that is, {@code maximumIndex == minimumIndex - 1}, removes no
+     * Items.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first removed Item
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last removed Item
+     *
+     * @throws InvalidContainerIndexException
+     *         if the index range is out of the valid bounds of this {@link ArrayContainer}
+     */
+    public void remove(final int minimumIndex, final int maximumIndex)
+        throws InvalidContainerIndexException {
+        final int count = count();
+
+        if (minimumIndex < 0 || minimumIndex > count || maximumIndex < minimumIndex - 1 || maximumIndex >= count)
+            throw new InvalidContainerIndexException(this, mfmessage("[{0}, {1}] is no index range of count = {2}",
+                                                                     minimumIndex, maximumIndex, count));
+
+        if (maximumIndex < minimumIndex)
+            return;
+
+        safeRemove(minimumIndex, maximumIndex);
+    }
+
+    /**
+     * Removes the Items stored in the specified valid, non-empty index range, shifting the shorter of the remaining
+     * parts and clearing the released slots.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first removed Item
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last removed Item
+     */
+    private void safeRemove(final int minimumIndex, final int maximumIndex) {
+        if (sequenceHashCode != null)
+            updateSequenceHashCodeBeforeRemoval(minimumIndex, maximumIndex);
+
+        final int contentMinimumIndex = contentIndexRange.getMinimum();
+        final int contentMaximumIndex = contentIndexRange.getMaximum();
+        final int removedItemsCount = countInclusive(minimumIndex, maximumIndex);
+
+        if (minimumIndex < count() - 1 - maximumIndex) {
+            if (minimumIndex > 0)
+                storage.shiftItems(contentMinimumIndex, contentMinimumIndex + minimumIndex - 1,
+                                   contentMinimumIndex + removedItemsCount);
+
+            storage.clearItems(contentMinimumIndex, contentMinimumIndex + removedItemsCount - 1);
+            contentIndexRange.incrementMinimum(removedItemsCount);
+        }
+        else {
+            if (contentMinimumIndex + maximumIndex < contentMaximumIndex)
+                storage.shiftItems(contentMinimumIndex + maximumIndex + 1, contentMaximumIndex,
+                                   contentMinimumIndex + minimumIndex);
+
+            storage.clearItems(contentMaximumIndex - removedItemsCount + 1, contentMaximumIndex);
+            contentIndexRange.incrementMaximum(- removedItemsCount);
+        }
+    }
+
+    /**
+     * Updates the maintained sequence hash code before the Items in the specified valid index range are removed.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first removed Item
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last removed Item
+     */
+    private void updateSequenceHashCodeBeforeRemoval(final int minimumIndex, final int maximumIndex) {
+        final int contentMinimumIndex = contentIndexRange.getMinimum();
+
+        if (minimumIndex == 0)
+            for (int index = minimumIndex; index <= maximumIndex; index++)
+                sequenceHashCode.removeFirst(storage.uncheckedGet(contentMinimumIndex + index));
+        else if (maximumIndex == count() - 1)
+            for (int index = maximumIndex; index >= minimumIndex; index--)
+                sequenceHashCode.removeLast(storage.uncheckedGet(contentMinimumIndex + index));
+        else
+            sequenceHashCode.invalidate();
+    }
+
+    @Override
+    public void remove(final Item item)
+        throws ItemToRemoveNotContainedException {
+        final int index = indexOf(item);
+
+        if (index == - 1)
+            throw new ItemToRemoveNotContainedException(this, item);
+
+        safeRemove(index, index);
+    }
+
+    @Override
+    public <ContainsIterable extends Iterable<Item> & ContainsSingle<Item>> /*
+        */ void remove(final ContainsIterable items) {
+        removeMultiple.remove(items);
+
+        if (sequenceHashCode != null)
+            sequenceHashCode.invalidate();
+    }
+
+    @Override
+    public void retain(final ContainsAdapter<Item> items) {
+        retain.retain(items);
+
+        if (sequenceHashCode != null)
+            sequenceHashCode.invalidate();
+    }
+
+    @Override
+    public void removeAll() {
+        storage.clearItems(contentIndexRange.getMinimum(), contentIndexRange.getMaximum());
+        contentIndexRange.setMaximum(contentIndexRange.getMinimum() - 1);
+
+        if (sequenceHashCode != null)
+            sequenceHashCode.reset();
+    }
+
+    /**
+     * Specifies whether the sequence hash code is maintained incrementally. If so, it is updated in constant time
+     * when Items are added or removed at either end, and in logarithmic time when an Item is replaced. Other
+     * modifications invalidate it until the next call of {@link #getSequenceHashCode()}.
+     *
+     * @param maintained
+     *        {@code true} to maintain the sequence hash code;
+     *        {@code false} otherwise
+     */
+    public void setSequenceHashCodeMaintained(final boolean maintained) {
+        if (! maintained) {
+            sequenceHashCode = null;
+            return;
+        }
+
+        if (sequenceHashCode != null)
+            return;
+
+        sequenceHashCode = new IncrementalSequenceHashCode();
+        sequenceHashCode.recompute(this);
+    }
+
+    @Override
+    public boolean isSequenceHashCodeCached() {
+        return sequenceHashCode != null && sequenceHashCode.isValid();
+    }
+
+    @Override
+    public int getSequenceHashCode() {
+        if (sequenceHashCode == null)
+            return SequenceHashCode.computeHashCode(this);
+
+        if (! sequenceHashCode.isValid())
+            sequenceHashCode.recompute(this);
+
+        return sequenceHashCode.getHashCode();
+    }
+
+    /**
+     * Releases unused capacity as far as the {@link CapacityStrategy} considers it appropriate.
+     */
+    public void shrink() {
+        capacityStrategy.shrinkCapacity();
+    }
+
+    @Override
+    public boolean contains(final Item item) {
+        return indexOf(item) != - 1;
+    }
+
+    @Override
+    public <ContainsIterable extends Iterable<Item> & ContainsSingle<Item>> /*
+        */ boolean contains(final ContainsIterable items) {
+        for (final Item item : items)
+            if (! contains(item))
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Returns the index of the first Item equal to the specified Item.
+     *
+     * @param item
+     *        Item to look up
+     *
+     * @return integer specifying the index of the first Item equal to {@code item};
+     *         {@code -1} if no such Item is stored
+     */
+    public int indexOf(final Item item) {
+        final int contentMinimumIndex = contentIndexRange.getMinimum();
+        final int contentMaximumIndex = contentIndexRange.getMaximum();
+
+        for (int index = contentMinimumIndex; index <= contentMaximumIndex; index++)
+            if (Objects.equals(storage.uncheckedGet(index), item))
+                return index - contentMinimumIndex;
+
+        return - 1;
+    }
+
+    @Override
+    public Item[] toArray() {
+        final Item[] items = array(count());
+
+        storage.getItems(contentIndexRange.getMinimum(), contentIndexRange.getMaximum(), items, 0);
+
+        return items;
+    }
+
+    @Override
+    public void copyToArray(final Item[] targetArray, final int targetArrayIndex)
+        throws InvalidContainerIndexException {
+        final int count = count();
+
+        if (targetArrayIndex < 0 || targetArrayIndex > targetArray.length - count)
+            throw new InvalidContainerIndexException(this, mfmessage("targetArrayIndex = {0}, count = {1}, " +
+                                                                     "length = {2}", targetArrayIndex, count,
+                                                                     targetArray.length));
+
+        storage.getItems(contentIndexRange.getMinimum(), contentIndexRange.getMaximum(), targetArray, targetArrayIndex);
+    }
+
+    @Override
+    public List<Item> toRandomAccessList() {
+        return new ArrayAdoptingList<>(toArray());
+    }
+
+    @Override
+    public List<Item> toSequentialList() {
+        return new LinkedList<>(asList(toArray()));
+    }
+
+    @Override
+    public Set<Item> toSet() {
+        return new HashSet<>(asList(toArray()));
+    }
+
+    @Override
+    public Stream<Item> stream() {
+        return StreamSupport.stream(createSpliterator(), false);
+    }
+
+    @Override
+    public Stream<Item> parallelStream() {
+        return StreamSupport.stream(createSpliterator(), true);
+    }
+
+    @Override
+    public Spliterator<Item> spliterator() {
+        return createSpliterator();
+    }
+
+    private LinearIndexStorageSpliterator<Item> createSpliterator() {
+        return new LinearIndexStorageSpliterator<>(storage, contentIndexRange.getMinimum(),
+                                                   contentIndexRange.getMaximum());
+    }
+
+    @Override
+    public ReplaceRemoveIterator<Item> iterator() {
+        return new ArrayContainerIterator();
+    }
+
+    private void ensureIndexValid(final String indexName, final int index)
+        throws InvalidContainerIndexException {
+        final int count = count();
+
+        if (index < 0 || index >= count)
+            throw new InvalidContainerIndexException(this, mfmessage("{0} = {1}, count = {2}", indexName, index,
+                                                                     count));
+    }
+
+    private void ensureInsertIndexValid(final int index)
+        throws InvalidContainerIndexException {
+        final int count = count();
+
+        if (index < 0 || index > count)
+            throw new InvalidContainerIndexException(this, mfmessage("index = {0}, count = {1}", index, count));
+    }
+
+    /**
+     * {@link ReplaceRemoveIterator} over the Items of this {@link ArrayContainer}.
+     */
+    private class ArrayContainerIterator
+        implements ReplaceRemoveIterator<Item> {
+
+        /** index of the next traversed Item */
+        private int nextIndex;
+
+        /** index of the last traversed Item; {@code -1} if there is no Item to replace or remove */
+        private int lastIndex = - 1;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < count();
+        }
+
+        @Override
+        public Item next() {
+            if (! hasNext())
+                throw new NoSuchElementException();
+
+            lastIndex = nextIndex++;
+
+            return storage.uncheckedGet(contentIndexRange.getMinimum() + lastIndex);
+        }
+
+        @Override
+        public void replace(final Item newItem) {
+            if (lastIndex == - 1)
+                throw new NoItemToReplaceException(ArrayContainer.this);
+
+            safeSet(lastIndex, newItem);
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex == - 1)
+                throw new NoItemToRemoveException(ArrayContainer.this);
+
+            safeRemove(lastIndex, lastIndex);
+
+            nextIndex = lastIndex;
+            lastIndex = - 1;
+        }
+    }
+}
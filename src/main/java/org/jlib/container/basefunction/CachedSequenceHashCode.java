@@ -0,0 +1,49 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.basefunction;
+
+import java.util.List;
+
+/**
+ * Ability to provide the hash code of the Items in the order of traversal, as specified by {@link List#hashCode()},
+ * possibly without traversing the Items.
+ *
+ * @param <Item>
+ *        type of items held in the {@link Object}
+ */
+public interface CachedSequenceHashCode<Item> {
+
+    /**
+     * Verifies whether {@link #getSequenceHashCode()} returns a cached hash code without traversing the Items.
+     *
+     * @return {@code true} if the sequence hash code is cached;
+     *         {@code false} otherwise
+     */
+    boolean isSequenceHashCodeCached();
+
+    /**
+     * Returns the hash code of the Items in the order of traversal, as specified by {@link List#hashCode()}.
+     *
+     * @return integer specifying the sequence hash code
+     */
+    int getSequenceHashCode();
+}
@@ -0,0 +1,48 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.basefunction;
+
+import java.util.Objects;
+
+/**
+ * {@link Equals} delegating to {@link Object#equals(Object)}, considering two {@code null} references equal.
+ *
+ * @param <Obj>
+ *        type of the compared objects
+ */
+public final class DefaultEquals<Obj>
+    implements Equals<Obj> {
+
+    private static final DefaultEquals<?> INSTANCE = new DefaultEquals<>();
+
+    private DefaultEquals() {}
+
+    @SuppressWarnings("unchecked")
+    public static <Obj> DefaultEquals<Obj> getInstance() {
+        return (DefaultEquals<Obj>) INSTANCE;
+    }
+
+    @Override
+    public boolean areEqual(/* @Nullable */ final Obj object1, /* @Nullable */ final Object object2) {
+        return Objects.equals(object1, object2);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.basefunction;
+
+/**
+ * {@link HashCode} delegating to {@link Object#hashCode()}, returning {@code 0} for {@code null}.
+ *
+ * @param <Obj>
+ *        type of the hashed objects
+ */
+public final class DefaultHashCode<Obj>
+    implements HashCode<Obj> {
+
+    private static final DefaultHashCode<?> INSTANCE = new DefaultHashCode<>();
+
+    private DefaultHashCode() {}
+
+    @SuppressWarnings("unchecked")
+    public static <Obj> DefaultHashCode<Obj> getInstance() {
+        return (DefaultHashCode<Obj>) INSTANCE;
+    }
+
+    @Override
+    public int hashCode(/* @Nullable */ final Obj object) {
+        return object != null ?
+               object.hashCode() :
+               0;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.basefunction;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Sequence hash code, as specified by {@link List#hashCode()}, maintained incrementally while Items are added to or
+ * removed from either end of the sequence, or replaced.
+ * </p>
+ * <p>
+ * The hash code of the Items <em>i<sub>0</sub>, ..., i<sub>n-1</sub></em> is the polynomial
+ * <em>31<sup>n</sup> + &sum; hash(i<sub>k</sub>) &middot; 31<sup>n-1-k</sup></em> modulo <em>2<sup>32</sup></em>.
+ * Tracking <em>31<sup>n</sup></em> as well, adding or removing an Item at either end takes constant time. Since
+ * <em>31</em> is odd, it has a multiplicative inverse modulo <em>2<sup>32</sup></em>, which undoes the multiplication
+ * when removing the last Item. Replacing an Item takes logarithmic time. Any other modification invalidates the hash
+ * code until it is recomputed.
+ * </p>
+ */
+public final class IncrementalSequenceHashCode {
+
+    /** multiplier of the polynomial */
+    private static final int MULTIPLIER = 31;
+
+    /** multiplicative inverse of {@link #MULTIPLIER} modulo {@code 2^32} */
+    private static final int MULTIPLIER_INVERSE = 0xBDEF7BDF;
+
+    /** hash code of the Items */
+    private int hashCode = 1;
+
+    /** {@link #MULTIPLIER} raised to the number of Items */
+    private int power = 1;
+
+    /** whether {@link #hashCode} reflects the Items */
+    private boolean valid = true;
+
+    /**
+     * Verifies whether the hash code reflects the Items.
+     *
+     * @return {@code true} if the hash code is valid;
+     *         {@code false} if it has been invalidated and not recomputed since
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Returns the hash code.
+     *
+     * @return integer specifying the hash code; unspecified if it is not valid
+     */
+    public int getHashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Invalidates the hash code after an unsupported modification of the Items.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Resets the hash code to the hash code of an empty sequence.
+     */
+    public void reset() {
+        hashCode = 1;
+        power = 1;
+        valid = true;
+    }
+
+    /**
+     * Recomputes the hash code of the specified Items, making it valid.
+     *
+     * @param items
+     *        {@link Iterable} providing the Items
+     */
+    public void recompute(final Iterable<?> items) {
+        reset();
+
+        for (final Object item : items)
+            append(item);
+    }
+
+    /**
+     * Updates the hash code after adding the specified Item behind the last Item.
+     *
+     * @param item
+     *        added Item
+     */
+    public void append(final Object item) {
+        hashCode = MULTIPLIER * hashCode + Objects.hashCode(item);
+        power *= MULTIPLIER;
+    }
+
+    /**
+     * Updates the hash code after adding the specified Item in front of the first Item.
+     *
+     * @param item
+     *        added Item
+     */
+    public void prepend(final Object item) {
+        hashCode += power * (MULTIPLIER - 1 + Objects.hashCode(item));
+        power *= MULTIPLIER;
+    }
+
+    /**
+     * Updates the hash code after removing the specified last Item.
+     *
+     * @param item
+     *        removed Item
+     */
+    public void removeLast(final Object item) {
+        hashCode = (hashCode - Objects.hashCode(item)) * MULTIPLIER_INVERSE;
+        power *= MULTIPLIER_INVERSE;
+    }
+
+    /**
+     * Updates the hash code after removing the specified first Item.
+     *
+     * @param item
+     *        removed Item
+     */
+    public void removeFirst(final Object item) {
+        power *= MULTIPLIER_INVERSE;
+        hashCode -= power * (MULTIPLIER - 1 + Objects.hashCode(item));
+    }
+
+    /**
+     * Updates the hash code after replacing an Item.
+     *
+     * @param reverseIndex
+     *        integer specifying the number of Items behind the replaced Item
+     *
+     * @param formerItem
+     *        replaced Item
+     *
+     * @param newItem
+     *        Item replacing {@code formerItem}
+     */
+    public void replace(final int reverseIndex, final Object formerItem, final Object newItem) {
+        hashCode += (Objects.hashCode(newItem) - Objects.hashCode(formerItem)) * power(reverseIndex);
+    }
+
+    /**
+     * Raises {@link #MULTIPLIER} to the specified exponent modulo {@code 2^32} by repeated squaring.
+     *
+     * @param exponent
+     *        non-negative integer specifying the exponent
+     *
+     * @return integer specifying the power
+     */
+    private static int power(final int exponent) {
+        int result = 1;
+        int base = MULTIPLIER;
+
+        for (int remainingExponent = exponent; remainingExponent != 0; remainingExponent >>>= 1) {
+            if ((remainingExponent & 1) != 0)
+                result *= base;
+
+            base *= base;
+        }
+
+        return result;
+    }
+}
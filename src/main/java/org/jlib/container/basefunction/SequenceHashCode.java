@@ -0,0 +1,75 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.basefunction;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link HashCode} of the Items of an {@link Iterable} in the order of traversal, as specified by
+ * {@link List#hashCode()}. The cached hash code of a {@link CachedSequenceHashCode} is returned without traversing
+ * the Items.
+ *
+ * @param <Item>
+ *        type of the items
+ */
+public final class SequenceHashCode<Item>
+    implements HashCode<Iterable<Item>> {
+
+    private static final SequenceHashCode<?> INSTANCE = new SequenceHashCode<>();
+
+    private SequenceHashCode() {}
+
+    @SuppressWarnings("unchecked")
+    public static <Item> SequenceHashCode<Item> getInstance() {
+        return (SequenceHashCode<Item>) INSTANCE;
+    }
+
+    @Override
+    public int hashCode(final Iterable<Item> items) {
+        if (items instanceof CachedSequenceHashCode) {
+            final CachedSequenceHashCode<?> cachedSequenceHashCode = (CachedSequenceHashCode<?>) items;
+
+            if (cachedSequenceHashCode.isSequenceHashCodeCached())
+                return cachedSequenceHashCode.getSequenceHashCode();
+        }
+
+        return computeHashCode(items);
+    }
+
+    /**
+     * Computes the sequence hash code of the specified Items by traversing them.
+     *
+     * @param items
+     *        {@link Iterable} providing the Items
+     *
+     * @return integer specifying the hash code
+     */
+    public static int computeHashCode(final Iterable<?> items) {
+        int hashCode = 1;
+
+        for (final Object item : items)
+            hashCode = 31 * hashCode + Objects.hashCode(item);
+
+        return hashCode;
+    }
+}
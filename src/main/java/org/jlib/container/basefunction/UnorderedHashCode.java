@@ -0,0 +1,75 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.basefunction;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@link HashCode} of the Items of an {@link Iterable} independent of their order, as specified by
+ * {@link Set#hashCode()}. The cached hash code of a {@link CachedUnorderedHashCode} is returned without traversing
+ * the Items.
+ *
+ * @param <Item>
+ *        type of the items
+ */
+public final class UnorderedHashCode<Item>
+    implements HashCode<Iterable<Item>> {
+
+    private static final UnorderedHashCode<?> INSTANCE = new UnorderedHashCode<>();
+
+    private UnorderedHashCode() {}
+
+    @SuppressWarnings("unchecked")
+    public static <Item> UnorderedHashCode<Item> getInstance() {
+        return (UnorderedHashCode<Item>) INSTANCE;
+    }
+
+    @Override
+    public int hashCode(final Iterable<Item> items) {
+        if (items instanceof CachedUnorderedHashCode) {
+            final CachedUnorderedHashCode<?> cachedUnorderedHashCode = (CachedUnorderedHashCode<?>) items;
+
+            if (cachedUnorderedHashCode.isUnorderedHashCodeCached())
+                return cachedUnorderedHashCode.getUnorderedHashCode();
+        }
+
+        return computeHashCode(items);
+    }
+
+    /**
+     * Computes the unordered hash code of the specified Items by traversing them.
+     *
+     * @param items
+     *        {@link Iterable} providing the Items
+     *
+     * @return integer specifying the hash code
+     */
+    public static int computeHashCode(final Iterable<?> items) {
+        int hashCode = 0;
+
+        for (final Object item : items)
+            hashCode += Objects.hashCode(item);
+
+        return hashCode;
+    }
+}
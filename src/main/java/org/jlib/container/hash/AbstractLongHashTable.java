@@ -0,0 +1,205 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.function.LongConsumer;
+
+import static org.jlib.container.hash.HashTables.getHomeSlot;
+import org.jlib.container.storage.array.ArrayStorage;
+import org.jlib.container.storage.array.LongArrayStorage;
+
+/**
+ * Skeletal hash table storing {@code long} keys, and optionally a value per key, using open addressing with linear
+ * probing. The keys are held in a {@link LongArrayStorage}, the values in a parallel {@link ArrayStorage}; no key is
+ * boxed and no object is allocated per entry. Removing, rehashing and retaining is implemented by
+ * {@link AbstractPrimitiveHashTable}.
+ */
+public abstract class AbstractLongHashTable
+    extends AbstractPrimitiveHashTable<LongArrayStorage> {
+
+    /** default expected number of keys */
+    public static final int DEFAULT_EXPECTED_ITEMS_COUNT = HashTables.DEFAULT_EXPECTED_ITEMS_COUNT;
+
+    /** default maximum ratio of keys and slots */
+    public static final float DEFAULT_LOAD_FACTOR = HashTables.DEFAULT_LOAD_FACTOR;
+
+    /** key marking an empty slot */
+    private static final long EMPTY_KEY = 0L;
+
+    /**
+     * Creates a new empty {@link AbstractLongHashTable}.
+     *
+     * @param expectedItemsCount
+     *        integer specifying the number of keys fitting without doubling the table
+     *
+     * @param loadFactor
+     *        float specifying the maximum ratio of keys and slots; {@code 0 < loadFactor < 1}
+     *
+     * @param storingValues
+     *        {@code true} to store a value per key;
+     *        {@code false} otherwise
+     *
+     * @throws InvalidHashTableParameterException
+     *         if {@code expectedItemsCount < 0} or the load factor is invalid
+     */
+    protected AbstractLongHashTable(final int expectedItemsCount, final float loadFactor, final boolean storingValues)
+        throws InvalidHashTableParameterException {
+        super(expectedItemsCount, loadFactor, storingValues, LongKeySlots.INSTANCE);
+    }
+
+    /**
+     * Looks up the slot of the specified key.
+     *
+     * @param key
+     *        long specifying the key to look up
+     *
+     * @return integer specifying the index of the slot holding {@code key};
+     *         {@code -(emptySlot + 1)} if {@code key} is not stored, where {@code emptySlot} is the index of the slot
+     *         receiving {@code key} by {@link #insert(int, long)}
+     */
+    protected final int probe(final long key) {
+        final int capacity = getCapacity();
+
+        if (key == EMPTY_KEY)
+            return isOccupied(capacity) ?
+                   capacity :
+                   - capacity - 1;
+
+        final LongArrayStorage keys = getKeyStorage();
+        final int mask = capacity - 1;
+
+        for (int slot = getHomeSlot(key, getShift()); ; slot = (slot + 1) & mask) {
+            final long slotKey = keys.uncheckedGetLong(slot);
+
+            if (slotKey == EMPTY_KEY)
+                return - slot - 1;
+
+            if (slotKey == key)
+                return slot;
+        }
+    }
+
+    /**
+     * Inserts the specified key not yet stored. The table is doubled if the number of keys exceeds the load factor.
+     *
+     * @param probeResult
+     *        negative integer returned by {@link #probe(int)} for {@code key}
+     *
+     * @param key
+     *        long specifying the inserted key
+     *
+     * @return integer specifying the index of the slot finally holding {@code key}
+     *
+     * @throws HashTableCapacityExceededException
+     *         if the table cannot be doubled any more
+     */
+    protected final int insert(final int probeResult, final long key)
+        throws HashTableCapacityExceededException {
+        final int slot = - probeResult - 1;
+
+        if (slot < getCapacity())
+            getKeyStorage().uncheckedSetLong(slot, key);
+
+        return occupySlot(slot) ?
+               slot :
+               probe(key);
+    }
+
+    /**
+     * Returns the key stored in the specified occupied slot.
+     *
+     * @param slot
+     *        integer specifying the index of the slot
+     *
+     * @return long specifying the key stored in {@code slot}
+     */
+    protected final long getKey(final int slot) {
+        return slot == getCapacity() ?
+               EMPTY_KEY :
+               getKeyStorage().uncheckedGetLong(slot);
+    }
+
+    /**
+     * Performs the specified {@link LongConsumer} for each stored key.
+     *
+     * @param action
+     *        {@link LongConsumer} accepting each key
+     */
+    public final void forEachKey(final LongConsumer action) {
+        for (int slot = 0; slot < getSlotsCount(); slot++)
+            if (isOccupied(slot))
+                action.accept(getKey(slot));
+    }
+
+    /**
+     * Returns the stored keys.
+     *
+     * @return new array of longs specifying the keys
+     */
+    protected final long[] getKeys() {
+        final long[] keysArray = new long[count()];
+        int index = 0;
+
+        for (int slot = 0; slot < getSlotsCount(); slot++)
+            if (isOccupied(slot))
+                keysArray[index++] = getKey(slot);
+
+        return keysArray;
+    }
+
+    /**
+     * {@link PrimitiveKeySlots} of the keys held in a {@link LongArrayStorage}.
+     */
+    private static final class LongKeySlots
+        implements PrimitiveKeySlots<LongArrayStorage> {
+
+        private static final LongKeySlots INSTANCE = new LongKeySlots();
+
+        private LongKeySlots() {}
+
+        @Override
+        public LongArrayStorage createKeys(final int capacity) {
+            return new LongArrayStorage(capacity);
+        }
+
+        @Override
+        public boolean isEmpty(final LongArrayStorage keys, final int slot) {
+            return keys.uncheckedGetLong(slot) == EMPTY_KEY;
+        }
+
+        @Override
+        public int getHomeSlot(final LongArrayStorage keys, final int slot, final int shift) {
+            return HashTables.getHomeSlot(keys.uncheckedGetLong(slot), shift);
+        }
+
+        @Override
+        public void copyKey(final LongArrayStorage sourceKeys, final int sourceSlot, final LongArrayStorage targetKeys,
+                            final int targetSlot) {
+            targetKeys.uncheckedSetLong(targetSlot, sourceKeys.uncheckedGetLong(sourceSlot));
+        }
+
+        @Override
+        public void clearSlot(final LongArrayStorage keys, final int slot) {
+            keys.uncheckedSetLong(slot, EMPTY_KEY);
+        }
+    }
+}
@@ -0,0 +1,631 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+
+import static java.util.Arrays.fill;
+import static org.jlib.container.hash.HashTables.MAXIMUM_CAPACITY;
+import static org.jlib.container.hash.HashTables.ensureParametersValid;
+import static org.jlib.container.hash.HashTables.getCapacity;
+import static org.jlib.container.hash.HashTables.getShift;
+import static org.jlib.container.hash.HashTables.getThreshold;
+import org.jlib.container.basefunction.Equals;
+import org.jlib.container.basefunction.HashCode;
+
+/**
+ * <p>
+ * Skeletal hash table storing its keys, and optionally a value per key, in flat arrays using open addressing with
+ * linear probing. No object is allocated per entry.
+ * </p>
+ * <p>
+ * The number of slots is a power of two. The home slot of a key is computed by multiplying its hash code, as computed
+ * by the specified {@link HashCode}, by a Fibonacci constant and using the upper bits, which spreads poorly
+ * distributed hash codes. Keys are compared by the specified {@link Equals}. A {@code null} key is supported.
+ * </p>
+ * <p>
+ * Removing a key shifts the following keys of its cluster backward instead of leaving a tombstone, hence lookups never
+ * degrade after many removals. The table is doubled as soon as the number of keys exceeds the load factor.
+ * </p>
+ *
+ * @param <Key>
+ *        type of the keys
+ */
+public abstract class AbstractOpenAddressingHashTable<Key> {
+
+    /** default expected number of keys */
+    public static final int DEFAULT_EXPECTED_ITEMS_COUNT = HashTables.DEFAULT_EXPECTED_ITEMS_COUNT;
+
+    /** default maximum ratio of keys and slots */
+    public static final float DEFAULT_LOAD_FACTOR = HashTables.DEFAULT_LOAD_FACTOR;
+
+    /** placeholder stored in the slot of the {@code null} key */
+    private static final Object NULL_KEY = new Object();
+
+    /** {@link HashCode} of the keys */
+    private final HashCode<Key> hashCode;
+
+    /** {@link Equals} of the keys */
+    private final Equals<Key> equals;
+
+    /** maximum ratio of keys and slots */
+    private final float loadFactor;
+
+    /** whether a value is stored per key */
+    private final boolean storingValues;
+
+    /** slots holding the keys; {@code null} for an empty slot */
+    private Object[] keys;
+
+    /** slots holding the values; {@code null} if {@link #storingValues} is {@code false} */
+    private Object[] values;
+
+    /** number of bits shifting the spread hash code to a slot index */
+    private int shift;
+
+    /** maximum number of keys before the table is doubled */
+    private int threshold;
+
+    /** number of keys */
+    private int itemsCount;
+
+    /**
+     * Creates a new empty {@link AbstractOpenAddressingHashTable}.
+     *
+     * @param expectedItemsCount
+     *        integer specifying the number of keys fitting without doubling the table
+     *
+     * @param loadFactor
+     *        float specifying the maximum ratio of keys and slots; {@code 0 < loadFactor < 1}
+     *
+     * @param hashCode
+     *        {@link HashCode} of the keys
+     *
+     * @param equals
+     *        {@link Equals} of the keys
+     *
+     * @param storingValues
+     *        {@code true} to store a value per key;
+     *        {@code false} otherwise
+     *
+     * @throws InvalidHashTableParameterException
+     *         if {@code expectedItemsCount < 0} or the load factor is invalid
+     */
+    protected AbstractOpenAddressingHashTable(final int expectedItemsCount, final float loadFactor,
+                                              final HashCode<Key> hashCode, final Equals<Key> equals,
+                                              final boolean storingValues)
+        throws InvalidHashTableParameterException {
+        ensureParametersValid(expectedItemsCount, loadFactor);
+
+        this.hashCode = hashCode;
+        this.equals = equals;
+        this.loadFactor = loadFactor;
+        this.storingValues = storingValues;
+
+        allocate(getCapacity(expectedItemsCount, loadFactor));
+    }
+
+    /**
+     * Returns the number of keys.
+     *
+     * @return integer specifying the number of keys
+     */
+    public int count() {
+        return itemsCount;
+    }
+
+    /**
+     * Verifies whether this hash table holds no keys.
+     *
+     * @return {@code true} if this hash table holds no keys;
+     *         {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return itemsCount == 0;
+    }
+
+    /**
+     * Removes all keys, keeping the number of slots.
+     */
+    public void removeAll() {
+        fill(keys, null);
+
+        if (storingValues)
+            fill(values, null);
+
+        itemsCount = 0;
+    }
+
+    /**
+     * Releases unused slots, reducing the number of slots to the minimum fitting the current keys.
+     */
+    public void shrink() {
+        final int capacity = getCapacity(itemsCount, loadFactor);
+
+        if (capacity < keys.length)
+            rehash(capacity);
+    }
+
+    private void allocate(final int capacity) {
+        keys = new Object[capacity];
+
+        if (storingValues)
+            values = new Object[capacity];
+
+        shift = getShift(capacity);
+        threshold = getThreshold(capacity, loadFactor);
+    }
+
+    /**
+     * Returns the home slot of the specified key.
+     *
+     * @param key
+     *        {@link Key}
+     *
+     * @return integer specifying the index of the slot
+     */
+    private int getHomeSlot(final Key key) {
+        return HashTables.getHomeSlot(hashCode.hashCode(key), shift);
+    }
+
+    /**
+     * Looks up the slot of the specified key.
+     *
+     * @param key
+     *        {@link Key} to look up
+     *
+     * @return integer specifying the index of the slot holding {@code key};
+     *         {@code -(emptySlot + 1)} if {@code key} is not stored, where {@code emptySlot} is the index of the slot
+     *         receiving {@code key} by {@link #insert(int, Object)}
+     */
+    protected final int probe(final Key key) {
+        final Object[] keys = this.keys;
+        final int mask = keys.length - 1;
+
+        for (int slot = getHomeSlot(key); ; slot = (slot + 1) & mask) {
+            final Object slotKey = keys[slot];
+
+            if (slotKey == null)
+                return - slot - 1;
+
+            if (areEqual(slotKey, key))
+                return slot;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean areEqual(final Object slotKey, final Key key) {
+        if (slotKey == NULL_KEY)
+            return key == null;
+
+        return key != null && (slotKey == key || equals.areEqual((Key) slotKey, key));
+    }
+
+    /**
+     * Inserts the specified key not yet stored. The table is doubled if the number of keys exceeds the load factor.
+     *
+     * @param probeResult
+     *        negative integer returned by {@link #probe(Object)} for {@code key}
+     *
+     * @param key
+     *        inserted {@link Key}
+     *
+     * @return integer specifying the index of the slot finally holding {@code key}
+     *
+     * @throws HashTableCapacityExceededException
+     *         if the table cannot be doubled any more
+     */
+    protected final int insert(final int probeResult, final Key key)
+        throws HashTableCapacityExceededException {
+        final int slot = - probeResult - 1;
+
+        keys[slot] = key != null ?
+                     key :
+                     NULL_KEY;
+
+        if (++ itemsCount <= threshold)
+            return slot;
+
+        if (keys.length == MAXIMUM_CAPACITY) {
+            removeSlot(slot);
+            throw new HashTableCapacityExceededException(this, keys.length);
+        }
+
+        rehash(keys.length << 1);
+
+        return probe(key);
+    }
+
+    private void rehash(final int capacity) {
+        final Object[] oldKeys = keys;
+        final Object[] oldValues = values;
+
+        allocate(capacity);
+
+        final int mask = capacity - 1;
+
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            final Object key = oldKeys[oldSlot];
+
+            if (key == null)
+                continue;
+
+            int slot = getHomeSlot(unmask(key));
+            while (keys[slot] != null)
+                slot = (slot + 1) & mask;
+
+            keys[slot] = key;
+
+            if (storingValues)
+                values[slot] = oldValues[oldSlot];
+        }
+    }
+
+    /**
+     * Removes the key stored in the specified slot, shifting the following keys of its cluster backward.
+     *
+     * @param slot
+     *        integer specifying the index of an occupied slot
+     */
+    protected final void removeSlot(final int slot) {
+        removeSlot(slot, null);
+    }
+
+    private void removeSlot(final int slot, /* @Nullable */ final SlotIterator<?> iterator) {
+        final Object[] keys = this.keys;
+        final int mask = keys.length - 1;
+        int gapSlot = slot;
+
+        for (int clusterSlot = (slot + 1) & mask; keys[clusterSlot] != null; clusterSlot = (clusterSlot + 1) & mask) {
+            final int homeSlot = getHomeSlot(unmask(keys[clusterSlot]));
+
+            if (((clusterSlot - homeSlot) & mask) >= ((clusterSlot - gapSlot) & mask)) {
+                if (iterator != null)
+                    iterator.slotMoved(clusterSlot, gapSlot);
+
+                keys[gapSlot] = keys[clusterSlot];
+
+                if (storingValues)
+                    values[gapSlot] = values[clusterSlot];
+
+                gapSlot = clusterSlot;
+            }
+        }
+
+        keys[gapSlot] = null;
+
+        if (storingValues)
+            values[gapSlot] = null;
+
+        itemsCount--;
+    }
+
+    /**
+     * Removes each key whose slot does not satisfy the specified {@link IntPredicate}, rebuilding the table in a
+     * single pass. The {@link IntPredicate} may access the slots, which remain unchanged until all are verified.
+     *
+     * @param retainedSlot
+     *        {@link IntPredicate} verifying whether the key in the specified slot is retained
+     */
+    protected final void retainSlots(final IntPredicate retainedSlot) {
+        final Object[] oldKeys = keys;
+        final Object[] oldValues = values;
+        boolean modified = false;
+
+        for (int oldSlot = 0; oldSlot < oldKeys.length && ! modified; oldSlot++)
+            modified = oldKeys[oldSlot] != null && ! retainedSlot.test(oldSlot);
+
+        if (! modified)
+            return;
+
+        final int mask = oldKeys.length - 1;
+        final Object[] newKeys = new Object[oldKeys.length];
+        final Object[] newValues = storingValues ?
+                                   new Object[oldKeys.length] :
+                                   null;
+        int newItemsCount = 0;
+
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            final Object key = oldKeys[oldSlot];
+
+            if (key == null || ! retainedSlot.test(oldSlot))
+                continue;
+
+            int slot = getHomeSlot(unmask(key));
+            while (newKeys[slot] != null)
+                slot = (slot + 1) & mask;
+
+            newKeys[slot] = key;
+
+            if (storingValues)
+                newValues[slot] = oldValues[oldSlot];
+
+            newItemsCount++;
+        }
+
+        keys = newKeys;
+        values = newValues;
+        itemsCount = newItemsCount;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return integer specifying the number of slots
+     */
+    protected final int getSlotsCount() {
+        return keys.length;
+    }
+
+    /**
+     * Verifies whether the specified slot holds a key.
+     *
+     * @param slot
+     *        integer specifying the index of the slot
+     *
+     * @return {@code true} if {@code slot} holds a key;
+     *         {@code false} otherwise
+     */
+    protected final boolean isOccupied(final int slot) {
+        return keys[slot] != null;
+    }
+
+    /**
+     * Returns the key stored in the specified occupied slot.
+     *
+     * @param slot
+     *        integer specifying the index of the slot
+     *
+     * @return {@link Key} stored in {@code slot}
+     */
+    protected final Key getKey(final int slot) {
+        return unmask(keys[slot]);
+    }
+
+    /**
+     * Returns the value stored in the specified occupied slot.
+     *
+     * @param slot
+     *        integer specifying the index of the slot
+     *
+     * @return value stored in {@code slot}
+     */
+    protected final Object getValue(final int slot) {
+        return values[slot];
+    }
+
+    /**
+     * Replaces the value stored in the specified occupied slot.
+     *
+     * @param slot
+     *        integer specifying the index of the slot
+     *
+     * @param value
+     *        new value
+     */
+    protected final void setValue(final int slot, final Object value) {
+        values[slot] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Key unmask(final Object slotKey) {
+        return slotKey != NULL_KEY ?
+               (Key) slotKey :
+               null;
+    }
+
+    /**
+     * {@link Iterator} over the occupied slots. The slots are traversed from the last to the first, so that removing a
+     * key only shifts keys already traversed, except for keys of a cluster wrapping around the end of the table; these
+     * are remembered and traversed at last.
+     *
+     * @param <Item>
+     *        type of the traversed items
+     */
+    protected abstract class SlotIterator<Item>
+        implements Iterator<Item> {
+
+        /** index of the slot to inspect next */
+        private int nextSlot = keys.length - 1;
+
+        /** index of the slot of the last traversed item; {@code -1} if there is no item to remove */
+        private int lastSlot = - 1;
+
+        /** keys shifted from untraversed slots into traversed slots */
+        private List<Key> wrappedKeys;
+
+        /** index of the next traversed key in {@link #wrappedKeys} */
+        private int wrappedKeysIndex;
+
+        @Override
+        public boolean hasNext() {
+            while (nextSlot >= 0 && keys[nextSlot] == null)
+                nextSlot--;
+
+            return nextSlot >= 0 || wrappedKeys != null && wrappedKeysIndex < wrappedKeys.size();
+        }
+
+        @Override
+        public Item next() {
+            if (! hasNext())
+                throw new NoSuchElementException();
+
+            lastSlot = nextSlot >= 0 ?
+                       nextSlot-- :
+                       probe(wrappedKeys.get(wrappedKeysIndex++));
+
+            return getItem(lastSlot);
+        }
+
+        /**
+         * Returns the item provided for the key stored in the specified slot.
+         *
+         * @param slot
+         *        integer specifying the index of an occupied slot
+         *
+         * @return traversed item
+         */
+        protected abstract Item getItem(int slot);
+
+        @Override
+        public void remove() {
+            if (lastSlot == - 1)
+                throw new IllegalStateException();
+
+            removeSlot(lastSlot, nextSlot >= 0 ?
+                                 this :
+                                 null);
+
+            lastSlot = - 1;
+        }
+
+        private void slotMoved(final int sourceSlot, final int targetSlot) {
+            if (sourceSlot > lastSlot || targetSlot < lastSlot)
+                return;
+
+            if (wrappedKeys == null)
+                wrappedKeys = new ArrayList<>();
+
+            wrappedKeys.add(unmask(keys[sourceSlot]));
+        }
+    }
+
+    /**
+     * {@link Spliterator} over the occupied slots in a range of slots. Splitting halves the range of slots; the sizes
+     * of the halves are estimated.
+     *
+     * @param <Item>
+     *        type of the traversed items
+     */
+    protected abstract class SlotSpliterator<Item>
+        implements Spliterator<Item> {
+
+        /** index of the slot to inspect next */
+        private int nextSlot;
+
+        /** index of the last slot to inspect */
+        private final int maximumSlot;
+
+        /** estimated number of items */
+        private long estimatedSize;
+
+        /** whether {@link #estimatedSize} is exact */
+        private boolean sized;
+
+        protected SlotSpliterator() {
+            this(0, keys.length - 1, itemsCount, true);
+        }
+
+        protected SlotSpliterator(final int minimumSlot, final int maximumSlot, final long estimatedSize,
+                                  final boolean sized) {
+            nextSlot = minimumSlot;
+            this.maximumSlot = maximumSlot;
+            this.estimatedSize = estimatedSize;
+            this.sized = sized;
+        }
+
+        /**
+         * Returns the item provided for the key stored in the specified slot.
+         *
+         * @param slot
+         *        integer specifying the index of an occupied slot
+         *
+         * @return traversed item
+         */
+        protected abstract Item getItem(int slot);
+
+        /**
+         * Creates a {@link SlotSpliterator} of the same type over the specified range of slots.
+         *
+         * @param minimumSlot
+         *        integer specifying the index of the first slot
+         *
+         * @param maximumSlot
+         *        integer specifying the index of the last slot
+         *
+         * @param estimatedSize
+         *        long specifying the estimated number of items
+         *
+         * @return new {@link SlotSpliterator}
+         */
+        protected abstract SlotSpliterator<Item> createSpliterator(int minimumSlot, int maximumSlot,
+                                                                   long estimatedSize);
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Item> action) {
+            while (nextSlot <= maximumSlot) {
+                final int slot = nextSlot++;
+
+                if (keys[slot] != null) {
+                    action.accept(getItem(slot));
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super Item> action) {
+            final Object[] keys = AbstractOpenAddressingHashTable.this.keys;
+
+            for (; nextSlot <= maximumSlot; nextSlot++)
+                if (keys[nextSlot] != null)
+                    action.accept(getItem(nextSlot));
+        }
+
+        @Override
+        public Spliterator<Item> trySplit() {
+            final int middleSlot = nextSlot + (maximumSlot - nextSlot + 1) / 2;
+
+            if (middleSlot == nextSlot)
+                return null;
+
+            estimatedSize >>>= 1;
+            sized = false;
+
+            final Spliterator<Item> prefixSpliterator = createSpliterator(nextSlot, middleSlot - 1, estimatedSize);
+
+            nextSlot = middleSlot;
+
+            return prefixSpliterator;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimatedSize;
+        }
+
+        @Override
+        public int characteristics() {
+            return sized ?
+                   DISTINCT | SIZED :
+                   DISTINCT;
+        }
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.function.IntPredicate;
+
+import static org.jlib.container.hash.HashTables.MAXIMUM_CAPACITY;
+import static org.jlib.container.hash.HashTables.ensureParametersValid;
+import static org.jlib.container.hash.HashTables.getThreshold;
+import org.jlib.container.storage.LinearIndexStorage;
+import org.jlib.container.storage.array.ArrayStorage;
+
+/**
+ * <p>
+ * Skeletal hash table storing primitive keys, and optionally a value per key, using open addressing with linear
+ * probing. The keys are held in a {@link LinearIndexStorage} accessed by slot through the {@link PrimitiveKeySlots} of
+ * the key type, the values in a parallel {@link ArrayStorage}. This class holds the removal, rehashing and retaining
+ * logic; the subclass per key type only looks up and stores keys.
+ * </p>
+ * <p>
+ * A slot holding {@code 0} is empty. The key {@code 0} itself is held outside the table in an extra slot following
+ * the regular slots. Removing a key shifts the following keys of its cluster backward instead of leaving a
+ * tombstone.
+ * </p>
+ *
+ * @param <Keys>
+ *        type of the {@link LinearIndexStorage} holding the keys
+ */
+abstract class AbstractPrimitiveHashTable<Keys extends LinearIndexStorage<?>> {
+
+    /** {@link PrimitiveKeySlots} accessing the keys */
+    private final PrimitiveKeySlots<Keys> keySlots;
+
+    /** maximum ratio of keys and slots */
+    private final float loadFactor;
+
+    /** whether a value is stored per key */
+    private final boolean storingValues;
+
+    /** {@link LinearIndexStorage} holding the keys in the regular slots */
+    private Keys keys;
+
+    /**
+     * {@link ArrayStorage} holding the values of the regular slots and of the slot of the key {@code 0};
+     * {@code null} if {@link #storingValues} is {@code false}
+     */
+    private ArrayStorage<Object> values;
+
+    /** number of regular slots; also the index of the slot of the key {@code 0} */
+    private int capacity;
+
+    /** number of bits shifting the spread key to a slot index */
+    private int shift;
+
+    /** maximum number of keys in the regular slots before the table is doubled */
+    private int threshold;
+
+    /** number of keys in the regular slots */
+    private int tableItemsCount;
+
+    /** whether the key {@code 0} is stored */
+    private boolean containingEmptyKey;
+
+    /**
+     * Creates a new empty {@link AbstractPrimitiveHashTable}.
+     *
+     * @param expectedItemsCount
+     *        integer specifying the number of keys fitting without doubling the table
+     *
+     * @param loadFactor
+     *        float specifying the maximum ratio of keys and slots; {@code 0 < loadFactor < 1}
+     *
+     * @param storingValues
+     *        {@code true} to store a value per key;
+     *        {@code false} otherwise
+     *
+     * @param keySlots
+     *        {@link PrimitiveKeySlots} accessing the keys
+     *
+     * @throws InvalidHashTableParameterException
+     *         if {@code expectedItemsCount < 0} or the load factor is invalid
+     */
+    AbstractPrimitiveHashTable(final int expectedItemsCount, final float loadFactor, final boolean storingValues,
+                               final PrimitiveKeySlots<Keys> keySlots)
+        throws InvalidHashTableParameterException {
+        ensureParametersValid(expectedItemsCount, loadFactor);
+
+        this.keySlots = keySlots;
+        this.loadFactor = loadFactor;
+        this.storingValues = storingValues;
+
+        allocate(HashTables.getCapacity(expectedItemsCount, loadFactor));
+    }
+
+    /**
+     * Returns the number of keys.
+     *
+     * @return integer specifying the number of keys
+     */
+    public int count() {
+        return containingEmptyKey ?
+               tableItemsCount + 1 :
+               tableItemsCount;
+    }
+
+    /**
+     * Verifies whether this hash table holds no keys.
+     *
+     * @return {@code true} if this hash table holds no keys;
+     *         {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return tableItemsCount == 0 && ! containingEmptyKey;
+    }
+
+    /**
+     * Removes all keys, keeping the number of slots.
+     */
+    public void removeAll() {
+        keys.clearItems(0, capacity - 1);
+
+        if (storingValues)
+            values.clearItems(0, capacity);
+
+        tableItemsCount = 0;
+        containingEmptyKey = false;
+    }
+
+    /**
+     * Releases unused slots, reducing the number of slots to the minimum fitting the current keys.
+     */
+    public void shrink() {
+        final int newCapacity = HashTables.getCapacity(tableItemsCount, loadFactor);
+
+        if (newCapacity < capacity)
+            rehash(newCapacity);
+    }
+
+    private void allocate(final int newCapacity) {
+        keys = keySlots.createKeys(newCapacity);
+
+        if (storingValues)
+            values = new ArrayStorage<>(newCapacity + 1);
+
+        capacity = newCapacity;
+        shift = HashTables.getShift(newCapacity);
+        threshold = getThreshold(newCapacity, loadFactor);
+    }
+
+    /**
+     * Registers the key just stored in the specified formerly empty slot. The table is doubled if the number of keys
+     * exceeds the load factor.
+     *
+     * @param slot
+     *        integer specifying the index of the slot
+     *
+     * @return {@code true} if the key remains in {@code slot};
+     *         {@code false} if the table has been doubled, moving the key to another slot
+     *
+     * @throws HashTableCapacityExceededException
+     *         if the table cannot be doubled any more; the key is removed
+     */
+    final boolean occupySlot(final int slot)
+        throws HashTableCapacityExceededException {
+        if (slot == capacity) {
+            containingEmptyKey = true;
+            return true;
+        }
+
+        if (++ tableItemsCount <= threshold)
+            return true;
+
+        if (capacity == MAXIMUM_CAPACITY) {
+            removeSlot(slot);
+            throw new HashTableCapacityExceededException(this, capacity);
+        }
+
+        rehash(capacity << 1);
+
+        return false;
+    }
+
+    private void rehash(final int newCapacity) {
+        final Keys oldKeys = keys;
+        final ArrayStorage<Object> oldValues = values;
+        final int oldCapacity = capacity;
+
+        allocate(newCapacity);
+
+        final int mask = newCapacity - 1;
+
+        for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+            if (keySlots.isEmpty(oldKeys, oldSlot))
+                continue;
+
+            int slot = keySlots.getHomeSlot(oldKeys, oldSlot, shift);
+            while (! keySlots.isEmpty(keys, slot))
+                slot = (slot + 1) & mask;
+
+            keySlots.copyKey(oldKeys, oldSlot, keys, slot);
+
+            if (storingValues)
+                values.uncheckedSet(slot, oldValues.uncheckedGet(oldSlot));
+        }
+
+        if (storingValues)
+            values.uncheckedSet(newCapacity, oldValues.uncheckedGet(oldCapacity));
+    }
+
+    /**
+     * Removes the key stored in the specified slot, shifting the following keys of its cluster backward.
+     *
+     * @param slot
+     *        integer specifying the index of an occupied slot
+     */
+    protected final void removeSlot(final int slot) {
+        if (slot == capacity) {
+            containingEmptyKey = false;
+
+            if (storingValues)
+                values.uncheckedSet(slot, null);
+
+            return;
+        }
+
+        final Keys keys = this.keys;
+        final int mask = capacity - 1;
+        int gapSlot = slot;
+
+        for (int clusterSlot = (slot + 1) & mask; ! keySlots.isEmpty(keys, clusterSlot);
+             clusterSlot = (clusterSlot + 1) & mask) {
+            final int homeSlot = keySlots.getHomeSlot(keys, clusterSlot, shift);
+
+            if (((clusterSlot - homeSlot) & mask) >= ((clusterSlot - gapSlot) & mask)) {
+                keySlots.copyKey(keys, clusterSlot, keys, gapSlot);
+
+                if (storingValues)
+                    values.uncheckedSet(gapSlot, values.uncheckedGet(clusterSlot));
+
+                gapSlot = clusterSlot;
+            }
+        }
+
+        keySlots.clearSlot(keys, gapSlot);
+
+        if (storingValues)
+            values.uncheckedSet(gapSlot, null);
+
+        tableItemsCount--;
+    }
+
+    /**
+     * Removes each key whose slot does not satisfy the specified {@link IntPredicate}, rebuilding the table in a
+     * single pass. The {@link IntPredicate} may access the slots, which remain unchanged until all are verified.
+     *
+     * @param retainedSlot
+     *        {@link IntPredicate} verifying whether the key in the specified slot is retained
+     */
+    protected final void retainSlots(final IntPredicate retainedSlot) {
+        final Keys newKeys = keySlots.createKeys(capacity);
+        final ArrayStorage<Object> newValues = storingValues ?
+                                               new ArrayStorage<>(capacity + 1) :
+                                               null;
+        final int mask = capacity - 1;
+        int newTableItemsCount = 0;
+
+        for (int oldSlot = 0; oldSlot < capacity; oldSlot++) {
+            if (keySlots.isEmpty(keys, oldSlot) || ! retainedSlot.test(oldSlot))
+                continue;
+
+            int slot = keySlots.getHomeSlot(keys, oldSlot, shift);
+            while (! keySlots.isEmpty(newKeys, slot))
+                slot = (slot + 1) & mask;
+
+            keySlots.copyKey(keys, oldSlot, newKeys, slot);
+
+            if (storingValues)
+                newValues.uncheckedSet(slot, values.uncheckedGet(oldSlot));
+
+            newTableItemsCount++;
+        }
+
+        if (containingEmptyKey && retainedSlot.test(capacity)) {
+            if (storingValues)
+                newValues.uncheckedSet(capacity, values.uncheckedGet(capacity));
+        }
+        else
+            containingEmptyKey = false;
+
+        keys = newKeys;
+        values = newValues;
+        tableItemsCount = newTableItemsCount;
+    }
+
+    /**
+     * Returns the {@link LinearIndexStorage} holding the keys in the regular slots.
+     *
+     * @return {@link LinearIndexStorage} holding the keys
+     */
+    final Keys getKeyStorage() {
+        return keys;
+    }
+
+    /**
+     * Returns the number of regular slots, which is also the index of the slot of the key {@code 0}.
+     *
+     * @return integer specifying the number of regular slots
+     */
+    final int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of bits shifting the spread key to a slot index.
+     *
+     * @return integer specifying the number of bits
+     */
+    final int getShift() {
+        return shift;
+    }
+
+    /**
+     * Returns the number of slots, including the slot of the key {@code 0}.
+     *
+     * @return integer specifying the number of slots
+     */
+    protected final int getSlotsCount() {
+        return capacity + 1;
+    }
+
+    /**
+     * Verifies whether the specified slot holds a key.
+     *
+     * @param slot
+     *        integer specifying the index of the slot
+     *
+     * @return {@code true} if {@code slot} holds a key;
+     *         {@code false} otherwise
+     */
+    protected final boolean isOccupied(final int slot) {
+        return slot == capacity ?
+               containingEmptyKey :
+               ! keySlots.isEmpty(keys, slot);
+    }
+
+    /**
+     * Returns the value stored in the specified occupied slot.
+     *
+     * @param slot
+     *        integer specifying the index of the slot
+     *
+     * @return value stored in {@code slot}
+     */
+    protected final Object getValue(final int slot) {
+        return values.uncheckedGet(slot);
+    }
+
+    /**
+     * Replaces the value stored in the specified occupied slot.
+     *
+     * @param slot
+     *        integer specifying the index of the slot
+     *
+     * @param value
+     *        new value
+     */
+    protected final void setValue(final int slot, final Object value) {
+        values.uncheckedSet(slot, value);
+    }
+}
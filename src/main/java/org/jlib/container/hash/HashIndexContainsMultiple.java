@@ -0,0 +1,104 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import org.jlib.container.operation.ContainsMultiple;
+import org.jlib.container.operation.ContainsSingle;
+import org.jlib.container.operation.DefaultContainsMultiple;
+import org.jlib.container.operation.InvalidContainerArgumentException;
+import org.jlib.container.operation.InvalidContainerStateException;
+import static org.jlib.container.hash.HashIndexes.createIndex;
+import static org.jlib.container.hash.HashIndexes.mayExceed;
+
+/**
+ * <p>
+ * {@link ContainsMultiple} for containers whose {@link ContainsSingle#contains(Object)} scans the Items.
+ * </p>
+ * <p>
+ * Unlike {@link DefaultContainsMultiple}, looking up more Items than the index threshold first builds a temporary
+ * hash index of the contained Items, then looks up each Item in the index. Hence, looking up <em>m</em> Items in
+ * <em>n</em> Items takes <em>O(n + m)</em> time instead of <em>O(n &middot; m)</em>. Lookups known to provide no
+ * more Items than the threshold are delegated to the container.
+ * </p>
+ * <p>
+ * An {@link OpenAddressingHashSet} already is a hash index using its own hashing and equality, hence all lookups are
+ * delegated to it.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items
+ */
+public class HashIndexContainsMultiple<Item>
+    implements ContainsMultiple<Item> {
+
+    /** default maximum number of looked up Items not using an index */
+    public static final int DEFAULT_INDEX_THRESHOLD = 4;
+
+    private final Iterable<Item> containedItems;
+
+    private final ContainsSingle<Item> containsSingleContainedItems;
+
+    private final int indexThreshold;
+
+    /** whether the contained Items are held in a hash index already */
+    private final boolean containedItemsHashed;
+
+    public <ContainsIterable extends Iterable<Item> & ContainsSingle<Item>> /*
+        */ HashIndexContainsMultiple(final ContainsIterable containedItems) {
+        this(containedItems, DEFAULT_INDEX_THRESHOLD);
+    }
+
+    /**
+     * Creates a new {@link HashIndexContainsMultiple}.
+     *
+     * @param containedItems
+     *        {@link Iterable} and {@link ContainsSingle} of the contained Items
+     *
+     * @param indexThreshold
+     *        integer specifying the maximum number of looked up Items not using an index
+     *
+     * @param <ContainsIterable>
+     *        type of {@code containedItems}
+     */
+    public <ContainsIterable extends Iterable<Item> & ContainsSingle<Item>> /*
+        */ HashIndexContainsMultiple(final ContainsIterable containedItems, final int indexThreshold) {
+        this.containedItems = containedItems;
+        containsSingleContainedItems = containedItems;
+        this.indexThreshold = indexThreshold;
+        containedItemsHashed = containedItems instanceof OpenAddressingHashSet;
+    }
+
+    @Override
+    public <ContainsIterable extends Iterable<Item> & ContainsSingle<Item>> /*
+        */ boolean contains(final ContainsIterable lookupItems)
+        throws InvalidContainerArgumentException, InvalidContainerStateException {
+        final ContainsSingle<Item> index = ! containedItemsHashed && mayExceed(lookupItems, indexThreshold) ?
+                                           createIndex(containedItems) :
+                                           containsSingleContainedItems;
+
+        for (final Item lookupItem : lookupItems)
+            if (! index.contains(lookupItem))
+                return false;
+
+        return true;
+    }
+}
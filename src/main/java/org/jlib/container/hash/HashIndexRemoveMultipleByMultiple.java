@@ -0,0 +1,108 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jlib.container.operation.ContainsSingle;
+import org.jlib.container.operation.DefaultRemoveMultipleByMultiple;
+import org.jlib.container.operation.InvalidContainerArgumentException;
+import org.jlib.container.operation.InvalidContainerStateException;
+import org.jlib.container.operation.RemoveMultipleByValue;
+import org.jlib.container.operation.RemoveSingleByValue;
+import org.jlib.container.operation.containsadapter.IterativeContainsAdapter;
+import static org.jlib.container.hash.HashIndexes.createIndex;
+
+/**
+ * <p>
+ * {@link RemoveMultipleByValue} removing each Item contained by the removed Items.
+ * </p>
+ * <p>
+ * Unlike {@link DefaultRemoveMultipleByMultiple}, removed Items looked up by scanning, that is, provided by an
+ * {@link IterativeContainsAdapter}, are first indexed in a temporary hash index. Hence, selecting the Items to remove
+ * from <em>n</em> Items by <em>m</em> removed Items takes <em>O(n + m)</em> time instead of
+ * <em>O(n &middot; m)</em>.
+ * </p>
+ * <p>
+ * If the contained Items are a {@link RemoveMultipleByValue}, like an {@link org.jlib.container.array.ArrayContainer}
+ * compacting its Items in a single pass, the index is passed to its {@link RemoveMultipleByValue#remove(Iterable)},
+ * which hence must not delegate back to this class. Otherwise, the selected Items are removed after the traversal by
+ * {@link RemoveSingleByValue#remove(Object)}, hence the contained Items are not modified while being traversed, but
+ * removing still costs a lookup, and possibly a shift, per selected Item.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items
+ */
+public class HashIndexRemoveMultipleByMultiple<Item>
+    implements RemoveMultipleByValue<Item> {
+
+    private final Iterable<Item> containedItems;
+
+    private final RemoveSingleByValue<Item> removableContainedItems;
+
+    /**
+     * {@link RemoveMultipleByValue} of the contained Items;
+     * {@code null} if they are no {@link RemoveMultipleByValue}
+     */
+    private final RemoveMultipleByValue<Item> multipleRemovableContainedItems;
+
+    @SuppressWarnings("unchecked")
+    public <RemoveSingleIterable extends Iterable<Item> & RemoveSingleByValue<Item>> /*
+        */ HashIndexRemoveMultipleByMultiple(final RemoveSingleIterable containedItems) {
+        this.containedItems = containedItems;
+        removableContainedItems = containedItems;
+        multipleRemovableContainedItems = containedItems instanceof RemoveMultipleByValue ?
+                                          (RemoveMultipleByValue<Item>) containedItems :
+                                          null;
+    }
+
+    @Override
+    public <ContainsIterable extends Iterable<Item> & ContainsSingle<Item>> /*
+        */ void remove(final ContainsIterable removedItems)
+        throws InvalidContainerArgumentException, InvalidContainerStateException {
+        final boolean indexing = removedItems instanceof IterativeContainsAdapter;
+
+        if (multipleRemovableContainedItems != null) {
+            if (indexing)
+                multipleRemovableContainedItems.remove(createIndex(removedItems));
+            else
+                multipleRemovableContainedItems.remove(removedItems);
+
+            return;
+        }
+
+        final ContainsSingle<Item> index = indexing ?
+                                           createIndex(removedItems) :
+                                           removedItems;
+
+        final List<Item> selectedItems = new ArrayList<>();
+
+        for (final Item containedItem : containedItems)
+            if (index.contains(containedItem))
+                selectedItems.add(containedItem);
+
+        for (final Item selectedItem : selectedItems)
+            removableContainedItems.remove(selectedItem);
+    }
+}
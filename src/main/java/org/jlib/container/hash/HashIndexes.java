@@ -0,0 +1,89 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.Collection;
+
+import org.jlib.container.operation.Count;
+
+/**
+ * Functions building temporary hash indices of Items.
+ */
+public final class HashIndexes {
+
+    private HashIndexes() {}
+
+    /**
+     * Creates an {@link OpenAddressingHashSet} holding the specified Items. Equal Items are held once. The
+     * {@link OpenAddressingHashSet} is presized if the number of Items is known.
+     *
+     * @param items
+     *        {@link Iterable} providing the Items
+     *
+     * @param <Item>
+     *        type of the items
+     *
+     * @return new {@link OpenAddressingHashSet}
+     */
+    public static <Item> OpenAddressingHashSet<Item> createIndex(final Iterable<Item> items) {
+        final int knownCount = getKnownCount(items);
+        final OpenAddressingHashSet<Item> index =
+            new OpenAddressingHashSet<>(knownCount != - 1 ?
+                                        knownCount :
+                                        OpenAddressingHashSet.DEFAULT_EXPECTED_ITEMS_COUNT);
+
+        for (final Item item : items)
+            index.ensureContained(item);
+
+        return index;
+    }
+
+    /**
+     * Verifies whether the specified {@link Iterable} may provide more Items than the specified threshold. The number
+     * of Items is known if the {@link Iterable} is a {@link Count} or a {@link Collection}; otherwise it is assumed to
+     * exceed the threshold.
+     *
+     * @param items
+     *        verified {@link Iterable}
+     *
+     * @param threshold
+     *        integer specifying the threshold
+     *
+     * @return {@code true} if the number of Items is unknown or exceeds {@code threshold};
+     *         {@code false} otherwise
+     */
+    public static boolean mayExceed(final Iterable<?> items, final int threshold) {
+        final int knownCount = getKnownCount(items);
+
+        return knownCount == - 1 || knownCount > threshold;
+    }
+
+    private static int getKnownCount(final Iterable<?> items) {
+        if (items instanceof Count)
+            return ((Count<?>) items).count();
+
+        if (items instanceof Collection)
+            return ((Collection<?>) items).size();
+
+        return - 1;
+    }
+}
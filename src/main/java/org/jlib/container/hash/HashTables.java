@@ -0,0 +1,157 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Integer.numberOfTrailingZeros;
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Sizing and hashing functions shared by the open addressing hash tables. The number of slots is always a power of
+ * two; the slot of a hash code is computed by multiplying it by a Fibonacci constant and using the upper bits.
+ */
+final class HashTables {
+
+    /** default expected number of keys */
+    static final int DEFAULT_EXPECTED_ITEMS_COUNT = 16;
+
+    /** default maximum ratio of keys and slots */
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    /** maximum number of slots */
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /** minimum number of slots */
+    private static final int MINIMUM_CAPACITY = 2;
+
+    /** multiplier spreading integer hash codes, the 32 bit Fibonacci hashing constant */
+    private static final int INT_HASH_MULTIPLIER = 0x9E3779B9;
+
+    /** multiplier spreading long keys, the 64 bit Fibonacci hashing constant */
+    private static final long LONG_HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private HashTables() {}
+
+    /**
+     * Verifies the parameters of a new hash table.
+     *
+     * @param expectedItemsCount
+     *        integer specifying the number of keys fitting without doubling the table
+     *
+     * @param loadFactor
+     *        float specifying the maximum ratio of keys and slots
+     *
+     * @throws InvalidHashTableParameterException
+     *         if {@code expectedItemsCount < 0} or {@code !(0 < loadFactor < 1)}
+     */
+    static void ensureParametersValid(final int expectedItemsCount, final float loadFactor)
+        throws InvalidHashTableParameterException {
+        if (expectedItemsCount < 0)
+            throw new InvalidHashTableParameterException("expectedItemsCount", expectedItemsCount);
+
+        if (! (loadFactor > 0 && loadFactor < 1))
+            throw new InvalidHashTableParameterException("loadFactor", loadFactor);
+    }
+
+    /**
+     * Returns the minimum number of slots whose threshold fits the specified number of keys.
+     *
+     * @param itemsCount
+     *        integer specifying the number of keys
+     *
+     * @param loadFactor
+     *        float specifying the maximum ratio of keys and slots
+     *
+     * @return integer specifying the number of slots; a power of two
+     */
+    static int getCapacity(final int itemsCount, final float loadFactor) {
+        final double minimumCapacity = ceil(itemsCount / (double) loadFactor);
+
+        if (minimumCapacity >= MAXIMUM_CAPACITY)
+            return MAXIMUM_CAPACITY;
+
+        final int capacity = max(MINIMUM_CAPACITY, highestOneBit((int) minimumCapacity - 1) << 1);
+
+        return getThreshold(capacity, loadFactor) >= itemsCount || capacity == MAXIMUM_CAPACITY ?
+               capacity :
+               capacity << 1;
+    }
+
+    /**
+     * Returns the maximum number of keys held by the specified number of slots, keeping at least one slot empty.
+     *
+     * @param capacity
+     *        integer specifying the number of slots
+     *
+     * @param loadFactor
+     *        float specifying the maximum ratio of keys and slots
+     *
+     * @return integer specifying the maximum number of keys
+     */
+    static int getThreshold(final int capacity, final float loadFactor) {
+        return min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    /**
+     * Returns the number of bits shifting a spread hash code to a slot index.
+     *
+     * @param capacity
+     *        integer specifying the number of slots; a power of two
+     *
+     * @return integer specifying the number of bits
+     */
+    static int getShift(final int capacity) {
+        return Integer.SIZE - numberOfTrailingZeros(capacity);
+    }
+
+    /**
+     * Returns the home slot of the specified hash code.
+     *
+     * @param hashCode
+     *        integer specifying the hash code
+     *
+     * @param shift
+     *        integer specifying the number of bits as returned by {@link #getShift(int)}
+     *
+     * @return integer specifying the index of the slot
+     */
+    static int getHomeSlot(final int hashCode, final int shift) {
+        return hashCode * INT_HASH_MULTIPLIER >>> shift;
+    }
+
+    /**
+     * Returns the home slot of the specified long key.
+     *
+     * @param key
+     *        long specifying the key
+     *
+     * @param shift
+     *        integer specifying the number of bits as returned by {@link #getShift(int)}
+     *
+     * @return integer specifying the index of the slot
+     */
+    static int getHomeSlot(final long key, final int shift) {
+        return (int) (key * LONG_HASH_MULTIPLIER >>> Integer.SIZE) >>> shift;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import org.jlib.container.operation.Count;
+import org.jlib.container.operation.IsEmpty;
+import org.jlib.container.operation.RemoveAll;
+
+/**
+ * Map from {@code int} keys to Values held in an {@link AbstractIntHashTable}. Putting, getting and removing a mapping
+ * takes expected constant time without boxing the key.
+ *
+ * @param <Value>
+ *        type of the values
+ */
+public class IntObjectHashMap<Value>
+    extends AbstractIntHashTable
+    implements Count<Integer>,
+               IsEmpty<Integer>,
+               RemoveAll<Integer> {
+
+    public IntObjectHashMap() {
+        this(DEFAULT_EXPECTED_ITEMS_COUNT);
+    }
+
+    public IntObjectHashMap(final int expectedItemsCount) {
+        this(expectedItemsCount, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a new empty {@link IntObjectHashMap}.
+     *
+     * @param expectedItemsCount
+     *        integer specifying the number of mappings fitting without growing the table
+     *
+     * @param loadFactor
+     *        float specifying the maximum ratio of mappings and slots; {@code 0 < loadFactor < 1}
+     *
+     * @throws InvalidHashTableParameterException
+     *         if {@code expectedItemsCount < 0} or the load factor is invalid
+     */
+    public IntObjectHashMap(final int expectedItemsCount, final float loadFactor)
+        throws InvalidHashTableParameterException {
+        super(expectedItemsCount, loadFactor, true);
+    }
+
+    /**
+     * Returns the Value mapped to the specified key.
+     *
+     * @param key
+     *        {@code int} to look up
+     *
+     * @return Value mapped to {@code key}
+     *
+     * @throws KeyNotContainedException
+     *         if no Value is mapped to {@code key}
+     */
+    public Value get(final int key)
+        throws KeyNotContainedException {
+        final int slot = probe(key);
+
+        if (slot < 0)
+            throw new KeyNotContainedException(this, key);
+
+        return getMappedValue(slot);
+    }
+
+    /**
+     * Returns the Value mapped to the specified key, or the specified default Value if there is no such mapping.
+     *
+     * @param key
+     *        {@code int} to look up
+     *
+     * @param defaultValue
+     *        Value returned if no Value is mapped to {@code key}
+     *
+     * @return Value mapped to {@code key};
+     *         {@code defaultValue} if there is no such mapping
+     */
+    public Value getOrDefault(final int key, final Value defaultValue) {
+        final int slot = probe(key);
+
+        return slot >= 0 ?
+               getMappedValue(slot) :
+               defaultValue;
+    }
+
+    /**
+     * Maps the specified key to the specified Value, replacing a former mapping of the key.
+     *
+     * @param key
+     *        mapped {@code int}
+     *
+     * @param value
+     *        Value mapped to {@code key}
+     *
+     * @throws HashTableCapacityExceededException
+     *         if the table cannot grow any more
+     */
+    public void put(final int key, final Value value)
+        throws HashTableCapacityExceededException {
+        final int probeResult = probe(key);
+
+        setValue(probeResult >= 0 ?
+                 probeResult :
+                 insert(probeResult, key), value);
+    }
+
+    /**
+     * Maps the specified key to the specified Value unless the key is already mapped.
+     *
+     * @param key
+     *        {@code int} to map
+     *
+     * @param value
+     *        Value to map to {@code key}
+     *
+     * @return {@code true} if the mapping has been added;
+     *         {@code false} if {@code key} was already mapped
+     *
+     * @throws HashTableCapacityExceededException
+     *         if the table cannot grow any more
+     */
+    public boolean putIfAbsent(final int key, final Value value)
+        throws HashTableCapacityExceededException {
+        final int probeResult = probe(key);
+
+        if (probeResult >= 0)
+            return false;
+
+        setValue(insert(probeResult, key), value);
+
+        return true;
+    }
+
+    /**
+     * Removes the mapping of the specified key.
+     *
+     * @param key
+     *        {@code int} of the removed mapping
+     *
+     * @return Value formerly mapped to {@code key}
+     *
+     * @throws KeyNotContainedException
+     *         if no Value is mapped to {@code key}
+     */
+    public Value remove(final int key)
+        throws KeyNotContainedException {
+        final int slot = probe(key);
+
+        if (slot < 0)
+            throw new KeyNotContainedException(this, key);
+
+        final Value value = getMappedValue(slot);
+
+        removeSlot(slot);
+
+        return value;
+    }
+
+    /**
+     * Verifies whether a Value is mapped to the specified key.
+     *
+     * @param key
+     *        {@code int} to look up
+     *
+     * @return {@code true} if a Value is mapped to {@code key};
+     *         {@code false} otherwise
+     */
+    public boolean contains(final int key) {
+        return probe(key) >= 0;
+    }
+
+    /**
+     * Returns the keys.
+     *
+     * @return new array of integers specifying the keys
+     */
+    public int[] toKeyArray() {
+        return getKeys();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Value getMappedValue(final int slot) {
+        return (Value) getValue(slot);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import org.jlib.container.operation.InvalidContainerArgumentException;
+import static org.jlib.message.Messages.message;
+
+/**
+ * {@link InvalidContainerArgumentException} thrown when a map does not contain the specified key.
+ */
+public class KeyNotContainedException
+    extends InvalidContainerArgumentException {
+
+    private static final long serialVersionUID = 4417310954926375328L;
+
+    /**
+     * Creates a new {@link KeyNotContainedException}.
+     *
+     * @param container
+     *        referenced {@link Object}
+     *
+     * @param key
+     *        key not contained
+     */
+    public KeyNotContainedException(final Object container, final Object key) {
+        super(container, message(key));
+    }
+}
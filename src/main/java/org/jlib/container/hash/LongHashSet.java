@@ -0,0 +1,174 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+import org.jlib.container.operation.Count;
+import org.jlib.container.operation.IsEmpty;
+import org.jlib.container.operation.ItemAlreadyContainedException;
+import org.jlib.container.operation.ItemToRemoveNotContainedException;
+import org.jlib.container.operation.RemoveAll;
+
+/**
+ * Set of distinct {@code long} items held in an {@link AbstractLongHashTable}. Adding, looking up and removing an item
+ * takes expected constant time without boxing the item.
+ */
+public class LongHashSet
+    extends AbstractLongHashTable
+    implements Count<Long>,
+               IsEmpty<Long>,
+               RemoveAll<Long> {
+
+    public LongHashSet() {
+        this(DEFAULT_EXPECTED_ITEMS_COUNT);
+    }
+
+    public LongHashSet(final int expectedItemsCount) {
+        this(expectedItemsCount, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a new empty {@link LongHashSet}.
+     *
+     * @param expectedItemsCount
+     *        integer specifying the number of items fitting without growing the table
+     *
+     * @param loadFactor
+     *        float specifying the maximum ratio of items and slots; {@code 0 < loadFactor < 1}
+     *
+     * @throws InvalidHashTableParameterException
+     *         if {@code expectedItemsCount < 0} or the load factor is invalid
+     */
+    public LongHashSet(final int expectedItemsCount, final float loadFactor)
+        throws InvalidHashTableParameterException {
+        super(expectedItemsCount, loadFactor, false);
+    }
+
+    /**
+     * Adds the specified item.
+     *
+     * @param item
+     *        added {@code long}
+     *
+     * @throws ItemAlreadyContainedException
+     *         if {@code item} is already contained
+     *
+     * @throws HashTableCapacityExceededException
+     *         if the table cannot grow any more
+     */
+    public void add(final long item)
+        throws ItemAlreadyContainedException, HashTableCapacityExceededException {
+        final int probeResult = probe(item);
+
+        if (probeResult >= 0)
+            throw new ItemAlreadyContainedException(this, item);
+
+        insert(probeResult, item);
+    }
+
+    /**
+     * Adds the specified item unless it is already contained.
+     *
+     * @param item
+     *        {@code long} to add
+     *
+     * @return {@code true} if {@code item} has been added;
+     *         {@code false} if it was already contained
+     *
+     * @throws HashTableCapacityExceededException
+     *         if the table cannot grow any more
+     */
+    public boolean ensureContained(final long item)
+        throws HashTableCapacityExceededException {
+        final int probeResult = probe(item);
+
+        if (probeResult >= 0)
+            return false;
+
+        insert(probeResult, item);
+
+        return true;
+    }
+
+    /**
+     * Verifies whether the specified item is contained.
+     *
+     * @param item
+     *        {@code long} to look up
+     *
+     * @return {@code true} if {@code item} is contained;
+     *         {@code false} otherwise
+     */
+    public boolean contains(final long item) {
+        return probe(item) >= 0;
+    }
+
+    /**
+     * Removes the specified item.
+     *
+     * @param item
+     *        removed {@code long}
+     *
+     * @throws ItemToRemoveNotContainedException
+     *         if {@code item} is not contained
+     */
+    public void remove(final long item)
+        throws ItemToRemoveNotContainedException {
+        final int slot = probe(item);
+
+        if (slot < 0)
+            throw new ItemToRemoveNotContainedException(this, item);
+
+        removeSlot(slot);
+    }
+
+    /**
+     * Removes each item not satisfying the specified {@link LongPredicate}, rebuilding the table in a single pass.
+     *
+     * @param retainedItem
+     *        {@link LongPredicate} verifying whether the specified item is retained
+     */
+    public void retain(final LongPredicate retainedItem) {
+        retainSlots(slot -> retainedItem.test(getKey(slot)));
+    }
+
+    /**
+     * Performs the specified {@link LongConsumer} for each item.
+     *
+     * @param action
+     *        {@link LongConsumer} accepting each item
+     */
+    public void forEach(final LongConsumer action) {
+        forEachKey(action);
+    }
+
+    /**
+     * Returns the items.
+     *
+     * @return new array of longs specifying the items
+     */
+    public long[] toLongArray() {
+        return getKeys();
+    }
+}
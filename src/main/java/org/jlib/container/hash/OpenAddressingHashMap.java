@@ -0,0 +1,293 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+import org.jlib.container.basefunction.DefaultEquals;
+import org.jlib.container.basefunction.DefaultHashCode;
+import org.jlib.container.basefunction.Equals;
+import org.jlib.container.basefunction.HashCode;
+import org.jlib.container.operation.ContainsSingle;
+import org.jlib.container.operation.Count;
+import org.jlib.container.operation.IsEmpty;
+import org.jlib.container.operation.RemoveAll;
+
+/**
+ * <p>
+ * Map from Keys to Values held in an {@link AbstractOpenAddressingHashTable}. The Keys and the Values are stored in
+ * two parallel arrays; unlike a {@link java.util.HashMap}, no entry object is allocated per mapping. The hash code
+ * and equality of the Keys are specified by a {@link HashCode} and an {@link Equals}.
+ * </p>
+ * <p>
+ * Putting, getting and removing a mapping takes expected constant time. {@code null} is supported as Key and as
+ * Value.
+ * </p>
+ *
+ * @param <Key>
+ *        type of the keys
+ *
+ * @param <Value>
+ *        type of the values
+ */
+public class OpenAddressingHashMap<Key, Value>
+    extends AbstractOpenAddressingHashTable<Key>
+    implements ContainsSingle<Key>,
+               Count<Key>,
+               IsEmpty<Key>,
+               RemoveAll<Key> {
+
+    public OpenAddressingHashMap() {
+        this(DEFAULT_EXPECTED_ITEMS_COUNT);
+    }
+
+    public OpenAddressingHashMap(final int expectedItemsCount) {
+        this(expectedItemsCount, DEFAULT_LOAD_FACTOR, DefaultHashCode.getInstance(), DefaultEquals.getInstance());
+    }
+
+    /**
+     * Creates a new empty {@link OpenAddressingHashMap}.
+     *
+     * @param expectedItemsCount
+     *        integer specifying the number of mappings fitting without growing the table
+     *
+     * @param loadFactor
+     *        float specifying the maximum ratio of mappings and slots; {@code 0 < loadFactor < 1}
+     *
+     * @param hashCode
+     *        {@link HashCode} of the Keys
+     *
+     * @param equals
+     *        {@link Equals} of the Keys
+     *
+     * @throws InvalidHashTableParameterException
+     *         if {@code expectedItemsCount < 0} or the load factor is invalid
+     */
+    public OpenAddressingHashMap(final int expectedItemsCount, final float loadFactor, final HashCode<Key> hashCode,
+                                 final Equals<Key> equals)
+        throws InvalidHashTableParameterException {
+        super(expectedItemsCount, loadFactor, hashCode, equals, true);
+    }
+
+    /**
+     * Returns the Value mapped to the specified Key.
+     *
+     * @param key
+     *        Key to look up
+     *
+     * @return Value mapped to {@code key}
+     *
+     * @throws KeyNotContainedException
+     *         if no Value is mapped to {@code key}
+     */
+    public Value get(final Key key)
+        throws KeyNotContainedException {
+        final int slot = probe(key);
+
+        if (slot < 0)
+            throw new KeyNotContainedException(this, key);
+
+        return getMappedValue(slot);
+    }
+
+    /**
+     * Returns the Value mapped to the specified Key, or the specified default Value if there is no such mapping.
+     *
+     * @param key
+     *        Key to look up
+     *
+     * @param defaultValue
+     *        Value returned if no Value is mapped to {@code key}
+     *
+     * @return Value mapped to {@code key};
+     *         {@code defaultValue} if there is no such mapping
+     */
+    public Value getOrDefault(final Key key, final Value defaultValue) {
+        final int slot = probe(key);
+
+        return slot >= 0 ?
+               getMappedValue(slot) :
+               defaultValue;
+    }
+
+    /**
+     * Maps the specified Key to the specified Value, replacing a former mapping of the Key.
+     *
+     * @param key
+     *        mapped Key
+     *
+     * @param value
+     *        Value mapped to {@code key}
+     *
+     * @throws HashTableCapacityExceededException
+     *         if the table cannot grow any more
+     */
+    public void put(final Key key, final Value value)
+        throws HashTableCapacityExceededException {
+        final int probeResult = probe(key);
+
+        setValue(probeResult >= 0 ?
+                 probeResult :
+                 insert(probeResult, key), value);
+    }
+
+    /**
+     * Maps the specified Key to the specified Value unless the Key is already mapped.
+     *
+     * @param key
+     *        Key to map
+     *
+     * @param value
+     *        Value to map to {@code key}
+     *
+     * @return {@code true} if the mapping has been added;
+     *         {@code false} if {@code key} was already mapped
+     *
+     * @throws HashTableCapacityExceededException
+     *         if the table cannot grow any more
+     */
+    public boolean putIfAbsent(final Key key, final Value value)
+        throws HashTableCapacityExceededException {
+        final int probeResult = probe(key);
+
+        if (probeResult >= 0)
+            return false;
+
+        setValue(insert(probeResult, key), value);
+
+        return true;
+    }
+
+    /**
+     * Removes the mapping of the specified Key.
+     *
+     * @param key
+     *        Key of the removed mapping
+     *
+     * @return Value formerly mapped to {@code key}
+     *
+     * @throws KeyNotContainedException
+     *         if no Value is mapped to {@code key}
+     */
+    public Value remove(final Key key)
+        throws KeyNotContainedException {
+        final int slot = probe(key);
+
+        if (slot < 0)
+            throw new KeyNotContainedException(this, key);
+
+        final Value value = getMappedValue(slot);
+
+        removeSlot(slot);
+
+        return value;
+    }
+
+    /**
+     * Removes each mapping not satisfying the specified {@link BiPredicate}, rebuilding the table in a single pass.
+     *
+     * @param retainedMapping
+     *        {@link BiPredicate} verifying whether the mapping of the specified Key to the specified Value is retained
+     */
+    public void retain(final BiPredicate<? super Key, ? super Value> retainedMapping) {
+        retainSlots(slot -> retainedMapping.test(getKey(slot), getMappedValue(slot)));
+    }
+
+    /**
+     * Verifies whether a Value is mapped to the specified Key.
+     *
+     * @param key
+     *        Key to look up
+     *
+     * @return {@code true} if a Value is mapped to {@code key};
+     *         {@code false} otherwise
+     */
+    @Override
+    public boolean contains(final Key key) {
+        return probe(key) >= 0;
+    }
+
+    /**
+     * Performs the specified {@link BiConsumer} for each mapping.
+     *
+     * @param action
+     *        {@link BiConsumer} accepting each Key and the Value mapped to it
+     */
+    public void forEach(final BiConsumer<? super Key, ? super Value> action) {
+        for (int slot = 0; slot < getSlotsCount(); slot++)
+            if (isOccupied(slot))
+                action.accept(getKey(slot), getMappedValue(slot));
+    }
+
+    /**
+     * Returns an {@link Iterable} over the Keys. Removing a Key by its {@link Iterator} removes its mapping.
+     *
+     * @return {@link Iterable} over the Keys
+     */
+    public Iterable<Key> keys() {
+        return () -> new SlotIterator<Key>() {
+
+            @Override
+            protected Key getItem(final int slot) {
+                return getKey(slot);
+            }
+        };
+    }
+
+    /**
+     * Returns an {@link Iterable} over the Values. Removing a Value by its {@link Iterator} removes its mapping.
+     *
+     * @return {@link Iterable} over the Values
+     */
+    public Iterable<Value> values() {
+        return () -> new SlotIterator<Value>() {
+
+            @Override
+            protected Value getItem(final int slot) {
+                return getMappedValue(slot);
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@link Map} holding the mappings of this {@link OpenAddressingHashMap}. The {@link Map} uses the
+     * equality of the Keys as defined by {@link Object#equals(Object)}.
+     *
+     * @return new {@link Map}
+     */
+    public Map<Key, Value> toMap() {
+        final Map<Key, Value> map = new HashMap<>();
+
+        forEach(map::put);
+
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Value getMappedValue(final int slot) {
+        return (Value) getValue(slot);
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Arrays.asList;
+import static org.jlib.array.ArrayUtility.array;
+import org.jlib.container.Container;
+import org.jlib.container.basefunction.CachedUnorderedHashCode;
+import org.jlib.container.basefunction.DefaultEquals;
+import org.jlib.container.basefunction.DefaultHashCode;
+import org.jlib.container.basefunction.Equals;
+import org.jlib.container.basefunction.HashCode;
+import org.jlib.container.basefunction.UnorderedHashCode;
+import org.jlib.container.operation.ArrayAdoptingList;
+import org.jlib.container.operation.ContainsSingle;
+import org.jlib.container.operation.ItemAlreadyContainedException;
+import org.jlib.container.operation.ItemToRemoveNotContainedException;
+import org.jlib.container.operation.RemoveAll;
+import org.jlib.container.operation.RemoveMultipleByValue;
+import org.jlib.container.operation.RemoveSingleByValue;
+import org.jlib.container.operation.Retain;
+import org.jlib.container.operation.containsadapter.ContainsAdapter;
+
+/**
+ * <p>
+ * {@link Container} of distinct Items held in an {@link AbstractOpenAddressingHashTable}. Unlike a
+ * {@link java.util.HashSet}, no node is allocated per Item, and the hash code and equality of the Items are specified
+ * by a {@link HashCode} and an {@link Equals}.
+ * </p>
+ * <p>
+ * Adding, looking up and removing an Item takes expected constant time. Removing or retaining the Items of another
+ * container rebuilds the table in a single pass.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items held in the {@link OpenAddressingHashSet}
+ */
+public class OpenAddressingHashSet<Item>
+    extends AbstractOpenAddressingHashTable<Item>
+    implements Container<Item>,
+               RemoveSingleByValue<Item>,
+               RemoveMultipleByValue<Item>,
+               RemoveAll<Item>,
+               Retain<Item>,
+               CachedUnorderedHashCode<Item> {
+
+    /** whether {@link #unorderedHashCode} is maintained */
+    private boolean unorderedHashCodeMaintained;
+
+    /** sum of the hash codes of the Items as specified by {@link Set#hashCode()}, if maintained */
+    private int unorderedHashCode;
+
+    public OpenAddressingHashSet() {
+        this(DEFAULT_EXPECTED_ITEMS_COUNT);
+    }
+
+    public OpenAddressingHashSet(final int expectedItemsCount) {
+        this(expectedItemsCount, DEFAULT_LOAD_FACTOR, DefaultHashCode.getInstance(), DefaultEquals.getInstance());
+    }
+
+    /**
+     * Creates a new empty {@link OpenAddressingHashSet}.
+     *
+     * @param expectedItemsCount
+     *        integer specifying the number of Items fitting without growing the table
+     *
+     * @param loadFactor
+     *        float specifying the maximum ratio of Items and slots; {@code 0 < loadFactor < 1}
+     *
+     * @param hashCode
+     *        {@link HashCode} of the Items
+     *
+     * @param equals
+     *        {@link Equals} of the Items
+     *
+     * @throws InvalidHashTableParameterException
+     *         if {@code expectedItemsCount < 0} or the load factor is invalid
+     */
+    public OpenAddressingHashSet(final int expectedItemsCount, final float loadFactor, final HashCode<Item> hashCode,
+                                 final Equals<Item> equals)
+        throws InvalidHashTableParameterException {
+        super(expectedItemsCount, loadFactor, hashCode, equals, false);
+    }
+
+    /**
+     * Adds the specified Item.
+     *
+     * @param item
+     *        added Item
+     *
+     * @throws ItemAlreadyContainedException
+     *         if {@code item} is already contained
+     *
+     * @throws HashTableCapacityExceededException
+     *         if the table cannot grow any more
+     */
+    public void add(final Item item)
+        throws ItemAlreadyContainedException, HashTableCapacityExceededException {
+        final int probeResult = probe(item);
+
+        if (probeResult >= 0)
+            throw new ItemAlreadyContainedException(this, item);
+
+        insert(probeResult, item);
+        itemAdded(item);
+    }
+
+    /**
+     * Adds the specified Item unless it is already contained.
+     *
+     * @param item
+     *        Item to add
+     *
+     * @return {@code true} if {@code item} has been added;
+     *         {@code false} if it was already contained
+     *
+     * @throws HashTableCapacityExceededException
+     *         if the table cannot grow any more
+     */
+    public boolean ensureContained(final Item item)
+        throws HashTableCapacityExceededException {
+        final int probeResult = probe(item);
+
+        if (probeResult >= 0)
+            return false;
+
+        insert(probeResult, item);
+        itemAdded(item);
+
+        return true;
+    }
+
+    private void itemAdded(final Item item) {
+        if (unorderedHashCodeMaintained)
+            unorderedHashCode += Objects.hashCode(item);
+    }
+
+    private void itemRemoved(final Item item) {
+        if (unorderedHashCodeMaintained)
+            unorderedHashCode -= Objects.hashCode(item);
+    }
+
+    @Override
+    public void remove(final Item item)
+        throws ItemToRemoveNotContainedException {
+        final int slot = probe(item);
+
+        if (slot < 0)
+            throw new ItemToRemoveNotContainedException(this, item);
+
+        itemRemoved(getKey(slot));
+        removeSlot(slot);
+    }
+
+    @Override
+    public <ContainsIterable extends Iterable<Item> & ContainsSingle<Item>> /*
+        */ void remove(final ContainsIterable items) {
+        retainSlots(slot -> ! items.contains(getKey(slot)));
+        recomputeUnorderedHashCode();
+    }
+
+    @Override
+    public void retain(final ContainsAdapter<Item> items) {
+        retainSlots(slot -> items.contains(getKey(slot)));
+        recomputeUnorderedHashCode();
+    }
+
+    @Override
+    public void removeAll() {
+        super.removeAll();
+        unorderedHashCode = 0;
+    }
+
+    /**
+     * Specifies whether the unordered hash code is maintained incrementally. If so, it is updated in constant time
+     * whenever a single Item is added or removed, and recomputed when the Items of another container are removed or
+     * retained, which takes linear time anyway.
+     *
+     * @param maintained
+     *        {@code true} to maintain the unordered hash code;
+     *        {@code false} otherwise
+     */
+    public void setUnorderedHashCodeMaintained(final boolean maintained) {
+        if (maintained == unorderedHashCodeMaintained)
+            return;
+
+        unorderedHashCodeMaintained = maintained;
+        recomputeUnorderedHashCode();
+    }
+
+    private void recomputeUnorderedHashCode() {
+        unorderedHashCode = unorderedHashCodeMaintained ?
+                            UnorderedHashCode.computeHashCode(this) :
+                            0;
+    }
+
+    @Override
+    public boolean isUnorderedHashCodeCached() {
+        return unorderedHashCodeMaintained;
+    }
+
+    @Override
+    public int getUnorderedHashCode() {
+        return unorderedHashCodeMaintained ?
+               unorderedHashCode :
+               UnorderedHashCode.computeHashCode(this);
+    }
+
+    @Override
+    public boolean contains(final Item item) {
+        return probe(item) >= 0;
+    }
+
+    @Override
+    public <ContainsIterable extends Iterable<Item> & ContainsSingle<Item>> /*
+        */ boolean contains(final ContainsIterable items) {
+        for (final Item item : items)
+            if (! contains(item))
+                return false;
+
+        return true;
+    }
+
+    @Override
+    public Item[] toArray() {
+        final Item[] items = array(count());
+        int index = 0;
+
+        for (int slot = 0; slot < getSlotsCount(); slot++)
+            if (isOccupied(slot))
+                items[index++] = getKey(slot);
+
+        return items;
+    }
+
+    @Override
+    public List<Item> toRandomAccessList() {
+        return new ArrayAdoptingList<>(toArray());
+    }
+
+    @Override
+    public List<Item> toSequentialList() {
+        return new LinkedList<>(asList(toArray()));
+    }
+
+    @Override
+    public Set<Item> toSet() {
+        return new HashSet<>(asList(toArray()));
+    }
+
+    @Override
+    public Stream<Item> stream() {
+        return StreamSupport.stream(new ItemSpliterator(), false);
+    }
+
+    @Override
+    public Stream<Item> parallelStream() {
+        return StreamSupport.stream(new ItemSpliterator(), true);
+    }
+
+    @Override
+    public Iterator<Item> iterator() {
+        return new SlotIterator<Item>() {
+
+            /** last traversed Item */
+            private Item lastItem;
+
+            @Override
+            protected Item getItem(final int slot) {
+                return lastItem = getKey(slot);
+            }
+
+            @Override
+            public void remove() {
+                super.remove();
+                itemRemoved(lastItem);
+            }
+        };
+    }
+
+    /**
+     * {@link SlotSpliterator} over the Items of this {@link OpenAddressingHashSet}.
+     */
+    private class ItemSpliterator
+        extends SlotSpliterator<Item> {
+
+        private ItemSpliterator() {}
+
+        private ItemSpliterator(final int minimumSlot, final int maximumSlot, final long estimatedSize) {
+            super(minimumSlot, maximumSlot, estimatedSize, false);
+        }
+
+        @Override
+        protected Item getItem(final int slot) {
+            return getKey(slot);
+        }
+
+        @Override
+        protected SlotSpliterator<Item> createSpliterator(final int minimumSlot, final int maximumSlot,
+                                                          final long estimatedSize) {
+            return new ItemSpliterator(minimumSlot, maximumSlot, estimatedSize);
+        }
+    }
+}
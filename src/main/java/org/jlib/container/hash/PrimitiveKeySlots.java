@@ -0,0 +1,102 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import org.jlib.container.storage.LinearIndexStorage;
+
+/**
+ * Access to the primitive keys of an {@link AbstractPrimitiveHashTable} by slot, without boxing them. A slot holding
+ * {@code 0} is empty.
+ *
+ * @param <Keys>
+ *        type of the {@link LinearIndexStorage} holding the keys
+ */
+interface PrimitiveKeySlots<Keys extends LinearIndexStorage<?>> {
+
+    /**
+     * Creates a new {@link LinearIndexStorage} of empty slots.
+     *
+     * @param capacity
+     *        integer specifying the number of slots
+     *
+     * @return new {@link LinearIndexStorage} of {@code capacity} empty slots
+     */
+    Keys createKeys(int capacity);
+
+    /**
+     * Verifies whether the specified slot is empty.
+     *
+     * @param keys
+     *        {@link LinearIndexStorage} holding the keys
+     *
+     * @param slot
+     *        integer specifying the index of the slot
+     *
+     * @return {@code true} if {@code slot} holds {@code 0};
+     *         {@code false} otherwise
+     */
+    boolean isEmpty(Keys keys, int slot);
+
+    /**
+     * Returns the home slot of the key in the specified slot.
+     *
+     * @param keys
+     *        {@link LinearIndexStorage} holding the keys
+     *
+     * @param slot
+     *        integer specifying the index of an occupied slot
+     *
+     * @param shift
+     *        integer specifying the number of bits shifting the spread key to a slot index
+     *
+     * @return integer specifying the index of the home slot
+     */
+    int getHomeSlot(Keys keys, int slot, int shift);
+
+    /**
+     * Copies the key in the specified source slot to the specified target slot.
+     *
+     * @param sourceKeys
+     *        {@link LinearIndexStorage} holding the source slot
+     *
+     * @param sourceSlot
+     *        integer specifying the index of the source slot
+     *
+     * @param targetKeys
+     *        {@link LinearIndexStorage} holding the target slot
+     *
+     * @param targetSlot
+     *        integer specifying the index of the target slot
+     */
+    void copyKey(Keys sourceKeys, int sourceSlot, Keys targetKeys, int targetSlot);
+
+    /**
+     * Empties the specified slot.
+     *
+     * @param keys
+     *        {@link LinearIndexStorage} holding the keys
+     *
+     * @param slot
+     *        integer specifying the index of the slot
+     */
+    void clearSlot(Keys keys, int slot);
+}
@@ -37,6 +37,7 @@ public interface AlmightyContainer<Item>
             ToRandomAccessList<Item>,
             ToSequentialList<Item>,
             ToSet<Item>,
+            ToStream<Item>,
             Iterable<Item> {
     // unifying
 }
@@ -0,0 +1,118 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+
+import static java.lang.Math.max;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
+
+/**
+ * <p>
+ * Resizable {@link RandomAccess} {@link java.util.List} adopting a newly created array of Items without copying it,
+ * for operations that fill a sized array anyway. The array must not be used by the caller afterwards.
+ * </p>
+ * <p>
+ * Like an {@link ArrayList}, the array is reallocated with half of its length as additional capacity when an added
+ * Item does not fit.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items
+ */
+public class ArrayAdoptingList<Item>
+    extends AbstractList<Item>
+    implements RandomAccess {
+
+    /** array holding the Items in its first {@link #size} slots */
+    private Item[] items;
+
+    /** number of Items */
+    private int size;
+
+    /**
+     * Creates a new {@link ArrayAdoptingList} holding the Items of the specified array.
+     *
+     * @param items
+     *        array of Items adopted by this {@link ArrayAdoptingList}
+     */
+    public ArrayAdoptingList(final Item[] items) {
+        this.items = items;
+        size = items.length;
+    }
+
+    @Override
+    public Item get(final int index) {
+        ensureIndexValid(index, size - 1);
+
+        return items[index];
+    }
+
+    @Override
+    public Item set(final int index, final Item item) {
+        ensureIndexValid(index, size - 1);
+
+        final Item formerItem = items[index];
+        items[index] = item;
+
+        return formerItem;
+    }
+
+    @Override
+    public void add(final int index, final Item item) {
+        ensureIndexValid(index, size);
+
+        if (size == items.length)
+            items = copyOf(items, max(size + (size >> 1), size + 1));
+
+        arraycopy(items, index, items, index + 1, size - index);
+        items[index] = item;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Item remove(final int index) {
+        ensureIndexValid(index, size - 1);
+
+        final Item removedItem = items[index];
+
+        arraycopy(items, index + 1, items, index, size - index - 1);
+        items[--size] = null;
+        modCount++;
+
+        return removedItem;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void ensureIndexValid(final int index, final int maximumIndex) {
+        if (index < 0 || index > maximumIndex)
+            throw new IndexOutOfBoundsException("index = " + index + ", size = " + size);
+    }
+}
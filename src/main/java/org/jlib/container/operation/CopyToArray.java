@@ -0,0 +1,44 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation;
+
+public interface CopyToArray<Item> {
+
+    /**
+     * Copies all Items of this {@link Object} in the proper order as returned by this {@link Object}'s Iterator into
+     * the specified array, starting at the specified index. Implementations backed by an array copy the Items in bulk.
+     *
+     * @param targetArray
+     *        array receiving the Items
+     *
+     * @param targetArrayIndex
+     *        integer specifying the index in {@code targetArray} receiving the first Item
+     *
+     * @throws InvalidContainerIndexException
+     *         if {@code targetArray} cannot hold all Items starting at {@code targetArrayIndex}
+     *
+     * @throws InvalidContainerStateException
+     *         if an error occurs during the operation
+     */
+    void copyToArray(Item[] targetArray, int targetArrayIndex)
+        throws InvalidContainerIndexException, InvalidContainerStateException;
+}
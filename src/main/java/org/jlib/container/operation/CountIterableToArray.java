@@ -21,7 +21,16 @@
 
 package org.jlib.container.operation;
 
-
+/**
+ * {@link ToArray} creating an array of the exact size returned by {@link Count#count()} of the delegate container.
+ * If the delegate container is a {@link CopyToArray}, the Items are copied in bulk; otherwise, they are traversed.
+ *
+ * @param <Item>
+ *        type of the items
+ *
+ * @param <DelegateContainer>
+ *        type of the delegate container
+ */
 public final class CountIterableToArray<Item, DelegateContainer extends Count<Item> & Iterable<Item>>
     implements ToArray<Item> {
 
@@ -38,6 +47,14 @@ public final class CountIterableToArray<Item, DelegateContainer extends Count<It
         @SuppressWarnings("unchecked")
         final Item[] targetArray = (Item[]) new Object[delegateIterable.count()];
 
+        if (delegateIterable instanceof CopyToArray) {
+            @SuppressWarnings("unchecked")
+            final CopyToArray<Item> copyToArray = (CopyToArray<Item>) delegateIterable;
+            copyToArray.copyToArray(targetArray, 0);
+
+            return targetArray;
+        }
+
         int index = 0;
 
         for (final Item item : delegateIterable)
@@ -0,0 +1,108 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation;
+
+import java.util.Spliterator;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterator.SIZED;
+import static java.util.Spliterator.SUBSIZED;
+
+/**
+ * {@link ToStream} of an {@link Iterable} knowing the number of its Items. If the {@link Spliterator} of the
+ * {@link Iterable} reports {@link Spliterator#SUBSIZED}, like the one of a container backed by a
+ * {@link org.jlib.container.storage.LinearIndexStorage}, it is used since it splits by index. Otherwise it is
+ * wrapped by a {@link Spliterator} reporting the known size, enabling a parallel stream to split the Items in batches
+ * although they are only accessible sequentially.
+ *
+ * @param <Item>
+ *        type of the items
+ *
+ * @param <DelegateContainer>
+ *        type of the delegate container
+ */
+public final class CountIterableToStream<Item, DelegateContainer extends Count<Item> & Iterable<Item>>
+    implements ToStream<Item> {
+
+    private final DelegateContainer delegateIterable;
+
+    public CountIterableToStream(final DelegateContainer delegateIterable) {
+
+        this.delegateIterable = delegateIterable;
+    }
+
+    @Override
+    public Stream<Item> stream() {
+        return createStream(false);
+    }
+
+    @Override
+    public Stream<Item> parallelStream() {
+        return createStream(true);
+    }
+
+    private Stream<Item> createStream(final boolean parallel) {
+        return StreamSupport.stream(createSpliterator(), parallel);
+    }
+
+    private Spliterator<Item> createSpliterator() {
+        final Spliterator<Item> delegateSpliterator = delegateIterable.spliterator();
+
+        if (delegateSpliterator.hasCharacteristics(SUBSIZED))
+            return delegateSpliterator;
+
+        return new SizedSpliterator<>(delegateSpliterator, delegateIterable.count());
+    }
+
+    /**
+     * {@link Spliterator} traversing the Items by a delegate {@link Spliterator} and reporting their known number.
+     * Splitting copies batches of Items into arrays.
+     *
+     * @param <Item>
+     *        type of the items
+     */
+    private static final class SizedSpliterator<Item>
+        extends AbstractSpliterator<Item> {
+
+        private final Spliterator<Item> delegateSpliterator;
+
+        private SizedSpliterator(final Spliterator<Item> delegateSpliterator, final int count) {
+            super(count, ORDERED | SIZED);
+
+            this.delegateSpliterator = delegateSpliterator;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Item> action) {
+            return delegateSpliterator.tryAdvance(action);
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super Item> action) {
+            delegateSpliterator.forEachRemaining(action);
+        }
+    }
+}
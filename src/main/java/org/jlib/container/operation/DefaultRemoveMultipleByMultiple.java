@@ -21,6 +21,10 @@
 
 package org.jlib.container.operation;
 
+import org.jlib.container.basefunction.HashCode;
+import org.jlib.container.operation.containsadapter.BloomFilterContainsAdapter;
+import org.jlib.container.operation.containsadapter.InvalidFalsePositiveProbabilityException;
+
 public class DefaultRemoveMultipleByMultiple<Item>
     implements RemoveMultipleByValue<Item> {
 
@@ -28,11 +32,93 @@ public class DefaultRemoveMultipleByMultiple<Item>
 
     private final RemoveSingleByValue<Item> removableContainedItems;
 
+    /** whether the removed Items are pre-filtered by a {@link BloomFilterContainsAdapter} */
+    private final boolean bloomFiltering;
+
+    /** false positive probability of the {@link BloomFilterContainsAdapter} */
+    private final double falsePositiveProbability;
+
+    /** {@link HashCode} of the removed Items; {@code null} if unknown */
+    private final HashCode<Item> hashCode;
+
     public <RemoveSingleIterable extends Iterable<Item> & RemoveSingleByValue<Item>> /*
         */ DefaultRemoveMultipleByMultiple(final RemoveSingleIterable containedItems) {
 
         this.containedItems = containedItems;
         removableContainedItems = containedItems;
+        bloomFiltering = false;
+        falsePositiveProbability = 0;
+        hashCode = null;
+    }
+
+    /**
+     * Creates a new {@link DefaultRemoveMultipleByMultiple} pre-filtering the removed Items of each operation by a
+     * {@link BloomFilterContainsAdapter}, as far as their hash code is known to be consistent with their lookup, as
+     * specified by {@link BloomFilterContainsAdapter#prefilter}.
+     *
+     * @param containedItems
+     *        {@link Iterable} and {@link RemoveSingleByValue} of the contained Items
+     *
+     * @param falsePositiveProbability
+     *        double specifying the false positive probability of the {@link BloomFilterContainsAdapter};
+     *        {@code 0 < falsePositiveProbability < 1}
+     *
+     * @param <RemoveSingleIterable>
+     *        type of {@code containedItems}
+     *
+     * @throws InvalidFalsePositiveProbabilityException
+     *         if {@code falsePositiveProbability} is invalid
+     */
+    public <RemoveSingleIterable extends Iterable<Item> & RemoveSingleByValue<Item>> /*
+        */ DefaultRemoveMultipleByMultiple(final RemoveSingleIterable containedItems,
+                                           final double falsePositiveProbability)
+        throws InvalidFalsePositiveProbabilityException {
+
+        this(containedItems, containedItems, falsePositiveProbability, null);
+    }
+
+    /**
+     * Creates a new {@link DefaultRemoveMultipleByMultiple} pre-filtering the removed Items of each operation by a
+     * {@link BloomFilterContainsAdapter} using the specified {@link HashCode}, so that most contained Items not to
+     * remove are kept without looking them up in the removed Items.
+     *
+     * @param containedItems
+     *        {@link Iterable} and {@link RemoveSingleByValue} of the contained Items
+     *
+     * @param falsePositiveProbability
+     *        double specifying the false positive probability of the {@link BloomFilterContainsAdapter};
+     *        {@code 0 < falsePositiveProbability < 1}
+     *
+     * @param hashCode
+     *        {@link HashCode} of the Items, consistent with the equality used by the removed Items
+     *
+     * @param <RemoveSingleIterable>
+     *        type of {@code containedItems}
+     *
+     * @throws InvalidFalsePositiveProbabilityException
+     *         if {@code falsePositiveProbability} is invalid
+     */
+    public <RemoveSingleIterable extends Iterable<Item> & RemoveSingleByValue<Item>> /*
+        */ DefaultRemoveMultipleByMultiple(final RemoveSingleIterable containedItems,
+                                           final double falsePositiveProbability, final HashCode<Item> hashCode)
+        throws InvalidFalsePositiveProbabilityException {
+
+        this(containedItems, containedItems, falsePositiveProbability, hashCode);
+    }
+
+    private DefaultRemoveMultipleByMultiple(final Iterable<Item> containedItems,
+                                            final RemoveSingleByValue<Item> removableContainedItems,
+                                            final double falsePositiveProbability,
+                                            /* @Nullable */ final HashCode<Item> hashCode)
+        throws InvalidFalsePositiveProbabilityException {
+
+        BloomFilterContainsAdapter.ensureFalsePositiveProbabilityValid(falsePositiveProbability);
+
+        this.containedItems = containedItems;
+        this.removableContainedItems = removableContainedItems;
+        bloomFiltering = true;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.hashCode = hashCode;
     }
 
     @Override
@@ -40,8 +126,13 @@ public class DefaultRemoveMultipleByMultiple<Item>
         */ void remove(final ContainsIterable removedItems)
         throws InvalidContainerArgumentException, InvalidContainerStateException {
 
+        final ContainsSingle<Item> lookupItems =
+            bloomFiltering ?
+            BloomFilterContainsAdapter.prefilter(removedItems, falsePositiveProbability, hashCode) :
+            removedItems;
+
         for (final Item containedItem : containedItems)
-            if (removedItems.contains(containedItem))
+            if (lookupItems.contains(containedItem))
                 removableContainedItems.remove(containedItem);
     }
 }
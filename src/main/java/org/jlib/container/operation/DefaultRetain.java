@@ -21,7 +21,10 @@
 
 package org.jlib.container.operation;
 
-import org.jlib.container.operation.containsadapter.IterativeContainsAdapter;
+import org.jlib.container.basefunction.HashCode;
+import org.jlib.container.operation.containsadapter.BloomFilterContainsAdapter;
+import org.jlib.container.operation.containsadapter.ContainsAdapter;
+import org.jlib.container.operation.containsadapter.InvalidFalsePositiveProbabilityException;
 
 public class DefaultRetain<Item>
     implements Retain<Item> {
@@ -30,20 +33,103 @@ public class DefaultRetain<Item>
 
     private final Iterable<Item> containedItems;
 
+    /** whether the retained Items are pre-filtered by a {@link BloomFilterContainsAdapter} */
+    private final boolean bloomFiltering;
+
+    /** false positive probability of the {@link BloomFilterContainsAdapter} */
+    private final double falsePositiveProbability;
+
+    /** {@link HashCode} of the retained Items; {@code null} if unknown */
+    private final HashCode<Item> hashCode;
+
     public <RemoveIterable extends Iterable<Item> & RemoveSingleByValue<Item>> /*
         */ DefaultRetain(final RemoveIterable containedItems) {
 
         this.containedItems = containedItems;
         removableContainedItems = containedItems;
+        bloomFiltering = false;
+        falsePositiveProbability = 0;
+        hashCode = null;
+    }
+
+    /**
+     * Creates a new {@link DefaultRetain} pre-filtering the retained Items of each operation by a
+     * {@link BloomFilterContainsAdapter}, as far as their hash code is known to be consistent with their lookup, as
+     * specified by {@link BloomFilterContainsAdapter#prefilter}.
+     *
+     * @param containedItems
+     *        {@link Iterable} and {@link RemoveSingleByValue} of the contained Items
+     *
+     * @param falsePositiveProbability
+     *        double specifying the false positive probability of the {@link BloomFilterContainsAdapter};
+     *        {@code 0 < falsePositiveProbability < 1}
+     *
+     * @param <RemoveIterable>
+     *        type of {@code containedItems}
+     *
+     * @throws InvalidFalsePositiveProbabilityException
+     *         if {@code falsePositiveProbability} is invalid
+     */
+    public <RemoveIterable extends Iterable<Item> & RemoveSingleByValue<Item>> /*
+        */ DefaultRetain(final RemoveIterable containedItems, final double falsePositiveProbability)
+        throws InvalidFalsePositiveProbabilityException {
+
+        this(containedItems, containedItems, falsePositiveProbability, null);
+    }
+
+    /**
+     * Creates a new {@link DefaultRetain} pre-filtering the retained Items of each operation by a
+     * {@link BloomFilterContainsAdapter} using the specified {@link HashCode}, so that most contained Items not to
+     * retain are rejected without looking them up in the retained Items.
+     *
+     * @param containedItems
+     *        {@link Iterable} and {@link RemoveSingleByValue} of the contained Items
+     *
+     * @param falsePositiveProbability
+     *        double specifying the false positive probability of the {@link BloomFilterContainsAdapter};
+     *        {@code 0 < falsePositiveProbability < 1}
+     *
+     * @param hashCode
+     *        {@link HashCode} of the Items, consistent with the equality used by the retained Items
+     *
+     * @param <RemoveIterable>
+     *        type of {@code containedItems}
+     *
+     * @throws InvalidFalsePositiveProbabilityException
+     *         if {@code falsePositiveProbability} is invalid
+     */
+    public <RemoveIterable extends Iterable<Item> & RemoveSingleByValue<Item>> /*
+        */ DefaultRetain(final RemoveIterable containedItems, final double falsePositiveProbability,
+                         final HashCode<Item> hashCode)
+        throws InvalidFalsePositiveProbabilityException {
+
+        this(containedItems, containedItems, falsePositiveProbability, hashCode);
+    }
+
+    private DefaultRetain(final Iterable<Item> containedItems, final RemoveSingleByValue<Item> removableContainedItems,
+                          final double falsePositiveProbability, /* @Nullable */ final HashCode<Item> hashCode)
+        throws InvalidFalsePositiveProbabilityException {
+
+        BloomFilterContainsAdapter.ensureFalsePositiveProbabilityValid(falsePositiveProbability);
+
+        this.containedItems = containedItems;
+        this.removableContainedItems = removableContainedItems;
+        bloomFiltering = true;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.hashCode = hashCode;
     }
 
     @Override
-    @SuppressWarnings("TypeMayBeWeakened")
-    public void retain(final IterativeContainsAdapter<Item> retainedItems)
+    public void retain(final ContainsAdapter<Item> retainedItems)
         throws InvalidContainerArgumentException, InvalidContainerStateException {
 
+        final ContainsSingle<Item> lookupItems =
+            bloomFiltering ?
+            BloomFilterContainsAdapter.prefilter(retainedItems, falsePositiveProbability, hashCode) :
+            retainedItems;
+
         for (final Item containedItem : containedItems)
-            if (! retainedItems.contains(containedItem))
+            if (! lookupItems.contains(containedItem))
                 removableContainedItems.remove(containedItem);
     }
 }
@@ -24,8 +24,9 @@ package org.jlib.container.operation;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
-import org.jlib.container.operation.containsadapter.IterativeContainsAdapter;
+import org.jlib.container.operation.containsadapter.ContainsAdapter;
 import org.jlib.operator.observer.Observer;
 import org.jlib.operator.observer.ObserverException;
 
@@ -119,6 +120,18 @@ public class ForwardingAlmightyContainer<Item>
             throw new ForbiddenCastException(this);
         }
 
+        @Override
+        public Stream<Item> stream()
+            throws InvalidContainerStateException {
+            throw new ForbiddenCastException(this);
+        }
+
+        @Override
+        public Stream<Item> parallelStream()
+            throws InvalidContainerStateException {
+            throw new ForbiddenCastException(this);
+        }
+
         @Override
         public boolean contains(final Item item)
             throws InvalidContainerArgumentException, InvalidContainerStateException {
@@ -132,7 +145,7 @@ public class ForwardingAlmightyContainer<Item>
         }
 
         @Override
-        public void retain(final IterativeContainsAdapter<Item> items)
+        public void retain(final ContainsAdapter<Item> items)
             throws InvalidContainerArgumentException, InvalidContainerStateException {
             throw new ForbiddenCastException(this);
         }
@@ -153,6 +166,8 @@ public class ForwardingAlmightyContainer<Item>
 
     private ToSet<Item> delegateToSet = disabledAlmightyContainer;
 
+    private ToStream<Item> delegateToStream = disabledAlmightyContainer;
+
     private IsEmpty<Item> delegateIsEmpty = disabledAlmightyContainer;
 
     private Retain<Item> delegateRetain = disabledAlmightyContainer;
@@ -202,6 +217,18 @@ public class ForwardingAlmightyContainer<Item>
         return delegateToSet.toSet();
     }
 
+    @Override
+    public Stream<Item> stream()
+        throws InvalidContainerStateException {
+        return delegateToStream.stream();
+    }
+
+    @Override
+    public Stream<Item> parallelStream()
+        throws InvalidContainerStateException {
+        return delegateToStream.parallelStream();
+    }
+
     @Override
     public List<Item> toSequentialList()
         throws InvalidContainerStateException {
@@ -282,6 +309,10 @@ public class ForwardingAlmightyContainer<Item>
         this.delegateToSet = delegateToSet;
     }
 
+    public void setDelegateToStream(final ToStream<Item> delegateToStream) {
+        this.delegateToStream = delegateToStream;
+    }
+
     public void setDelegateIsEmpty(final IsEmpty<Item> delegateIsEmpty) {
         this.delegateIsEmpty = delegateIsEmpty;
     }
@@ -331,7 +362,7 @@ public class ForwardingAlmightyContainer<Item>
     }
 
     @Override
-    public void retain(final IterativeContainsAdapter<Item> items)
+    public void retain(final ContainsAdapter<Item> items)
         throws InvalidContainerArgumentException, InvalidContainerStateException {
         delegateRetain.retain(items);
     }
@@ -0,0 +1,47 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation;
+
+import org.jlib.message.Message;
+
+/**
+ * {@link InvalidContainerArgumentException} thrown when an index outside the valid bounds of an indexed container is
+ * specified.
+ */
+public class InvalidContainerIndexException
+    extends InvalidContainerArgumentException {
+
+    private static final long serialVersionUID = 4273071508339718113L;
+
+    /**
+     * Creates a new {@link InvalidContainerIndexException}.
+     *
+     * @param container
+     *        referenced {@link Object}
+     *
+     * @param message
+     *        {@link Message} describing the invalid index
+     */
+    public InvalidContainerIndexException(final Object container, final Message message) {
+        super(container, message);
+    }
+}
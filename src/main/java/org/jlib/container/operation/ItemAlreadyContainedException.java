@@ -44,6 +44,6 @@ public class ItemAlreadyContainedException
      *        already contained Item
      */
     public ItemAlreadyContainedException(final Object container, final Object item) {
-        super(container, message(item.toString()));
+        super(container, message(item));
     }
 }
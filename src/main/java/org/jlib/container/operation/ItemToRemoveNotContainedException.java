@@ -24,8 +24,8 @@ package org.jlib.container.operation;
 import static org.jlib.message.Messages.message;
 
 /**
- * {@link InvalidContainerArgumentException} thrown when a {@link RemoveSingleByValue} does not contain
- * the specified item to retain.
+ * {@link InvalidContainerArgumentException} thrown when a container does not contain
+ * the specified item to remove.
  *
  * @author Igor Akkerman
  */
@@ -41,15 +41,15 @@ public class ItemToRemoveNotContainedException
      *        referenced {@link Object}
      *
      * @param item
-     *        Item to retain
+     *        Item to remove
      */
     public ItemToRemoveNotContainedException(
-        final RemoveMultipleByValue<?> container, final Object item) {
+        final Object container, final Object item) {
         super(container, message(item));
     }
 
     public ItemToRemoveNotContainedException(
-        final RemoveMultipleByValue<?> container, final Object item,
+        final Object container, final Object item,
         final Exception cause) {
         super(container, message(item), cause);
     }
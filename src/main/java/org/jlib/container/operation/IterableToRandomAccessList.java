@@ -24,6 +24,20 @@ package org.jlib.container.operation;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * <p>
+ * {@link ToRandomAccessList} creating a resizable {@link List} of the Items provided by an {@link Iterable}.
+ * </p>
+ * <p>
+ * If the {@link Iterable} is a {@link Count} and a {@link CopyToArray}, the Items are copied in bulk into an array of
+ * the exact size, adopted by an {@link ArrayAdoptingList} without copying it again. If it is only a {@link Count}, an
+ * {@link ArrayList} is created with the exact capacity. Otherwise, the {@link ArrayList} is created with the expected
+ * capacity and grows as needed.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items
+ */
 public class IterableToRandomAccessList<Item>
     implements ToRandomAccessList<Item> {
 
@@ -45,7 +59,21 @@ public class IterableToRandomAccessList<Item>
 
     @Override
     public List<Item> toRandomAccessList() {
-        return appendContainedItemsToList(new ArrayList<>(expectedItemsCount));
+        if (! (iterable instanceof Count))
+            return appendContainedItemsToList(new ArrayList<>(expectedItemsCount));
+
+        final int count = ((Count<?>) iterable).count();
+
+        if (! (iterable instanceof CopyToArray))
+            return appendContainedItemsToList(new ArrayList<>(count));
+
+        @SuppressWarnings("unchecked")
+        final Item[] items = (Item[]) new Object[count];
+        @SuppressWarnings("unchecked")
+        final CopyToArray<Item> copyToArray = (CopyToArray<Item>) iterable;
+        copyToArray.copyToArray(items, 0);
+
+        return new ArrayAdoptingList<>(items);
     }
 
     /**
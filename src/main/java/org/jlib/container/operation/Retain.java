@@ -21,7 +21,7 @@
 
 package org.jlib.container.operation;
 
-import org.jlib.container.operation.containsadapter.IterativeContainsAdapter;
+import org.jlib.container.operation.containsadapter.ContainsAdapter;
 
 /**
  * @param <Item>
@@ -44,6 +44,6 @@ public interface Retain<Item> {
      * @throws InvalidContainerStateException
      *         if an error occurs during the operation
      */
-    void retain(IterativeContainsAdapter<Item> items)
+    void retain(ContainsAdapter<Item> items)
         throws InvalidContainerArgumentException, InvalidContainerStateException;
 }
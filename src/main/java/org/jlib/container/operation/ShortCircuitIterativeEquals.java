@@ -0,0 +1,83 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation;
+
+import org.jlib.container.basefunction.CachedSequenceHashCode;
+import org.jlib.container.basefunction.Equals;
+import static org.jlib.iterable.Iterables.provideEqualItems;
+
+/**
+ * <p>
+ * {@link Equals} of two {@link Iterable}s providing equal Items in the same order, like {@link IterativeEquals}, but
+ * avoiding the traversal where possible.
+ * </p>
+ * <p>
+ * Two {@link Iterable}s are unequal if both are {@link Count}s of different counts, or if both are
+ * {@link CachedSequenceHashCode}s with cached, different sequence hash codes. Otherwise, both {@link Iterable}s are
+ * traversed in parallel, stopping at the first pair of unequal Items.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items
+ */
+public final class ShortCircuitIterativeEquals<Item>
+    implements Equals<Iterable<Item>> {
+
+    private static final ShortCircuitIterativeEquals<?> INSTANCE = new ShortCircuitIterativeEquals<>();
+
+    private ShortCircuitIterativeEquals() {}
+
+    @SuppressWarnings("unchecked")
+    public static <Item> ShortCircuitIterativeEquals<Item> getInstance() {
+        return (ShortCircuitIterativeEquals<Item>) INSTANCE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean areEqual(final Iterable<Item> iterable1, /* @Nullable */ final Object iterable2) {
+        if (iterable1 == iterable2)
+            return true;
+
+        if (! (iterable2 instanceof Iterable<?>))
+            return false;
+
+        if (iterable1 instanceof Count && iterable2 instanceof Count &&
+            ! EqualCount.<Item>getInstance().haveEqualCount((Count<Item>) iterable1, iterable2))
+            return false;
+
+        if (haveDifferentCachedSequenceHashCodes(iterable1, iterable2))
+            return false;
+
+        return provideEqualItems(iterable1, (Iterable<Item>) iterable2);
+    }
+
+    private static boolean haveDifferentCachedSequenceHashCodes(final Object iterable1, final Object iterable2) {
+        if (! (iterable1 instanceof CachedSequenceHashCode && iterable2 instanceof CachedSequenceHashCode))
+            return false;
+
+        final CachedSequenceHashCode<?> hashCode1 = (CachedSequenceHashCode<?>) iterable1;
+        final CachedSequenceHashCode<?> hashCode2 = (CachedSequenceHashCode<?>) iterable2;
+
+        return hashCode1.isSequenceHashCodeCached() && hashCode2.isSequenceHashCodeCached() &&
+               hashCode1.getSequenceHashCode() != hashCode2.getSequenceHashCode();
+    }
+}
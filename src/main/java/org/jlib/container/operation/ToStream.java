@@ -0,0 +1,49 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation;
+
+import java.util.stream.Stream;
+
+public interface ToStream<Item> {
+
+    /**
+     * Returns a sequential {@link Stream} of the Items of this {@link Object}, in the order of its Iterator.
+     *
+     * @return sequential {@link Stream} of the Items
+     *
+     * @throws InvalidContainerStateException
+     *         if an error occurs during the operation
+     */
+    Stream<Item> stream()
+        throws InvalidContainerStateException;
+
+    /**
+     * Returns a possibly parallel {@link Stream} of the Items of this {@link Object}, in the order of its Iterator.
+     *
+     * @return possibly parallel {@link Stream} of the Items
+     *
+     * @throws InvalidContainerStateException
+     *         if an error occurs during the operation
+     */
+    Stream<Item> parallelStream()
+        throws InvalidContainerStateException;
+}
@@ -0,0 +1,291 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation.containsadapter;
+
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Math.ceil;
+import static java.lang.Math.log;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.round;
+import static java.util.Arrays.copyOf;
+import org.jlib.container.basefunction.DefaultHashCode;
+import org.jlib.container.basefunction.HashCode;
+import org.jlib.container.operation.ContainsSingle;
+import org.jlib.container.operation.InvalidContainerArgumentException;
+import org.jlib.container.operation.InvalidContainerStateException;
+
+/**
+ * <p>
+ * {@link ContainsAdapter} pre-filtering the lookups by a Bloom filter of the Items. An Item not passing the filter is
+ * definitely not contained and is rejected without consulting the Items. Only the Items passing the filter, that is,
+ * the contained Items and a fraction of false positives, are looked up by the {@link ContainsSingle} of the Items.
+ * </p>
+ * <p>
+ * The filter is built once at construction, traversing the Items once. Its size is computed from the number of
+ * Items and the specified false positive probability; it occupies about {@code 1.44 * log2(1 / p)} bits per Item.
+ * The filter reflects the Items at the time of construction.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items
+ */
+public class BloomFilterContainsAdapter<Item>
+    extends ContainsAdapter<Item> {
+
+    /** default false positive probability */
+    public static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    /** minimum number of bits */
+    private static final int MINIMUM_BITS_COUNT = Long.SIZE;
+
+    /** maximum number of bits */
+    private static final int MAXIMUM_BITS_COUNT = 1 << 30;
+
+    /** maximum number of hash functions */
+    private static final int MAXIMUM_HASH_FUNCTIONS_COUNT = 16;
+
+    /** {@link ContainsSingle} of the Items answering the lookups passing the filter */
+    private final ContainsSingle<Item> containsSingleItems;
+
+    /** {@link HashCode} of the Items */
+    private final HashCode<Item> hashCode;
+
+    /** bits of the filter */
+    private final long[] bits;
+
+    /** mask of a bit index */
+    private final int bitIndexMask;
+
+    /** number of bits set per Item */
+    private final int hashFunctionsCount;
+
+    public <ContainsIterable extends Iterable<Item> & ContainsSingle<Item>> /*
+        */ BloomFilterContainsAdapter(final ContainsIterable items)
+        throws InvalidFalsePositiveProbabilityException {
+        this(items, DEFAULT_FALSE_POSITIVE_PROBABILITY, DefaultHashCode.getInstance());
+    }
+
+    public <ContainsIterable extends Iterable<Item> & ContainsSingle<Item>> /*
+        */ BloomFilterContainsAdapter(final ContainsIterable items, final double falsePositiveProbability)
+        throws InvalidFalsePositiveProbabilityException {
+        this(items, falsePositiveProbability, DefaultHashCode.getInstance());
+    }
+
+    /**
+     * Creates a new {@link BloomFilterContainsAdapter}.
+     *
+     * @param items
+     *        {@link Iterable} and {@link ContainsSingle} of the Items
+     *
+     * @param falsePositiveProbability
+     *        double specifying the probability of an Item not contained to pass the filter;
+     *        {@code 0 < falsePositiveProbability < 1}
+     *
+     * @param hashCode
+     *        {@link HashCode} of the Items, consistent with the equality used by {@code items}
+     *
+     * @param <ContainsIterable>
+     *        type of {@code items}
+     *
+     * @throws InvalidFalsePositiveProbabilityException
+     *         if {@code falsePositiveProbability} is invalid
+     */
+    public <ContainsIterable extends Iterable<Item> & ContainsSingle<Item>> /*
+        */ BloomFilterContainsAdapter(final ContainsIterable items, final double falsePositiveProbability,
+                                      final HashCode<Item> hashCode)
+        throws InvalidFalsePositiveProbabilityException {
+        super(items);
+
+        ensureFalsePositiveProbabilityValid(falsePositiveProbability);
+
+        containsSingleItems = items;
+        this.hashCode = hashCode;
+
+        int[] itemHashCodes = new int[MINIMUM_BITS_COUNT];
+        int itemsCount = 0;
+
+        for (final Item item : items) {
+            if (itemsCount == itemHashCodes.length)
+                itemHashCodes = copyOf(itemHashCodes, itemsCount << 1);
+
+            itemHashCodes[itemsCount++] = hashCode.hashCode(item);
+        }
+
+        final int bitsCount = getBitsCount(itemsCount, falsePositiveProbability);
+
+        bits = new long[bitsCount / Long.SIZE];
+        bitIndexMask = bitsCount - 1;
+        hashFunctionsCount = (int) min(MAXIMUM_HASH_FUNCTIONS_COUNT,
+                                       max(1, round((double) bitsCount / max(1, itemsCount) * log(2))));
+
+        for (int index = 0; index < itemsCount; index++)
+            add(itemHashCodes[index]);
+    }
+
+    /**
+     * Ensures that the specified false positive probability is valid.
+     *
+     * @param falsePositiveProbability
+     *        double specifying the false positive probability
+     *
+     * @throws InvalidFalsePositiveProbabilityException
+     *         unless {@code 0 < falsePositiveProbability < 1}
+     */
+    public static void ensureFalsePositiveProbabilityValid(final double falsePositiveProbability)
+        throws InvalidFalsePositiveProbabilityException {
+        if (! (falsePositiveProbability > 0 && falsePositiveProbability < 1))
+            throw new InvalidFalsePositiveProbabilityException(falsePositiveProbability);
+    }
+
+    /**
+     * <p>
+     * Returns a {@link ContainsSingle} of the specified Items pre-filtered by a {@link BloomFilterContainsAdapter}, if
+     * the hash code of the Items is known to be consistent with their lookup:
+     * </p>
+     * <ul>
+     * <li>
+     * A {@link BloomFilterContainsAdapter} is returned as is, hence a filter built once may be passed to several
+     * operations.
+     * </li>
+     * <li>
+     * If a {@link HashCode} is specified, a new {@link BloomFilterContainsAdapter} using it is returned.
+     * </li>
+     * <li>
+     * Otherwise, only the Items of an {@link IterativeContainsAdapter}, looked up by {@link Object#equals(Object)},
+     * are filtered using the {@link DefaultHashCode}. Any other {@link ContainsSingle} may use its own equality and is
+     * returned as is.
+     * </li>
+     * </ul>
+     *
+     * @param items
+     *        {@link Iterable} and {@link ContainsSingle} of the Items
+     *
+     * @param falsePositiveProbability
+     *        double specifying the false positive probability of a new filter
+     *
+     * @param hashCode
+     *        {@link HashCode} of the Items, consistent with the equality used by {@code items};
+     *        {@code null} if unknown
+     *
+     * @param <Item>
+     *        type of the items
+     *
+     * @param <ContainsIterable>
+     *        type of {@code items}
+     *
+     * @return {@link ContainsSingle} answering the lookups of {@code items}
+     *
+     * @throws InvalidFalsePositiveProbabilityException
+     *         if {@code falsePositiveProbability} is invalid
+     */
+    public static <Item, ContainsIterable extends Iterable<Item> & ContainsSingle<Item>> /*
+        */ ContainsSingle<Item> prefilter(final ContainsIterable items, final double falsePositiveProbability,
+                                         /* @Nullable */ final HashCode<Item> hashCode)
+        throws InvalidFalsePositiveProbabilityException {
+        if (items instanceof BloomFilterContainsAdapter)
+            return items;
+
+        if (hashCode != null)
+            return new BloomFilterContainsAdapter<>(items, falsePositiveProbability, hashCode);
+
+        if (items instanceof IterativeContainsAdapter)
+            return new BloomFilterContainsAdapter<>(items, falsePositiveProbability, DefaultHashCode.getInstance());
+
+        return items;
+    }
+
+    /**
+     * Returns the number of bits of a filter for the specified number of Items and the specified false positive
+     * probability, rounded up to a power of two.
+     *
+     * @param itemsCount
+     *        integer specifying the number of Items
+     *
+     * @param falsePositiveProbability
+     *        double specifying the false positive probability
+     *
+     * @return integer specifying the number of bits
+     */
+    private static int getBitsCount(final int itemsCount, final double falsePositiveProbability) {
+        final double optimalBitsCount = ceil(- itemsCount * log(falsePositiveProbability) / (log(2) * log(2)));
+
+        if (optimalBitsCount >= MAXIMUM_BITS_COUNT)
+            return MAXIMUM_BITS_COUNT;
+
+        return max(MINIMUM_BITS_COUNT, highestOneBit((int) optimalBitsCount - 1) << 1);
+    }
+
+    private void add(final int itemHashCode) {
+        final int firstHash = mix(itemHashCode);
+        final int secondHash = mix(firstHash) | 1;
+
+        for (int index = 0, hash = firstHash; index < hashFunctionsCount; index++, hash += secondHash) {
+            final int bitIndex = hash & bitIndexMask;
+            bits[bitIndex >>> 6] |= 1L << bitIndex;
+        }
+    }
+
+    /**
+     * Verifies whether the specified Item passes the filter.
+     *
+     * @param item
+     *        Item to verify
+     *
+     * @return {@code false} if {@code item} is definitely not contained;
+     *         {@code true} if it may be contained
+     */
+    public boolean mightContain(final Item item) {
+        final int firstHash = mix(hashCode.hashCode(item));
+        final int secondHash = mix(firstHash) | 1;
+
+        for (int index = 0, hash = firstHash; index < hashFunctionsCount; index++, hash += secondHash) {
+            final int bitIndex = hash & bitIndexMask;
+
+            if ((bits[bitIndex >>> 6] & (1L << bitIndex)) == 0)
+                return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean contains(final Item item)
+        throws InvalidContainerArgumentException, InvalidContainerStateException {
+        return mightContain(item) && containsSingleItems.contains(item);
+    }
+
+    /**
+     * Mixes the bits of the specified hash code, using the finalizer of MurmurHash3.
+     *
+     * @param hash
+     *        integer specifying the hash code
+     *
+     * @return integer specifying the mixed hash code
+     */
+    private static int mix(final int hash) {
+        final int firstMix = (hash ^ (hash >>> 16)) * 0x85EBCA6B;
+        final int secondMix = (firstMix ^ (firstMix >>> 13)) * 0xC2B2AE35;
+
+        return secondMix ^ (secondMix >>> 16);
+    }
+}
@@ -27,7 +27,7 @@ import org.jlib.container.operation.ContainsSingle;
 import org.jlib.container.operation.InvalidContainerArgumentException;
 import org.jlib.container.operation.InvalidContainerStateException;
 
-import org.jlib.array.ArrayUtility;
+import static java.util.Arrays.asList;
 import static org.jlib.container.iterator.Iterables.singletonIterable;
 
 public final class ContainsAdapterUtility {
@@ -61,7 +61,7 @@ public final class ContainsAdapterUtility {
 
     public static <Item> ContainsAdapter<Item> allOf(final Iterable<Item> items) {
 
-        return new IterativeContainsAdapter<>(items);
+        return new IndexingContainsAdapter<>(items);
     }
 
     public static <Item> ContainsAdapter<Item> allOf(final Collection<Item> items) {
@@ -78,6 +78,6 @@ public final class ContainsAdapterUtility {
 
     @SafeVarargs
     public static <Item> ContainsAdapter<Item> allOf(final Item... items) {
-        return new IterativeContainsAdapter<>(ArrayUtility.iterable(items));
+        return new IndexingContainsAdapter<>(asList(items));
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation.containsadapter;
+
+import java.util.Collection;
+
+import static org.jlib.container.hash.HashIndexes.createIndex;
+import static org.jlib.container.hash.HashIndexes.mayExceed;
+import org.jlib.container.hash.OpenAddressingHashSet;
+import org.jlib.container.operation.ContainsSingle;
+import org.jlib.container.operation.Count;
+import org.jlib.container.operation.InvalidContainerArgumentException;
+import org.jlib.container.operation.InvalidContainerStateException;
+
+import org.jlib.iterable.Iterables;
+
+/**
+ * <p>
+ * {@link ContainsAdapter} scanning few Items, like an {@link IterativeContainsAdapter}, but looking up more Items in a
+ * hash index.
+ * </p>
+ * <p>
+ * The number of Items is known if the {@link Iterable} is a {@link Count} or a {@link Collection}. If it is known not
+ * to exceed the index threshold, each lookup scans the Items. Otherwise, the first lookup builds an
+ * {@link OpenAddressingHashSet} of the Items, presized if their number is known, which is reused by all further
+ * lookups. Hence, the index reflects the Items at the time of the first lookup.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items
+ */
+public class IndexingContainsAdapter<Item>
+    extends ContainsAdapter<Item> {
+
+    /** default maximum number of Items looked up by scanning */
+    public static final int DEFAULT_INDEX_THRESHOLD = 8;
+
+    /** whether the Items are indexed */
+    private final boolean indexing;
+
+    /** lazily created index of the Items; {@code null} before the first lookup */
+    private ContainsSingle<Item> index;
+
+    public IndexingContainsAdapter(final Iterable<Item> items) {
+        this(items, DEFAULT_INDEX_THRESHOLD);
+    }
+
+    /**
+     * Creates a new {@link IndexingContainsAdapter}.
+     *
+     * @param items
+     *        {@link Iterable} providing the Items
+     *
+     * @param indexThreshold
+     *        integer specifying the maximum number of Items looked up by scanning
+     */
+    public IndexingContainsAdapter(final Iterable<Item> items, final int indexThreshold) {
+        super(items);
+
+        indexing = mayExceed(items, indexThreshold);
+    }
+
+    @Override
+    public final boolean contains(final Item item)
+        throws InvalidContainerArgumentException, InvalidContainerStateException {
+        if (! indexing)
+            return Iterables.contains(getItems(), item);
+
+        if (index == null)
+            index = createIndex(getItems());
+
+        return index.contains(item);
+    }
+}
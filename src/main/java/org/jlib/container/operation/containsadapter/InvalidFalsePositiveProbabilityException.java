@@ -0,0 +1,39 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation.containsadapter;
+
+import org.jlib.exception.InvalidArgumentException;
+import static org.jlib.message.Messages.mfmessage;
+
+/**
+ * {@link InvalidArgumentException} thrown when a false positive probability not between {@code 0} and {@code 1} is
+ * specified.
+ */
+public class InvalidFalsePositiveProbabilityException
+    extends InvalidArgumentException {
+
+    private static final long serialVersionUID = - 5307316249713190245L;
+
+    public InvalidFalsePositiveProbabilityException(final double falsePositiveProbability) {
+        super(mfmessage("falsePositiveProbability = {0}", falsePositiveProbability));
+    }
+}
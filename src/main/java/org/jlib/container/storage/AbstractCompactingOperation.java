@@ -0,0 +1,80 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage;
+
+import org.jlib.container.operation.ContainsSingle;
+
+/**
+ * Skeletal operation removing Items from an {@link IndexRange} of an {@link UncheckedLinearIndexStorage} by
+ * compacting the remaining Items.
+ *
+ * @param <Item>
+ *        type of the items held in the {@link UncheckedLinearIndexStorage}
+ */
+abstract class AbstractCompactingOperation<Item> {
+
+    /** {@link UncheckedLinearIndexStorage} holding the Items */
+    private final UncheckedLinearIndexStorage<Item> storage;
+
+    /** {@link IndexRange} of the Items in {@link #storage} */
+    private final IndexRange contentIndexRange;
+
+    protected AbstractCompactingOperation(final UncheckedLinearIndexStorage<Item> storage,
+                                          final IndexRange contentIndexRange) {
+        this.storage = storage;
+        this.contentIndexRange = contentIndexRange;
+    }
+
+    /**
+     * Removes all Items contained, respectively not contained, by the specified {@link ContainsSingle}. The Items are
+     * traversed once by a reading and a writing index; each remaining Item is moved at most once and the released
+     * slots at the tail are cleared at once.
+     *
+     * @param items
+     *        {@link ContainsSingle} deciding about the Items
+     *
+     * @param retainContainedItems
+     *        {@code true} to retain the Items contained by {@code items};
+     *        {@code false} to remove them
+     */
+    protected final void compact(final ContainsSingle<Item> items, final boolean retainContainedItems) {
+        final int contentMaximumIndex = contentIndexRange.getMaximum();
+        int writeIndex = contentIndexRange.getMinimum();
+
+        while (writeIndex <= contentMaximumIndex &&
+               items.contains(storage.uncheckedGet(writeIndex)) == retainContainedItems)
+            writeIndex++;
+
+        for (int readIndex = writeIndex + 1; readIndex <= contentMaximumIndex; readIndex++) {
+            final Item item = storage.uncheckedGet(readIndex);
+
+            if (items.contains(item) == retainContainedItems)
+                storage.uncheckedSet(writeIndex++, item);
+        }
+
+        if (writeIndex > contentMaximumIndex)
+            return;
+
+        storage.clearItems(writeIndex, contentMaximumIndex);
+        contentIndexRange.setMaximum(writeIndex - 1);
+    }
+}
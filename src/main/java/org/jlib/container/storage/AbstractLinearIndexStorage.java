@@ -21,11 +21,18 @@
 
 package org.jlib.container.storage;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Arrays.sort;
+import static java.util.Comparator.comparingInt;
+import static org.jlib.container.storage.IndexRangeOperationPlanner.planShift;
+import org.jlib.container.Valid;
 import org.jlib.exception.UnexpectedStateException;
 import static org.jlib.message.Messages.mfmessage;
+import static org.jlib.numeric.Numeric.countInclusive;
 
 public abstract class AbstractLinearIndexStorage<Item>
-    implements LinearIndexStorage<Item> {
+    implements UncheckedLinearIndexStorage<Item> {
 
     protected AbstractLinearIndexStorage(final int initialCapacity)
         throws InvalidStorageCapacityException {
@@ -40,6 +47,11 @@ public abstract class AbstractLinearIndexStorage<Item>
         return safeGet(index);
     }
 
+    @Override
+    public Item uncheckedGet(@Valid final int index) {
+        return safeGet(index);
+    }
+
     protected abstract Item safeGet(int index);
 
     @Override
@@ -50,8 +62,83 @@ public abstract class AbstractLinearIndexStorage<Item>
         safeSet(index, item);
     }
 
+    @Override
+    public void uncheckedSet(@Valid final int index, final Item item) {
+        safeSet(index, item);
+    }
+
     protected abstract void safeSet(int index, Item item);
 
+    @Override
+    public void getItems(final int minimumIndex, final int maximumIndex, final Item[] targetArray,
+                         final int targetArrayIndex)
+        throws InvalidStorageIndexException {
+        ensureIndexRangeValid(minimumIndex, maximumIndex);
+        ensureArrayRangeValid("targetArrayIndex", targetArrayIndex, countInclusive(minimumIndex, maximumIndex),
+                              targetArray.length);
+
+        safeGetItems(minimumIndex, maximumIndex, targetArray, targetArrayIndex);
+    }
+
+    protected void safeGetItems(@Valid final int minimumIndex, @Valid final int maximumIndex,
+                                final Item[] targetArray, @Valid final int targetArrayIndex) {
+        for (int index = minimumIndex; index <= maximumIndex; index++)
+            targetArray[targetArrayIndex + index - minimumIndex] = safeGet(index);
+    }
+
+    @Override
+    public void setItems(final int minimumIndex, final int maximumIndex, final Item[] sourceArray,
+                         final int sourceArrayIndex)
+        throws InvalidStorageIndexException {
+        ensureIndexRangeValid(minimumIndex, maximumIndex);
+        ensureArrayRangeValid("sourceArrayIndex", sourceArrayIndex, countInclusive(minimumIndex, maximumIndex),
+                              sourceArray.length);
+
+        safeSetItems(minimumIndex, maximumIndex, sourceArray, sourceArrayIndex);
+    }
+
+    protected void safeSetItems(@Valid final int minimumIndex, @Valid final int maximumIndex,
+                                final Item[] sourceArray, @Valid final int sourceArrayIndex) {
+        for (int index = minimumIndex; index <= maximumIndex; index++)
+            safeSet(index, sourceArray[sourceArrayIndex + index - minimumIndex]);
+    }
+
+    @Override
+    public void fillItems(final int minimumIndex, final int maximumIndex, final Item item)
+        throws InvalidStorageIndexException {
+        ensureIndexRangeValid(minimumIndex, maximumIndex);
+
+        safeFillItems(minimumIndex, maximumIndex, item);
+    }
+
+    protected void safeFillItems(@Valid final int minimumIndex, @Valid final int maximumIndex, final Item item) {
+        for (int index = minimumIndex; index <= maximumIndex; index++)
+            safeSet(index, item);
+    }
+
+    @Override
+    public void clearItems(final int minimumIndex, final int maximumIndex)
+        throws InvalidStorageIndexException {
+        ensureIndexRangeValid(minimumIndex, maximumIndex);
+
+        safeClearItems(minimumIndex, maximumIndex);
+    }
+
+    /**
+     * Resets the slots in the specified valid index range to the state of slots never written. The default
+     * implementation stores {@code null} in each slot. A {@link LinearIndexStorage} unable to hold {@code null}
+     * overrides this method.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first cleared slot
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last cleared slot
+     */
+    protected void safeClearItems(@Valid final int minimumIndex, @Valid final int maximumIndex) {
+        safeFillItems(minimumIndex, maximumIndex, null);
+    }
+
     @Override
     public void ensureCapacityAndShiftItems(final int additionalCapacity,
                                             final IndexRangeOperationDescriptor... copyDescriptors) {
@@ -60,6 +147,14 @@ public abstract class AbstractLinearIndexStorage<Item>
         safeAddCapacityAndShiftItems(additionalCapacity, copyDescriptors);
     }
 
+    @Override
+    public void ensureCapacityAndShiftItems(final int additionalCapacity, final int sourceMinimumIndex,
+                                            final int sourceMaximumIndex, final int targetIndex) {
+        ensureAdditionalCapacityValid(additionalCapacity);
+
+        safeAddCapacityAndShiftItems(additionalCapacity, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+    }
+
     private void ensureAdditionalCapacityValid(final int additionalCapacity)
         throws InvalidAdditionalCapacityException {
         if (additionalCapacity < 0)
@@ -69,6 +164,115 @@ public abstract class AbstractLinearIndexStorage<Item>
     protected abstract void safeAddCapacityAndShiftItems(int capacity,
                                                          IndexRangeOperationDescriptor... copyDescriptors);
 
+    protected abstract void safeAddCapacityAndShiftItems(int capacity, int sourceMinimumIndex, int sourceMaximumIndex,
+                                                         int targetIndex);
+
+    @Override
+    public void reduceCapacityAndShiftItems(final int removedCapacity,
+                                            final IndexRangeOperationDescriptor... copyDescriptors) {
+        ensureRemovedCapacityValid(removedCapacity);
+
+        safeRemoveCapacityAndShiftItems(removedCapacity, copyDescriptors);
+    }
+
+    @Override
+    public void reduceCapacityAndShiftItems(final int removedCapacity, final int sourceMinimumIndex,
+                                            final int sourceMaximumIndex, final int targetIndex) {
+        ensureRemovedCapacityValid(removedCapacity);
+
+        safeRemoveCapacityAndShiftItems(removedCapacity, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+    }
+
+    private void ensureRemovedCapacityValid(final int removedCapacity)
+        throws InvalidStorageCapacityException {
+        if (removedCapacity < 0 || removedCapacity > capacity())
+            throw new InvalidStorageCapacityException(this, "removedCapacity", removedCapacity);
+    }
+
+    protected abstract void safeRemoveCapacityAndShiftItems(int removedCapacity,
+                                                            IndexRangeOperationDescriptor... copyDescriptors);
+
+    protected abstract void safeRemoveCapacityAndShiftItems(int removedCapacity, int sourceMinimumIndex,
+                                                            int sourceMaximumIndex, int targetIndex);
+
+    @Override
+    public void shiftItems(final IndexRangeOperationDescriptor... shiftDescriptors)
+        throws InvalidStorageIndexException {
+        for (final IndexRangeOperationDescriptor shiftDescriptor : shiftDescriptors)
+            ensureOperationDescriptorValid(shiftDescriptor);
+
+        for (final IndexRangeOperationDescriptor shiftDescriptor : planShift(shiftDescriptors))
+            safeShiftItems(shiftDescriptor.getSourceMinimumIndex(), shiftDescriptor.getSourceMaximumIndex(),
+                           shiftDescriptor.getTargetIndex());
+    }
+
+    @Override
+    public void shiftItems(final int sourceMinimumIndex, final int sourceMaximumIndex, final int targetIndex)
+        throws InvalidStorageIndexException {
+        ensureOperationValid(sourceMinimumIndex, sourceMaximumIndex, targetIndex, capacity());
+
+        safeShiftItems(sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+    }
+
+    protected abstract void safeShiftItems(int sourceMinimumIndex, int sourceMaximumIndex, int targetIndex);
+
+    /**
+     * Clears the slots up to the specified index not covered by the target index range of any of the specified
+     * {@link IndexRangeOperationDescriptor}s. A {@link LinearIndexStorage} shifting its {@link Item}s in place when
+     * changing its capacity uses it to remove the {@link Item}s left at other indices.
+     *
+     * @param clearedMaximumIndex
+     *        integer specifying the index of the last slot possibly cleared
+     *
+     * @param shiftDescriptors
+     *        comma separated sequence of executed {@link IndexRangeOperationDescriptor}s
+     */
+    protected void clearUncoveredItems(final int clearedMaximumIndex,
+                                       final IndexRangeOperationDescriptor... shiftDescriptors) {
+        final IndexRangeOperationDescriptor[] sortedShiftDescriptors = shiftDescriptors.clone();
+        sort(sortedShiftDescriptors, comparingInt(IndexRangeOperationDescriptor::getTargetIndex));
+
+        int uncoveredIndex = 0;
+
+        for (final IndexRangeOperationDescriptor shiftDescriptor : sortedShiftDescriptors) {
+            final int targetIndex = shiftDescriptor.getTargetIndex();
+
+            clearItemsUpTo(uncoveredIndex, targetIndex - 1, clearedMaximumIndex);
+
+            uncoveredIndex = max(uncoveredIndex, targetIndex + shiftDescriptor.getSourceMaximumIndex() -
+                                                 shiftDescriptor.getSourceMinimumIndex() + 1);
+        }
+
+        clearItemsUpTo(uncoveredIndex, clearedMaximumIndex, clearedMaximumIndex);
+    }
+
+    /**
+     * Clears the slots up to the specified index outside the specified target index range. This method behaves like
+     * {@link #clearUncoveredItems(int, IndexRangeOperationDescriptor...)} with one
+     * {@link IndexRangeOperationDescriptor}.
+     *
+     * @param clearedMaximumIndex
+     *        integer specifying the index of the last slot possibly cleared
+     *
+     * @param targetMinimumIndex
+     *        integer specifying the index of the first shifted {@link Item} after the operation
+     *
+     * @param targetMaximumIndex
+     *        integer specifying the index of the last shifted {@link Item} after the operation
+     */
+    protected void clearUncoveredItems(final int clearedMaximumIndex, final int targetMinimumIndex,
+                                       final int targetMaximumIndex) {
+        clearItemsUpTo(0, targetMinimumIndex - 1, clearedMaximumIndex);
+        clearItemsUpTo(targetMaximumIndex + 1, clearedMaximumIndex, clearedMaximumIndex);
+    }
+
+    private void clearItemsUpTo(final int minimumIndex, final int maximumIndex, final int clearedMaximumIndex) {
+        final int actualMaximumIndex = min(maximumIndex, clearedMaximumIndex);
+
+        if (minimumIndex <= actualMaximumIndex)
+            safeClearItems(minimumIndex, actualMaximumIndex);
+    }
+
     protected void ensureCapacityValid(final String capacityName, final int capacity)
         throws InvalidStorageCapacityException {
         if (capacity < 0)
@@ -76,12 +280,85 @@ public abstract class AbstractLinearIndexStorage<Item>
     }
 
     protected void ensureIndexValid(final String indexName, final int index) {
-        if (index < 0)
-            throw new InvalidStorageIndexException(this, mfmessage("{0} = {1} < 0", indexName, index));
+        ensureIndexValid(indexName, index, capacity());
+    }
+
+    protected void ensureIndexValid(final String indexName, final int index, final int capacity) {
+        if (index < 0 || index >= capacity)
+            throw createInvalidIndexException(indexName, index, capacity);
+    }
 
-        if (index > capacity() - 1)
-            throw new InvalidStorageIndexException(this, mfmessage("{0} = {1} > {2} = capacity - 1", indexName, index,
-                                                                   capacity() - 1));
+    /**
+     * Creates the {@link InvalidStorageIndexException} for an invalid index. Building the message is kept out of
+     * {@link #ensureIndexValid(String, int, int)} to keep the frequently executed verification small enough to be
+     * inlined.
+     *
+     * @param indexName
+     *        {@link String} specifying the name of the index
+     *
+     * @param index
+     *        integer specifying the invalid index
+     *
+     * @param capacity
+     *        integer specifying the capacity
+     *
+     * @return new {@link InvalidStorageIndexException}
+     */
+    private InvalidStorageIndexException createInvalidIndexException(final String indexName, final int index,
+                                                                     final int capacity) {
+        return index < 0 ?
+               new InvalidStorageIndexException(this, mfmessage("{0} = {1} < 0", indexName, index)) :
+               new InvalidStorageIndexException(this, mfmessage("{0} = {1} > {2} = capacity - 1", indexName, index,
+                                                                capacity - 1));
+    }
+
+    /**
+     * Ensures that the specified index range is a valid, potentially empty index range of this
+     * {@link LinearIndexStorage}. The index range is empty if {@code maximumIndex == minimumIndex - 1}.
+     *
+     * @param minimumIndex
+     *        integer specifying the minimum index
+     *
+     * @param maximumIndex
+     *        integer specifying the maximum index
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is invalid
+     */
+    protected void ensureIndexRangeValid(final int minimumIndex, final int maximumIndex)
+        throws InvalidStorageIndexException {
+        final int capacity = capacity();
+
+        if (minimumIndex < 0 || minimumIndex > capacity || maximumIndex < minimumIndex - 1 || maximumIndex >= capacity)
+            throw new InvalidStorageIndexException(this, mfmessage("[{0}, {1}] is no index range of capacity = {2}",
+                                                                   minimumIndex, maximumIndex, capacity));
+    }
+
+    /**
+     * Ensures that the specified number of slots starting at the specified index lies within an array of the
+     * specified length.
+     *
+     * @param arrayIndexName
+     *        {@link String} specifying the name of the array index
+     *
+     * @param arrayIndex
+     *        integer specifying the index of the first slot in the array
+     *
+     * @param count
+     *        integer specifying the number of slots
+     *
+     * @param arrayLength
+     *        integer specifying the length of the array
+     *
+     * @throws InvalidStorageIndexException
+     *         if the slots do not lie within the array
+     */
+    protected void ensureArrayRangeValid(final String arrayIndexName, final int arrayIndex, final int count,
+                                         final int arrayLength)
+        throws InvalidStorageIndexException {
+        if (arrayIndex < 0 || arrayIndex > arrayLength - count)
+            throw new InvalidStorageIndexException(this, mfmessage("{0} = {1}, count = {2}, array length = {3}",
+                                                                   arrayIndexName, arrayIndex, count, arrayLength));
     }
 
     protected void ensureSourceIndexRangeValid(final int beginIndex, final int endIndex) {
@@ -95,10 +372,54 @@ public abstract class AbstractLinearIndexStorage<Item>
     }
 
     protected void ensureOperationDescriptorValid(final IndexRangeOperationDescriptor copyDescriptor) {
-        ensureSourceIndexRangeValid(copyDescriptor.getSourceRange().getMinimum(),
-                                    copyDescriptor.getSourceRange().getMaximum());
+        ensureOperationDescriptorValid(copyDescriptor, capacity());
+    }
+
+    /**
+     * Ensures that the specified {@link IndexRangeOperationDescriptor} specifies a valid source index range of this
+     * {@link LinearIndexStorage} and a target index range within the specified capacity, which may differ from the
+     * current capacity if the operation reallocates this {@link LinearIndexStorage}.
+     *
+     * @param copyDescriptor
+     *        {@link IndexRangeOperationDescriptor} to verify
+     *
+     * @param targetCapacity
+     *        integer specifying the capacity after the operation
+     *
+     * @throws InvalidStorageIndexException
+     *         if the source or target index range is invalid
+     */
+    protected void ensureOperationDescriptorValid(final IndexRangeOperationDescriptor copyDescriptor,
+                                                  final int targetCapacity) {
+        ensureOperationValid(copyDescriptor.getSourceMinimumIndex(), copyDescriptor.getSourceMaximumIndex(),
+                             copyDescriptor.getTargetIndex(), targetCapacity);
+    }
+
+    /**
+     * Ensures that the specified source index range is a valid index range of this {@link LinearIndexStorage} and
+     * that the target index range starting at the specified index lies within the specified capacity.
+     *
+     * @param sourceMinimumIndex
+     *        integer specifying the index of the first source {@link Item}
+     *
+     * @param sourceMaximumIndex
+     *        integer specifying the index of the last source {@link Item}
+     *
+     * @param targetIndex
+     *        integer specifying the index of the first target {@link Item}
+     *
+     * @param targetCapacity
+     *        integer specifying the capacity after the operation
+     *
+     * @throws InvalidStorageIndexException
+     *         if the source or target index range is invalid
+     */
+    protected void ensureOperationValid(final int sourceMinimumIndex, final int sourceMaximumIndex,
+                                        final int targetIndex, final int targetCapacity) {
+        ensureSourceIndexRangeValid(sourceMinimumIndex, sourceMaximumIndex);
 
-        ensureIndexValid("targetIndex", copyDescriptor.getTargetIndex());
+        ensureIndexValid("targetBeginIndex", targetIndex, targetCapacity);
+        ensureIndexValid("targetEndIndex", targetIndex + sourceMaximumIndex - sourceMinimumIndex, targetCapacity);
     }
 
     @Override
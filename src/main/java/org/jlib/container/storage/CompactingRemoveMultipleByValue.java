@@ -0,0 +1,58 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage;
+
+import org.jlib.container.operation.ContainsSingle;
+import org.jlib.container.operation.RemoveMultipleByValue;
+
+/**
+ * {@link RemoveMultipleByValue} of the Items in an {@link IndexRange} of an {@link UncheckedLinearIndexStorage}.
+ * Removing moves each remaining Item at most once towards the head of the {@link IndexRange} and clears the released
+ * tail at once, hence it takes a single pass over the Items instead of searching and shifting per removed Item.
+ *
+ * @param <Item>
+ *        type of the items held in the {@link UncheckedLinearIndexStorage}
+ */
+public class CompactingRemoveMultipleByValue<Item>
+    extends AbstractCompactingOperation<Item>
+    implements RemoveMultipleByValue<Item> {
+
+    /**
+     * Creates a new {@link CompactingRemoveMultipleByValue}.
+     *
+     * @param storage
+     *        {@link UncheckedLinearIndexStorage} holding the Items
+     *
+     * @param contentIndexRange
+     *        {@link IndexRange} of the Items in {@code storage}; its maximum is updated by each operation
+     */
+    public CompactingRemoveMultipleByValue(final UncheckedLinearIndexStorage<Item> storage,
+                                           final IndexRange contentIndexRange) {
+        super(storage, contentIndexRange);
+    }
+
+    @Override
+    public <ContainsIterable extends Iterable<Item> & ContainsSingle<Item>> /*
+        */ void remove(final ContainsIterable items) {
+        compact(items, false);
+    }
+}
@@ -28,7 +28,8 @@ import org.jlib.exception.UnexpectedStateException;
 import static org.jlib.numeric.Numeric.countInclusive;
 
 /**
- * Modifiable {@link Integer} index range.
+ * Modifiable integer index range. The bounds are stored as primitive integers, hence modifying them allocates no
+ * objects.
  *
  * @author Igor Akkerman
  */
@@ -36,29 +37,29 @@ public class IndexRange
     implements Cloneable,
                Serializable {
 
-    private static final long serialVersionUID = - 7959127796333433937L;
+    private static final long serialVersionUID = - 8742514861359412280L;
 
-    private Integer minimum;
-    private Integer maximum;
+    private int minimum;
+    private int maximum;
 
-    public IndexRange(@Valid final Integer minimum, @Valid final Integer maximum) {
+    public IndexRange(@Valid final int minimum, @Valid final int maximum) {
         this.minimum = minimum;
         this.maximum = maximum;
     }
 
-    public Integer getMinimum() {
+    public int getMinimum() {
         return minimum;
     }
 
-    public void setMinimum(@Valid final Integer minimum) {
+    public void setMinimum(@Valid final int minimum) {
         this.minimum = minimum;
     }
 
-    public Integer getMaximum() {
+    public int getMaximum() {
         return maximum;
     }
 
-    public void setMaximum(@Valid final Integer maximum) {
+    public void setMaximum(@Valid final int maximum) {
         this.maximum = maximum;
     }
 
@@ -26,7 +26,14 @@ import java.io.Serializable;
 import org.jlib.exception.UnexpectedStateException;
 
 /**
+ * <p>
  * Descriptor of an operation on indexed objects specifying a source index range and a target index.
+ * </p>
+ * <p>
+ * The indices are stored as primitive integers. An {@link IndexRangeOperationDescriptor} created from an
+ * {@link IndexRange} holds a copy of its bounds, hence subsequent modifications of the {@link IndexRange} do not
+ * affect it.
+ * </p>
  *
  * @author Igor Akkerman
  */
@@ -34,26 +41,41 @@ public class IndexRangeOperationDescriptor
     implements Cloneable,
                Serializable {
 
-    private static final long serialVersionUID = - 750513726974596434L;
+    private static final long serialVersionUID = - 445363681616962640L;
 
-    private final IndexRange sourceRange;
-    private final Integer targetIndex;
+    private final int sourceMinimumIndex;
+    private final int sourceMaximumIndex;
+    private final int targetIndex;
 
-    public IndexRangeOperationDescriptor(final Integer sourceMinimumIndex, final Integer sourceMaximumIndex,
-                                         final Integer targetIndex) {
-        this(new IndexRange(sourceMinimumIndex, sourceMaximumIndex), targetIndex);
+    public IndexRangeOperationDescriptor(final int sourceMinimumIndex, final int sourceMaximumIndex,
+                                         final int targetIndex) {
+        this.sourceMinimumIndex = sourceMinimumIndex;
+        this.sourceMaximumIndex = sourceMaximumIndex;
+        this.targetIndex = targetIndex;
     }
 
-    public IndexRangeOperationDescriptor(final IndexRange sourceRange, final Integer targetIndex) {
-        this.sourceRange = sourceRange;
-        this.targetIndex = targetIndex;
+    public IndexRangeOperationDescriptor(final IndexRange sourceRange, final int targetIndex) {
+        this(sourceRange.getMinimum(), sourceRange.getMaximum(), targetIndex);
     }
 
+    /**
+     * Returns a new {@link IndexRange} of the source indices.
+     *
+     * @return newly created {@link IndexRange}
+     */
     public IndexRange getSourceRange() {
-        return sourceRange;
+        return new IndexRange(sourceMinimumIndex, sourceMaximumIndex);
+    }
+
+    public int getSourceMinimumIndex() {
+        return sourceMinimumIndex;
+    }
+
+    public int getSourceMaximumIndex() {
+        return sourceMaximumIndex;
     }
 
-    public Integer getTargetIndex() {
+    public int getTargetIndex() {
         return targetIndex;
     }
 
@@ -0,0 +1,222 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage;
+
+import java.util.Comparator;
+
+import static java.lang.Math.max;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.sort;
+
+/**
+ * <p>
+ * Utility planning the execution of {@link IndexRangeOperationDescriptor}s on a {@link LinearIndexStorage}.
+ * </p>
+ * <p>
+ * The planned {@link IndexRangeOperationDescriptor}s have the same effect as the specified ones, all source ranges
+ * being read before any target range is written, but cause less memory traffic:
+ * </p>
+ * <ul>
+ * <li>
+ * {@link IndexRangeOperationDescriptor}s shifting adjacent or overlapping source ranges by the same distance are merged
+ * into one.
+ * </li>
+ * <li>
+ * {@link IndexRangeOperationDescriptor}s not moving their {@link Item}s are dropped when shifting within the
+ * {@link LinearIndexStorage}.
+ * </li>
+ * <li>
+ * {@link IndexRangeOperationDescriptor}s shifting within the {@link LinearIndexStorage} are ordered to read each source
+ * range before another operation overwrites it. Cyclic dependencies, such as swapping two ranges, cannot be resolved
+ * in place; the affected {@link IndexRangeOperationDescriptor}s are executed in their specified order.
+ * </li>
+ * </ul>
+ * <p>
+ * The {@link IndexRangeOperationDescriptor}s are not validated against the bounds of the {@link LinearIndexStorage},
+ * hence the caller validates each of them before planning; otherwise, a dropped {@link IndexRangeOperationDescriptor}
+ * outside the bounds would be accepted silently. Invalid source ranges are never merged.
+ * </p>
+ */
+public final class IndexRangeOperationPlanner {
+
+    /** {@link Comparator} ordering {@link IndexRangeOperationDescriptor}s by shift distance, then by source index */
+    private static final Comparator<IndexRangeOperationDescriptor> DISTANCE_AND_SOURCE_ORDER = /*
+     */ Comparator.comparingInt(IndexRangeOperationPlanner::distance)
+                  .thenComparingInt(IndexRangeOperationDescriptor::getSourceMinimumIndex);
+
+    private IndexRangeOperationPlanner() {}
+
+    /**
+     * Plans copying {@link Item}s from a {@link LinearIndexStorage} into newly allocated resources, merging the
+     * {@link IndexRangeOperationDescriptor}s where possible. The order of the returned
+     * {@link IndexRangeOperationDescriptor}s is unspecified.
+     *
+     * @param copyDescriptors
+     *        comma separated sequence of {@link IndexRangeOperationDescriptor}s
+     *
+     * @return array of planned {@link IndexRangeOperationDescriptor}s; {@code copyDescriptors} itself if there is
+     *         nothing to plan
+     */
+    public static IndexRangeOperationDescriptor[] planCopy(final IndexRangeOperationDescriptor... copyDescriptors) {
+        if (copyDescriptors.length < 2)
+            return copyDescriptors;
+
+        return merge(copyDescriptors, false);
+    }
+
+    /**
+     * Plans shifting {@link Item}s within a {@link LinearIndexStorage}, merging the
+     * {@link IndexRangeOperationDescriptor}s where possible, dropping those not moving any {@link Item} and ordering
+     * the others.
+     *
+     * @param shiftDescriptors
+     *        comma separated sequence of {@link IndexRangeOperationDescriptor}s
+     *
+     * @return array of planned {@link IndexRangeOperationDescriptor}s, in execution order; {@code shiftDescriptors}
+     *         itself if there is nothing to plan
+     */
+    public static IndexRangeOperationDescriptor[] planShift(final IndexRangeOperationDescriptor... shiftDescriptors) {
+        if (shiftDescriptors.length == 0 || shiftDescriptors.length == 1 && distance(shiftDescriptors[0]) != 0)
+            return shiftDescriptors;
+
+        return order(merge(shiftDescriptors, true));
+    }
+
+    private static IndexRangeOperationDescriptor[] merge(final IndexRangeOperationDescriptor[] descriptors,
+                                                         final boolean dropUnmoved) {
+        final IndexRangeOperationDescriptor[] sortedDescriptors = copyOf(descriptors, descriptors.length);
+        sort(sortedDescriptors, DISTANCE_AND_SOURCE_ORDER);
+
+        final IndexRangeOperationDescriptor[] mergedDescriptors = new IndexRangeOperationDescriptor[descriptors.length];
+        int mergedDescriptorsCount = 0;
+        IndexRangeOperationDescriptor pendingDescriptor = null;
+
+        for (final IndexRangeOperationDescriptor descriptor : sortedDescriptors) {
+            if (dropUnmoved && distance(descriptor) == 0 && isValid(descriptor))
+                continue;
+
+            if (pendingDescriptor != null && isMergeable(pendingDescriptor, descriptor)) {
+                pendingDescriptor = /*
+                 */ new IndexRangeOperationDescriptor(pendingDescriptor.getSourceMinimumIndex(),
+                                                      max(pendingDescriptor.getSourceMaximumIndex(),
+                                                          descriptor.getSourceMaximumIndex()),
+                                                      pendingDescriptor.getTargetIndex());
+                continue;
+            }
+
+            if (pendingDescriptor != null)
+                mergedDescriptors[mergedDescriptorsCount++] = pendingDescriptor;
+
+            pendingDescriptor = descriptor;
+        }
+
+        if (pendingDescriptor != null)
+            mergedDescriptors[mergedDescriptorsCount++] = pendingDescriptor;
+
+        return copyOf(mergedDescriptors, mergedDescriptorsCount);
+    }
+
+    private static boolean isMergeable(final IndexRangeOperationDescriptor pendingDescriptor,
+                                       final IndexRangeOperationDescriptor descriptor) {
+        return isValid(pendingDescriptor) && isValid(descriptor) &&
+               distance(pendingDescriptor) == distance(descriptor) &&
+               (long) descriptor.getSourceMinimumIndex() <= (long) pendingDescriptor.getSourceMaximumIndex() + 1;
+    }
+
+    /**
+     * Orders the specified {@link IndexRangeOperationDescriptor}s such that no operation overwrites the source range of
+     * a subsequent one, as far as possible.
+     *
+     * @param descriptors
+     *        array of {@link IndexRangeOperationDescriptor}s
+     *
+     * @return ordered array of {@link IndexRangeOperationDescriptor}s
+     */
+    private static IndexRangeOperationDescriptor[] order(final IndexRangeOperationDescriptor[] descriptors) {
+        final IndexRangeOperationDescriptor[] orderedDescriptors = new IndexRangeOperationDescriptor[descriptors.length];
+        final boolean[] ordered = new boolean[descriptors.length];
+        int orderedDescriptorsCount = 0;
+
+        while (orderedDescriptorsCount < descriptors.length) {
+            final int nextIndex = getExecutableIndex(descriptors, ordered);
+
+            ordered[nextIndex] = true;
+            orderedDescriptors[orderedDescriptorsCount++] = descriptors[nextIndex];
+        }
+
+        return orderedDescriptors;
+    }
+
+    /**
+     * Returns the index of the first unordered {@link IndexRangeOperationDescriptor} whose target range overlaps no
+     * source range of another unordered one; if there is none due to a cyclic dependency, the index of the first
+     * unordered {@link IndexRangeOperationDescriptor}.
+     *
+     * @param descriptors
+     *        array of {@link IndexRangeOperationDescriptor}s
+     *
+     * @param ordered
+     *        array of booleans specifying which {@link IndexRangeOperationDescriptor}s have already been ordered
+     *
+     * @return integer specifying the index of the next {@link IndexRangeOperationDescriptor}
+     */
+    private static int getExecutableIndex(final IndexRangeOperationDescriptor[] descriptors, final boolean[] ordered) {
+        int firstUnorderedIndex = - 1;
+
+        for (int index = 0; index < descriptors.length; index++) {
+            if (ordered[index])
+                continue;
+
+            if (firstUnorderedIndex == - 1)
+                firstUnorderedIndex = index;
+
+            if (! overwritesPendingSource(descriptors, ordered, index))
+                return index;
+        }
+
+        return firstUnorderedIndex;
+    }
+
+    private static boolean overwritesPendingSource(final IndexRangeOperationDescriptor[] descriptors,
+                                                   final boolean[] ordered, final int writingIndex) {
+        final IndexRangeOperationDescriptor writingDescriptor = descriptors[writingIndex];
+        final long targetMinimumIndex = writingDescriptor.getTargetIndex();
+        final long targetMaximumIndex = targetMinimumIndex + writingDescriptor.getSourceMaximumIndex() -
+                                        writingDescriptor.getSourceMinimumIndex();
+
+        for (int index = 0; index < descriptors.length; index++)
+            if (index != writingIndex && ! ordered[index] &&
+                descriptors[index].getSourceMinimumIndex() <= targetMaximumIndex &&
+                descriptors[index].getSourceMaximumIndex() >= targetMinimumIndex)
+                return true;
+
+        return false;
+    }
+
+    private static boolean isValid(final IndexRangeOperationDescriptor descriptor) {
+        return descriptor.getSourceMinimumIndex() <= descriptor.getSourceMaximumIndex();
+    }
+
+    private static int distance(final IndexRangeOperationDescriptor descriptor) {
+        return descriptor.getTargetIndex() - descriptor.getSourceMinimumIndex();
+    }
+}
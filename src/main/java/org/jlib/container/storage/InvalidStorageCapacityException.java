@@ -34,8 +34,8 @@ public class InvalidStorageCapacityException
 
     private static final long serialVersionUID = - 701812048814999842L;
 
-    InvalidStorageCapacityException(final LinearIndexStorage<?> storage, final String capacityName,
-                                    final int invalidCapacity) {
+    public InvalidStorageCapacityException(final LinearIndexStorage<?> storage, final String capacityName,
+                                           final long invalidCapacity) {
         super(storage, message().with(capacityName, invalidCapacity));
     }
 }
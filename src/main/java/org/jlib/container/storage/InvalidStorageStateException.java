@@ -0,0 +1,40 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage;
+
+import org.jlib.exception.InvalidStateException;
+import org.jlib.message.Message;
+
+/**
+ * {@link InvalidStateException} thrown when a {@link LinearIndexStorage} cannot access the resources holding its
+ * items.
+ */
+public class InvalidStorageStateException
+    extends InvalidStateException {
+
+    private static final long serialVersionUID = 4236402741931716578L;
+
+    public InvalidStorageStateException(final LinearIndexStorage<?> linearIndexStorage, final Message message,
+                                        final Exception cause) {
+        super(message.with("storage", linearIndexStorage), cause);
+    }
+}
@@ -33,10 +33,10 @@ package org.jlib.container.storage;
  * The {@link Item}s can be shifted within a {@link LinearIndexStorage}.
  * </p>
  * <p>
- * The capacity of a {@link LinearIndexStorage} can be raised but it cannot be lowered. That is, more slots can be
- * provided upon request but slots cannot be removed.
- * When an application requests the capacity to be raised, it has to specify at which index existing {@link Item}s can
- * be accessed afterwards.
+ * The capacity of a {@link LinearIndexStorage} can be raised and lowered. That is, more slots can be provided upon
+ * request and unused slots can be released, for instance after removing a large number of {@link Item}s.
+ * When an application requests the capacity to be changed, it has to specify at which index existing {@link Item}s
+ * can be accessed afterwards.
  * </p>
  *
  * @param <Item>
@@ -84,6 +84,86 @@ public interface LinearIndexStorage<Item>
     void set(int index, Item newItem)
         throws InvalidStorageIndexException;
 
+    /**
+     * Copies the {@link Item}s stored in the specified index range into the specified array. An empty index range,
+     * that is, {@code maximumIndex == minimumIndex - 1}, copies no {@link Item}s.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first copied {@link Item}
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last copied {@link Item}
+     *
+     * @param targetArray
+     *        array receiving the {@link Item}s
+     *
+     * @param targetArrayIndex
+     *        integer specifying the index in {@code targetArray} receiving the first {@link Item}
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of this {@link LinearIndexStorage} or the {@link Item}s
+     *         do not fit into {@code targetArray} at {@code targetArrayIndex}
+     */
+    void getItems(int minimumIndex, int maximumIndex, Item[] targetArray, int targetArrayIndex)
+        throws InvalidStorageIndexException;
+
+    /**
+     * Replaces the {@link Item}s stored in the specified index range by the {@link Item}s of the specified array. An
+     * empty index range, that is, {@code maximumIndex == minimumIndex - 1}, replaces no {@link Item}s.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first replaced {@link Item}
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last replaced {@link Item}
+     *
+     * @param sourceArray
+     *        array providing the new {@link Item}s
+     *
+     * @param sourceArrayIndex
+     *        integer specifying the index in {@code sourceArray} of the first new {@link Item}
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of this {@link LinearIndexStorage} or
+     *         {@code sourceArray} does not provide enough {@link Item}s at {@code sourceArrayIndex}
+     */
+    void setItems(int minimumIndex, int maximumIndex, Item[] sourceArray, int sourceArrayIndex)
+        throws InvalidStorageIndexException;
+
+    /**
+     * Replaces each {@link Item} stored in the specified index range by the specified {@link Item}.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first replaced {@link Item}
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last replaced {@link Item}
+     *
+     * @param item
+     *        {@link Item} stored in each slot of the index range
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of this {@link LinearIndexStorage}
+     */
+    void fillItems(int minimumIndex, int maximumIndex, Item item)
+        throws InvalidStorageIndexException;
+
+    /**
+     * Removes the {@link Item}s stored in the specified index range, resetting the slots to the state of slots never
+     * written, releasing the references to the {@link Item}s.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first removed {@link Item}
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last removed {@link Item}
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of this {@link LinearIndexStorage}
+     */
+    void clearItems(int minimumIndex, int maximumIndex)
+        throws InvalidStorageIndexException;
+
     /**
      * <p>
      * Newly allocates the resources for this {@link LinearIndexStorage}, ensuring it to provide the specified capacity
@@ -115,8 +195,96 @@ public interface LinearIndexStorage<Item>
         throws InvalidStorageCapacityException, InvalidStorageIndexException;
 
     /**
-     * Shifts the {@link Item}s <em>ithin</em> this {@link LinearIndexStorage}, as defined by the specified
-     * {@link IndexRangeOperationDescriptor}s.
+     * Newly allocates the resources for this {@link LinearIndexStorage}, ensuring it to provide the specified capacity
+     * and to contain the formerly stored {@link Item}s in the specified index range, potentially at new indices. This
+     * method behaves like {@link #ensureCapacityAndShiftItems(int, IndexRangeOperationDescriptor...)} with one
+     * {@link IndexRangeOperationDescriptor} but allocates no objects apart from the new resources.
+     *
+     * @param capacity
+     *        integer specifying the capacity
+     *
+     * @param sourceMinimumIndex
+     *        integer specifying the former index of the first retained {@link Item}
+     *
+     * @param sourceMaximumIndex
+     *        integer specifying the former index of the last retained {@link Item}
+     *
+     * @param targetIndex
+     *        integer specifying the new index of the first retained {@link Item}
+     *
+     * @throws InvalidStorageCapacityException
+     *         if {@code capacity < 0}
+     *
+     * @throws InvalidStorageIndexException
+     *         if the source or target index range is outside the valid bounds
+     */
+    void ensureCapacityAndShiftItems(int capacity, int sourceMinimumIndex, int sourceMaximumIndex, int targetIndex)
+        throws InvalidStorageCapacityException, InvalidStorageIndexException;
+
+    /**
+     * <p>
+     * Newly allocates the resources for this {@link LinearIndexStorage}, releasing the specified number of slots and
+     * retaining the formerly stored {@link Item}s specified by the {@link IndexRangeOperationDescriptor}s, potentially
+     * at new indices.
+     * </p>
+     * <p>
+     * The {@link Item}s are shifted from former indices to the new indices, according to the specified
+     * {@link IndexRangeOperationDescriptor}s. Their source indices reference the {@link Item} indices <em>before</em>,
+     * their target indices the {@link Item} indices <em>after</em> the operation. The target indices must be valid
+     * for the lowered capacity.
+     * </p>
+     * <p>
+     * <em>Only</em> actually specified index ranges are taken in consideration. {@link Item}s located at other indices
+     * are removed from this {@link LinearIndexStorage}.
+     * </p>
+     *
+     * @param removedCapacity
+     *        integer specifying the number of released slots
+     *
+     * @param shiftDescriptors
+     *        comma separated sequence of {@link IndexRangeOperationDescriptor}s
+     *
+     * @throws InvalidStorageCapacityException
+     *         if {@code removedCapacity < 0 || removedCapacity > capacity()}
+     *
+     * @throws InvalidStorageIndexException
+     *         if an {@link IndexRangeOperationDescriptor} specifies a shift on an index outside the valid bounds
+     */
+    void reduceCapacityAndShiftItems(int removedCapacity, IndexRangeOperationDescriptor... shiftDescriptors)
+        throws InvalidStorageCapacityException, InvalidStorageIndexException;
+
+    /**
+     * Newly allocates the resources for this {@link LinearIndexStorage}, releasing the specified number of slots and
+     * retaining the formerly stored {@link Item}s in the specified index range, potentially at new indices. This
+     * method behaves like {@link #reduceCapacityAndShiftItems(int, IndexRangeOperationDescriptor...)} with one
+     * {@link IndexRangeOperationDescriptor} but allocates no objects apart from the new resources.
+     *
+     * @param removedCapacity
+     *        integer specifying the number of released slots
+     *
+     * @param sourceMinimumIndex
+     *        integer specifying the former index of the first retained {@link Item}
+     *
+     * @param sourceMaximumIndex
+     *        integer specifying the former index of the last retained {@link Item}
+     *
+     * @param targetIndex
+     *        integer specifying the new index of the first retained {@link Item}
+     *
+     * @throws InvalidStorageCapacityException
+     *         if {@code removedCapacity < 0 || removedCapacity > capacity()}
+     *
+     * @throws InvalidStorageIndexException
+     *         if the source or target index range is outside the valid bounds
+     */
+    void reduceCapacityAndShiftItems(int removedCapacity, int sourceMinimumIndex, int sourceMaximumIndex,
+                                     int targetIndex)
+        throws InvalidStorageCapacityException, InvalidStorageIndexException;
+
+    /**
+     * Shifts the {@link Item}s <em>within</em> this {@link LinearIndexStorage}, as defined by the specified
+     * {@link IndexRangeOperationDescriptor}s. The result is as if all source ranges were read before any target range
+     * is written, as far as the shifts can be ordered accordingly.
      *
      * @param shiftDescriptors
      *        comma separated sequence of {@link IndexRangeOperationDescriptor}s
@@ -126,4 +294,24 @@ public interface LinearIndexStorage<Item>
      */
     void shiftItems(IndexRangeOperationDescriptor... shiftDescriptors)
         throws InvalidStorageIndexException;
+
+    /**
+     * Shifts the {@link Item}s in the specified index range <em>within</em> this {@link LinearIndexStorage}. This
+     * method behaves like {@link #shiftItems(IndexRangeOperationDescriptor...)} with one
+     * {@link IndexRangeOperationDescriptor} but allocates no objects.
+     *
+     * @param sourceMinimumIndex
+     *        integer specifying the index of the first shifted {@link Item}
+     *
+     * @param sourceMaximumIndex
+     *        integer specifying the index of the last shifted {@link Item}
+     *
+     * @param targetIndex
+     *        integer specifying the new index of the first shifted {@link Item}
+     *
+     * @throws InvalidStorageIndexException
+     *         if the source or target index range is outside the valid bounds
+     */
+    void shiftItems(int sourceMinimumIndex, int sourceMaximumIndex, int targetIndex)
+        throws InvalidStorageIndexException;
 }
@@ -0,0 +1,149 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static org.jlib.message.Messages.mfmessage;
+
+/**
+ * <p>
+ * {@link Spliterator} traversing the {@link Item}s in an index range of an {@link UncheckedLinearIndexStorage}.
+ * </p>
+ * <p>
+ * The index range is verified once upon creation; the {@link Item}s are read by the unchecked accessor. Splitting
+ * halves the remaining index range without copying any {@link Item}, hence the {@link Spliterator} reports
+ * {@link #ORDERED}, {@link #SIZED} and {@link #SUBSIZED}, allowing a parallel stream to balance its work across the
+ * available threads.
+ * </p>
+ * <p>
+ * The index range is bound upon creation. Modifications of the {@link UncheckedLinearIndexStorage} during the
+ * traversal are not detected; changing its capacity results in unspecified behaviour.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the traversed {@link Item}s
+ */
+public class LinearIndexStorageSpliterator<Item>
+    implements Spliterator<Item> {
+
+    /** characteristics reported by every {@link LinearIndexStorageSpliterator} */
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED;
+
+    /** traversed {@link UncheckedLinearIndexStorage} */
+    private final UncheckedLinearIndexStorage<Item> storage;
+
+    /** index of the next traversed {@link Item} */
+    private int index;
+
+    /** index of the last traversed {@link Item} */
+    private final int maximumIndex;
+
+    /** characteristics reported in addition to {@link #CHARACTERISTICS} */
+    private final int additionalCharacteristics;
+
+    public LinearIndexStorageSpliterator(final UncheckedLinearIndexStorage<Item> storage, final int minimumIndex,
+                                         final int maximumIndex)
+        throws InvalidStorageIndexException {
+        this(storage, minimumIndex, maximumIndex, 0);
+    }
+
+    /**
+     * Creates a new {@link LinearIndexStorageSpliterator}.
+     *
+     * @param storage
+     *        traversed {@link UncheckedLinearIndexStorage}
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first traversed {@link Item}
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last traversed {@link Item};
+     *        {@code minimumIndex - 1} for an empty index range
+     *
+     * @param additionalCharacteristics
+     *        integer specifying the characteristics reported in addition to {@link #ORDERED}, {@link #SIZED} and
+     *        {@link #SUBSIZED}, for instance {@link #NONNULL}
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of {@code storage}
+     */
+    public LinearIndexStorageSpliterator(final UncheckedLinearIndexStorage<Item> storage, final int minimumIndex,
+                                         final int maximumIndex, final int additionalCharacteristics)
+        throws InvalidStorageIndexException {
+        final int capacity = storage.capacity();
+
+        if (minimumIndex < 0 || minimumIndex > capacity || maximumIndex < minimumIndex - 1 || maximumIndex >= capacity)
+            throw new InvalidStorageIndexException(storage, mfmessage("[{0}, {1}] is no index range of capacity = {2}",
+                                                                      minimumIndex, maximumIndex, capacity));
+
+        this.storage = storage;
+        index = minimumIndex;
+        this.maximumIndex = maximumIndex;
+        this.additionalCharacteristics = additionalCharacteristics;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Item> action) {
+        if (index > maximumIndex)
+            return false;
+
+        action.accept(storage.uncheckedGet(index++));
+
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super Item> action) {
+        final int minimumIndex = index;
+        index = maximumIndex + 1;
+
+        for (int currentIndex = minimumIndex; currentIndex <= maximumIndex; currentIndex++)
+            action.accept(storage.uncheckedGet(currentIndex));
+    }
+
+    @Override
+    public Spliterator<Item> trySplit() {
+        final int middleIndex = index + (maximumIndex - index + 1) / 2;
+
+        if (middleIndex == index)
+            return null;
+
+        final Spliterator<Item> prefixSpliterator =
+            new LinearIndexStorageSpliterator<>(storage, index, middleIndex - 1, additionalCharacteristics);
+
+        index = middleIndex;
+
+        return prefixSpliterator;
+    }
+
+    @Override
+    public long estimateSize() {
+        return maximumIndex - index + 1;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS | additionalCharacteristics;
+    }
+}
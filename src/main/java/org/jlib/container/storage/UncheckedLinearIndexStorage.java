@@ -0,0 +1,64 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage;
+
+import org.jlib.container.Valid;
+
+/**
+ * <p>
+ * {@link LinearIndexStorage} additionally providing accessors that do not verify the specified index.
+ * </p>
+ * <p>
+ * The unchecked accessors are intended for callers that have already validated the accessed index range, for instance
+ * a bulk operation verifying its bounds once or a container keeping track of its occupied slots. Passing an index out
+ * of the valid bounds results in unspecified behaviour: the access may fail with a runtime exception of the underlying
+ * resource, or silently read or modify an unrelated slot.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the {@link Item}s stored in the {@link LinearIndexStorage}
+ */
+public interface UncheckedLinearIndexStorage<Item>
+    extends LinearIndexStorage<Item> {
+
+    /**
+     * Returns the {@link Item} stored at the specified index without verifying the index.
+     *
+     * @param index
+     *        integer specifying the valid index of the {@link Item}
+     *
+     * @return {@link Item} stored at {@code index}
+     */
+    Item uncheckedGet(@Valid int index);
+
+    /**
+     * Replaces the {@link Item} stored at the specified index by the specified {@link Item} without verifying the
+     * index.
+     *
+     * @param index
+     *        integer specifying the valid index of the {@link Item}
+     *
+     * @param newItem
+     *        new {@link Item} replacing the former
+     */
+    void uncheckedSet(@Valid int index, Item newItem);
+}
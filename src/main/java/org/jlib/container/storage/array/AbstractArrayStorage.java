@@ -0,0 +1,185 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.array;
+
+import static java.lang.System.arraycopy;
+import org.jlib.container.Valid;
+import org.jlib.container.storage.AbstractLinearIndexStorage;
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import static org.jlib.container.storage.IndexRangeOperationPlanner.planCopy;
+import org.jlib.container.storage.InvalidStorageCapacityException;
+import org.jlib.container.storage.InvalidStorageIndexException;
+import org.jlib.container.storage.LinearIndexStorage;
+import static org.jlib.numeric.Numeric.countInclusive;
+
+/**
+ * Skeletal {@link LinearIndexStorage} based on an array. The array may be an array of objects or of primitives.
+ *
+ * @param <Item>
+ *        type of the items stored in the array
+ *
+ * @param <Array>
+ *        type of the array
+ */
+public abstract class AbstractArrayStorage<Item, Array>
+    extends AbstractLinearIndexStorage<Item> {
+
+    /** array holding the {@link Item}s */
+    private Array delegateArray;
+
+    protected AbstractArrayStorage(final int initialCapacity)
+        throws InvalidStorageCapacityException {
+        super(initialCapacity);
+
+        delegateArray = createArray(initialCapacity);
+    }
+
+    /**
+     * Creates a new array of the specified length.
+     *
+     * @param length
+     *        integer specifying the length
+     *
+     * @return newly created array
+     */
+    protected abstract Array createArray(int length);
+
+    /**
+     * Returns the length of the specified array.
+     *
+     * @param array
+     *        array
+     *
+     * @return integer specifying the length of {@code array}
+     */
+    protected abstract int length(Array array);
+
+    /**
+     * Creates a copy of the specified array.
+     *
+     * @param array
+     *        array to copy
+     *
+     * @return newly created copy of {@code array}
+     */
+    protected abstract Array copyArray(Array array);
+
+    protected Array getDelegateArray() {
+        return delegateArray;
+    }
+
+    @Override
+    public int capacity() {
+        return length(delegateArray);
+    }
+
+    @Override
+    protected void safeAddCapacityAndShiftItems(@Valid final int capacity,
+                                                @Valid final IndexRangeOperationDescriptor... copyDescriptors) {
+        reallocate(length(delegateArray) + capacity, copyDescriptors);
+    }
+
+    @Override
+    protected void safeAddCapacityAndShiftItems(@Valid final int capacity, final int sourceMinimumIndex,
+                                                final int sourceMaximumIndex, final int targetIndex) {
+        reallocate(length(delegateArray) + capacity, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+    }
+
+    @Override
+    protected void safeRemoveCapacityAndShiftItems(@Valid final int removedCapacity,
+                                                   @Valid final IndexRangeOperationDescriptor... copyDescriptors) {
+        reallocate(length(delegateArray) - removedCapacity, copyDescriptors);
+    }
+
+    @Override
+    protected void safeRemoveCapacityAndShiftItems(@Valid final int removedCapacity, final int sourceMinimumIndex,
+                                                   final int sourceMaximumIndex, final int targetIndex) {
+        reallocate(length(delegateArray) - removedCapacity, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+    }
+
+    private void reallocate(final int newCapacity, final IndexRangeOperationDescriptor... copyDescriptors) {
+        final Array newDelegateArray = createArray(newCapacity);
+
+        for (final IndexRangeOperationDescriptor copyDescriptor : planCopy(copyDescriptors))
+            copyItems(delegateArray, newDelegateArray, copyDescriptor.getSourceMinimumIndex(),
+                      copyDescriptor.getSourceMaximumIndex(), copyDescriptor.getTargetIndex());
+
+        delegateArray = newDelegateArray;
+    }
+
+    private void reallocate(final int newCapacity, final int sourceMinimumIndex, final int sourceMaximumIndex,
+                            final int targetIndex) {
+        final Array newDelegateArray = createArray(newCapacity);
+
+        copyItems(delegateArray, newDelegateArray, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+
+        delegateArray = newDelegateArray;
+    }
+
+    @Override
+    protected void safeShiftItems(@Valid final int sourceMinimumIndex, @Valid final int sourceMaximumIndex,
+                                  @Valid final int targetIndex) {
+        arraycopy(delegateArray, sourceMinimumIndex, delegateArray, targetIndex,
+                  countInclusive(sourceMinimumIndex, sourceMaximumIndex));
+    }
+
+    /**
+     * Copies the specified range of {@link Item}s from the specified source to the specified target array.
+     *
+     * @param sourceArray
+     *        source array of {@link Item}s
+     *
+     * @param targetArray
+     *        target array of {@link Item}s
+     *
+     * @param sourceMinimumIndex
+     *        integer specifying the index of the first copied {@link Item} in {@code sourceArray}
+     *
+     * @param sourceMaximumIndex
+     *        integer specifying the index of the last copied {@link Item} in {@code sourceArray}
+     *
+     * @param targetIndex
+     *        integer specifying the index of the first copied {@link Item} in {@code targetArray}
+     *
+     * @throws InvalidStorageIndexException
+     *         if the source or target index range is invalid
+     */
+    protected void copyItems(final Array sourceArray, final Array targetArray, final int sourceMinimumIndex,
+                             final int sourceMaximumIndex, final int targetIndex)
+        throws InvalidStorageIndexException {
+
+        ensureOperationValid(sourceMinimumIndex, sourceMaximumIndex, targetIndex, length(targetArray));
+
+        arraycopy(sourceArray, sourceMinimumIndex, targetArray, targetIndex,
+                  countInclusive(sourceMinimumIndex, sourceMaximumIndex));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public AbstractArrayStorage<Item, Array> clone() {
+        final AbstractArrayStorage<Item, Array> cloneStorage = (AbstractArrayStorage<Item, Array>) super.clone();
+
+        cloneStorage.delegateArray = copyArray(delegateArray);
+
+        return cloneStorage;
+    }
+}
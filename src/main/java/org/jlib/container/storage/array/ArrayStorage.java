@@ -23,12 +23,10 @@ package org.jlib.container.storage.array;
 
 import static java.lang.System.arraycopy;
 import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
 import static org.jlib.array.ArrayUtility.array;
 import org.jlib.container.Valid;
-import org.jlib.container.storage.AbstractLinearIndexStorage;
-import org.jlib.container.storage.IndexRangeOperationDescriptor;
 import org.jlib.container.storage.InvalidStorageCapacityException;
-import org.jlib.container.storage.InvalidStorageIndexException;
 import org.jlib.container.storage.LinearIndexStorage;
 import static org.jlib.numeric.Numeric.countInclusive;
 
@@ -42,85 +40,60 @@ import static org.jlib.numeric.Numeric.countInclusive;
  */
 
 public class ArrayStorage<Item>
-    extends AbstractLinearIndexStorage<Item> {
-
-    /** array holding the {@link Item}s */
-    private Item[] delegateArray;
+    extends AbstractArrayStorage<Item, Item[]> {
 
     public ArrayStorage(final int initialCapacity)
         throws InvalidStorageCapacityException {
         super(initialCapacity);
-
-        delegateArray = array(initialCapacity);
     }
 
     @Override
-    public int capacity() {
-        return delegateArray.length;
+    protected Item[] createArray(final int length) {
+        return array(length);
     }
 
     @Override
-    protected Item safeGet(@Valid final int index) {
-        return delegateArray[index];
+    protected int length(final Item[] array) {
+        return array.length;
     }
 
     @Override
-    protected void safeSet(@Valid final int index, final Item item) {
-        delegateArray[index] = item;
+    protected Item[] copyArray(final Item[] array) {
+        return copyOf(array, array.length);
     }
 
     @Override
-    protected void safeAddCapacityAndShiftItems(@Valid final int capacity,
-                                                @Valid final IndexRangeOperationDescriptor... copyDescriptors) {
-        final Item[] newDelegateArray = array(delegateArray.length + capacity);
-
-        copyItemsTo(newDelegateArray, copyDescriptors);
-
-        delegateArray = newDelegateArray;
+    protected Item safeGet(@Valid final int index) {
+        return getDelegateArray()[index];
     }
 
     @Override
-    public void shiftItems(final IndexRangeOperationDescriptor... shiftDescriptors)
-        throws IndexOutOfBoundsException {
-        copyItemsTo(delegateArray, shiftDescriptors);
+    protected void safeSet(@Valid final int index, final Item item) {
+        getDelegateArray()[index] = item;
     }
 
-    private void copyItemsTo(final Item[] targetArray, final IndexRangeOperationDescriptor... copyDescriptors) {
-        for (final IndexRangeOperationDescriptor copyDescriptor : copyDescriptors)
-            copyItems(delegateArray, targetArray, copyDescriptor);
+    @Override
+    protected void safeGetItems(@Valid final int minimumIndex, @Valid final int maximumIndex,
+                                final Item[] targetArray, @Valid final int targetArrayIndex) {
+        arraycopy(getDelegateArray(), minimumIndex, targetArray, targetArrayIndex,
+                  countInclusive(minimumIndex, maximumIndex));
     }
 
-    /**
-     * Copies ranges of {@link Item}s defined by the specified {@link IndexRangeOperationDescriptor} from the specified
-     * source to the specified target array.
-     *
-     * @param sourceArray
-     *        source array of {@link Item}s
-     *
-     * @param targetArray
-     *        target array of {@link Item}s
-     *
-     * @param copyDescriptor
-     *        {@link IndexRangeOperationDescriptor} for the operation
-     */
-    protected void copyItems(final Item[] sourceArray, final Item[] targetArray,
-                             final IndexRangeOperationDescriptor copyDescriptor)
-        throws InvalidStorageIndexException {
-
-        ensureOperationDescriptorValid(copyDescriptor);
+    @Override
+    protected void safeSetItems(@Valid final int minimumIndex, @Valid final int maximumIndex,
+                                final Item[] sourceArray, @Valid final int sourceArrayIndex) {
+        arraycopy(sourceArray, sourceArrayIndex, getDelegateArray(), minimumIndex,
+                  countInclusive(minimumIndex, maximumIndex));
+    }
 
-        arraycopy(sourceArray, copyDescriptor.getSourceRange().getMinimum(), targetArray,
-                  copyDescriptor.getTargetIndex(),
-                  countInclusive(copyDescriptor.getSourceRange().getMinimum(), copyDescriptor.getSourceRange().getMaximum()));
+    @Override
+    protected void safeFillItems(@Valid final int minimumIndex, @Valid final int maximumIndex, final Item item) {
+        fill(getDelegateArray(), minimumIndex, maximumIndex + 1, item);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public ArrayStorage<Item> clone() {
-        final ArrayStorage<Item> cloneStorage = (ArrayStorage<Item>) super.clone();
-
-        cloneStorage.delegateArray = copyOf(delegateArray, delegateArray.length);
-
-        return cloneStorage;
+        return (ArrayStorage<Item>) super.clone();
     }
 }
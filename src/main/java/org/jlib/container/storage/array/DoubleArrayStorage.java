@@ -0,0 +1,259 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.array;
+
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+import org.jlib.container.Valid;
+import org.jlib.container.storage.InvalidStorageCapacityException;
+import org.jlib.container.storage.InvalidStorageIndexException;
+import org.jlib.container.storage.InvalidStorageItemException;
+import org.jlib.container.storage.LinearIndexStorage;
+import static org.jlib.numeric.Numeric.countInclusive;
+
+/**
+ * <p>
+ * {@link LinearIndexStorage} based on a {@code double} array, storing the items unboxed.
+ * </p>
+ * <p>
+ * Besides the {@link Double}-based accessors of {@link LinearIndexStorage}, a {@link DoubleArrayStorage} provides the
+ * primitive accessors {@link #getDouble(int)} and {@link #setDouble(int, double)} avoiding boxing, as well as their
+ * unchecked counterparts {@link #uncheckedGetDouble(int)} and {@link #uncheckedSetDouble(int, double)}.
+ * The bulk accessors {@link #getDoubles(int, int, double[], int)}, {@link #setDoubles(int, int, double[], int)} and
+ * {@link #fillDoubles(int, int, double)} transfer index ranges as array copies.
+ * A slot not holding an item holds {@code 0.0}.
+ * Storing {@code null} throws an {@link InvalidStorageItemException}.
+ * </p>
+ */
+public class DoubleArrayStorage
+    extends AbstractArrayStorage<Double, double[]> {
+
+    public DoubleArrayStorage(final int initialCapacity)
+        throws InvalidStorageCapacityException {
+        super(initialCapacity);
+    }
+
+    @Override
+    protected double[] createArray(final int length) {
+        return new double[length];
+    }
+
+    @Override
+    protected int length(final double[] array) {
+        return array.length;
+    }
+
+    @Override
+    protected double[] copyArray(final double[] array) {
+        return copyOf(array, array.length);
+    }
+
+    /**
+     * Returns the {@code double} stored at the specified index.
+     *
+     * @param index
+     *        integer specifying the index of the item
+     *
+     * @return {@code double} stored at {@code index}
+     *
+     * @throws InvalidStorageIndexException
+     *         if {@code index} is out of the valid bounds of this {@link DoubleArrayStorage}
+     */
+    public double getDouble(final int index)
+        throws InvalidStorageIndexException {
+        ensureIndexValid("index", index);
+
+        return getDelegateArray()[index];
+    }
+
+    /**
+     * Replaces the {@code double} stored at the specified index by the specified {@code double}.
+     *
+     * @param index
+     *        integer specifying the index of the item
+     *
+     * @param newItem
+     *        new {@code double} replacing the former
+     *
+     * @throws InvalidStorageIndexException
+     *         if {@code index} is out of the valid bounds of this {@link DoubleArrayStorage}
+     */
+    public void setDouble(final int index, final double newItem)
+        throws InvalidStorageIndexException {
+        ensureIndexValid("index", index);
+
+        getDelegateArray()[index] = newItem;
+    }
+
+    /**
+     * Copies the {@code double}s stored in the specified index range into the specified array.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first copied item
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last copied item
+     *
+     * @param targetArray
+     *        array of {@code double}s receiving the items
+     *
+     * @param targetArrayIndex
+     *        integer specifying the index in {@code targetArray} receiving the first item
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of this {@link DoubleArrayStorage} or the items do not fit
+     *         into {@code targetArray} at {@code targetArrayIndex}
+     */
+    public void getDoubles(final int minimumIndex, final int maximumIndex, final double[] targetArray,
+                           final int targetArrayIndex)
+        throws InvalidStorageIndexException {
+        ensureIndexRangeValid(minimumIndex, maximumIndex);
+        ensureArrayRangeValid("targetArrayIndex", targetArrayIndex, countInclusive(minimumIndex, maximumIndex),
+                              targetArray.length);
+
+        arraycopy(getDelegateArray(), minimumIndex, targetArray, targetArrayIndex,
+                  countInclusive(minimumIndex, maximumIndex));
+    }
+
+    /**
+     * Replaces the {@code double}s stored in the specified index range by the {@code double}s of the specified array.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first replaced item
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last replaced item
+     *
+     * @param sourceArray
+     *        array of {@code double}s providing the new items
+     *
+     * @param sourceArrayIndex
+     *        integer specifying the index in {@code sourceArray} of the first new item
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of this {@link DoubleArrayStorage} or {@code sourceArray}
+     *         does not provide enough items at {@code sourceArrayIndex}
+     */
+    public void setDoubles(final int minimumIndex, final int maximumIndex, final double[] sourceArray,
+                           final int sourceArrayIndex)
+        throws InvalidStorageIndexException {
+        ensureIndexRangeValid(minimumIndex, maximumIndex);
+        ensureArrayRangeValid("sourceArrayIndex", sourceArrayIndex, countInclusive(minimumIndex, maximumIndex),
+                              sourceArray.length);
+
+        arraycopy(sourceArray, sourceArrayIndex, getDelegateArray(), minimumIndex,
+                  countInclusive(minimumIndex, maximumIndex));
+    }
+
+    /**
+     * Replaces each {@code double} stored in the specified index range by the specified {@code double}.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first replaced item
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last replaced item
+     *
+     * @param item
+     *        {@code double} stored in each slot of the index range
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of this {@link DoubleArrayStorage}
+     */
+    public void fillDoubles(final int minimumIndex, final int maximumIndex, final double item)
+        throws InvalidStorageIndexException {
+        ensureIndexRangeValid(minimumIndex, maximumIndex);
+
+        fill(getDelegateArray(), minimumIndex, maximumIndex + 1, item);
+    }
+
+    /**
+     * Returns the {@code double} stored at the specified index without verifying the index.
+     *
+     * @param index
+     *        integer specifying the valid index of the item
+     *
+     * @return {@code double} stored at {@code index}
+     */
+    public double uncheckedGetDouble(@Valid final int index) {
+        return getDelegateArray()[index];
+    }
+
+    /**
+     * Replaces the {@code double} stored at the specified index by the specified {@code double} without verifying the
+     * index.
+     *
+     * @param index
+     *        integer specifying the valid index of the item
+     *
+     * @param newItem
+     *        new {@code double} replacing the former
+     */
+    public void uncheckedSetDouble(@Valid final int index, final double newItem) {
+        getDelegateArray()[index] = newItem;
+    }
+
+    @Override
+    protected Double safeGet(@Valid final int index) {
+        return getDelegateArray()[index];
+    }
+
+    @Override
+    protected void safeSet(@Valid final int index, final Double item) {
+        getDelegateArray()[index] = unbox(item);
+    }
+
+    @Override
+    protected void safeFillItems(@Valid final int minimumIndex, @Valid final int maximumIndex, final Double item) {
+        fill(getDelegateArray(), minimumIndex, maximumIndex + 1, unbox(item));
+    }
+
+    /**
+     * Returns the {@code double} value of the specified {@link Double}.
+     *
+     * @param item
+     *        {@link Double} to store
+     *
+     * @return {@code double} value of {@code item}
+     *
+     * @throws InvalidStorageItemException
+     *         if {@code item == null}
+     */
+    private double unbox(/* @Nullable */ final Double item)
+        throws InvalidStorageItemException {
+        if (item == null)
+            throw new InvalidStorageItemException(this, "item", null);
+
+        return item;
+    }
+
+    @Override
+    protected void safeClearItems(@Valid final int minimumIndex, @Valid final int maximumIndex) {
+        fill(getDelegateArray(), minimumIndex, maximumIndex + 1, 0.0);
+    }
+
+    @Override
+    public DoubleArrayStorage clone() {
+        return (DoubleArrayStorage) super.clone();
+    }
+}
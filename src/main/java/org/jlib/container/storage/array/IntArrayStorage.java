@@ -0,0 +1,259 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.array;
+
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+import org.jlib.container.Valid;
+import org.jlib.container.storage.InvalidStorageCapacityException;
+import org.jlib.container.storage.InvalidStorageIndexException;
+import org.jlib.container.storage.InvalidStorageItemException;
+import org.jlib.container.storage.LinearIndexStorage;
+import static org.jlib.numeric.Numeric.countInclusive;
+
+/**
+ * <p>
+ * {@link LinearIndexStorage} based on a {@code int} array, storing the items unboxed.
+ * </p>
+ * <p>
+ * Besides the {@link Integer}-based accessors of {@link LinearIndexStorage}, a {@link IntArrayStorage} provides the
+ * primitive accessors {@link #getInt(int)} and {@link #setInt(int, int)} avoiding boxing, as well as their
+ * unchecked counterparts {@link #uncheckedGetInt(int)} and {@link #uncheckedSetInt(int, int)}.
+ * The bulk accessors {@link #getInts(int, int, int[], int)}, {@link #setInts(int, int, int[], int)} and
+ * {@link #fillInts(int, int, int)} transfer index ranges as array copies.
+ * A slot not holding an item holds {@code 0}.
+ * Storing {@code null} throws an {@link InvalidStorageItemException}.
+ * </p>
+ */
+public class IntArrayStorage
+    extends AbstractArrayStorage<Integer, int[]> {
+
+    public IntArrayStorage(final int initialCapacity)
+        throws InvalidStorageCapacityException {
+        super(initialCapacity);
+    }
+
+    @Override
+    protected int[] createArray(final int length) {
+        return new int[length];
+    }
+
+    @Override
+    protected int length(final int[] array) {
+        return array.length;
+    }
+
+    @Override
+    protected int[] copyArray(final int[] array) {
+        return copyOf(array, array.length);
+    }
+
+    /**
+     * Returns the {@code int} stored at the specified index.
+     *
+     * @param index
+     *        integer specifying the index of the item
+     *
+     * @return {@code int} stored at {@code index}
+     *
+     * @throws InvalidStorageIndexException
+     *         if {@code index} is out of the valid bounds of this {@link IntArrayStorage}
+     */
+    public int getInt(final int index)
+        throws InvalidStorageIndexException {
+        ensureIndexValid("index", index);
+
+        return getDelegateArray()[index];
+    }
+
+    /**
+     * Replaces the {@code int} stored at the specified index by the specified {@code int}.
+     *
+     * @param index
+     *        integer specifying the index of the item
+     *
+     * @param newItem
+     *        new {@code int} replacing the former
+     *
+     * @throws InvalidStorageIndexException
+     *         if {@code index} is out of the valid bounds of this {@link IntArrayStorage}
+     */
+    public void setInt(final int index, final int newItem)
+        throws InvalidStorageIndexException {
+        ensureIndexValid("index", index);
+
+        getDelegateArray()[index] = newItem;
+    }
+
+    /**
+     * Copies the {@code int}s stored in the specified index range into the specified array.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first copied item
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last copied item
+     *
+     * @param targetArray
+     *        array of {@code int}s receiving the items
+     *
+     * @param targetArrayIndex
+     *        integer specifying the index in {@code targetArray} receiving the first item
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of this {@link IntArrayStorage} or the items do not fit
+     *         into {@code targetArray} at {@code targetArrayIndex}
+     */
+    public void getInts(final int minimumIndex, final int maximumIndex, final int[] targetArray,
+                        final int targetArrayIndex)
+        throws InvalidStorageIndexException {
+        ensureIndexRangeValid(minimumIndex, maximumIndex);
+        ensureArrayRangeValid("targetArrayIndex", targetArrayIndex, countInclusive(minimumIndex, maximumIndex),
+                              targetArray.length);
+
+        arraycopy(getDelegateArray(), minimumIndex, targetArray, targetArrayIndex,
+                  countInclusive(minimumIndex, maximumIndex));
+    }
+
+    /**
+     * Replaces the {@code int}s stored in the specified index range by the {@code int}s of the specified array.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first replaced item
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last replaced item
+     *
+     * @param sourceArray
+     *        array of {@code int}s providing the new items
+     *
+     * @param sourceArrayIndex
+     *        integer specifying the index in {@code sourceArray} of the first new item
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of this {@link IntArrayStorage} or {@code sourceArray}
+     *         does not provide enough items at {@code sourceArrayIndex}
+     */
+    public void setInts(final int minimumIndex, final int maximumIndex, final int[] sourceArray,
+                        final int sourceArrayIndex)
+        throws InvalidStorageIndexException {
+        ensureIndexRangeValid(minimumIndex, maximumIndex);
+        ensureArrayRangeValid("sourceArrayIndex", sourceArrayIndex, countInclusive(minimumIndex, maximumIndex),
+                              sourceArray.length);
+
+        arraycopy(sourceArray, sourceArrayIndex, getDelegateArray(), minimumIndex,
+                  countInclusive(minimumIndex, maximumIndex));
+    }
+
+    /**
+     * Replaces each {@code int} stored in the specified index range by the specified {@code int}.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first replaced item
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last replaced item
+     *
+     * @param item
+     *        {@code int} stored in each slot of the index range
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of this {@link IntArrayStorage}
+     */
+    public void fillInts(final int minimumIndex, final int maximumIndex, final int item)
+        throws InvalidStorageIndexException {
+        ensureIndexRangeValid(minimumIndex, maximumIndex);
+
+        fill(getDelegateArray(), minimumIndex, maximumIndex + 1, item);
+    }
+
+    /**
+     * Returns the {@code int} stored at the specified index without verifying the index.
+     *
+     * @param index
+     *        integer specifying the valid index of the item
+     *
+     * @return {@code int} stored at {@code index}
+     */
+    public int uncheckedGetInt(@Valid final int index) {
+        return getDelegateArray()[index];
+    }
+
+    /**
+     * Replaces the {@code int} stored at the specified index by the specified {@code int} without verifying the
+     * index.
+     *
+     * @param index
+     *        integer specifying the valid index of the item
+     *
+     * @param newItem
+     *        new {@code int} replacing the former
+     */
+    public void uncheckedSetInt(@Valid final int index, final int newItem) {
+        getDelegateArray()[index] = newItem;
+    }
+
+    @Override
+    protected Integer safeGet(@Valid final int index) {
+        return getDelegateArray()[index];
+    }
+
+    @Override
+    protected void safeSet(@Valid final int index, final Integer item) {
+        getDelegateArray()[index] = unbox(item);
+    }
+
+    @Override
+    protected void safeFillItems(@Valid final int minimumIndex, @Valid final int maximumIndex, final Integer item) {
+        fill(getDelegateArray(), minimumIndex, maximumIndex + 1, unbox(item));
+    }
+
+    /**
+     * Returns the {@code int} value of the specified {@link Integer}.
+     *
+     * @param item
+     *        {@link Integer} to store
+     *
+     * @return {@code int} value of {@code item}
+     *
+     * @throws InvalidStorageItemException
+     *         if {@code item == null}
+     */
+    private int unbox(/* @Nullable */ final Integer item)
+        throws InvalidStorageItemException {
+        if (item == null)
+            throw new InvalidStorageItemException(this, "item", null);
+
+        return item;
+    }
+
+    @Override
+    protected void safeClearItems(@Valid final int minimumIndex, @Valid final int maximumIndex) {
+        fill(getDelegateArray(), minimumIndex, maximumIndex + 1, 0);
+    }
+
+    @Override
+    public IntArrayStorage clone() {
+        return (IntArrayStorage) super.clone();
+    }
+}
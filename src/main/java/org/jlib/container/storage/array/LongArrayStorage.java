@@ -0,0 +1,259 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.array;
+
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+import org.jlib.container.Valid;
+import org.jlib.container.storage.InvalidStorageCapacityException;
+import org.jlib.container.storage.InvalidStorageIndexException;
+import org.jlib.container.storage.InvalidStorageItemException;
+import org.jlib.container.storage.LinearIndexStorage;
+import static org.jlib.numeric.Numeric.countInclusive;
+
+/**
+ * <p>
+ * {@link LinearIndexStorage} based on a {@code long} array, storing the items unboxed.
+ * </p>
+ * <p>
+ * Besides the {@link Long}-based accessors of {@link LinearIndexStorage}, a {@link LongArrayStorage} provides the
+ * primitive accessors {@link #getLong(int)} and {@link #setLong(int, long)} avoiding boxing, as well as their
+ * unchecked counterparts {@link #uncheckedGetLong(int)} and {@link #uncheckedSetLong(int, long)}.
+ * The bulk accessors {@link #getLongs(int, int, long[], int)}, {@link #setLongs(int, int, long[], int)} and
+ * {@link #fillLongs(int, int, long)} transfer index ranges as array copies.
+ * A slot not holding an item holds {@code 0L}.
+ * Storing {@code null} throws an {@link InvalidStorageItemException}.
+ * </p>
+ */
+public class LongArrayStorage
+    extends AbstractArrayStorage<Long, long[]> {
+
+    public LongArrayStorage(final int initialCapacity)
+        throws InvalidStorageCapacityException {
+        super(initialCapacity);
+    }
+
+    @Override
+    protected long[] createArray(final int length) {
+        return new long[length];
+    }
+
+    @Override
+    protected int length(final long[] array) {
+        return array.length;
+    }
+
+    @Override
+    protected long[] copyArray(final long[] array) {
+        return copyOf(array, array.length);
+    }
+
+    /**
+     * Returns the {@code long} stored at the specified index.
+     *
+     * @param index
+     *        integer specifying the index of the item
+     *
+     * @return {@code long} stored at {@code index}
+     *
+     * @throws InvalidStorageIndexException
+     *         if {@code index} is out of the valid bounds of this {@link LongArrayStorage}
+     */
+    public long getLong(final int index)
+        throws InvalidStorageIndexException {
+        ensureIndexValid("index", index);
+
+        return getDelegateArray()[index];
+    }
+
+    /**
+     * Replaces the {@code long} stored at the specified index by the specified {@code long}.
+     *
+     * @param index
+     *        integer specifying the index of the item
+     *
+     * @param newItem
+     *        new {@code long} replacing the former
+     *
+     * @throws InvalidStorageIndexException
+     *         if {@code index} is out of the valid bounds of this {@link LongArrayStorage}
+     */
+    public void setLong(final int index, final long newItem)
+        throws InvalidStorageIndexException {
+        ensureIndexValid("index", index);
+
+        getDelegateArray()[index] = newItem;
+    }
+
+    /**
+     * Copies the {@code long}s stored in the specified index range into the specified array.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first copied item
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last copied item
+     *
+     * @param targetArray
+     *        array of {@code long}s receiving the items
+     *
+     * @param targetArrayIndex
+     *        integer specifying the index in {@code targetArray} receiving the first item
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of this {@link LongArrayStorage} or the items do not fit
+     *         into {@code targetArray} at {@code targetArrayIndex}
+     */
+    public void getLongs(final int minimumIndex, final int maximumIndex, final long[] targetArray,
+                         final int targetArrayIndex)
+        throws InvalidStorageIndexException {
+        ensureIndexRangeValid(minimumIndex, maximumIndex);
+        ensureArrayRangeValid("targetArrayIndex", targetArrayIndex, countInclusive(minimumIndex, maximumIndex),
+                              targetArray.length);
+
+        arraycopy(getDelegateArray(), minimumIndex, targetArray, targetArrayIndex,
+                  countInclusive(minimumIndex, maximumIndex));
+    }
+
+    /**
+     * Replaces the {@code long}s stored in the specified index range by the {@code long}s of the specified array.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first replaced item
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last replaced item
+     *
+     * @param sourceArray
+     *        array of {@code long}s providing the new items
+     *
+     * @param sourceArrayIndex
+     *        integer specifying the index in {@code sourceArray} of the first new item
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of this {@link LongArrayStorage} or {@code sourceArray}
+     *         does not provide enough items at {@code sourceArrayIndex}
+     */
+    public void setLongs(final int minimumIndex, final int maximumIndex, final long[] sourceArray,
+                         final int sourceArrayIndex)
+        throws InvalidStorageIndexException {
+        ensureIndexRangeValid(minimumIndex, maximumIndex);
+        ensureArrayRangeValid("sourceArrayIndex", sourceArrayIndex, countInclusive(minimumIndex, maximumIndex),
+                              sourceArray.length);
+
+        arraycopy(sourceArray, sourceArrayIndex, getDelegateArray(), minimumIndex,
+                  countInclusive(minimumIndex, maximumIndex));
+    }
+
+    /**
+     * Replaces each {@code long} stored in the specified index range by the specified {@code long}.
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first replaced item
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last replaced item
+     *
+     * @param item
+     *        {@code long} stored in each slot of the index range
+     *
+     * @throws InvalidStorageIndexException
+     *         if the index range is out of the valid bounds of this {@link LongArrayStorage}
+     */
+    public void fillLongs(final int minimumIndex, final int maximumIndex, final long item)
+        throws InvalidStorageIndexException {
+        ensureIndexRangeValid(minimumIndex, maximumIndex);
+
+        fill(getDelegateArray(), minimumIndex, maximumIndex + 1, item);
+    }
+
+    /**
+     * Returns the {@code long} stored at the specified index without verifying the index.
+     *
+     * @param index
+     *        integer specifying the valid index of the item
+     *
+     * @return {@code long} stored at {@code index}
+     */
+    public long uncheckedGetLong(@Valid final int index) {
+        return getDelegateArray()[index];
+    }
+
+    /**
+     * Replaces the {@code long} stored at the specified index by the specified {@code long} without verifying the
+     * index.
+     *
+     * @param index
+     *        integer specifying the valid index of the item
+     *
+     * @param newItem
+     *        new {@code long} replacing the former
+     */
+    public void uncheckedSetLong(@Valid final int index, final long newItem) {
+        getDelegateArray()[index] = newItem;
+    }
+
+    @Override
+    protected Long safeGet(@Valid final int index) {
+        return getDelegateArray()[index];
+    }
+
+    @Override
+    protected void safeSet(@Valid final int index, final Long item) {
+        getDelegateArray()[index] = unbox(item);
+    }
+
+    @Override
+    protected void safeFillItems(@Valid final int minimumIndex, @Valid final int maximumIndex, final Long item) {
+        fill(getDelegateArray(), minimumIndex, maximumIndex + 1, unbox(item));
+    }
+
+    /**
+     * Returns the {@code long} value of the specified {@link Long}.
+     *
+     * @param item
+     *        {@link Long} to store
+     *
+     * @return {@code long} value of {@code item}
+     *
+     * @throws InvalidStorageItemException
+     *         if {@code item == null}
+     */
+    private long unbox(/* @Nullable */ final Long item)
+        throws InvalidStorageItemException {
+        if (item == null)
+            throw new InvalidStorageItemException(this, "item", null);
+
+        return item;
+    }
+
+    @Override
+    protected void safeClearItems(@Valid final int minimumIndex, @Valid final int maximumIndex) {
+        fill(getDelegateArray(), minimumIndex, maximumIndex + 1, 0L);
+    }
+
+    @Override
+    public LongArrayStorage clone() {
+        return (LongArrayStorage) super.clone();
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.buffer;
+
+import java.nio.ByteBuffer;
+
+import static java.lang.Math.min;
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import org.jlib.container.Valid;
+import org.jlib.container.storage.AbstractLinearIndexStorage;
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import static org.jlib.container.storage.IndexRangeOperationPlanner.planCopy;
+import org.jlib.container.storage.InvalidStorageCapacityException;
+import org.jlib.container.storage.InvalidStorageItemException;
+import org.jlib.container.storage.LinearIndexStorage;
+import static org.jlib.numeric.Numeric.countInclusive;
+
+/**
+ * <p>
+ * {@link LinearIndexStorage} holding its {@link Item}s off the heap in a direct {@link ByteBuffer}.
+ * </p>
+ * <p>
+ * The {@link Item}s are encoded by an {@link ItemCodec} of a fixed item size. Raising the capacity allocates a new
+ * direct {@link ByteBuffer} and transfers the specified index ranges as bulk memory copies; shifting items within the
+ * storage moves the bytes in chunks. The capacity is limited to {@code Integer.MAX_VALUE / itemSize} {@link Item}s.
+ * </p>
+ * <p>
+ * Since a slot cannot hold {@code null}, an {@link Item} read from a slot never written holds the value decoded from
+ * zero bytes. Clearing slots resets their bytes to zero. Storing {@code null} throws an
+ * {@link InvalidStorageItemException}.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items stored in the buffer
+ */
+public class DirectBufferStorage<Item>
+    extends AbstractLinearIndexStorage<Item> {
+
+    /** maximum number of bytes moved at once when shifting {@link Item}s within the buffer */
+    private static final int MOVE_CHUNK_SIZE = 8192;
+
+    /** {@link ItemCodec} encoding the {@link Item}s */
+    private final ItemCodec<Item> codec;
+
+    /** number of bytes per {@link Item} */
+    private final int itemSize;
+
+    /** direct {@link ByteBuffer} holding the encoded {@link Item}s */
+    private ByteBuffer buffer;
+
+    public DirectBufferStorage(final int initialCapacity, final ItemCodec<Item> codec)
+        throws InvalidStorageCapacityException {
+        super(initialCapacity);
+
+        this.codec = codec;
+        itemSize = codec.itemSize();
+
+        buffer = allocateBuffer("initialCapacity", initialCapacity);
+    }
+
+    @Override
+    public int capacity() {
+        return buffer.capacity() / itemSize;
+    }
+
+    @Override
+    protected Item safeGet(@Valid final int index) {
+        return codec.read(buffer, index * itemSize);
+    }
+
+    @Override
+    protected void safeSet(@Valid final int index, /* @Nullable */ final Item item)
+        throws InvalidStorageItemException {
+        if (item == null)
+            throw new InvalidStorageItemException(this, "item", null);
+
+        codec.write(buffer, index * itemSize, item);
+    }
+
+    @Override
+    protected void safeClearItems(@Valid final int minimumIndex, @Valid final int maximumIndex) {
+        final int bytesCount = countInclusive(minimumIndex, maximumIndex) * itemSize;
+        final byte[] zeroChunk = new byte[min(bytesCount, MOVE_CHUNK_SIZE)];
+        final ByteBuffer target = buffer.duplicate();
+        target.position(minimumIndex * itemSize);
+
+        for (int clearedBytesCount = 0; clearedBytesCount < bytesCount; clearedBytesCount += zeroChunk.length)
+            target.put(zeroChunk, 0, min(zeroChunk.length, bytesCount - clearedBytesCount));
+    }
+
+    @Override
+    protected void safeAddCapacityAndShiftItems(@Valid final int capacity,
+                                                @Valid final IndexRangeOperationDescriptor... copyDescriptors) {
+        reallocate(allocateBuffer("capacity", (long) capacity() + capacity), copyDescriptors);
+    }
+
+    @Override
+    protected void safeAddCapacityAndShiftItems(@Valid final int capacity, final int sourceMinimumIndex,
+                                                final int sourceMaximumIndex, final int targetIndex) {
+        final ByteBuffer newBuffer = allocateBuffer("capacity", (long) capacity() + capacity);
+
+        copyItemsTo(newBuffer, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+
+        buffer = newBuffer;
+    }
+
+    @Override
+    protected void safeRemoveCapacityAndShiftItems(@Valid final int removedCapacity,
+                                                   @Valid final IndexRangeOperationDescriptor... copyDescriptors) {
+        reallocate(allocateBuffer("capacity", capacity() - removedCapacity), copyDescriptors);
+    }
+
+    @Override
+    protected void safeRemoveCapacityAndShiftItems(@Valid final int removedCapacity, final int sourceMinimumIndex,
+                                                   final int sourceMaximumIndex, final int targetIndex) {
+        final ByteBuffer newBuffer = allocateBuffer("capacity", capacity() - removedCapacity);
+
+        copyItemsTo(newBuffer, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+
+        buffer = newBuffer;
+    }
+
+    private void reallocate(final ByteBuffer newBuffer, final IndexRangeOperationDescriptor... copyDescriptors) {
+        for (final IndexRangeOperationDescriptor copyDescriptor : planCopy(copyDescriptors))
+            copyItemsTo(newBuffer, copyDescriptor.getSourceMinimumIndex(), copyDescriptor.getSourceMaximumIndex(),
+                        copyDescriptor.getTargetIndex());
+
+        buffer = newBuffer;
+    }
+
+    private void copyItemsTo(final ByteBuffer newBuffer, final int sourceMinimumIndex, final int sourceMaximumIndex,
+                             final int targetIndex) {
+        ensureOperationValid(sourceMinimumIndex, sourceMaximumIndex, targetIndex, newBuffer.capacity() / itemSize);
+
+        copyBytes(buffer, newBuffer, sourceMinimumIndex * itemSize, targetIndex * itemSize,
+                  countInclusive(sourceMinimumIndex, sourceMaximumIndex) * itemSize);
+    }
+
+    @Override
+    protected void safeShiftItems(@Valid final int sourceMinimumIndex, @Valid final int sourceMaximumIndex,
+                                  @Valid final int targetIndex) {
+        moveBytes(sourceMinimumIndex * itemSize, targetIndex * itemSize,
+                  countInclusive(sourceMinimumIndex, sourceMaximumIndex) * itemSize);
+    }
+
+    /**
+     * Allocates a direct {@link ByteBuffer} in native byte order fitting the specified number of {@link Item}s.
+     *
+     * @param capacityName
+     *        {@link String} specifying the name of the capacity
+     *
+     * @param capacity
+     *        integer specifying the number of {@link Item}s
+     *
+     * @return newly allocated {@link ByteBuffer}
+     *
+     * @throws InvalidStorageCapacityException
+     *         if {@code capacity} exceeds the maximum number of {@link Item}s fitting in a {@link ByteBuffer}
+     */
+    private ByteBuffer allocateBuffer(final String capacityName, final long capacity)
+        throws InvalidStorageCapacityException {
+        if (capacity > Integer.MAX_VALUE / itemSize)
+            throw new InvalidStorageCapacityException(this, capacityName, capacity);
+
+        return allocateDirect((int) capacity * itemSize).order(nativeOrder());
+    }
+
+    /**
+     * Copies the specified bytes between two distinct {@link ByteBuffer}s in one bulk operation.
+     *
+     * @param sourceBuffer
+     *        source {@link ByteBuffer}
+     *
+     * @param targetBuffer
+     *        target {@link ByteBuffer}
+     *
+     * @param sourceByteIndex
+     *        integer specifying the index of the first source byte
+     *
+     * @param targetByteIndex
+     *        integer specifying the index of the first target byte
+     *
+     * @param bytesCount
+     *        integer specifying the number of bytes
+     */
+    private static void copyBytes(final ByteBuffer sourceBuffer, final ByteBuffer targetBuffer,
+                                  final int sourceByteIndex, final int targetByteIndex, final int bytesCount) {
+        final ByteBuffer source = sourceBuffer.duplicate();
+        source.limit(sourceByteIndex + bytesCount);
+        source.position(sourceByteIndex);
+
+        final ByteBuffer target = targetBuffer.duplicate();
+        target.position(targetByteIndex);
+
+        target.put(source);
+    }
+
+    /**
+     * Moves the specified bytes within the buffer. The source and target ranges may overlap. The bytes are moved
+     * in chunks, starting at the end of the range when moving towards higher indices, otherwise at its beginning.
+     *
+     * @param sourceByteIndex
+     *        integer specifying the index of the first source byte
+     *
+     * @param targetByteIndex
+     *        integer specifying the index of the first target byte
+     *
+     * @param bytesCount
+     *        integer specifying the number of bytes
+     */
+    private void moveBytes(final int sourceByteIndex, final int targetByteIndex, final int bytesCount) {
+        if (sourceByteIndex == targetByteIndex || bytesCount == 0)
+            return;
+
+        final byte[] chunk = new byte[min(bytesCount, MOVE_CHUNK_SIZE)];
+        final ByteBuffer source = buffer.duplicate();
+        final ByteBuffer target = buffer.duplicate();
+
+        for (int movedBytesCount = 0; movedBytesCount < bytesCount; movedBytesCount += chunk.length) {
+            final int chunkSize = min(chunk.length, bytesCount - movedBytesCount);
+            final int chunkOffset = targetByteIndex > sourceByteIndex ?
+                                    bytesCount - movedBytesCount - chunkSize :
+                                    movedBytesCount;
+
+            source.position(sourceByteIndex + chunkOffset);
+            source.get(chunk, 0, chunkSize);
+
+            target.position(targetByteIndex + chunkOffset);
+            target.put(chunk, 0, chunkSize);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DirectBufferStorage<Item> clone() {
+        final DirectBufferStorage<Item> cloneStorage = (DirectBufferStorage<Item>) super.clone();
+
+        cloneStorage.buffer = allocateDirect(buffer.capacity()).order(nativeOrder());
+        copyBytes(buffer, cloneStorage.buffer, 0, 0, buffer.capacity());
+
+        return cloneStorage;
+    }
+}
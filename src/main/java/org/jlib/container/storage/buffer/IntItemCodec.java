@@ -0,0 +1,56 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.buffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ItemCodec} for {@link Integer} values, occupying {@value #ITEM_SIZE} bytes each.
+ */
+public final class IntItemCodec
+    implements ItemCodec<Integer> {
+
+    public static final int ITEM_SIZE = Integer.BYTES;
+
+    private static final IntItemCodec INSTANCE = new IntItemCodec();
+
+    private IntItemCodec() {}
+
+    public static IntItemCodec getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public int itemSize() {
+        return ITEM_SIZE;
+    }
+
+    @Override
+    public Integer read(final ByteBuffer buffer, final int byteIndex) {
+        return buffer.getInt(byteIndex);
+    }
+
+    @Override
+    public void write(final ByteBuffer buffer, final int byteIndex, final Integer item) {
+        buffer.putInt(byteIndex, item);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.buffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Codec reading and writing {@link Item}s of a fixed width from and to a {@link ByteBuffer}.
+ *
+ * @param <Item>
+ *        type of the encoded {@link Item}s
+ */
+public interface ItemCodec<Item> {
+
+    /**
+     * Returns the number of bytes occupied by each encoded {@link Item}.
+     *
+     * @return positive integer specifying the item size in bytes
+     */
+    int itemSize();
+
+    /**
+     * Reads the {@link Item} encoded at the specified byte index of the specified {@link ByteBuffer}.
+     * The position of the {@link ByteBuffer} is not modified.
+     *
+     * @param buffer
+     *        {@link ByteBuffer} to read from
+     *
+     * @param byteIndex
+     *        integer specifying the index of the first byte of the {@link Item}
+     *
+     * @return decoded {@link Item}
+     */
+    Item read(ByteBuffer buffer, int byteIndex);
+
+    /**
+     * Writes the specified {@link Item} at the specified byte index of the specified {@link ByteBuffer}.
+     * The position of the {@link ByteBuffer} is not modified.
+     *
+     * @param buffer
+     *        {@link ByteBuffer} to write to
+     *
+     * @param byteIndex
+     *        integer specifying the index of the first byte of the {@link Item}
+     *
+     * @param item
+     *        {@link Item} to encode
+     */
+    void write(ByteBuffer buffer, int byteIndex, Item item);
+}
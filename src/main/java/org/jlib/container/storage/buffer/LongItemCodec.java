@@ -0,0 +1,56 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.buffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ItemCodec} for {@link Long} values, occupying {@value #ITEM_SIZE} bytes each.
+ */
+public final class LongItemCodec
+    implements ItemCodec<Long> {
+
+    public static final int ITEM_SIZE = Long.BYTES;
+
+    private static final LongItemCodec INSTANCE = new LongItemCodec();
+
+    private LongItemCodec() {}
+
+    public static LongItemCodec getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public int itemSize() {
+        return ITEM_SIZE;
+    }
+
+    @Override
+    public Long read(final ByteBuffer buffer, final int byteIndex) {
+        return buffer.getLong(byteIndex);
+    }
+
+    @Override
+    public void write(final ByteBuffer buffer, final int byteIndex, final Long item) {
+        buffer.putLong(byteIndex, item);
+    }
+}
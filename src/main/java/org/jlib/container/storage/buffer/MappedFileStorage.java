@@ -0,0 +1,509 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.buffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Integer.numberOfTrailingZeros;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Arrays.copyOf;
+import org.jlib.container.Valid;
+import org.jlib.container.storage.AbstractLinearIndexStorage;
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import org.jlib.container.storage.IndexRangeOperationPlanner;
+import org.jlib.container.storage.InvalidStorageCapacityException;
+import org.jlib.container.storage.InvalidStorageItemException;
+import org.jlib.container.storage.InvalidStorageStateException;
+import org.jlib.container.storage.LinearIndexStorage;
+import static org.jlib.message.Messages.message;
+import static org.jlib.message.Messages.mfmessage;
+import static org.jlib.numeric.Numeric.countInclusive;
+
+/**
+ * <p>
+ * {@link LinearIndexStorage} holding its {@link Item}s in a memory-mapped file.
+ * </p>
+ * <p>
+ * The {@link Item}s are encoded by an {@link ItemCodec} of a fixed item size, in little endian byte order, item
+ * <em>i</em> starting at byte <em>i * itemSize</em> of the file. Opening an existing file makes its {@link Item}s
+ * instantly accessible; the operating system pages them in lazily. The capacity of a reopened
+ * {@link MappedFileStorage} is the number of complete {@link Item}s in the file. Storing {@code null} throws an
+ * {@link InvalidStorageItemException}.
+ * </p>
+ * <p>
+ * The file is mapped in segments of at most {@value #MAXIMUM_SEGMENT_SIZE} bytes, hence it may exceed the size of
+ * a single {@link MappedByteBuffer}. Raising the capacity extends the file and maps the new segments; the existing
+ * segments are left untouched. The {@link IndexRangeOperationDescriptor}s are then planned by the
+ * {@link IndexRangeOperationPlanner}, which merges those shifting adjacent ranges by the same distance, drops those
+ * moving nothing and orders the others, and executed as moves within the file. The result is as if all source ranges
+ * were read before any target range is written, as far as the moves can be ordered accordingly.
+ * </p>
+ * <p>
+ * Lowering the capacity moves the {@link Item}s within the file, then releases the segments behind the new capacity
+ * and truncates the file. In either case, the slots not covered by a target index range are cleared afterwards.
+ * </p>
+ * <p>
+ * A clone maps a new temporary file in the directory of the original file, holding a copy of the {@link Item}s. The
+ * temporary file is deleted when the clone is closed.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items stored in the file
+ */
+public class MappedFileStorage<Item>
+    extends AbstractLinearIndexStorage<Item>
+    implements Closeable {
+
+    /** maximum number of bytes of a mapped segment */
+    private static final int MAXIMUM_SEGMENT_SIZE = 1 << 30;
+
+    /** maximum number of bytes moved at once when shifting {@link Item}s within the file */
+    private static final int MOVE_CHUNK_SIZE = 8192;
+
+    /** {@link ItemCodec} encoding the {@link Item}s */
+    private final ItemCodec<Item> codec;
+
+    /** number of bytes per {@link Item} */
+    private final int itemSize;
+
+    /** binary logarithm of the number of {@link Item}s per segment */
+    private final int segmentShift;
+
+    /** mask extracting the index within a segment from an {@link Item} index */
+    private final int segmentMask;
+
+    /** {@link Path} of the mapped file */
+    private final Path file;
+
+    /** whether {@link #file} is deleted on closing */
+    private final boolean temporary;
+
+    /** {@link FileChannel} of the mapped file */
+    private final FileChannel channel;
+
+    /** mapped segments of the file */
+    private MappedByteBuffer[] segments = new MappedByteBuffer[0];
+
+    /** number of {@link Item}s fitting in the mapped file */
+    private int capacity;
+
+    /**
+     * Creates a new {@link MappedFileStorage} mapping the specified file, creating it if it does not exist. The file is
+     * extended if it is too small to provide the specified initial capacity.
+     *
+     * @param file
+     *        {@link Path} of the file
+     *
+     * @param initialCapacity
+     *        integer specifying the minimum initial capacity
+     *
+     * @param codec
+     *        {@link ItemCodec} encoding the {@link Item}s
+     *
+     * @throws InvalidStorageCapacityException
+     *         if {@code initialCapacity < 0}
+     *
+     * @throws InvalidStorageStateException
+     *         if the file cannot be opened or mapped
+     */
+    public MappedFileStorage(final Path file, final int initialCapacity, final ItemCodec<Item> codec)
+        throws InvalidStorageCapacityException, InvalidStorageStateException {
+        this(file, initialCapacity, codec, false);
+    }
+
+    private MappedFileStorage(final Path file, final int initialCapacity, final ItemCodec<Item> codec,
+                              final boolean temporary)
+        throws InvalidStorageCapacityException, InvalidStorageStateException {
+        super(initialCapacity);
+
+        this.file = file;
+        this.temporary = temporary;
+        this.codec = codec;
+        itemSize = codec.itemSize();
+
+        final int itemsPerSegment = highestOneBit(MAXIMUM_SEGMENT_SIZE / itemSize);
+        segmentShift = numberOfTrailingZeros(itemsPerSegment);
+        segmentMask = itemsPerSegment - 1;
+
+        try {
+            channel = FileChannel.open(file, CREATE, READ, WRITE);
+        }
+        catch (final IOException exception) {
+            throw new InvalidStorageStateException(this, message().with("file", file), exception);
+        }
+
+        try {
+            final long fileItemsCount = channel.size() / itemSize;
+            mapFile((int) min(fileItemsCount, Integer.MAX_VALUE));
+
+            if (capacity < initialCapacity)
+                mapFile(initialCapacity);
+        }
+        catch (final IOException exception) {
+            try {
+                channel.close();
+            }
+            catch (final IOException closeException) {
+                exception.addSuppressed(closeException);
+            }
+
+            throw new InvalidStorageStateException(this, message().with("file", file), exception);
+        }
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    protected Item safeGet(@Valid final int index) {
+        return codec.read(segments[index >>> segmentShift], (index & segmentMask) * itemSize);
+    }
+
+    @Override
+    protected void safeSet(@Valid final int index, /* @Nullable */ final Item item)
+        throws InvalidStorageItemException {
+        if (item == null)
+            throw new InvalidStorageItemException(this, "item", null);
+
+        codec.write(segments[index >>> segmentShift], (index & segmentMask) * itemSize, item);
+    }
+
+    @Override
+    protected void safeClearItems(@Valid final int minimumIndex, @Valid final int maximumIndex) {
+        final int itemsCount = countInclusive(minimumIndex, maximumIndex);
+        final int chunkItemsCount = min(itemsCount, max(1, MOVE_CHUNK_SIZE / itemSize));
+        final byte[] zeroChunk = new byte[chunkItemsCount * itemSize];
+
+        for (int clearedItemsCount = 0; clearedItemsCount < itemsCount; clearedItemsCount += chunkItemsCount)
+            transferBytes(minimumIndex + clearedItemsCount, zeroChunk,
+                          min(chunkItemsCount, itemsCount - clearedItemsCount), true);
+    }
+
+    @Override
+    protected void safeAddCapacityAndShiftItems(@Valid final int capacity,
+                                                @Valid final IndexRangeOperationDescriptor... copyDescriptors) {
+        final int formerCapacity = this.capacity;
+        final int newCapacity = getExtendedCapacity(capacity);
+
+        for (final IndexRangeOperationDescriptor copyDescriptor : copyDescriptors)
+            ensureOperationDescriptorValid(copyDescriptor, newCapacity);
+
+        extendFile(newCapacity);
+
+        shiftItems(copyDescriptors);
+        clearUncoveredItems(formerCapacity - 1, copyDescriptors);
+    }
+
+    @Override
+    protected void safeAddCapacityAndShiftItems(@Valid final int capacity, final int sourceMinimumIndex,
+                                                final int sourceMaximumIndex, final int targetIndex) {
+        final int formerCapacity = this.capacity;
+        final int newCapacity = getExtendedCapacity(capacity);
+
+        ensureOperationValid(sourceMinimumIndex, sourceMaximumIndex, targetIndex, newCapacity);
+
+        extendFile(newCapacity);
+
+        shiftItems(sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+        clearUncoveredItems(formerCapacity - 1, targetIndex, targetIndex + sourceMaximumIndex - sourceMinimumIndex);
+    }
+
+    private int getExtendedCapacity(final int additionalCapacity) {
+        final long newCapacity = (long) capacity + additionalCapacity;
+
+        if (newCapacity > Integer.MAX_VALUE)
+            throw new InvalidStorageCapacityException(this, "capacity", newCapacity);
+
+        return (int) newCapacity;
+    }
+
+    private void extendFile(final int newCapacity) {
+        try {
+            mapFile(newCapacity);
+        }
+        catch (final IOException exception) {
+            throw new InvalidStorageStateException(this, mfmessage("capacity = {0}", newCapacity), exception);
+        }
+    }
+
+    @Override
+    protected void safeRemoveCapacityAndShiftItems(@Valid final int removedCapacity,
+                                                   @Valid final IndexRangeOperationDescriptor... copyDescriptors) {
+        final int newCapacity = capacity - removedCapacity;
+
+        for (final IndexRangeOperationDescriptor copyDescriptor : copyDescriptors)
+            ensureOperationDescriptorValid(copyDescriptor, newCapacity);
+
+        shiftItems(copyDescriptors);
+
+        reduceFile(newCapacity);
+        clearUncoveredItems(newCapacity - 1, copyDescriptors);
+    }
+
+    @Override
+    protected void safeRemoveCapacityAndShiftItems(@Valid final int removedCapacity, final int sourceMinimumIndex,
+                                                   final int sourceMaximumIndex, final int targetIndex) {
+        final int newCapacity = capacity - removedCapacity;
+
+        ensureOperationValid(sourceMinimumIndex, sourceMaximumIndex, targetIndex, newCapacity);
+
+        shiftItems(sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+
+        reduceFile(newCapacity);
+        clearUncoveredItems(newCapacity - 1, targetIndex, targetIndex + sourceMaximumIndex - sourceMinimumIndex);
+    }
+
+    private void reduceFile(final int newCapacity) {
+        try {
+            truncateFile(newCapacity);
+        }
+        catch (final IOException exception) {
+            throw new InvalidStorageStateException(this, mfmessage("capacity = {0}", newCapacity), exception);
+        }
+    }
+
+    @Override
+    protected void safeShiftItems(@Valid final int sourceMinimumIndex, @Valid final int sourceMaximumIndex,
+                                  @Valid final int targetIndex) {
+        moveItems(sourceMinimumIndex, targetIndex, countInclusive(sourceMinimumIndex, sourceMaximumIndex));
+    }
+
+    /**
+     * Extends the file to fit the specified number of {@link Item}s and maps the segments not mapped yet. The last
+     * mapped segment is remapped if it was not complete.
+     *
+     * @param newCapacity
+     *        integer specifying the new capacity; not lower than the current capacity
+     *
+     * @throws IOException
+     *         if the file cannot be mapped
+     */
+    private void mapFile(final int newCapacity)
+        throws IOException {
+        final int newSegmentsCount = (int) (((long) newCapacity + segmentMask) >>> segmentShift);
+        final int firstSegmentIndex = capacity == 0 ?
+                                      0 :
+                                      (capacity - 1) >>> segmentShift;
+
+        final MappedByteBuffer[] newSegments = copyOf(segments, newSegmentsCount);
+
+        for (int segmentIndex = firstSegmentIndex; segmentIndex < newSegmentsCount; segmentIndex++)
+            newSegments[segmentIndex] = mapSegment(segmentIndex, newCapacity);
+
+        segments = newSegments;
+        capacity = newCapacity;
+    }
+
+    /**
+     * Releases the segments behind the specified capacity and truncates the file to fit the specified number of
+     * {@link Item}s. The last segment is remapped if it is not complete.
+     *
+     * @param newCapacity
+     *        integer specifying the new capacity; not higher than the current capacity
+     *
+     * @throws IOException
+     *         if the file cannot be truncated or mapped
+     */
+    private void truncateFile(final int newCapacity)
+        throws IOException {
+        final int newSegmentsCount = (int) (((long) newCapacity + segmentMask) >>> segmentShift);
+
+        final MappedByteBuffer[] newSegments = copyOf(segments, newSegmentsCount);
+
+        if (newSegmentsCount > 0)
+            newSegments[newSegmentsCount - 1] = mapSegment(newSegmentsCount - 1, newCapacity);
+
+        segments = newSegments;
+        capacity = newCapacity;
+
+        channel.truncate((long) newCapacity * itemSize);
+    }
+
+    /**
+     * Maps the segment of the specified index, fitting at most the specified number of {@link Item}s in the file.
+     *
+     * @param segmentIndex
+     *        integer specifying the index of the segment
+     *
+     * @param fileCapacity
+     *        integer specifying the capacity of the file
+     *
+     * @return newly mapped segment
+     *
+     * @throws IOException
+     *         if the segment cannot be mapped
+     */
+    private MappedByteBuffer mapSegment(final int segmentIndex, final int fileCapacity)
+        throws IOException {
+        final long segmentBeginIndex = (long) segmentIndex << segmentShift;
+        final long segmentItemsCount = min(segmentMask + 1, fileCapacity - segmentBeginIndex);
+
+        final MappedByteBuffer segment = channel.map(READ_WRITE, segmentBeginIndex * itemSize,
+                                                     segmentItemsCount * itemSize);
+        segment.order(LITTLE_ENDIAN);
+
+        return segment;
+    }
+
+    /**
+     * Moves the specified {@link Item}s within the file. The source and target ranges may overlap. The {@link Item}s
+     * are moved in chunks, starting at the end of the range when moving towards higher indices, otherwise at its
+     * beginning.
+     *
+     * @param sourceIndex
+     *        integer specifying the index of the first source {@link Item}
+     *
+     * @param targetIndex
+     *        integer specifying the index of the first target {@link Item}
+     *
+     * @param itemsCount
+     *        integer specifying the number of {@link Item}s
+     */
+    private void moveItems(final int sourceIndex, final int targetIndex, final int itemsCount) {
+        if (sourceIndex == targetIndex || itemsCount == 0)
+            return;
+
+        final int chunkItemsCount = min(itemsCount, max(1, MOVE_CHUNK_SIZE / itemSize));
+        final byte[] chunk = new byte[chunkItemsCount * itemSize];
+
+        for (int movedItemsCount = 0; movedItemsCount < itemsCount; movedItemsCount += chunkItemsCount) {
+            final int currentChunkItemsCount = min(chunkItemsCount, itemsCount - movedItemsCount);
+            final int chunkOffset = targetIndex > sourceIndex ?
+                                    itemsCount - movedItemsCount - currentChunkItemsCount :
+                                    movedItemsCount;
+
+            transferBytes(sourceIndex + chunkOffset, chunk, currentChunkItemsCount, false);
+            transferBytes(targetIndex + chunkOffset, chunk, currentChunkItemsCount, true);
+        }
+    }
+
+    /**
+     * Transfers the bytes of the specified {@link Item}s between the file and the specified array, potentially
+     * spanning several segments.
+     *
+     * @param beginIndex
+     *        integer specifying the index of the first {@link Item}
+     *
+     * @param bytes
+     *        array of bytes
+     *
+     * @param itemsCount
+     *        integer specifying the number of {@link Item}s
+     *
+     * @param write
+     *        {@code true} to write {@code bytes} to the file;
+     *        {@code false} to read {@code bytes} from the file
+     */
+    private void transferBytes(final int beginIndex, final byte[] bytes, final int itemsCount, final boolean write) {
+        int index = beginIndex;
+        int byteOffset = 0;
+
+        while (byteOffset < itemsCount * itemSize) {
+            final ByteBuffer segment = segments[index >>> segmentShift].duplicate();
+            segment.position((index & segmentMask) * itemSize);
+
+            final int bytesCount = min(segment.remaining(), itemsCount * itemSize - byteOffset);
+
+            if (write)
+                segment.put(bytes, byteOffset, bytesCount);
+            else
+                segment.get(bytes, byteOffset, bytesCount);
+
+            byteOffset += bytesCount;
+            index += bytesCount / itemSize;
+        }
+    }
+
+    /**
+     * Forces all changes of the {@link Item}s to be written to the file.
+     */
+    public void force() {
+        for (final MappedByteBuffer segment : segments)
+            segment.force();
+    }
+
+    /**
+     * Closes the file. The temporary file of a clone is deleted. The behaviour of this {@link MappedFileStorage} is
+     * unspecified afterwards.
+     *
+     * @throws IOException
+     *         if an I/O error occurs
+     */
+    @Override
+    public void close()
+        throws IOException {
+        force();
+        channel.close();
+
+        if (temporary)
+            Files.deleteIfExists(file);
+    }
+
+    /**
+     * Creates a {@link MappedFileStorage} mapping a new temporary file in the directory of the file of this
+     * {@link MappedFileStorage} and copies the {@link Item}s segment by segment. The clone has to be closed to delete
+     * its file.
+     *
+     * @return newly created {@link MappedFileStorage}
+     *
+     * @throws InvalidStorageStateException
+     *         if the temporary file cannot be created or mapped
+     */
+    @Override
+    public MappedFileStorage<Item> clone()
+        throws InvalidStorageStateException {
+        final MappedFileStorage<Item> cloneStorage;
+
+        try {
+            cloneStorage = new MappedFileStorage<>(Files.createTempFile(file.toAbsolutePath().getParent(),
+                                                                        "MappedFileStorage", ".bin"),
+                                                   capacity, codec, true);
+        }
+        catch (final IOException exception) {
+            throw new InvalidStorageStateException(this, message().with("file", file), exception);
+        }
+
+        for (int segmentIndex = 0; segmentIndex < segments.length; segmentIndex++) {
+            final ByteBuffer sourceSegment = segments[segmentIndex].duplicate();
+            sourceSegment.clear();
+
+            cloneStorage.segments[segmentIndex].duplicate().put(sourceSegment);
+        }
+
+        return cloneStorage;
+    }
+}
@@ -29,6 +29,9 @@ import static org.jlib.message.Messages.mfmessage;
 
 public abstract class AbstractCapacityStrategy {
 
+    /** empty array of {@link IndexRangeOperationDescriptor}s */
+    private static final IndexRangeOperationDescriptor[] NO_DESCRIPTORS = new IndexRangeOperationDescriptor[0];
+
     private final LinearIndexStorage<?> storage;
 
     private final IndexRange contentIndexRange;
@@ -47,18 +50,65 @@ public abstract class AbstractCapacityStrategy {
     }
 
     /**
-     * Returns the tail capacity, that is, the number of storable items behind the last itme.
+     * Returns the head capacity, that is, the number of storable items in front of the first item.
+     *
+     * @return integer specifying the head capacity
+     */
+    protected int getHeadCapacity() {
+        return contentIndexRange.getMinimum();
+    }
+
+    /**
+     * Returns the tail capacity, that is, the number of storable items behind the last item.
      *
      * @return integer specifying the tail capacity
      */
     protected int getTailCapacity() {
-        return storage.capacity() - contentIndexRange.getMaximum();
+        return storage.capacity() - 1 - contentIndexRange.getMaximum();
     }
 
     protected IndexRangeOperationDescriptor getDescriptorCopyAllItemsToIndex(final int targetIndex) {
         return new IndexRangeOperationDescriptor(contentIndexRange, targetIndex);
     }
 
+    /**
+     * Requests the {@link LinearIndexStorage} to raise its capacity by the specified additional capacity and to copy
+     * all items to the specified index. No objects are allocated apart from the new resources of the
+     * {@link LinearIndexStorage}.
+     *
+     * @param additionalCapacity
+     *        integer specifying the additional capacity
+     *
+     * @param targetIndex
+     *        integer specifying the new index of the first item
+     */
+    protected void ensureCapacityAndShiftAllItems(final int additionalCapacity, final int targetIndex) {
+        if (contentIndexRange.itemsCount() == 0)
+            storage.ensureCapacityAndShiftItems(additionalCapacity, NO_DESCRIPTORS);
+        else
+            storage.ensureCapacityAndShiftItems(additionalCapacity, contentIndexRange.getMinimum(),
+                                                contentIndexRange.getMaximum(), targetIndex);
+    }
+
+    /**
+     * Requests the {@link LinearIndexStorage} to lower its capacity by the specified removed capacity and to copy all
+     * items to the specified index. No objects are allocated apart from the new resources of the
+     * {@link LinearIndexStorage}.
+     *
+     * @param removedCapacity
+     *        integer specifying the removed capacity
+     *
+     * @param targetIndex
+     *        integer specifying the new index of the first item
+     */
+    protected void reduceCapacityAndShiftAllItems(final int removedCapacity, final int targetIndex) {
+        if (contentIndexRange.itemsCount() == 0)
+            storage.reduceCapacityAndShiftItems(removedCapacity, NO_DESCRIPTORS);
+        else
+            storage.reduceCapacityAndShiftItems(removedCapacity, contentIndexRange.getMinimum(),
+                                                contentIndexRange.getMaximum(), targetIndex);
+    }
+
     /**
      * Ensures that the specified capacity is valid.
      *
@@ -25,6 +25,7 @@ public interface CapacityStrategy
     extends InitialCapacityStrategy,
             HeadCapacityStrategy,
             TailCapacityStrategy,
-            SplitCapacityStrategy {
+            SplitCapacityStrategy,
+            ShrinkCapacityStrategy {
     // Unifying interface
 }
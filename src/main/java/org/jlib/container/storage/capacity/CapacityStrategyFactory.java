@@ -0,0 +1,53 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity;
+
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.LinearIndexStorage;
+
+/**
+ * <p>
+ * Factory of {@link CapacityStrategy} instances managing the capacity of a specified {@link LinearIndexStorage}.
+ * </p>
+ * <p>
+ * A container creates its {@link LinearIndexStorage} and the {@link IndexRange} of its content itself and uses a
+ * {@link CapacityStrategyFactory} to bind a {@link CapacityStrategy} to them. The constructors of the strategies
+ * taking a {@link LinearIndexStorage} and an {@link IndexRange} serve as factories, for instance
+ * {@code AdaptiveCapacityStrategy::new}.
+ * </p>
+ */
+@FunctionalInterface
+public interface CapacityStrategyFactory {
+
+    /**
+     * Creates a {@link CapacityStrategy} managing the capacity of the specified {@link LinearIndexStorage}.
+     *
+     * @param storage
+     *        {@link LinearIndexStorage} whose capacity is managed
+     *
+     * @param contentIndexRange
+     *        {@link IndexRange} of the stored items, updated by the container and the {@link CapacityStrategy}
+     *
+     * @return new {@link CapacityStrategy}
+     */
+    CapacityStrategy createCapacityStrategy(LinearIndexStorage<?> storage, IndexRange contentIndexRange);
+}
@@ -30,6 +30,7 @@ public class ForwardingCapacityStrategy
     private HeadCapacityStrategy delegateHeadCapacityStrategy;
     private SplitCapacityStrategy delegateSplitCapacityStrategy;
     private TailCapacityStrategy delegateTailCapacityStrategy;
+    private ShrinkCapacityStrategy delegateShrinkCapacityStrategy;
 
     @Override
     public void initializeCapacity() {
@@ -54,6 +55,11 @@ public class ForwardingCapacityStrategy
         delegateTailCapacityStrategy.ensureTailCapacity(tailCapacity);
     }
 
+    @Override
+    public void shrinkCapacity() {
+        delegateShrinkCapacityStrategy.shrinkCapacity();
+    }
+
     public ForwardingCapacityStrategy with(final InitialCapacityStrategy delegateInitialCapacityStrategy) {
         this.delegateInitialCapacityStrategy = delegateInitialCapacityStrategy;
         return this;
@@ -73,4 +79,9 @@ public class ForwardingCapacityStrategy
         this.delegateTailCapacityStrategy = delegateTailCapacityStrategy;
         return this;
     }
+
+    public ForwardingCapacityStrategy with(final ShrinkCapacityStrategy delegateShrinkCapacityStrategy) {
+        this.delegateShrinkCapacityStrategy = delegateShrinkCapacityStrategy;
+        return this;
+    }
 }
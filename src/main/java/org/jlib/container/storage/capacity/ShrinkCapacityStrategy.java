@@ -0,0 +1,36 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity;
+
+import org.jlib.container.storage.LinearIndexStorage;
+
+/**
+ * Strategy of the release of unused capacity in a {@link LinearIndexStorage}.
+ */
+public interface ShrinkCapacityStrategy {
+
+    /**
+     * Releases unused head and tail capacity of the referenced {@link LinearIndexStorage}, as far as this strategy
+     * considers it appropriate. The indices of the stored items are modified, if necessary.
+     */
+    void shrinkCapacity();
+}
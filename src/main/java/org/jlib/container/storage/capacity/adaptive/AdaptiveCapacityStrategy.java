@@ -0,0 +1,257 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity.adaptive;
+
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import org.jlib.container.storage.LinearIndexStorage;
+import org.jlib.container.storage.capacity.AbstractSplitCapacityStrategy;
+import org.jlib.container.storage.capacity.CapacityStrategy;
+import org.jlib.container.storage.capacity.ForwardingCapacityStrategy;
+import org.jlib.container.storage.capacity.geometric.GeometricGrowth;
+import org.jlib.container.storage.capacity.geometric.GeometricShrinkCapacityStrategy;
+
+/**
+ * <p>
+ * {@link CapacityStrategy} distributing the free capacity between head and tail according to the observed requests.
+ * </p>
+ * <p>
+ * Each request registers the requested capacity as demand at the head or the tail; split capacity counts as tail
+ * demand since splitting consumes tail capacity. Former demands decay exponentially, hence the distribution follows
+ * changes of the access pattern. Whenever the items need to be shifted, the free capacity left after fulfilling the
+ * request is split between head and tail in proportion to their demands.
+ * </p>
+ * <p>
+ * If the free capacity does not suffice, the capacity is raised according to a {@link GeometricGrowth}. If it suffices
+ * but lies at the wrong end, the items are shifted within the {@link LinearIndexStorage}, as long as the remaining
+ * free capacity is at least half the reserve a reallocation would provide; otherwise the capacity is raised as well.
+ * Both ways, each shift is followed by a number of requests proportional to the number of items before the next
+ * shift, so that head, tail and split capacity are provided in amortized O(1).
+ * </p>
+ * <p>
+ * An {@link AdaptiveCapacityStrategy} replaces a {@link ForwardingCapacityStrategy} combining fixed strategies. Its
+ * capacity is released as by a {@link GeometricShrinkCapacityStrategy}, the reserve being distributed the same way.
+ * </p>
+ */
+public class AdaptiveCapacityStrategy
+    extends AbstractSplitCapacityStrategy
+    implements CapacityStrategy {
+
+    /** factor by which the former demands are multiplied upon each request */
+    private static final double DEMAND_DECAY = 0.875;
+
+    private final GeometricGrowth growth;
+
+    /** decayed sum of the requested head capacities */
+    private double headDemand;
+
+    /** decayed sum of the requested tail and split capacities; initially preferring the tail */
+    private double tailDemand = 1;
+
+    public AdaptiveCapacityStrategy(final LinearIndexStorage<?> storage, final IndexRange contentIndexRange) {
+        this(storage, contentIndexRange, GeometricGrowth.DOUBLING);
+    }
+
+    public AdaptiveCapacityStrategy(final LinearIndexStorage<?> storage, final IndexRange contentIndexRange,
+                                    final GeometricGrowth growth) {
+        super(storage, contentIndexRange);
+
+        this.growth = growth;
+    }
+
+    @Override
+    public void initializeCapacity() {
+        final int missingCapacity = getContentIndexRange().itemsCount() - getStorage().capacity();
+
+        if (missingCapacity <= 0)
+            return;
+
+        getStorage().ensureCapacityAndShiftItems(missingCapacity);
+    }
+
+    @Override
+    public void ensureHeadCapacity(final int headCapacity) {
+        ensureCapacityValid(headCapacity);
+
+        registerDemand(headCapacity, 0);
+
+        if (headCapacity <= getHeadCapacity())
+            return;
+
+        redistributeCapacity(headCapacity, 0, getContentIndexRange().getMaximum() + 1, 0);
+    }
+
+    @Override
+    public void ensureTailCapacity(final int tailCapacity) {
+        ensureCapacityValid(tailCapacity);
+
+        registerDemand(0, tailCapacity);
+
+        if (tailCapacity <= getTailCapacity())
+            return;
+
+        redistributeCapacity(0, tailCapacity, getContentIndexRange().getMaximum() + 1, 0);
+    }
+
+    @Override
+    protected void safeEnsureSplitCapacity(final int splitIndex, final int splitCapacity) {
+        registerDemand(0, splitCapacity);
+
+        if (splitCapacity <= getTailCapacity()) {
+            getStorage().shiftItems(splitIndex, getContentIndexRange().getMaximum(), splitIndex + splitCapacity);
+            return;
+        }
+
+        redistributeCapacity(0, 0, splitIndex, splitCapacity);
+    }
+
+    @Override
+    public void shrinkCapacity() {
+        final int itemsCount = getContentIndexRange().itemsCount();
+        final int capacity = getStorage().capacity();
+
+        if (itemsCount >= capacity * GeometricShrinkCapacityStrategy.DEFAULT_OCCUPANCY_THRESHOLD)
+            return;
+
+        final int reserve = growth.getAdditionalCapacity(itemsCount, 0);
+
+        if ((long) itemsCount + reserve >= capacity)
+            return;
+
+        final int newMinimum = getHeadReserve(reserve);
+
+        reduceCapacityAndShiftAllItems(capacity - itemsCount - reserve, newMinimum);
+
+        moveContentIndexRange(newMinimum);
+    }
+
+    private void registerDemand(final int headCapacity, final int tailCapacity) {
+        headDemand = headDemand * DEMAND_DECAY + headCapacity;
+        tailDemand = tailDemand * DEMAND_DECAY + tailCapacity;
+    }
+
+    /**
+     * Returns the part of the specified reserve to provide as head capacity, proportional to the head demand.
+     *
+     * @param reserve
+     *        integer specifying the total reserve
+     *
+     * @return integer specifying the head reserve
+     */
+    private int getHeadReserve(final int reserve) {
+        return (int) (reserve * (headDemand / (headDemand + tailDemand)));
+    }
+
+    /**
+     * Shifts the items to provide the specified head and tail capacity and the specified split capacity, raising the
+     * capacity if necessary. The remaining free capacity is distributed according to the demands.
+     *
+     * @param requiredHeadCapacity
+     *        integer specifying the minimum head capacity
+     *
+     * @param requiredTailCapacity
+     *        integer specifying the minimum tail capacity
+     *
+     * @param splitIndex
+     *        integer specifying the index of the first item shifted by {@code splitCapacity};
+     *        behind the last item if there is no split
+     *
+     * @param splitCapacity
+     *        integer specifying the split capacity
+     */
+    private void redistributeCapacity(final int requiredHeadCapacity, final int requiredTailCapacity,
+                                      final int splitIndex, final int splitCapacity) {
+        final int capacity = getStorage().capacity();
+        final int occupiedCapacity = getContentIndexRange().itemsCount() + splitCapacity;
+        final long freeCapacity = (long) capacity - occupiedCapacity - requiredHeadCapacity - requiredTailCapacity;
+
+        final int additionalCapacity = /*
+         */ freeCapacity < 0 ?
+            growth.getAdditionalCapacity(capacity, (int) - freeCapacity) :
+            freeCapacity < growth.getAdditionalCapacity(occupiedCapacity, 0) / 2 ?
+            growth.getAdditionalCapacity(capacity, 0) :
+            0;
+
+        final int newMinimum = requiredHeadCapacity + getHeadReserve((int) (freeCapacity + additionalCapacity));
+        final int minimum = getContentIndexRange().getMinimum();
+
+        if (splitCapacity == 0 || splitIndex == minimum)
+            shiftAllItems(additionalCapacity, splitIndex == minimum ?
+                                              newMinimum + splitCapacity :
+                                              newMinimum);
+        else if (additionalCapacity == 0)
+            getStorage().shiftItems(getDescriptorsCopySplitItemsToIndex(newMinimum, splitIndex, splitCapacity));
+        else
+            getStorage().ensureCapacityAndShiftItems(additionalCapacity, /*
+             */ getDescriptorsCopySplitItemsToIndex(newMinimum, splitIndex, splitCapacity));
+
+        moveContentIndexRange(newMinimum);
+    }
+
+    private void shiftAllItems(final int additionalCapacity, final int targetIndex) {
+        if (additionalCapacity > 0)
+            ensureCapacityAndShiftAllItems(additionalCapacity, targetIndex);
+        else if (getContentIndexRange().itemsCount() > 0)
+            getStorage().shiftItems(getContentIndexRange().getMinimum(), getContentIndexRange().getMaximum(),
+                                    targetIndex);
+    }
+
+    /**
+     * Returns the {@link IndexRangeOperationDescriptor}s copying the items in front of the specified split index to the
+     * specified index, and the others behind them, leaving the specified split capacity in between. The
+     * {@link IndexRangeOperationDescriptor}s are ordered to be executable within the {@link LinearIndexStorage}.
+     *
+     * @param targetIndex
+     *        integer specifying the new index of the first item
+     *
+     * @param splitIndex
+     *        integer specifying the index of the first item shifted by {@code splitCapacity}; behind the first item
+     *
+     * @param splitCapacity
+     *        integer specifying the split capacity
+     *
+     * @return array of {@link IndexRangeOperationDescriptor}s
+     */
+    private IndexRangeOperationDescriptor[] getDescriptorsCopySplitItemsToIndex(final int targetIndex,
+                                                                                final int splitIndex,
+                                                                                final int splitCapacity) {
+        final int minimum = getContentIndexRange().getMinimum();
+
+        final IndexRangeOperationDescriptor leftPartDescriptor = /*
+         */ new IndexRangeOperationDescriptor(minimum, splitIndex - 1, targetIndex);
+
+        final IndexRangeOperationDescriptor rightPartDescriptor = /*
+         */ new IndexRangeOperationDescriptor(splitIndex, getContentIndexRange().getMaximum(),
+                                              targetIndex + splitIndex - minimum + splitCapacity);
+
+        return targetIndex < minimum ?
+               new IndexRangeOperationDescriptor[]{ leftPartDescriptor, rightPartDescriptor } :
+               new IndexRangeOperationDescriptor[]{ rightPartDescriptor, leftPartDescriptor };
+    }
+
+    private void moveContentIndexRange(final int newMinimum) {
+        final int distance = newMinimum - getContentIndexRange().getMinimum();
+
+        getContentIndexRange().incrementMinimum(distance);
+        getContentIndexRange().incrementMaximum(distance);
+    }
+}
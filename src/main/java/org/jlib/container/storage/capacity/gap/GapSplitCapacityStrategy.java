@@ -0,0 +1,55 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity.gap;
+
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.capacity.AbstractSplitCapacityStrategy;
+import org.jlib.container.storage.capacity.SplitCapacityStrategy;
+import org.jlib.container.storage.gap.GapBufferStorage;
+
+/**
+ * <p>
+ * {@link SplitCapacityStrategy} providing split capacity by the gap of a {@link GapBufferStorage}.
+ * </p>
+ * <p>
+ * The gap is moved to the split index and the requested number of gap slots becomes capacity. Hence only the items
+ * between the previous and the current split index are shifted, making repeated splits near the same index amortized
+ * O(1), rather than shifting all items behind the split index as the
+ * {@link org.jlib.container.storage.capacity.minimal.MinimalSplitCapacityStrategy MinimalSplitCapacityStrategy} does.
+ * </p>
+ */
+public class GapSplitCapacityStrategy
+    extends AbstractSplitCapacityStrategy {
+
+    private final GapBufferStorage<?> storage;
+
+    public GapSplitCapacityStrategy(final GapBufferStorage<?> storage, final IndexRange contentIndexRange) {
+        super(storage, contentIndexRange);
+
+        this.storage = storage;
+    }
+
+    @Override
+    protected void safeEnsureSplitCapacity(final int splitIndex, final int splitCapacity) {
+        storage.splitItems(splitIndex, splitCapacity);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity.geometric;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * <p>
+ * Growth of a capacity by a constant factor, bounded by a minimum and a maximum increment.
+ * </p>
+ * <p>
+ * Growing geometrically, a sequence of <em>n</em> single-item capacity requests causes only <em>O(log n)</em>
+ * reallocations, that is, each request is served in amortized O(1). The minimum increment avoids frequent
+ * reallocations of small capacities, the maximum increment limits the unused capacity of very large storages.
+ * </p>
+ */
+public final class GeometricGrowth {
+
+    /** {@link GeometricGrowth} doubling the capacity by at least 16 items */
+    public static final GeometricGrowth DOUBLING = new GeometricGrowth(2.0, 16, Integer.MAX_VALUE);
+
+    /** {@link GeometricGrowth} raising the capacity by half by at least 16 items */
+    public static final GeometricGrowth ONE_AND_A_HALF = new GeometricGrowth(1.5, 16, Integer.MAX_VALUE);
+
+    private final double factor;
+
+    private final int minimumIncrement;
+
+    private final int maximumIncrement;
+
+    /**
+     * Creates a new {@link GeometricGrowth}.
+     *
+     * @param factor
+     *        double specifying the factor by which the capacity grows
+     *
+     * @param minimumIncrement
+     *        integer specifying the minimum number of added items
+     *
+     * @param maximumIncrement
+     *        integer specifying the maximum number of added items, unless more are requested
+     *
+     * @throws InvalidGrowthException
+     *         if {@code factor <= 1 || minimumIncrement < 0 || maximumIncrement < minimumIncrement}
+     */
+    public GeometricGrowth(final double factor, final int minimumIncrement, final int maximumIncrement)
+        throws InvalidGrowthException {
+        if (! (factor > 1))
+            throw new InvalidGrowthException("factor", factor);
+
+        if (minimumIncrement < 0)
+            throw new InvalidGrowthException("minimumIncrement", minimumIncrement);
+
+        if (maximumIncrement < minimumIncrement)
+            throw new InvalidGrowthException("maximumIncrement", maximumIncrement);
+
+        this.factor = factor;
+        this.minimumIncrement = minimumIncrement;
+        this.maximumIncrement = maximumIncrement;
+    }
+
+    public double getFactor() {
+        return factor;
+    }
+
+    public int getMinimumIncrement() {
+        return minimumIncrement;
+    }
+
+    public int getMaximumIncrement() {
+        return maximumIncrement;
+    }
+
+    /**
+     * Returns the capacity to add to the specified capacity, requiring at least the specified missing capacity. The
+     * result is the geometric increment bounded by the minimum and maximum increment, but never less than
+     * {@code missingCapacity} and never more than the total capacity can take.
+     *
+     * @param capacity
+     *        integer specifying the current capacity
+     *
+     * @param missingCapacity
+     *        integer specifying the minimum capacity to add
+     *
+     * @return integer specifying the additional capacity
+     */
+    public int getAdditionalCapacity(final int capacity, final int missingCapacity) {
+        final long geometricIncrement = (long) ceil(capacity * (factor - 1));
+        final long boundedIncrement = min(max(geometricIncrement, minimumIncrement), maximumIncrement);
+
+        return (int) max(missingCapacity, min(boundedIncrement, (long) Integer.MAX_VALUE - capacity));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity.geometric;
+
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.LinearIndexStorage;
+import org.jlib.container.storage.capacity.AbstractCapacityStrategy;
+import org.jlib.container.storage.capacity.HeadCapacityStrategy;
+
+/**
+ * <p>
+ * {@link HeadCapacityStrategy} raising the capacity according to a {@link GeometricGrowth}.
+ * </p>
+ * <p>
+ * If the requested head capacity is above the available head capacity, the {@link LinearIndexStorage} is requested to
+ * re-allocate a capacity higher by the additional capacity computed by the {@link GeometricGrowth}. The items are
+ * shifted "right" by the additional capacity, reserving all of it as head capacity for subsequent requests.
+ * </p>
+ */
+public class GeometricHeadCapacityStrategy
+    extends AbstractCapacityStrategy
+    implements HeadCapacityStrategy {
+
+    private final GeometricGrowth growth;
+
+    public GeometricHeadCapacityStrategy(final LinearIndexStorage<?> storage, final IndexRange contentIndexRange,
+                                         final GeometricGrowth growth) {
+        super(storage, contentIndexRange);
+
+        this.growth = growth;
+    }
+
+    @Override
+    public void ensureHeadCapacity(final int headCapacity) {
+        ensureCapacityValid(headCapacity);
+
+        final int missingHeadCapacity = headCapacity - getHeadCapacity();
+
+        if (missingHeadCapacity <= 0)
+            return;
+
+        final int additionalCapacity = growth.getAdditionalCapacity(getStorage().capacity(), missingHeadCapacity);
+
+        ensureCapacityAndShiftAllItems(additionalCapacity, getHeadCapacity() + additionalCapacity);
+
+        getContentIndexRange().incrementMinimum(additionalCapacity);
+        getContentIndexRange().incrementMaximum(additionalCapacity);
+    }
+}
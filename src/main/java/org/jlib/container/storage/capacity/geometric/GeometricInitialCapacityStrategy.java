@@ -0,0 +1,55 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity.geometric;
+
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.LinearIndexStorage;
+import org.jlib.container.storage.capacity.AbstractCapacityStrategy;
+import org.jlib.container.storage.capacity.InitialCapacityStrategy;
+
+/**
+ * {@link InitialCapacityStrategy} providing the capacity for the items, raised according to a {@link GeometricGrowth}.
+ */
+public class GeometricInitialCapacityStrategy
+    extends AbstractCapacityStrategy
+    implements InitialCapacityStrategy {
+
+    private final GeometricGrowth growth;
+
+    public GeometricInitialCapacityStrategy(final LinearIndexStorage<?> storage, final IndexRange contentIndexRange,
+                                            final GeometricGrowth growth) {
+        super(storage, contentIndexRange);
+
+        this.growth = growth;
+    }
+
+    @Override
+    public void initializeCapacity() {
+        final int missingCapacity = getContentIndexRange().itemsCount() - getStorage().capacity();
+
+        if (missingCapacity <= 0)
+            return;
+
+        getStorage().ensureCapacityAndShiftItems(growth.getAdditionalCapacity(getStorage().capacity(),
+                                                                              missingCapacity));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity.geometric;
+
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.LinearIndexStorage;
+import org.jlib.container.storage.capacity.AbstractCapacityStrategy;
+import org.jlib.container.storage.capacity.ShrinkCapacityStrategy;
+
+/**
+ * <p>
+ * {@link ShrinkCapacityStrategy} releasing capacity only when the occupancy drops below a threshold.
+ * </p>
+ * <p>
+ * If the number of items is below the occupancy threshold multiplied by the capacity, the {@link LinearIndexStorage}
+ * is requested to re-allocate a capacity fitting the items plus the additional capacity computed by the
+ * {@link GeometricGrowth} for the number of items. The items are shifted "left" to start at index 0, the remainder is
+ * left as tail capacity.
+ * </p>
+ * <p>
+ * Leaving a reserve and choosing a threshold below the reciprocal of the growth factor provides a hysteresis: a
+ * shrunk {@link LinearIndexStorage} is neither grown nor shrunk again by adding or removing a few items, hence
+ * alternating additions and removals cannot cause repeated reallocations.
+ * </p>
+ */
+public class GeometricShrinkCapacityStrategy
+    extends AbstractCapacityStrategy
+    implements ShrinkCapacityStrategy {
+
+    /** default occupancy threshold */
+    public static final double DEFAULT_OCCUPANCY_THRESHOLD = 0.25;
+
+    private final GeometricGrowth growth;
+
+    private final double occupancyThreshold;
+
+    public GeometricShrinkCapacityStrategy(final LinearIndexStorage<?> storage, final IndexRange contentIndexRange,
+                                           final GeometricGrowth growth) {
+        this(storage, contentIndexRange, growth, DEFAULT_OCCUPANCY_THRESHOLD);
+    }
+
+    /**
+     * Creates a new {@link GeometricShrinkCapacityStrategy}.
+     *
+     * @param storage
+     *        referenced {@link LinearIndexStorage}
+     *
+     * @param contentIndexRange
+     *        {@link IndexRange} of the items
+     *
+     * @param growth
+     *        {@link GeometricGrowth} computing the capacity left in reserve
+     *
+     * @param occupancyThreshold
+     *        double specifying the ratio of items count and capacity below which capacity is released
+     *
+     * @throws InvalidGrowthException
+     *         if {@code occupancyThreshold <= 0 || occupancyThreshold >= 1}
+     */
+    public GeometricShrinkCapacityStrategy(final LinearIndexStorage<?> storage, final IndexRange contentIndexRange,
+                                           final GeometricGrowth growth, final double occupancyThreshold)
+        throws InvalidGrowthException {
+        super(storage, contentIndexRange);
+
+        if (! (occupancyThreshold > 0 && occupancyThreshold < 1))
+            throw new InvalidGrowthException("occupancyThreshold", occupancyThreshold);
+
+        this.growth = growth;
+        this.occupancyThreshold = occupancyThreshold;
+    }
+
+    @Override
+    public void shrinkCapacity() {
+        final int itemsCount = getContentIndexRange().itemsCount();
+        final int capacity = getStorage().capacity();
+
+        if (itemsCount >= capacity * occupancyThreshold)
+            return;
+
+        final long newCapacity = (long) itemsCount + growth.getAdditionalCapacity(itemsCount, 0);
+
+        if (newCapacity >= capacity)
+            return;
+
+        final int headCapacity = getHeadCapacity();
+
+        reduceCapacityAndShiftAllItems((int) (capacity - newCapacity), 0);
+
+        getContentIndexRange().incrementMinimum(- headCapacity);
+        getContentIndexRange().incrementMaximum(- headCapacity);
+    }
+}
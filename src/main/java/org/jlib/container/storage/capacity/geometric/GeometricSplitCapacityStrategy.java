@@ -0,0 +1,81 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity.geometric;
+
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import org.jlib.container.storage.LinearIndexStorage;
+import org.jlib.container.storage.capacity.AbstractSplitCapacityStrategy;
+import org.jlib.container.storage.capacity.SplitCapacityStrategy;
+
+/**
+ * <p>
+ * {@link SplitCapacityStrategy} raising the capacity according to a {@link GeometricGrowth}.
+ * </p>
+ * <p>
+ * The items behind the split index are shifted "right" by the split capacity. If the tail capacity does not suffice,
+ * the {@link LinearIndexStorage} is requested to re-allocate a capacity higher by the additional capacity computed by
+ * the {@link GeometricGrowth}, leaving the remainder as tail capacity.
+ * </p>
+ */
+public class GeometricSplitCapacityStrategy
+    extends AbstractSplitCapacityStrategy {
+
+    private final GeometricGrowth growth;
+
+    public GeometricSplitCapacityStrategy(final LinearIndexStorage<?> storage, final IndexRange contentIndexRange,
+                                          final GeometricGrowth growth) {
+        super(storage, contentIndexRange);
+
+        this.growth = growth;
+    }
+
+    @Override
+    protected void safeEnsureSplitCapacity(final int splitIndex, final int splitCapacity) {
+        final int minimum = getContentIndexRange().getMinimum();
+        final int maximum = getContentIndexRange().getMaximum();
+
+        final int missingTailCapacity = splitCapacity - getTailCapacity();
+
+        if (missingTailCapacity <= 0) {
+            getStorage().shiftItems(splitIndex, maximum, splitIndex + splitCapacity);
+            return;
+        }
+
+        final int additionalCapacity = growth.getAdditionalCapacity(getStorage().capacity(), missingTailCapacity);
+
+        if (splitIndex == minimum) {
+            getStorage().ensureCapacityAndShiftItems(additionalCapacity, splitIndex, maximum,
+                                                     splitIndex + splitCapacity);
+            return;
+        }
+
+        final IndexRangeOperationDescriptor keepLeftPart = /*
+         */ new IndexRangeOperationDescriptor(minimum, splitIndex - 1, minimum);
+
+        final IndexRangeOperationDescriptor shiftRightPartFromSplitIndexRightBySplitCapacity = /*
+         */ new IndexRangeOperationDescriptor(splitIndex, maximum, splitIndex + splitCapacity);
+
+        getStorage().ensureCapacityAndShiftItems(additionalCapacity, keepLeftPart,
+                                                 shiftRightPartFromSplitIndexRightBySplitCapacity);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity.geometric;
+
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.LinearIndexStorage;
+import org.jlib.container.storage.capacity.AbstractCapacityStrategy;
+import org.jlib.container.storage.capacity.TailCapacityStrategy;
+
+/**
+ * <p>
+ * {@link TailCapacityStrategy} raising the capacity according to a {@link GeometricGrowth}.
+ * </p>
+ * <p>
+ * If the requested tail capacity is above the available tail capacity, the {@link LinearIndexStorage} is requested to
+ * re-allocate a capacity higher by the additional capacity computed by the {@link GeometricGrowth}. The items keep
+ * their indices.
+ * </p>
+ */
+public class GeometricTailCapacityStrategy
+    extends AbstractCapacityStrategy
+    implements TailCapacityStrategy {
+
+    private final GeometricGrowth growth;
+
+    public GeometricTailCapacityStrategy(final LinearIndexStorage<?> storage, final IndexRange contentIndexRange,
+                                         final GeometricGrowth growth) {
+        super(storage, contentIndexRange);
+
+        this.growth = growth;
+    }
+
+    @Override
+    public void ensureTailCapacity(final int tailCapacity) {
+        ensureCapacityValid(tailCapacity);
+
+        final int missingTailCapacity = tailCapacity - getTailCapacity();
+
+        if (missingTailCapacity <= 0)
+            return;
+
+        ensureCapacityAndShiftAllItems(growth.getAdditionalCapacity(getStorage().capacity(), missingTailCapacity),
+                                       getHeadCapacity());
+    }
+}
@@ -22,7 +22,6 @@
 package org.jlib.container.storage.capacity.minimal;
 
 import org.jlib.container.storage.IndexRange;
-import org.jlib.container.storage.IndexRangeOperationDescriptor;
 import org.jlib.container.storage.LinearIndexStorage;
 import org.jlib.container.storage.capacity.AbstractCapacityStrategy;
 import org.jlib.container.storage.capacity.HeadCapacityStrategy;
@@ -62,11 +61,9 @@ public class MinimalHeadCapacityStrategy<Item>
         if (missingHeadCapacity <= 0)
             return;
 
-        final IndexRangeOperationDescriptor shiftAllItemsToAllowHeadCapacity = /*
-         */ getDescriptorCopyAllItemsToIndex(/* new first Item index */ headCapacity);
-
-        getStorage().ensureCapacityAndShiftItems(headCapacity, shiftAllItemsToAllowHeadCapacity);
+        ensureCapacityAndShiftAllItems(missingHeadCapacity, /* new first Item index */ headCapacity);
 
         getContentIndexRange().incrementMinimum(missingHeadCapacity);
+        getContentIndexRange().incrementMaximum(missingHeadCapacity);
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity.minimal;
+
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.LinearIndexStorage;
+import org.jlib.container.storage.capacity.AbstractCapacityStrategy;
+import org.jlib.container.storage.capacity.ShrinkCapacityStrategy;
+
+/**
+ * <p>
+ * {@link ShrinkCapacityStrategy} trimming the capacity to the number of items.
+ * </p>
+ * <p>
+ * All head and tail capacity is released. The items are shifted "left" to start at index 0.
+ * </p>
+ */
+public class MinimalShrinkCapacityStrategy
+    extends AbstractCapacityStrategy
+    implements ShrinkCapacityStrategy {
+
+    public MinimalShrinkCapacityStrategy(final LinearIndexStorage<?> storage, final IndexRange contentIndexRange) {
+        super(storage, contentIndexRange);
+    }
+
+    @Override
+    public void shrinkCapacity() {
+        final int headCapacity = getHeadCapacity();
+        final int removedCapacity = headCapacity + getTailCapacity();
+
+        if (removedCapacity == 0)
+            return;
+
+        reduceCapacityAndShiftAllItems(removedCapacity, 0);
+
+        getContentIndexRange().incrementMinimum(- headCapacity);
+        getContentIndexRange().incrementMaximum(- headCapacity);
+    }
+}
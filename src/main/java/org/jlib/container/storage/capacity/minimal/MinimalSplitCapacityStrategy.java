@@ -35,28 +35,29 @@ public class MinimalSplitCapacityStrategy
 
     @Override
     protected void safeEnsureSplitCapacity(final int splitIndex, final int splitCapacity) {
-        final IndexRangeOperationDescriptor shiftRightPartFromSplitIndexRightBySplitCapacity = /*
-         */ new IndexRangeOperationDescriptor(splitIndex, getContentIndexRange().getMaximum(),
-                                              splitIndex + splitCapacity);
+        final int minimum = getContentIndexRange().getMinimum();
+        final int maximum = getContentIndexRange().getMaximum();
 
         final int missingTailCapacity = splitCapacity - getTailCapacity();
 
         if (missingTailCapacity <= 0) {
-            getStorage().shiftItems(shiftRightPartFromSplitIndexRightBySplitCapacity);
+            getStorage().shiftItems(splitIndex, maximum, splitIndex + splitCapacity);
             return;
         }
 
-        final int finalItemsCount = getContentIndexRange().itemsCount() + splitCapacity;
+        if (splitIndex == minimum) {
+            getStorage().ensureCapacityAndShiftItems(missingTailCapacity, splitIndex, maximum,
+                                                     splitIndex + splitCapacity);
+            return;
+        }
 
-        final IndexRangeOperationDescriptor headCopyDescriptor = /*
-         */ new IndexRangeOperationDescriptor(getContentIndexRange().getMinimum(), splitIndex - 1, splitIndex);
+        final IndexRangeOperationDescriptor keepLeftPart = /*
+         */ new IndexRangeOperationDescriptor(minimum, splitIndex - 1, minimum);
 
-        final IndexRangeOperationDescriptor[] copyDescriptors = /*
-         */ splitIndex > getContentIndexRange().getMinimum() ?
-            new IndexRangeOperationDescriptor[]{ headCopyDescriptor,
-                                                 shiftRightPartFromSplitIndexRightBySplitCapacity } :
-            new IndexRangeOperationDescriptor[]{ shiftRightPartFromSplitIndexRightBySplitCapacity };
+        final IndexRangeOperationDescriptor shiftRightPartFromSplitIndexRightBySplitCapacity = /*
+         */ new IndexRangeOperationDescriptor(splitIndex, maximum, splitIndex + splitCapacity);
 
-        getStorage().ensureCapacityAndShiftItems(finalItemsCount, copyDescriptors);
+        getStorage().ensureCapacityAndShiftItems(missingTailCapacity, keepLeftPart,
+                                                 shiftRightPartFromSplitIndexRightBySplitCapacity);
     }
 }
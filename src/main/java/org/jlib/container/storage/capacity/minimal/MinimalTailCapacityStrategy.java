@@ -22,7 +22,6 @@
 package org.jlib.container.storage.capacity.minimal;
 
 import org.jlib.container.storage.IndexRange;
-import org.jlib.container.storage.IndexRangeOperationDescriptor;
 import org.jlib.container.storage.LinearIndexStorage;
 import org.jlib.container.storage.capacity.AbstractCapacityStrategy;
 import org.jlib.container.storage.capacity.CapacityStrategy;
@@ -61,9 +60,6 @@ public class MinimalTailCapacityStrategy
         if (missingTailCapacity <= 0)
             return;
 
-        final IndexRangeOperationDescriptor keepAllItems = /*
-         */ getDescriptorCopyAllItemsToIndex(getContentIndexRange().getMinimum());
-
-        getStorage().ensureCapacityAndShiftItems(missingTailCapacity, keepAllItems);
+        ensureCapacityAndShiftAllItems(missingTailCapacity, getContentIndexRange().getMinimum());
     }
 }
@@ -30,6 +30,7 @@
  * <dt>head capacity</dt>    <dd>capacity in front of the first item</dd>
  * <dt>split capacity</dt>   <dd>capacity provided between two sections when splitting one big section into two</dd>
  * <dt>tail capacity</dt>    <dd>capacity behind the last item</dd>
+ * <dt>shrink</dt>           <dd>release of unused head and tail capacity, for instance after removing items</dd>
  * </dl>
  *
  * @author Igor Akkerman
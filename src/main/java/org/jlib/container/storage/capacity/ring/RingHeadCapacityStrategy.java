@@ -0,0 +1,70 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity.ring;
+
+import static java.lang.Math.max;
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.capacity.AbstractCapacityStrategy;
+import org.jlib.container.storage.capacity.HeadCapacityStrategy;
+import org.jlib.container.storage.ring.RingBufferStorage;
+
+/**
+ * <p>
+ * {@link HeadCapacityStrategy} providing head capacity in a {@link RingBufferStorage}.
+ * </p>
+ * <p>
+ * If the tail capacity covers the missing head capacity, the {@link RingBufferStorage} is rotated, turning tail
+ * capacity into head capacity in O(1). Otherwise its capacity is at least doubled, so that head capacity is provided
+ * in amortized O(1).
+ * </p>
+ */
+public class RingHeadCapacityStrategy
+    extends AbstractCapacityStrategy
+    implements HeadCapacityStrategy {
+
+    private final RingBufferStorage<?> storage;
+
+    public RingHeadCapacityStrategy(final RingBufferStorage<?> storage, final IndexRange contentIndexRange) {
+        super(storage, contentIndexRange);
+
+        this.storage = storage;
+    }
+
+    @Override
+    public void ensureHeadCapacity(final int headCapacity) {
+        ensureCapacityValid(headCapacity);
+
+        final int missingHeadCapacity = headCapacity - getHeadCapacity();
+
+        if (missingHeadCapacity <= 0)
+            return;
+
+        if (getTailCapacity() >= missingHeadCapacity)
+            storage.rotate(missingHeadCapacity);
+        else
+            ensureCapacityAndShiftAllItems(max(missingHeadCapacity - getTailCapacity(), storage.capacity()),
+                                           headCapacity);
+
+        getContentIndexRange().incrementMinimum(missingHeadCapacity);
+        getContentIndexRange().incrementMaximum(missingHeadCapacity);
+    }
+}
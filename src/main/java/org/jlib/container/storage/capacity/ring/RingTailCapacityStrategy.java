@@ -0,0 +1,75 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity.ring;
+
+import static java.lang.Math.max;
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.capacity.AbstractCapacityStrategy;
+import org.jlib.container.storage.capacity.TailCapacityStrategy;
+import org.jlib.container.storage.ring.RingBufferStorage;
+
+/**
+ * <p>
+ * {@link TailCapacityStrategy} providing tail capacity in a {@link RingBufferStorage}.
+ * </p>
+ * <p>
+ * If the head capacity covers the missing tail capacity, the {@link RingBufferStorage} is rotated, turning head
+ * capacity into tail capacity in O(1). Otherwise its capacity is at least doubled and the items are moved to the
+ * front, so that tail capacity is provided in amortized O(1).
+ * </p>
+ */
+public class RingTailCapacityStrategy
+    extends AbstractCapacityStrategy
+    implements TailCapacityStrategy {
+
+    private final RingBufferStorage<?> storage;
+
+    public RingTailCapacityStrategy(final RingBufferStorage<?> storage, final IndexRange contentIndexRange) {
+        super(storage, contentIndexRange);
+
+        this.storage = storage;
+    }
+
+    @Override
+    public void ensureTailCapacity(final int tailCapacity) {
+        ensureCapacityValid(tailCapacity);
+
+        final int missingTailCapacity = tailCapacity - getTailCapacity();
+
+        if (missingTailCapacity <= 0)
+            return;
+
+        final int indexDistance;
+
+        if (getHeadCapacity() >= missingTailCapacity) {
+            indexDistance = - missingTailCapacity;
+            storage.rotate(indexDistance);
+        }
+        else {
+            indexDistance = - getHeadCapacity();
+            ensureCapacityAndShiftAllItems(max(missingTailCapacity - getHeadCapacity(), storage.capacity()), 0);
+        }
+
+        getContentIndexRange().incrementMinimum(indexDistance);
+        getContentIndexRange().incrementMaximum(indexDistance);
+    }
+}
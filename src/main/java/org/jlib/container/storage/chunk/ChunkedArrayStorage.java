@@ -0,0 +1,453 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.chunk;
+
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Integer.numberOfTrailingZeros;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+import static org.jlib.array.ArrayUtility.array;
+import org.jlib.container.Valid;
+import org.jlib.container.storage.AbstractLinearIndexStorage;
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import org.jlib.container.storage.InvalidStorageCapacityException;
+import org.jlib.container.storage.LinearIndexStorage;
+import static org.jlib.numeric.Numeric.countInclusive;
+
+/**
+ * <p>
+ * {@link LinearIndexStorage} based on fixed-size chunks of {@link Item}s referenced by a directory.
+ * </p>
+ * <p>
+ * The chunk size is a power of two; the capacity is always a multiple of the chunk size. Raising the capacity never
+ * copies all {@link Item}s into a new array:
+ * </p>
+ * <ul>
+ * <li>
+ * Tail capacity is provided by appending chunks to the directory.
+ * </li>
+ * <li>
+ * If the {@link Item}s are shifted towards higher indices by a multiple of the chunk size, as specified by a single
+ * {@link IndexRangeOperationDescriptor}, new chunks are inserted into the directory in front of the chunk holding the
+ * first shifted {@link Item}. Only directory entries are moved.
+ * </li>
+ * <li>
+ * Otherwise, chunks are appended and the {@link Item}s are moved chunk-wise within the storage, in the specified order.
+ * </li>
+ * </ul>
+ * <p>
+ * Lowering the capacity moves the {@link Item}s within the storage and releases the chunks behind the new capacity,
+ * rounded up to a multiple of the chunk size.
+ * </p>
+ * <p>
+ * The slots not covered by the target index range of an {@link IndexRangeOperationDescriptor} are cleared after
+ * changing the capacity, so that no stale {@link Item} remains referenced.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items stored in the chunks
+ */
+public class ChunkedArrayStorage<Item>
+    extends AbstractLinearIndexStorage<Item> {
+
+    /** default number of {@link Item}s per chunk */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    /** binary logarithm of the number of {@link Item}s per chunk */
+    private final int chunkShift;
+
+    /** mask extracting the index within a chunk from an {@link Item} index */
+    private final int chunkMask;
+
+    /** directory of the chunks; only the first {@link #chunksCount} entries are used */
+    private Item[][] chunks;
+
+    /** number of used chunks */
+    private int chunksCount;
+
+    public ChunkedArrayStorage(final int initialCapacity)
+        throws InvalidStorageCapacityException {
+        this(initialCapacity, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new {@link ChunkedArrayStorage}.
+     *
+     * @param initialCapacity
+     *        integer specifying the minimum initial capacity
+     *
+     * @param chunkSize
+     *        integer specifying the number of {@link Item}s per chunk; rounded up to a power of two
+     *
+     * @throws InvalidStorageCapacityException
+     *         if {@code initialCapacity < 0} or {@code chunkSize < 1} or {@code chunkSize > 2^30}
+     */
+    public ChunkedArrayStorage(final int initialCapacity, final int chunkSize)
+        throws InvalidStorageCapacityException {
+        super(initialCapacity);
+
+        if (chunkSize < 1 || chunkSize > 1 << 30)
+            throw new InvalidStorageCapacityException(this, "chunkSize", chunkSize);
+
+        final int actualChunkSize = chunkSize == 1 ?
+                                    1 :
+                                    highestOneBit(chunkSize - 1) << 1;
+
+        chunkShift = numberOfTrailingZeros(actualChunkSize);
+        chunkMask = actualChunkSize - 1;
+
+        chunks = createDirectory(chunksCountFor(initialCapacity));
+        appendChunks(chunks.length);
+    }
+
+    @Override
+    public int capacity() {
+        return chunksCount << chunkShift;
+    }
+
+    @Override
+    protected Item safeGet(@Valid final int index) {
+        return chunks[index >>> chunkShift][index & chunkMask];
+    }
+
+    @Override
+    protected void safeSet(@Valid final int index, final Item item) {
+        chunks[index >>> chunkShift][index & chunkMask] = item;
+    }
+
+    @Override
+    protected void safeGetItems(@Valid final int minimumIndex, @Valid final int maximumIndex,
+                                final Item[] targetArray, @Valid final int targetArrayIndex) {
+        int index = minimumIndex;
+
+        while (index <= maximumIndex) {
+            final int pieceItemsCount = getPieceItemsCount(index, maximumIndex);
+
+            arraycopy(chunks[index >>> chunkShift], index & chunkMask, targetArray,
+                      targetArrayIndex + index - minimumIndex, pieceItemsCount);
+
+            index += pieceItemsCount;
+        }
+    }
+
+    @Override
+    protected void safeSetItems(@Valid final int minimumIndex, @Valid final int maximumIndex,
+                                final Item[] sourceArray, @Valid final int sourceArrayIndex) {
+        int index = minimumIndex;
+
+        while (index <= maximumIndex) {
+            final int pieceItemsCount = getPieceItemsCount(index, maximumIndex);
+
+            arraycopy(sourceArray, sourceArrayIndex + index - minimumIndex, chunks[index >>> chunkShift],
+                      index & chunkMask, pieceItemsCount);
+
+            index += pieceItemsCount;
+        }
+    }
+
+    @Override
+    protected void safeFillItems(@Valid final int minimumIndex, @Valid final int maximumIndex, final Item item) {
+        int index = minimumIndex;
+
+        while (index <= maximumIndex) {
+            final int pieceItemsCount = getPieceItemsCount(index, maximumIndex);
+
+            fill(chunks[index >>> chunkShift], index & chunkMask, (index & chunkMask) + pieceItemsCount, item);
+
+            index += pieceItemsCount;
+        }
+    }
+
+    /**
+     * Returns the number of {@link Item}s from the specified index up to the specified maximum index stored in the
+     * same chunk.
+     *
+     * @param index
+     *        integer specifying the index of the first {@link Item}
+     *
+     * @param maximumIndex
+     *        integer specifying the maximum index
+     *
+     * @return integer specifying the number of {@link Item}s
+     */
+    private int getPieceItemsCount(final int index, final int maximumIndex) {
+        return min(countInclusive(index, maximumIndex), chunkMask + 1 - (index & chunkMask));
+    }
+
+    @Override
+    protected void safeAddCapacityAndShiftItems(@Valid final int capacity,
+                                                @Valid final IndexRangeOperationDescriptor... copyDescriptors) {
+        final int newCapacity = getNewCapacity(capacity);
+
+        for (final IndexRangeOperationDescriptor copyDescriptor : copyDescriptors)
+            ensureOperationValid(copyDescriptor.getSourceMinimumIndex(), copyDescriptor.getSourceMaximumIndex(),
+                                 copyDescriptor.getTargetIndex(), newCapacity);
+
+        final IndexRangeOperationDescriptor chunkShiftDescriptor = getChunkShiftDescriptor(copyDescriptors);
+
+        if (chunkShiftDescriptor != null) {
+            shiftChunks(newCapacity, chunkShiftDescriptor.getSourceMinimumIndex(),
+                        chunkShiftDescriptor.getTargetIndex());
+            clearUncoveredItems(capacity() - 1, copyDescriptors);
+            return;
+        }
+
+        final int formerCapacity = capacity();
+
+        appendChunks(chunksCountFor(newCapacity) - chunksCount);
+
+        shiftItems(copyDescriptors);
+        clearUncoveredItems(formerCapacity - 1, copyDescriptors);
+    }
+
+    @Override
+    protected void safeAddCapacityAndShiftItems(@Valid final int capacity, final int sourceMinimumIndex,
+                                                final int sourceMaximumIndex, final int targetIndex) {
+        final int newCapacity = getNewCapacity(capacity);
+
+        ensureOperationValid(sourceMinimumIndex, sourceMaximumIndex, targetIndex, newCapacity);
+
+        final int targetMaximumIndex = targetIndex + sourceMaximumIndex - sourceMinimumIndex;
+
+        if (isChunkShift(sourceMinimumIndex, targetIndex)) {
+            shiftChunks(newCapacity, sourceMinimumIndex, targetIndex);
+            clearUncoveredItems(capacity() - 1, targetIndex, targetMaximumIndex);
+            return;
+        }
+
+        final int formerCapacity = capacity();
+
+        appendChunks(chunksCountFor(newCapacity) - chunksCount);
+
+        shiftItems(sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+        clearUncoveredItems(formerCapacity - 1, targetIndex, targetMaximumIndex);
+    }
+
+    private int getNewCapacity(final int additionalCapacity)
+        throws InvalidStorageCapacityException {
+        final long newCapacity = (long) capacity() + additionalCapacity;
+
+        if (newCapacity > Integer.MAX_VALUE)
+            throw new InvalidStorageCapacityException(this, "capacity", newCapacity);
+
+        return (int) newCapacity;
+    }
+
+    /**
+     * Shifts the {@link Item}s from the chunk holding the specified source index on by inserting chunks in front of it,
+     * then appends chunks up to the specified capacity.
+     *
+     * @param newCapacity
+     *        integer specifying the new capacity
+     *
+     * @param sourceIndex
+     *        integer specifying the index of the first shifted {@link Item}
+     *
+     * @param targetIndex
+     *        integer specifying the new index of the first shifted {@link Item}; the distance to {@code sourceIndex}
+     *        is a positive multiple of the chunk size
+     */
+    private void shiftChunks(final int newCapacity, final int sourceIndex, final int targetIndex) {
+        insertChunks(sourceIndex >>> chunkShift, (targetIndex - sourceIndex) >>> chunkShift);
+        appendChunks(max(0, chunksCountFor(newCapacity) - chunksCount));
+    }
+
+    private boolean isChunkShift(final int sourceIndex, final int targetIndex) {
+        final int distance = targetIndex - sourceIndex;
+
+        return distance > 0 && (distance & chunkMask) == 0;
+    }
+
+    @Override
+    protected void safeRemoveCapacityAndShiftItems(@Valid final int removedCapacity,
+                                                   @Valid final IndexRangeOperationDescriptor... copyDescriptors) {
+        final int newCapacity = capacity() - removedCapacity;
+
+        for (final IndexRangeOperationDescriptor copyDescriptor : copyDescriptors)
+            ensureOperationDescriptorValid(copyDescriptor, newCapacity);
+
+        shiftItems(copyDescriptors);
+
+        removeChunks(chunksCount - chunksCountFor(newCapacity));
+        clearUncoveredItems(capacity() - 1, copyDescriptors);
+    }
+
+    @Override
+    protected void safeRemoveCapacityAndShiftItems(@Valid final int removedCapacity, final int sourceMinimumIndex,
+                                                   final int sourceMaximumIndex, final int targetIndex) {
+        final int newCapacity = capacity() - removedCapacity;
+
+        ensureOperationValid(sourceMinimumIndex, sourceMaximumIndex, targetIndex, newCapacity);
+
+        shiftItems(sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+
+        removeChunks(chunksCount - chunksCountFor(newCapacity));
+        clearUncoveredItems(capacity() - 1, targetIndex, targetIndex + sourceMaximumIndex - sourceMinimumIndex);
+    }
+
+    /**
+     * Returns the sole {@link IndexRangeOperationDescriptor} of the specified sequence shifting the {@link Item}s towards
+     * higher indices by a multiple of the chunk size, if all others keep their {@link Item}s in chunks in front of it.
+     *
+     * @param copyDescriptors
+     *        comma separated sequence of {@link IndexRangeOperationDescriptor}s
+     *
+     * @return {@link IndexRangeOperationDescriptor} executable by inserting chunks; {@code null} if there is none
+     */
+    private IndexRangeOperationDescriptor getChunkShiftDescriptor(final IndexRangeOperationDescriptor... copyDescriptors) {
+        IndexRangeOperationDescriptor chunkShiftDescriptor = null;
+
+        for (final IndexRangeOperationDescriptor copyDescriptor : copyDescriptors) {
+            if (copyDescriptor.getTargetIndex() == copyDescriptor.getSourceMinimumIndex())
+                continue;
+
+            if (chunkShiftDescriptor != null ||
+                ! isChunkShift(copyDescriptor.getSourceMinimumIndex(), copyDescriptor.getTargetIndex()))
+                return null;
+
+            chunkShiftDescriptor = copyDescriptor;
+        }
+
+        if (chunkShiftDescriptor == null)
+            return null;
+
+        final int chunkBeginIndex = chunkShiftDescriptor.getSourceMinimumIndex() & ~ chunkMask;
+
+        for (final IndexRangeOperationDescriptor copyDescriptor : copyDescriptors)
+            if (copyDescriptor != chunkShiftDescriptor &&
+                copyDescriptor.getSourceMaximumIndex() >= chunkBeginIndex)
+                return null;
+
+        return chunkShiftDescriptor;
+    }
+
+    @Override
+    protected void safeShiftItems(@Valid final int sourceMinimumIndex, @Valid final int sourceMaximumIndex,
+                                  @Valid final int targetIndex) {
+        moveItems(sourceMinimumIndex, targetIndex, countInclusive(sourceMinimumIndex, sourceMaximumIndex));
+    }
+
+    /**
+     * Moves the specified {@link Item}s within the storage. The source and target ranges may overlap. Each copied piece
+     * lies within one source and one target chunk; the pieces are copied starting at the end of the range when moving
+     * towards higher indices, otherwise at its beginning.
+     *
+     * @param sourceIndex
+     *        integer specifying the index of the first source {@link Item}
+     *
+     * @param targetIndex
+     *        integer specifying the index of the first target {@link Item}
+     *
+     * @param itemsCount
+     *        integer specifying the number of {@link Item}s
+     */
+    private void moveItems(final int sourceIndex, final int targetIndex, final int itemsCount) {
+        if (sourceIndex == targetIndex)
+            return;
+
+        int remainingItemsCount = itemsCount;
+
+        if (targetIndex > sourceIndex)
+            while (remainingItemsCount > 0) {
+                final int sourceEndIndex = sourceIndex + remainingItemsCount - 1;
+                final int targetEndIndex = targetIndex + remainingItemsCount - 1;
+                final int pieceItemsCount = min(remainingItemsCount, min((sourceEndIndex & chunkMask) + 1,
+                                                                         (targetEndIndex & chunkMask) + 1));
+
+                arraycopy(chunks[sourceEndIndex >>> chunkShift], (sourceEndIndex & chunkMask) - pieceItemsCount + 1,
+                          chunks[targetEndIndex >>> chunkShift], (targetEndIndex & chunkMask) - pieceItemsCount + 1,
+                          pieceItemsCount);
+
+                remainingItemsCount -= pieceItemsCount;
+            }
+        else
+            while (remainingItemsCount > 0) {
+                final int movedItemsCount = itemsCount - remainingItemsCount;
+                final int sourcePieceIndex = sourceIndex + movedItemsCount;
+                final int targetPieceIndex = targetIndex + movedItemsCount;
+                final int pieceItemsCount = min(remainingItemsCount,
+                                                min(chunkMask + 1 - (sourcePieceIndex & chunkMask),
+                                                    chunkMask + 1 - (targetPieceIndex & chunkMask)));
+
+                arraycopy(chunks[sourcePieceIndex >>> chunkShift], sourcePieceIndex & chunkMask,
+                          chunks[targetPieceIndex >>> chunkShift], targetPieceIndex & chunkMask, pieceItemsCount);
+
+                remainingItemsCount -= pieceItemsCount;
+            }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Item> Item[][] createDirectory(final int length) {
+        return (Item[][]) new Object[length][];
+    }
+
+    private int chunksCountFor(final int capacity) {
+        return (int) (((long) capacity + chunkMask) >>> chunkShift);
+    }
+
+    private void ensureDirectoryLength(final int minimumLength) {
+        if (chunks.length < minimumLength)
+            chunks = copyOf(chunks, max(minimumLength, chunks.length + (chunks.length >> 1)));
+    }
+
+    private void appendChunks(final int newChunksCount) {
+        ensureDirectoryLength(chunksCount + newChunksCount);
+
+        for (int chunkIndex = chunksCount; chunkIndex < chunksCount + newChunksCount; chunkIndex++)
+            chunks[chunkIndex] = array(chunkMask + 1);
+
+        chunksCount += newChunksCount;
+    }
+
+    private void insertChunks(final int chunkIndex, final int newChunksCount) {
+        ensureDirectoryLength(chunksCount + newChunksCount);
+
+        arraycopy(chunks, chunkIndex, chunks, chunkIndex + newChunksCount, chunksCount - chunkIndex);
+
+        for (int newChunkIndex = chunkIndex; newChunkIndex < chunkIndex + newChunksCount; newChunkIndex++)
+            chunks[newChunkIndex] = array(chunkMask + 1);
+
+        chunksCount += newChunksCount;
+    }
+
+    private void removeChunks(final int removedChunksCount) {
+        chunksCount -= removedChunksCount;
+
+        chunks = copyOf(chunks, chunksCount);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChunkedArrayStorage<Item> clone() {
+        final ChunkedArrayStorage<Item> cloneStorage = (ChunkedArrayStorage<Item>) super.clone();
+
+        cloneStorage.chunks = copyOf(chunks, chunks.length);
+
+        for (int chunkIndex = 0; chunkIndex < chunksCount; chunkIndex++)
+            cloneStorage.chunks[chunkIndex] = copyOf(chunks[chunkIndex], chunkMask + 1);
+
+        return cloneStorage;
+    }
+}
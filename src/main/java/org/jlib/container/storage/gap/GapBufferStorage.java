@@ -0,0 +1,311 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.gap;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+import static org.jlib.array.ArrayUtility.array;
+import org.jlib.container.Valid;
+import org.jlib.container.storage.AbstractLinearIndexStorage;
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import static org.jlib.container.storage.IndexRangeOperationPlanner.planCopy;
+import org.jlib.container.storage.InvalidAdditionalCapacityException;
+import org.jlib.container.storage.InvalidStorageCapacityException;
+import org.jlib.container.storage.InvalidStorageIndexException;
+import org.jlib.container.storage.LinearIndexStorage;
+import static org.jlib.message.Messages.mfmessage;
+import static org.jlib.numeric.Numeric.countInclusive;
+
+/**
+ * <p>
+ * {@link LinearIndexStorage} based on an array with a movable gap of unused slots.
+ * </p>
+ * <p>
+ * The gap is not part of the capacity: an index addresses the slots in front of the gap as they are and skips the gap
+ * for the slots behind it. {@link #splitItems(int, int)} moves the gap to the split index and turns the requested
+ * number of gap slots into new slots. Subsequent splits at or near the same index only move the few {@link Item}s
+ * between the former and the new split index, hence clustered insertions are amortized O(1). If the gap is too small,
+ * the array is reallocated with a gap proportional to the capacity.
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items stored in the array
+ */
+public class GapBufferStorage<Item>
+    extends AbstractLinearIndexStorage<Item> {
+
+    /** minimum length of the gap after reallocating the array */
+    private static final int MINIMUM_GAP_LENGTH = 16;
+
+    /** array holding the {@link Item}s and the gap */
+    private Item[] delegateArray;
+
+    /** array index of the first gap slot */
+    private int gapBeginIndex;
+
+    /** number of gap slots; all gap slots hold {@code null} */
+    private int gapLength;
+
+    public GapBufferStorage(final int initialCapacity)
+        throws InvalidStorageCapacityException {
+        super(initialCapacity);
+
+        delegateArray = array(initialCapacity);
+        gapBeginIndex = initialCapacity;
+    }
+
+    @Override
+    public int capacity() {
+        return delegateArray.length - gapLength;
+    }
+
+    private int arrayIndex(final int index) {
+        return index < gapBeginIndex ?
+               index :
+               index + gapLength;
+    }
+
+    @Override
+    protected Item safeGet(@Valid final int index) {
+        return delegateArray[arrayIndex(index)];
+    }
+
+    @Override
+    protected void safeSet(@Valid final int index, final Item item) {
+        delegateArray[arrayIndex(index)] = item;
+    }
+
+    /**
+     * Provides the specified number of new slots at the specified index. The indices of the {@link Item}s stored at
+     * or behind {@code splitIndex} are incremented by {@code splitCapacity}, as is the capacity of this
+     * {@link GapBufferStorage}. The new slots hold no {@link Item}.
+     *
+     * @param splitIndex
+     *        integer specifying the index of the first new slot
+     *
+     * @param splitCapacity
+     *        integer specifying the number of new slots
+     *
+     * @throws InvalidStorageIndexException
+     *         if {@code splitIndex < 0 || splitIndex > capacity()}
+     *
+     * @throws InvalidAdditionalCapacityException
+     *         if {@code splitCapacity < 0}
+     */
+    public void splitItems(final int splitIndex, final int splitCapacity)
+        throws InvalidStorageIndexException, InvalidAdditionalCapacityException {
+        if (splitIndex < 0 || splitIndex > capacity())
+            throw new InvalidStorageIndexException(this, mfmessage("splitIndex = {0} not in [0, {1}]", splitIndex,
+                                                                   capacity()));
+
+        if (splitCapacity < 0)
+            throw new InvalidAdditionalCapacityException(this, splitCapacity);
+
+        if (gapLength < splitCapacity)
+            reallocate(splitIndex, splitCapacity + max(MINIMUM_GAP_LENGTH, capacity() >> 1));
+        else
+            moveGap(splitIndex);
+
+        gapBeginIndex += splitCapacity;
+        gapLength -= splitCapacity;
+    }
+
+    /**
+     * Moves the gap to the specified index, shifting the {@link Item}s between the former and the new gap position.
+     *
+     * @param newGapBeginIndex
+     *        integer specifying the new array index of the first gap slot
+     */
+    private void moveGap(final int newGapBeginIndex) {
+        if (newGapBeginIndex < gapBeginIndex) {
+            final int movedItemsCount = gapBeginIndex - newGapBeginIndex;
+
+            arraycopy(delegateArray, newGapBeginIndex, delegateArray, newGapBeginIndex + gapLength, movedItemsCount);
+            fill(delegateArray, newGapBeginIndex, newGapBeginIndex + min(movedItemsCount, gapLength), null);
+        }
+        else if (newGapBeginIndex > gapBeginIndex) {
+            final int movedItemsCount = newGapBeginIndex - gapBeginIndex;
+            final int gapEndIndex = gapBeginIndex + gapLength;
+
+            arraycopy(delegateArray, gapEndIndex, delegateArray, gapBeginIndex, movedItemsCount);
+            fill(delegateArray, gapEndIndex + movedItemsCount - min(movedItemsCount, gapLength),
+                 gapEndIndex + movedItemsCount, null);
+        }
+
+        gapBeginIndex = newGapBeginIndex;
+    }
+
+    /**
+     * Reallocates the array with a gap of the specified length at the specified index.
+     *
+     * @param newGapBeginIndex
+     *        integer specifying the new array index of the first gap slot
+     *
+     * @param newGapLength
+     *        integer specifying the new number of gap slots
+     */
+    private void reallocate(final int newGapBeginIndex, final int newGapLength) {
+        final Item[] newDelegateArray = array(capacity() + newGapLength);
+
+        copyItemsTo(newDelegateArray, 0, newGapBeginIndex - 1, 0);
+        copyItemsTo(newDelegateArray, newGapBeginIndex, capacity() - 1, newGapBeginIndex + newGapLength);
+
+        delegateArray = newDelegateArray;
+        gapBeginIndex = newGapBeginIndex;
+        gapLength = newGapLength;
+    }
+
+    /**
+     * Copies the {@link Item}s in the specified index range into the specified array, skipping the gap.
+     *
+     * @param targetArray
+     *        target array
+     *
+     * @param minimumIndex
+     *        integer specifying the index of the first copied {@link Item}
+     *
+     * @param maximumIndex
+     *        integer specifying the index of the last copied {@link Item}
+     *
+     * @param targetArrayIndex
+     *        integer specifying the array index of the first copied {@link Item} in {@code targetArray}
+     */
+    private void copyItemsTo(final Item[] targetArray, final int minimumIndex, final int maximumIndex,
+                             final int targetArrayIndex) {
+        final int frontItemsCount = max(0, min(maximumIndex + 1, gapBeginIndex) - minimumIndex);
+
+        if (frontItemsCount > 0)
+            arraycopy(delegateArray, minimumIndex, targetArray, targetArrayIndex, frontItemsCount);
+
+        final int backMinimumIndex = minimumIndex + frontItemsCount;
+
+        if (backMinimumIndex <= maximumIndex)
+            arraycopy(delegateArray, backMinimumIndex + gapLength, targetArray, targetArrayIndex + frontItemsCount,
+                      countInclusive(backMinimumIndex, maximumIndex));
+    }
+
+    @Override
+    protected void safeAddCapacityAndShiftItems(@Valid final int capacity,
+                                                @Valid final IndexRangeOperationDescriptor... copyDescriptors) {
+        reallocate(capacity() + capacity, gapLength, copyDescriptors);
+    }
+
+    @Override
+    protected void safeAddCapacityAndShiftItems(@Valid final int capacity, final int sourceMinimumIndex,
+                                                final int sourceMaximumIndex, final int targetIndex) {
+        reallocate(capacity() + capacity, gapLength, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The gap is released as well.
+     */
+    @Override
+    protected void safeRemoveCapacityAndShiftItems(@Valid final int removedCapacity,
+                                                   @Valid final IndexRangeOperationDescriptor... copyDescriptors) {
+        reallocate(capacity() - removedCapacity, 0, copyDescriptors);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The gap is released as well.
+     */
+    @Override
+    protected void safeRemoveCapacityAndShiftItems(@Valid final int removedCapacity, final int sourceMinimumIndex,
+                                                   final int sourceMaximumIndex, final int targetIndex) {
+        reallocate(capacity() - removedCapacity, 0, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+    }
+
+    /**
+     * Reallocates the array with the specified capacity and a gap of the specified length behind the last slot.
+     *
+     * @param newCapacity
+     *        integer specifying the new capacity
+     *
+     * @param newGapLength
+     *        integer specifying the new number of gap slots
+     *
+     * @param copyDescriptors
+     *        comma separated sequence of {@link IndexRangeOperationDescriptor}s
+     */
+    private void reallocate(final int newCapacity, final int newGapLength,
+                            final IndexRangeOperationDescriptor... copyDescriptors) {
+        final Item[] newDelegateArray = array(newCapacity + newGapLength);
+
+        for (final IndexRangeOperationDescriptor copyDescriptor : planCopy(copyDescriptors))
+            copyItemsTo(newDelegateArray, newCapacity, copyDescriptor.getSourceMinimumIndex(),
+                        copyDescriptor.getSourceMaximumIndex(), copyDescriptor.getTargetIndex());
+
+        setDelegateArray(newDelegateArray, newCapacity, newGapLength);
+    }
+
+    private void reallocate(final int newCapacity, final int newGapLength, final int sourceMinimumIndex,
+                            final int sourceMaximumIndex, final int targetIndex) {
+        final Item[] newDelegateArray = array(newCapacity + newGapLength);
+
+        copyItemsTo(newDelegateArray, newCapacity, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+
+        setDelegateArray(newDelegateArray, newCapacity, newGapLength);
+    }
+
+    private void copyItemsTo(final Item[] newDelegateArray, final int newCapacity, final int sourceMinimumIndex,
+                             final int sourceMaximumIndex, final int targetIndex) {
+        ensureOperationValid(sourceMinimumIndex, sourceMaximumIndex, targetIndex, newCapacity);
+
+        copyItemsTo(newDelegateArray, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+    }
+
+    private void setDelegateArray(final Item[] newDelegateArray, final int newCapacity, final int newGapLength) {
+        delegateArray = newDelegateArray;
+        gapBeginIndex = newCapacity;
+        gapLength = newGapLength;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The gap is moved behind the last slot before shifting the {@link Item}s.
+     */
+    @Override
+    protected void safeShiftItems(@Valid final int sourceMinimumIndex, @Valid final int sourceMaximumIndex,
+                                  @Valid final int targetIndex) {
+        moveGap(capacity());
+
+        arraycopy(delegateArray, sourceMinimumIndex, delegateArray, targetIndex,
+                  countInclusive(sourceMinimumIndex, sourceMaximumIndex));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public GapBufferStorage<Item> clone() {
+        final GapBufferStorage<Item> cloneStorage = (GapBufferStorage<Item>) super.clone();
+
+        cloneStorage.delegateArray = copyOf(delegateArray, delegateArray.length);
+
+        return cloneStorage;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.ring;
+
+import static java.lang.Math.min;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
+import static org.jlib.array.ArrayUtility.array;
+import org.jlib.container.Valid;
+import org.jlib.container.storage.AbstractLinearIndexStorage;
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import static org.jlib.container.storage.IndexRangeOperationPlanner.planCopy;
+import org.jlib.container.storage.InvalidStorageCapacityException;
+import org.jlib.container.storage.LinearIndexStorage;
+import static org.jlib.numeric.Numeric.countInclusive;
+
+/**
+ * <p>
+ * {@link LinearIndexStorage} based on a circular array.
+ * </p>
+ * <p>
+ * An index is mapped to an array index relative to a movable offset, wrapping around the end of the array.
+ * {@link #rotate(int)} changes the indices of all {@link Item}s by moving this offset, without moving any {@link Item}.
+ * Hence free slots behind the last {@link Item} can serve as head capacity and vice versa in O(1).
+ * </p>
+ *
+ * @param <Item>
+ *        type of the items stored in the array
+ */
+public class RingBufferStorage<Item>
+    extends AbstractLinearIndexStorage<Item> {
+
+    /** array holding the {@link Item}s */
+    private Item[] delegateArray;
+
+    /** array index of the slot at index 0 */
+    private int offset;
+
+    public RingBufferStorage(final int initialCapacity)
+        throws InvalidStorageCapacityException {
+        super(initialCapacity);
+
+        delegateArray = array(initialCapacity);
+    }
+
+    @Override
+    public int capacity() {
+        return delegateArray.length;
+    }
+
+    private int arrayIndex(final int index) {
+        final int arrayIndex = index - (delegateArray.length - offset);
+
+        return arrayIndex < 0 ?
+               arrayIndex + delegateArray.length :
+               arrayIndex;
+    }
+
+    @Override
+    protected Item safeGet(@Valid final int index) {
+        return delegateArray[arrayIndex(index)];
+    }
+
+    @Override
+    protected void safeSet(@Valid final int index, final Item item) {
+        delegateArray[arrayIndex(index)] = item;
+    }
+
+    /**
+     * Adds the specified distance to the indices of all slots, modulo the capacity. Slots whose indices would exceed
+     * the capacity wrap around to the lowest indices, and vice versa. No {@link Item} is moved.
+     *
+     * @param distance
+     *        integer specifying the distance; may be negative
+     */
+    public void rotate(final int distance) {
+        if (delegateArray.length == 0)
+            return;
+
+        offset = (int) (((long) offset - distance) % delegateArray.length);
+
+        if (offset < 0)
+            offset += delegateArray.length;
+    }
+
+    @Override
+    protected void safeAddCapacityAndShiftItems(@Valid final int capacity,
+                                                @Valid final IndexRangeOperationDescriptor... copyDescriptors) {
+        reallocate(delegateArray.length + capacity, copyDescriptors);
+    }
+
+    @Override
+    protected void safeAddCapacityAndShiftItems(@Valid final int capacity, final int sourceMinimumIndex,
+                                                final int sourceMaximumIndex, final int targetIndex) {
+        reallocate(delegateArray.length + capacity, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+    }
+
+    @Override
+    protected void safeRemoveCapacityAndShiftItems(@Valid final int removedCapacity,
+                                                   @Valid final IndexRangeOperationDescriptor... copyDescriptors) {
+        reallocate(delegateArray.length - removedCapacity, copyDescriptors);
+    }
+
+    @Override
+    protected void safeRemoveCapacityAndShiftItems(@Valid final int removedCapacity, final int sourceMinimumIndex,
+                                                   final int sourceMaximumIndex, final int targetIndex) {
+        reallocate(delegateArray.length - removedCapacity, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+    }
+
+    /**
+     * Reallocates the array with the specified length, unwrapping the copied {@link Item}s.
+     *
+     * @param newCapacity
+     *        integer specifying the new capacity
+     *
+     * @param copyDescriptors
+     *        comma separated sequence of {@link IndexRangeOperationDescriptor}s
+     */
+    private void reallocate(final int newCapacity, final IndexRangeOperationDescriptor... copyDescriptors) {
+        final Item[] newDelegateArray = array(newCapacity);
+
+        for (final IndexRangeOperationDescriptor copyDescriptor : planCopy(copyDescriptors))
+            copyItemsTo(newDelegateArray, copyDescriptor.getSourceMinimumIndex(),
+                        copyDescriptor.getSourceMaximumIndex(), copyDescriptor.getTargetIndex());
+
+        delegateArray = newDelegateArray;
+        offset = 0;
+    }
+
+    private void reallocate(final int newCapacity, final int sourceMinimumIndex, final int sourceMaximumIndex,
+                            final int targetIndex) {
+        final Item[] newDelegateArray = array(newCapacity);
+
+        copyItemsTo(newDelegateArray, sourceMinimumIndex, sourceMaximumIndex, targetIndex);
+
+        delegateArray = newDelegateArray;
+        offset = 0;
+    }
+
+    /**
+     * Copies the specified {@link Item}s into the specified array, starting at the specified array index.
+     *
+     * @param targetArray
+     *        target array
+     *
+     * @param sourceMinimumIndex
+     *        integer specifying the index of the first copied {@link Item}
+     *
+     * @param sourceMaximumIndex
+     *        integer specifying the index of the last copied {@link Item}
+     *
+     * @param targetIndex
+     *        integer specifying the array index of the first copied {@link Item} in {@code targetArray}
+     */
+    private void copyItemsTo(final Item[] targetArray, final int sourceMinimumIndex, final int sourceMaximumIndex,
+                             final int targetIndex) {
+        ensureOperationValid(sourceMinimumIndex, sourceMaximumIndex, targetIndex, targetArray.length);
+
+        int index = sourceMinimumIndex;
+        int pieceTargetIndex = targetIndex;
+        int remainingItemsCount = countInclusive(sourceMinimumIndex, sourceMaximumIndex);
+
+        while (remainingItemsCount > 0) {
+            final int arrayIndex = arrayIndex(index);
+            final int pieceItemsCount = min(remainingItemsCount, delegateArray.length - arrayIndex);
+
+            arraycopy(delegateArray, arrayIndex, targetArray, pieceTargetIndex, pieceItemsCount);
+
+            index += pieceItemsCount;
+            pieceTargetIndex += pieceItemsCount;
+            remainingItemsCount -= pieceItemsCount;
+        }
+    }
+
+    @Override
+    protected void safeShiftItems(@Valid final int sourceMinimumIndex, @Valid final int sourceMaximumIndex,
+                                  @Valid final int targetIndex) {
+        moveItems(sourceMinimumIndex, targetIndex, countInclusive(sourceMinimumIndex, sourceMaximumIndex));
+    }
+
+    /**
+     * Moves the specified {@link Item}s within the array. The source and target ranges may overlap. Each copied piece
+     * is contiguous in the array; the pieces are copied starting at the end of the range when moving towards higher
+     * indices, otherwise at its beginning.
+     *
+     * @param sourceIndex
+     *        integer specifying the index of the first source {@link Item}
+     *
+     * @param targetIndex
+     *        integer specifying the index of the first target {@link Item}
+     *
+     * @param itemsCount
+     *        integer specifying the number of {@link Item}s
+     */
+    private void moveItems(final int sourceIndex, final int targetIndex, final int itemsCount) {
+        if (sourceIndex == targetIndex)
+            return;
+
+        int remainingItemsCount = itemsCount;
+
+        if (targetIndex > sourceIndex)
+            while (remainingItemsCount > 0) {
+                final int sourceEndArrayIndex = arrayIndex(sourceIndex + remainingItemsCount - 1);
+                final int targetEndArrayIndex = arrayIndex(targetIndex + remainingItemsCount - 1);
+                final int pieceItemsCount = min(remainingItemsCount,
+                                                min(sourceEndArrayIndex + 1, targetEndArrayIndex + 1));
+
+                arraycopy(delegateArray, sourceEndArrayIndex - pieceItemsCount + 1,
+                          delegateArray, targetEndArrayIndex - pieceItemsCount + 1, pieceItemsCount);
+
+                remainingItemsCount -= pieceItemsCount;
+            }
+        else
+            while (remainingItemsCount > 0) {
+                final int movedItemsCount = itemsCount - remainingItemsCount;
+                final int sourceArrayIndex = arrayIndex(sourceIndex + movedItemsCount);
+                final int targetArrayIndex = arrayIndex(targetIndex + movedItemsCount);
+                final int pieceItemsCount = min(remainingItemsCount,
+                                                min(delegateArray.length - sourceArrayIndex,
+                                                    delegateArray.length - targetArrayIndex));
+
+                arraycopy(delegateArray, sourceArrayIndex, delegateArray, targetArrayIndex, pieceItemsCount);
+
+                remainingItemsCount -= pieceItemsCount;
+            }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RingBufferStorage<Item> clone() {
+        final RingBufferStorage<Item> cloneStorage = (RingBufferStorage<Item>) super.clone();
+
+        cloneStorage.delegateArray = copyOf(delegateArray, delegateArray.length);
+
+        return cloneStorage;
+    }
+}
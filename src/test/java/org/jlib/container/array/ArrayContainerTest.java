@@ -0,0 +1,333 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.array;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.jlib.container.iterator.ReplaceRemoveIterator;
+import org.jlib.container.operation.InvalidContainerIndexException;
+import org.jlib.container.operation.ItemToRemoveNotContainedException;
+import org.jlib.container.operation.containsadapter.IterativeContainsAdapter;
+import org.jlib.container.storage.capacity.ForwardingCapacityStrategy;
+import org.jlib.container.storage.capacity.geometric.GeometricGrowth;
+import org.jlib.container.storage.capacity.geometric.GeometricHeadCapacityStrategy;
+import org.jlib.container.storage.capacity.geometric.GeometricInitialCapacityStrategy;
+import org.jlib.container.storage.capacity.geometric.GeometricShrinkCapacityStrategy;
+import org.jlib.container.storage.capacity.geometric.GeometricSplitCapacityStrategy;
+import org.jlib.container.storage.capacity.geometric.GeometricTailCapacityStrategy;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ArrayContainerTest {
+
+    @Test
+    public void newContainerShouldBeEmpty() {
+        final ArrayContainer<String> container = new ArrayContainer<>();
+
+        assertThat(container.count()).isEqualTo(0);
+        assertThat(container.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void insertionsAtHeadMiddleAndTailShouldKeepOrder() {
+        final ArrayContainer<Integer> container = new ArrayContainer<>(0);
+        container.append(2);
+        container.append(4);
+        container.prepend(0);
+        container.insert(1, 1);
+        container.insert(3, 3);
+        container.insert(5, 5);
+
+        assertThat(container.toArray()).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(container.get(3)).isEqualTo(3);
+    }
+
+    @Test
+    public void insertArrayShouldInsertAllItems() {
+        final ArrayContainer<Integer> container = new ArrayContainer<>(2);
+        container.insert(0, new Integer[] { 1, 5 });
+        container.insert(1, new Integer[] { 2, 3, 4 });
+        container.insert(0, new Integer[] { - 1, 0 });
+        container.insert(7, new Integer[] { 6 });
+
+        assertThat(container.toArray()).containsExactly(- 1, 0, 1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    public void setShouldReplaceItem() {
+        final ArrayContainer<String> container = new ArrayContainer<>();
+        container.append("a");
+        container.append("b");
+        container.set(1, "c");
+
+        assertThat(container.toArray()).containsExactly("a", "c");
+    }
+
+    @Test
+    public void removeIndexRangeShouldShiftRemainingItems() {
+        final ArrayContainer<Integer> container = filledContainer(10);
+
+        container.remove(1, 2);
+        container.remove(5, 6);
+
+        assertThat(container.toArray()).containsExactly(0, 3, 4, 5, 6, 9);
+    }
+
+    @Test
+    public void removeFirstAndLastShouldReturnRemovedItems() {
+        final ArrayContainer<Integer> container = filledContainer(3);
+
+        assertThat(container.removeFirst()).isEqualTo(0);
+        assertThat(container.removeLast()).isEqualTo(2);
+        assertThat(container.toArray()).containsExactly(1);
+    }
+
+    @Test
+    public void removeByValueShouldRemoveFirstEqualItem() {
+        final ArrayContainer<String> container = new ArrayContainer<>();
+        container.append("a");
+        container.append("b");
+        container.append("a");
+
+        container.remove("a");
+
+        assertThat(container.toArray()).containsExactly("b", "a");
+    }
+
+    @Test
+    public void removeNotContainedItemShouldThrowException() {
+        final ArrayContainer<String> container = new ArrayContainer<>();
+        container.append("a");
+
+        Throwable thrown = catchThrowable(() ->
+                container.remove("b")
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(ItemToRemoveNotContainedException.class);
+    }
+
+    @Test
+    public void removeMultipleShouldRemoveAllContainedItems() {
+        final ArrayContainer<Integer> container = filledContainer(10);
+        final ArrayContainer<Integer> removedItems = new ArrayContainer<>();
+        removedItems.append(2);
+        removedItems.append(5);
+        removedItems.append(9);
+
+        container.remove(removedItems);
+
+        assertThat(container.toArray()).containsExactly(0, 1, 3, 4, 6, 7, 8);
+    }
+
+    @Test
+    public void retainShouldKeepOnlyContainedItems() {
+        final ArrayContainer<Integer> container = filledContainer(10);
+
+        container.retain(new IterativeContainsAdapter<>(asList(1, 4, 7)));
+
+        assertThat(container.toArray()).containsExactly(1, 4, 7);
+    }
+
+    @Test
+    public void removeAllShouldEmptyContainer() {
+        final ArrayContainer<Integer> container = filledContainer(10);
+
+        container.removeAll();
+        container.append(42);
+
+        assertThat(container.toArray()).containsExactly(42);
+    }
+
+    @Test
+    public void iteratorShouldReplaceAndRemoveItems() {
+        final ArrayContainer<Integer> container = filledContainer(5);
+
+        for (final ReplaceRemoveIterator<Integer> iterator = container.iterator(); iterator.hasNext(); ) {
+            final int item = iterator.next();
+            if (item % 2 == 0)
+                iterator.remove();
+            else
+                iterator.replace(item * 10);
+        }
+
+        assertThat(container.toArray()).containsExactly(10, 30);
+    }
+
+    @Test
+    public void parallelStreamShouldProcessAllItems() {
+        final ArrayContainer<Integer> container = filledContainer(1000);
+
+        assertThat(container.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(499500L);
+        assertThat(container.stream().count()).isEqualTo(1000L);
+    }
+
+    @Test
+    public void getOutOfBoundsShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                filledContainer(3).get(3)
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidContainerIndexException.class);
+    }
+
+    @Test
+    public void insertBehindTailShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                filledContainer(3).insert(4, 0)
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidContainerIndexException.class);
+    }
+
+    @Test
+    public void geometricCapacityStrategyShouldBePluggable() {
+        final ArrayContainer<Integer> container = new ArrayContainer<>(0, (storage, contentIndexRange) ->
+            new ForwardingCapacityStrategy()
+                .with(new GeometricInitialCapacityStrategy(storage, contentIndexRange, GeometricGrowth.DOUBLING))
+                .with(new GeometricHeadCapacityStrategy(storage, contentIndexRange, GeometricGrowth.DOUBLING))
+                .with(new GeometricSplitCapacityStrategy(storage, contentIndexRange, GeometricGrowth.DOUBLING))
+                .with(new GeometricTailCapacityStrategy(storage, contentIndexRange, GeometricGrowth.DOUBLING))
+                .with(new GeometricShrinkCapacityStrategy(storage, contentIndexRange, GeometricGrowth.DOUBLING)));
+
+        for (int item = 0; item < 100; item++)
+            container.insert(item / 2, item);
+        container.shrink();
+
+        assertThat(container.count()).isEqualTo(100);
+        assertThat(container.get(0)).isEqualTo(1);
+    }
+
+    @Test
+    public void randomOperationsShouldMatchArrayList() {
+        final ArrayContainer<Integer> container = new ArrayContainer<>(0);
+        final List<Integer> expectedItems = new ArrayList<>();
+        final Random random = new Random(42);
+
+        for (int item = 0; item < 5000; item++) {
+            final int index = random.nextInt(expectedItems.size() + 1);
+            switch (random.nextInt(5)) {
+                case 0:
+                    container.prepend(item);
+                    expectedItems.add(0, item);
+                    break;
+                case 1:
+                    container.append(item);
+                    expectedItems.add(item);
+                    break;
+                case 2:
+                    container.insert(index, item);
+                    expectedItems.add(index, item);
+                    break;
+                case 3:
+                    if (index < expectedItems.size())
+                        assertThat(container.removeAt(index)).isEqualTo(expectedItems.remove(index));
+                    break;
+                default:
+                    container.shrink();
+            }
+        }
+
+        assertThat(container.count()).isEqualTo(expectedItems.size());
+        final Iterator<Integer> expectedItemsIterator = expectedItems.iterator();
+        for (final Integer item : container)
+            assertThat(item).isEqualTo(expectedItemsIterator.next());
+    }
+
+    @Test
+    public void copyToArrayShouldCopyItemsAtTargetIndex() {
+        final ArrayContainer<Integer> container = new ArrayContainer<>();
+        container.append(1);
+        container.append(2);
+
+        final Integer[] items = new Integer[4];
+        container.copyToArray(items, 1);
+
+        assertThat(items).containsExactly(null, 1, 2, null);
+        assertThat(catchThrowable(() -> container.copyToArray(items, 3)))
+            .isInstanceOf(InvalidContainerIndexException.class);
+    }
+
+    @Test
+    public void maintainedSequenceHashCodeShouldMatchList() {
+        final ArrayContainer<Integer> container = filledContainer(10);
+        final List<Integer> expectedItems = new ArrayList<>(container.toRandomAccessList());
+        final Random random = new Random(42);
+        container.setSequenceHashCodeMaintained(true);
+
+        for (int item = 0; item < 2000; item++) {
+            final int index = random.nextInt(expectedItems.size() + 1);
+            switch (random.nextInt(6)) {
+                case 0:
+                    container.prepend(item);
+                    expectedItems.add(0, item);
+                    break;
+                case 1:
+                    container.append(item);
+                    expectedItems.add(item);
+                    break;
+                case 2:
+                    container.insert(index, item);
+                    expectedItems.add(index, item);
+                    break;
+                case 3:
+                    if (index < expectedItems.size()) {
+                        container.set(index, item);
+                        expectedItems.set(index, item);
+                    }
+                    break;
+                case 4:
+                    if (! expectedItems.isEmpty())
+                        assertThat(container.removeFirst()).isEqualTo(expectedItems.remove(0));
+                    break;
+                default:
+                    if (index < expectedItems.size())
+                        assertThat(container.removeAt(index)).isEqualTo(expectedItems.remove(index));
+            }
+
+            assertThat(container.getSequenceHashCode()).isEqualTo(expectedItems.hashCode());
+        }
+
+        container.append(- 1);
+        assertThat(container.isSequenceHashCodeCached()).isTrue();
+
+        container.removeAll();
+        assertThat(container.getSequenceHashCode()).isEqualTo(1);
+    }
+
+    private static ArrayContainer<Integer> filledContainer(final int count) {
+        final ArrayContainer<Integer> container = new ArrayContainer<>();
+
+        for (int item = 0; item < count; item++)
+            container.append(item);
+
+        return container;
+    }
+}
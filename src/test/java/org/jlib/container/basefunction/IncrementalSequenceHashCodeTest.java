@@ -0,0 +1,88 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+package org.jlib.container.basefunction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IncrementalSequenceHashCodeTest {
+
+    @Test
+    public void newHashCodeShouldMatchEmptyList() {
+        final IncrementalSequenceHashCode hashCode = new IncrementalSequenceHashCode();
+
+        assertThat(hashCode.isValid()).isTrue();
+        assertThat(hashCode.getHashCode()).isEqualTo(new ArrayList<>().hashCode());
+    }
+
+    @Test
+    public void recomputedHashCodeShouldMatchList() {
+        final List<String> items = asList("a", null, "c");
+        final IncrementalSequenceHashCode hashCode = new IncrementalSequenceHashCode();
+        hashCode.invalidate();
+
+        hashCode.recompute(items);
+
+        assertThat(hashCode.isValid()).isTrue();
+        assertThat(hashCode.getHashCode()).isEqualTo(items.hashCode());
+    }
+
+    @Test
+    public void randomOperationsShouldMatchList() {
+        final IncrementalSequenceHashCode hashCode = new IncrementalSequenceHashCode();
+        final List<Integer> expectedItems = new ArrayList<>();
+        final Random random = new Random(42);
+
+        for (int item = 0; item < 5000; item++) {
+            switch (random.nextInt(5)) {
+                case 0:
+                    hashCode.append(item);
+                    expectedItems.add(item);
+                    break;
+                case 1:
+                    hashCode.prepend(item);
+                    expectedItems.add(0, item);
+                    break;
+                case 2:
+                    if (! expectedItems.isEmpty())
+                        hashCode.removeFirst(expectedItems.remove(0));
+                    break;
+                case 3:
+                    if (! expectedItems.isEmpty())
+                        hashCode.removeLast(expectedItems.remove(expectedItems.size() - 1));
+                    break;
+                default:
+                    if (! expectedItems.isEmpty()) {
+                        final int index = random.nextInt(expectedItems.size());
+                        hashCode.replace(expectedItems.size() - 1 - index, expectedItems.set(index, item), item);
+                    }
+            }
+
+            assertThat(hashCode.getHashCode()).isEqualTo(expectedItems.hashCode());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.Locale;
+
+import org.jlib.container.array.ArrayContainer;
+import org.jlib.container.operation.containsadapter.IterativeContainsAdapter;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HashIndexContainsMultipleTest {
+
+    @Test
+    public void largeLookupShouldUseIndexInsteadOfContainer() {
+        final CountingArrayContainer container = new CountingArrayContainer();
+        for (int item = 0; item < 100; item++)
+            container.append(item);
+
+        final HashIndexContainsMultiple<Integer> containsMultiple = new HashIndexContainsMultiple<>(container);
+
+        assertThat(containsMultiple.contains(new IterativeContainsAdapter<>(asList(1, 50, 99)))).isTrue();
+        assertThat(containsMultiple.contains(new IterativeContainsAdapter<>(asList(1, 50, 100)))).isFalse();
+        assertThat(container.containsCallsCount).isEqualTo(0);
+    }
+
+    @Test
+    public void smallLookupShouldBeDelegatedToContainer() {
+        final CountingArrayContainer container = new CountingArrayContainer();
+        for (int item = 0; item < 100; item++)
+            container.append(item);
+
+        final CountingArrayContainer lookupItems = new CountingArrayContainer();
+        lookupItems.append(3);
+        lookupItems.append(4);
+
+        assertThat(new HashIndexContainsMultiple<>(container).contains(lookupItems)).isTrue();
+        assertThat(container.containsCallsCount).isEqualTo(2);
+    }
+
+    @Test
+    public void hashedContainerShouldBeDelegatedTo() {
+        final OpenAddressingHashSet<String> container =
+            new OpenAddressingHashSet<>(10, 0.5f, item -> item.toLowerCase(Locale.ROOT).hashCode(),
+                                        (item, otherItem) -> otherItem instanceof String &&
+                                                             item.equalsIgnoreCase((String) otherItem));
+        for (final String item : asList("a", "b", "c", "d", "e", "f"))
+            container.add(item);
+
+        final HashIndexContainsMultiple<String> containsMultiple = new HashIndexContainsMultiple<>(container);
+
+        assertThat(containsMultiple.contains(new IterativeContainsAdapter<>(asList("A", "B", "C", "D", "E", "F"))))
+            .isTrue();
+    }
+
+    private static class CountingArrayContainer
+        extends ArrayContainer<Integer> {
+
+        private int containsCallsCount;
+
+        @Override
+        public boolean contains(final Integer item) {
+            containsCallsCount++;
+            return super.contains(item);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jlib.container.array.ArrayContainer;
+import org.jlib.container.operation.RemoveSingleByValue;
+import org.jlib.container.operation.containsadapter.IterativeContainsAdapter;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HashIndexRemoveMultipleByMultipleTest {
+
+    @Test
+    public void removeShouldRemoveEachContainedItem() {
+        final ArrayContainer<Integer> container = new ArrayContainer<>();
+        for (int item = 0; item < 10; item++)
+            container.append(item % 5);
+
+        new HashIndexRemoveMultipleByMultiple<>(container).remove(new IterativeContainsAdapter<>(asList(1, 3, 7)));
+
+        assertThat(container.toArray()).containsExactly(0, 2, 4, 0, 2, 4);
+    }
+
+    @Test
+    public void removeShouldUseContainsSingleOfIndexedContainer() {
+        final ArrayContainer<Integer> container = new ArrayContainer<>();
+        for (int item = 0; item < 10; item++)
+            container.append(item);
+
+        final OpenAddressingHashSet<Integer> removedItems = new OpenAddressingHashSet<>();
+        removedItems.add(0);
+        removedItems.add(9);
+
+        new HashIndexRemoveMultipleByMultiple<>(container).remove(removedItems);
+
+        assertThat(container.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    public void multipleRemovableContainerShouldRemoveByIndex() {
+        final ArrayContainer<Integer> container = new ArrayContainer<Integer>() {
+
+            @Override
+            public void remove(final Integer item) {
+                throw new AssertionError("removed single item " + item);
+            }
+        };
+        for (int item = 0; item < 10; item++)
+            container.append(item % 5);
+
+        new HashIndexRemoveMultipleByMultiple<>(container).remove(new IterativeContainsAdapter<>(asList(1, 3, 7)));
+
+        assertThat(container.toArray()).containsExactly(0, 2, 4, 0, 2, 4);
+    }
+
+    @Test
+    public void singleRemovableContainerShouldRemoveEachSelectedItem() {
+        final SingleRemovableItems container = new SingleRemovableItems(asList(0, 1, 2, 3, 1));
+
+        new HashIndexRemoveMultipleByMultiple<>(container).remove(new IterativeContainsAdapter<>(asList(1, 3)));
+
+        assertThat(container.items).isEqualTo(asList(0, 2));
+    }
+
+    private static class SingleRemovableItems
+        implements Iterable<Integer>,
+                   RemoveSingleByValue<Integer> {
+
+        private final List<Integer> items;
+
+        private SingleRemovableItems(final List<Integer> items) {
+            this.items = new ArrayList<>(items);
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return items.iterator();
+        }
+
+        @Override
+        public void remove(final Integer item) {
+            items.remove(item);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.jlib.container.operation.ItemAlreadyContainedException;
+import org.jlib.container.operation.ItemToRemoveNotContainedException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class IntHashSetTest {
+
+    @Test
+    public void expectedItemsShouldFitWithoutGrowth() {
+        final IntHashSet set = new IntHashSet(12, 0.75f);
+
+        assertThat(set.getSlotsCount()).isEqualTo(17);
+
+        for (int item = 1; item <= 12; item++)
+            set.add(item);
+
+        assertThat(set.getSlotsCount()).isEqualTo(17);
+    }
+
+    @Test
+    public void addedItemsShouldBeContainedAcrossGrowth() {
+        final IntHashSet set = new IntHashSet(0);
+
+        for (int item = - 500; item < 500; item++)
+            set.add(item * 1024);
+
+        assertThat(set.count()).isEqualTo(1000);
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.contains(- 1024)).isTrue();
+        assertThat(set.contains(1)).isFalse();
+    }
+
+    @Test
+    public void zeroShouldBeAddedAndRemoved() {
+        final IntHashSet set = new IntHashSet();
+
+        assertThat(set.contains(0)).isFalse();
+
+        set.add(0);
+        set.add(5);
+
+        assertThat(catchThrowable(() -> set.add(0))).isInstanceOf(ItemAlreadyContainedException.class);
+        assertThat(set.toIntArray()).containsExactly(5, 0);
+
+        set.remove(0);
+
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.count()).isEqualTo(1);
+        assertThat(catchThrowable(() -> set.remove(0))).isInstanceOf(ItemToRemoveNotContainedException.class);
+    }
+
+    @Test
+    public void randomOperationsShouldMatchHashSet() {
+        final Random random = new Random(42);
+        final IntHashSet set = new IntHashSet(0);
+        final Set<Integer> expectedSet = new HashSet<>();
+
+        for (int operation = 0; operation < 20000; operation++) {
+            final int item = random.nextInt(500) - 250;
+
+            if (random.nextBoolean())
+                assertThat(set.ensureContained(item)).isEqualTo(expectedSet.add(item));
+            else if (expectedSet.remove(item))
+                set.remove(item);
+            else
+                assertThat(set.contains(item)).isFalse();
+        }
+
+        final Set<Integer> items = new HashSet<>();
+        set.forEach(items::add);
+
+        assertThat(items).isEqualTo(expectedSet);
+        assertThat(set.count()).isEqualTo(expectedSet.size());
+    }
+
+    @Test
+    public void retainShouldRebuildTable() {
+        final IntHashSet set = new IntHashSet();
+
+        for (int item = 0; item < 100; item++)
+            set.add(item);
+
+        set.retain(item -> item % 10 == 0);
+        set.shrink();
+
+        assertThat(set.count()).isEqualTo(10);
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.contains(90)).isTrue();
+        assertThat(set.contains(91)).isFalse();
+
+        set.removeAll();
+
+        assertThat(set.isEmpty()).isTrue();
+    }
+}
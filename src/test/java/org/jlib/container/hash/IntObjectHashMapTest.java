@@ -0,0 +1,100 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class IntObjectHashMapTest {
+
+    @Test
+    public void putShouldAddAndReplaceMappings() {
+        final IntObjectHashMap<String> map = new IntObjectHashMap<>(0);
+        map.put(1 << 20, "a");
+        map.put(0, "zero");
+        map.put(1 << 20, "b");
+
+        assertThat(map.count()).isEqualTo(2);
+        assertThat(map.get(1 << 20)).isEqualTo("b");
+        assertThat(map.get(0)).isEqualTo("zero");
+        assertThat(map.getOrDefault(1, "none")).isEqualTo("none");
+        assertThat(map.putIfAbsent(0, "other")).isFalse();
+        assertThat(map.putIfAbsent(1, "one")).isTrue();
+        assertThat(catchThrowable(() -> map.get(2))).isInstanceOf(KeyNotContainedException.class);
+        assertThat(catchThrowable(() -> map.remove(2))).isInstanceOf(KeyNotContainedException.class);
+    }
+
+    @Test
+    public void valuesShouldSurviveGrowthAndShrinking() {
+        final IntObjectHashMap<String> map = new IntObjectHashMap<>(0);
+        map.put(0, "zero");
+
+        for (int key = 1; key <= 1000; key++)
+            map.put(key * 7919, "v" + key);
+
+        for (int key = 1; key <= 990; key++)
+            assertThat(map.remove(key * 7919)).isEqualTo("v" + key);
+
+        map.shrink();
+
+        assertThat(map.get(0)).isEqualTo("zero");
+        assertThat(map.get(1000 * 7919)).isEqualTo("v1000");
+        assertThat(map.count()).isEqualTo(11);
+
+        map.removeAll();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.contains(0)).isFalse();
+    }
+
+    @Test
+    public void randomOperationsShouldMatchHashMap() {
+        final Random random = new Random(42);
+        final IntObjectHashMap<Integer> map = new IntObjectHashMap<>(0);
+        final Map<Integer, Integer> expectedMap = new HashMap<>();
+
+        for (int operation = 0; operation < 20000; operation++) {
+            final int key = (random.nextInt(500) - 250) * 4096;
+
+            if (random.nextBoolean()) {
+                map.put(key, operation);
+                expectedMap.put(key, operation);
+            }
+            else if (expectedMap.containsKey(key))
+                assertThat(map.remove(key)).isEqualTo(expectedMap.remove(key));
+            else
+                assertThat(map.contains(key)).isFalse();
+        }
+
+        final Map<Integer, Integer> mappings = new HashMap<>();
+        map.forEachKey(key -> mappings.put(key, map.get(key)));
+
+        assertThat(mappings).isEqualTo(expectedMap);
+        assertThat(map.toKeyArray().length).isEqualTo(expectedMap.size());
+    }
+}
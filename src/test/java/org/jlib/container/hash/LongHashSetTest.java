@@ -0,0 +1,112 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.jlib.container.operation.ItemAlreadyContainedException;
+import org.jlib.container.operation.ItemToRemoveNotContainedException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class LongHashSetTest {
+
+    @Test
+    public void addedItemsShouldBeContainedAcrossGrowth() {
+        final LongHashSet set = new LongHashSet(0);
+
+        for (long item = - 500; item < 500; item++)
+            set.add(item << 32);
+
+        assertThat(set.count()).isEqualTo(1000);
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(- 1L << 32)).isTrue();
+        assertThat(set.contains(1L)).isFalse();
+    }
+
+    @Test
+    public void zeroShouldBeAddedAndRemoved() {
+        final LongHashSet set = new LongHashSet();
+
+        assertThat(set.contains(0L)).isFalse();
+
+        set.add(0L);
+        set.add(5L);
+
+        assertThat(catchThrowable(() -> set.add(0L))).isInstanceOf(ItemAlreadyContainedException.class);
+        assertThat(set.toLongArray()).containsExactly(5L, 0L);
+
+        set.remove(0L);
+
+        assertThat(set.contains(0L)).isFalse();
+        assertThat(set.count()).isEqualTo(1);
+        assertThat(catchThrowable(() -> set.remove(0L))).isInstanceOf(ItemToRemoveNotContainedException.class);
+    }
+
+    @Test
+    public void randomOperationsShouldMatchHashSet() {
+        final Random random = new Random(42);
+        final LongHashSet set = new LongHashSet(0);
+        final Set<Long> expectedSet = new HashSet<>();
+
+        for (int operation = 0; operation < 20000; operation++) {
+            final long item = (random.nextInt(500) - 250) * 0x100000001L;
+
+            if (random.nextBoolean())
+                assertThat(set.ensureContained(item)).isEqualTo(expectedSet.add(item));
+            else if (expectedSet.remove(item))
+                set.remove(item);
+            else
+                assertThat(set.contains(item)).isFalse();
+        }
+
+        final Set<Long> items = new HashSet<>();
+        set.forEach(items::add);
+
+        assertThat(items).isEqualTo(expectedSet);
+        assertThat(set.count()).isEqualTo(expectedSet.size());
+    }
+
+    @Test
+    public void retainShouldRebuildTable() {
+        final LongHashSet set = new LongHashSet();
+
+        for (long item = 0; item < 100; item++)
+            set.add(item);
+
+        set.retain(item -> item % 10 == 0);
+        set.shrink();
+
+        assertThat(set.count()).isEqualTo(10);
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(90L)).isTrue();
+        assertThat(set.contains(91L)).isFalse();
+
+        set.removeAll();
+
+        assertThat(set.isEmpty()).isTrue();
+    }
+}
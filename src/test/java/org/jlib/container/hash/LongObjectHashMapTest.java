@@ -0,0 +1,89 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class LongObjectHashMapTest {
+
+    @Test
+    public void putShouldAddAndReplaceMappings() {
+        final LongObjectHashMap<String> map = new LongObjectHashMap<>(0);
+        map.put(1L << 40, "a");
+        map.put(0L, "zero");
+        map.put(1L << 40, "b");
+
+        assertThat(map.count()).isEqualTo(2);
+        assertThat(map.get(1L << 40)).isEqualTo("b");
+        assertThat(map.get(0L)).isEqualTo("zero");
+        assertThat(map.getOrDefault(1L, "none")).isEqualTo("none");
+        assertThat(map.putIfAbsent(0L, "other")).isFalse();
+        assertThat(catchThrowable(() -> map.get(1L))).isInstanceOf(KeyNotContainedException.class);
+    }
+
+    @Test
+    public void zeroKeyValueShouldSurviveGrowth() {
+        final LongObjectHashMap<String> map = new LongObjectHashMap<>(0);
+        map.put(0L, "zero");
+
+        for (long key = 1; key <= 1000; key++)
+            map.put(key * 7919, "v" + key);
+
+        assertThat(map.get(0L)).isEqualTo("zero");
+        assertThat(map.remove(0L)).isEqualTo("zero");
+        assertThat(map.contains(0L)).isFalse();
+        assertThat(map.count()).isEqualTo(1000);
+    }
+
+    @Test
+    public void randomOperationsShouldMatchHashMap() {
+        final Random random = new Random(42);
+        final LongObjectHashMap<Integer> map = new LongObjectHashMap<>(0);
+        final Map<Long, Integer> expectedMap = new HashMap<>();
+
+        for (int operation = 0; operation < 20000; operation++) {
+            final long key = random.nextInt(500) * 0x100000001L;
+
+            if (random.nextBoolean()) {
+                map.put(key, operation);
+                expectedMap.put(key, operation);
+            }
+            else if (expectedMap.containsKey(key))
+                assertThat(map.remove(key)).isEqualTo(expectedMap.remove(key));
+            else
+                assertThat(map.contains(key)).isFalse();
+        }
+
+        final Map<Long, Integer> mappings = new HashMap<>();
+        map.forEachKey(key -> mappings.put(key, map.get(key)));
+
+        assertThat(mappings).isEqualTo(expectedMap);
+        assertThat(map.toKeyArray().length).isEqualTo(expectedMap.size());
+    }
+}
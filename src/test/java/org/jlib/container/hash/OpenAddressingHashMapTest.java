@@ -0,0 +1,130 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class OpenAddressingHashMapTest {
+
+    @Test
+    public void putShouldAddAndReplaceMappings() {
+        final OpenAddressingHashMap<String, Integer> map = new OpenAddressingHashMap<>(0);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("a", 3);
+
+        assertThat(map.count()).isEqualTo(2);
+        assertThat(map.get("a")).isEqualTo(3);
+        assertThat(map.get("b")).isEqualTo(2);
+        assertThat(map.getOrDefault("c", 0)).isEqualTo(0);
+        assertThat(map.putIfAbsent("a", 4)).isFalse();
+        assertThat(map.putIfAbsent("c", 5)).isTrue();
+        assertThat(map.get("a")).isEqualTo(3);
+        assertThat(map.get("c")).isEqualTo(5);
+    }
+
+    @Test
+    public void missingKeyShouldThrowException() {
+        final OpenAddressingHashMap<String, Integer> map = new OpenAddressingHashMap<>();
+
+        assertThat(catchThrowable(() -> map.get("a"))).isInstanceOf(KeyNotContainedException.class);
+        assertThat(catchThrowable(() -> map.remove("a"))).isInstanceOf(KeyNotContainedException.class);
+    }
+
+    @Test
+    public void nullKeyAndValueShouldBeSupported() {
+        final OpenAddressingHashMap<String, String> map = new OpenAddressingHashMap<>();
+        map.put(null, "a");
+        map.put("b", null);
+
+        assertThat(map.get(null)).isEqualTo("a");
+        assertThat(map.contains("b")).isTrue();
+        assertThat(map.get("b")).isNull();
+        assertThat(map.remove(null)).isEqualTo("a");
+        assertThat(map.contains((String) null)).isFalse();
+    }
+
+    @Test
+    public void valuesShouldMoveWithKeysOnRemoval() {
+        final OpenAddressingHashMap<Integer, String> map =
+            new OpenAddressingHashMap<>(16, 0.75f, key -> key % 2, Object::equals);
+
+        for (int key = 0; key < 10; key++)
+            map.put(key, "v" + key);
+
+        map.remove(0);
+        map.remove(5);
+
+        for (int key = 1; key < 10; key++)
+            if (key != 5)
+                assertThat(map.get(key)).isEqualTo("v" + key);
+    }
+
+    @Test
+    public void randomOperationsShouldMatchHashMap() {
+        final Random random = new Random(42);
+        final OpenAddressingHashMap<Integer, Integer> map = new OpenAddressingHashMap<>(0);
+        final Map<Integer, Integer> expectedMap = new HashMap<>();
+
+        for (int operation = 0; operation < 20000; operation++) {
+            final Integer key = random.nextInt(500);
+
+            if (random.nextBoolean()) {
+                map.put(key, operation);
+                expectedMap.put(key, operation);
+            }
+            else if (expectedMap.containsKey(key))
+                assertThat(map.remove(key)).isEqualTo(expectedMap.remove(key));
+            else
+                assertThat(map.contains(key)).isFalse();
+        }
+
+        assertThat(map.toMap()).isEqualTo(expectedMap);
+    }
+
+    @Test
+    public void retainAndKeyIteratorShouldRemoveMappings() {
+        final OpenAddressingHashMap<Integer, Integer> map = new OpenAddressingHashMap<>();
+
+        for (int key = 0; key < 20; key++)
+            map.put(key, key * key);
+
+        map.retain((key, value) -> value % 2 == 0);
+
+        assertThat(map.count()).isEqualTo(10);
+
+        for (final Iterator<Integer> iterator = map.keys().iterator(); iterator.hasNext(); )
+            if (iterator.next() % 4 == 0)
+                iterator.remove();
+
+        assertThat(map.keys()).containsExactlyInAnyOrder(2, 6, 10, 14, 18);
+        assertThat(map.values()).containsExactlyInAnyOrder(4, 36, 100, 196, 324);
+    }
+}
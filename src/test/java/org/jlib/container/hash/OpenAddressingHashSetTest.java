@@ -0,0 +1,269 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.hash;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+
+import org.jlib.container.operation.ItemAlreadyContainedException;
+import org.jlib.container.operation.ItemToRemoveNotContainedException;
+import org.jlib.container.operation.containsadapter.IterativeContainsAdapter;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class OpenAddressingHashSetTest {
+
+    @Test
+    public void newSetShouldBeEmpty() {
+        final OpenAddressingHashSet<String> set = new OpenAddressingHashSet<>();
+
+        assertThat(set.count()).isEqualTo(0);
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    public void expectedItemsShouldFitWithoutGrowth() {
+        final OpenAddressingHashSet<Integer> set = new OpenAddressingHashSet<>(12);
+
+        assertThat(set.getSlotsCount()).isEqualTo(16);
+
+        for (int item = 0; item < 12; item++)
+            set.add(item);
+
+        assertThat(set.getSlotsCount()).isEqualTo(16);
+    }
+
+    @Test
+    public void addedItemsShouldBeContainedAcrossGrowth() {
+        final OpenAddressingHashSet<Integer> set = new OpenAddressingHashSet<>(0);
+
+        for (int item = 0; item < 1000; item++)
+            set.add(item * 64);
+
+        assertThat(set.count()).isEqualTo(1000);
+
+        for (int item = 0; item < 1000; item++)
+            assertThat(set.contains(item * 64)).isTrue();
+
+        assertThat(set.contains(1)).isFalse();
+    }
+
+    @Test
+    public void addingContainedItemShouldThrowException() {
+        final OpenAddressingHashSet<String> set = new OpenAddressingHashSet<>();
+        set.add("a");
+
+        assertThat(catchThrowable(() -> set.add("a"))).isInstanceOf(ItemAlreadyContainedException.class);
+        assertThat(set.ensureContained("a")).isFalse();
+        assertThat(set.ensureContained("b")).isTrue();
+        assertThat(set.count()).isEqualTo(2);
+    }
+
+    @Test
+    public void nullItemShouldBeSupported() {
+        final OpenAddressingHashSet<String> set = new OpenAddressingHashSet<>();
+        set.add("a");
+
+        assertThat(set.contains((String) null)).isFalse();
+
+        set.add((String) null);
+
+        assertThat(set.contains((String) null)).isTrue();
+        assertThat(set.toArray()).containsExactlyInAnyOrder("a", null);
+
+        set.remove((String) null);
+
+        assertThat(set.contains((String) null)).isFalse();
+        assertThat(set.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void removingMissingItemShouldThrowException() {
+        final OpenAddressingHashSet<String> set = new OpenAddressingHashSet<>();
+
+        assertThat(catchThrowable(() -> set.remove("a"))).isInstanceOf(ItemToRemoveNotContainedException.class);
+    }
+
+    @Test
+    public void invalidLoadFactorShouldThrowException() {
+        assertThat(catchThrowable(() -> new OpenAddressingHashSet<>(16, 1f, Object::hashCode, Object::equals)))
+            .isInstanceOf(InvalidHashTableParameterException.class);
+        assertThat(catchThrowable(() -> new OpenAddressingHashSet<>(- 1)))
+            .isInstanceOf(InvalidHashTableParameterException.class);
+    }
+
+    @Test
+    public void customHashCodeAndEqualsShouldBeUsed() {
+        final OpenAddressingHashSet<String> set =
+            new OpenAddressingHashSet<>(4, 0.5f, item -> item.toLowerCase().hashCode(),
+                                        (item, other) -> other instanceof String &&
+                                                         item.equalsIgnoreCase((String) other));
+        set.add("Abc");
+
+        assertThat(set.contains("aBC")).isTrue();
+        assertThat(set.ensureContained("ABC")).isFalse();
+    }
+
+    @Test
+    public void collidingItemsShouldSurviveRemovals() {
+        final OpenAddressingHashSet<Integer> set =
+            new OpenAddressingHashSet<>(16, 0.75f, item -> 0, Object::equals);
+
+        for (int item = 0; item < 10; item++)
+            set.add(item);
+
+        set.remove(3);
+        set.remove(0);
+        set.remove(9);
+
+        assertThat(set.toArray()).containsExactlyInAnyOrder(1, 2, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    public void randomOperationsShouldMatchHashSet() {
+        final Random random = new Random(42);
+        final OpenAddressingHashSet<Integer> set = new OpenAddressingHashSet<>(0);
+        final Set<Integer> expectedSet = new HashSet<>();
+
+        for (int operation = 0; operation < 20000; operation++) {
+            final Integer item = random.nextInt(500);
+
+            if (random.nextBoolean())
+                assertThat(set.ensureContained(item)).isEqualTo(expectedSet.add(item));
+            else if (expectedSet.remove(item))
+                set.remove(item);
+            else
+                assertThat(set.contains(item)).isFalse();
+        }
+
+        assertThat(set.toSet()).isEqualTo(expectedSet);
+        assertThat(set.count()).isEqualTo(expectedSet.size());
+    }
+
+    @Test
+    public void iteratorRemoveShouldVisitEachItemOnce() {
+        final Random random = new Random(7);
+
+        for (int round = 0; round < 200; round++) {
+            final OpenAddressingHashSet<Integer> set = new OpenAddressingHashSet<>(8, 0.75f, item -> item % 3,
+                                                                                   Object::equals);
+            final Set<Integer> expectedSet = new HashSet<>();
+
+            for (int index = random.nextInt(12); index >= 0; index--) {
+                final Integer item = random.nextInt(100);
+                set.ensureContained(item);
+                expectedSet.add(item);
+            }
+
+            final Set<Integer> visitedItems = new HashSet<>();
+            final Set<Integer> retainedItems = new HashSet<>();
+
+            for (final Iterator<Integer> iterator = set.iterator(); iterator.hasNext(); ) {
+                final Integer item = iterator.next();
+
+                assertThat(visitedItems.add(item)).isTrue();
+
+                if (random.nextBoolean())
+                    iterator.remove();
+                else
+                    retainedItems.add(item);
+            }
+
+            assertThat(visitedItems).isEqualTo(expectedSet);
+            assertThat(set.toSet()).isEqualTo(retainedItems);
+        }
+    }
+
+    @Test
+    public void removeAndRetainMultipleShouldRebuildTable() {
+        final OpenAddressingHashSet<Integer> set = new OpenAddressingHashSet<>();
+
+        for (int item = 0; item < 10; item++)
+            set.add(item);
+
+        set.retain(new IterativeContainsAdapter<>(asList(1, 2, 3, 4, 5, 11)));
+
+        assertThat(set.toArray()).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+
+        final OpenAddressingHashSet<Integer> removedItems = new OpenAddressingHashSet<>();
+        removedItems.add(2);
+        removedItems.add(4);
+        set.remove(removedItems);
+
+        assertThat(set.toArray()).containsExactlyInAnyOrder(1, 3, 5);
+        assertThat(set.contains(3)).isTrue();
+
+        set.removeAll();
+
+        assertThat(set.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void parallelStreamShouldProvideAllItems() {
+        final OpenAddressingHashSet<Integer> set = new OpenAddressingHashSet<>();
+
+        for (int item = 0; item < 10000; item++)
+            set.add(item);
+
+        set.shrink();
+
+        assertThat(set.parallelStream().collect(toSet())).hasSize(10000);
+        assertThat(set.stream().mapToInt(Integer::intValue).sum()).isEqualTo(49995000);
+    }
+
+    @Test
+    public void maintainedUnorderedHashCodeShouldMatchHashSet() {
+        final OpenAddressingHashSet<Integer> set = new OpenAddressingHashSet<>();
+        final Set<Integer> expectedItems = new HashSet<>();
+        final Random random = new Random(42);
+        set.setUnorderedHashCodeMaintained(true);
+
+        for (int operation = 0; operation < 2000; operation++) {
+            final Integer item = random.nextInt(100);
+            if (random.nextBoolean())
+                assertThat(set.ensureContained(item)).isEqualTo(expectedItems.add(item));
+            else if (expectedItems.remove(item))
+                set.remove(item);
+
+            assertThat(set.isUnorderedHashCodeCached()).isTrue();
+            assertThat(set.getUnorderedHashCode()).isEqualTo(expectedItems.hashCode());
+        }
+
+        final Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext())
+            if (iterator.next() % 2 == 0)
+                iterator.remove();
+        expectedItems.removeIf(item -> item % 2 == 0);
+        assertThat(set.getUnorderedHashCode()).isEqualTo(expectedItems.hashCode());
+
+        set.retain(new IterativeContainsAdapter<>(asList(1, 3, 5)));
+        expectedItems.retainAll(asList(1, 3, 5));
+        assertThat(set.getUnorderedHashCode()).isEqualTo(expectedItems.hashCode());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ArrayAdoptingListTest {
+
+    @Test
+    public void listShouldProvideAdoptedItems() {
+        final List<String> list = new ArrayAdoptingList<>(new String[] { "a", "b" });
+
+        assertThat(list).containsExactly("a", "b");
+        assertThat(list.set(1, "c")).isEqualTo("b");
+        assertThat(list).containsExactly("a", "c");
+    }
+
+    @Test
+    public void addAndRemoveShouldResizeList() {
+        final List<Integer> list = new ArrayAdoptingList<>(new Integer[0]);
+
+        for (int item = 0; item < 100; item++)
+            list.add(item);
+        list.add(0, - 1);
+
+        assertThat(list.size()).isEqualTo(101);
+        assertThat(list.get(0)).isEqualTo(- 1);
+        assertThat(list.get(100)).isEqualTo(99);
+
+        assertThat(list.remove(0)).isEqualTo(- 1);
+        assertThat(list.remove(99)).isEqualTo(99);
+        assertThat(list.size()).isEqualTo(99);
+        assertThat(list.get(98)).isEqualTo(98);
+    }
+
+    @Test
+    public void invalidIndexShouldThrowException() {
+        final List<String> list = new ArrayAdoptingList<>(new String[] { "a" });
+
+        assertThat(catchThrowable(() -> list.get(1))).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> list.add(2, "b"))).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> list.remove(- 1))).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation;
+
+import org.jlib.container.array.ArrayContainer;
+import org.jlib.container.hash.OpenAddressingHashSet;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CountIterableToArrayTest {
+
+    @Test
+    public void copyToArrayContainerShouldBeCopiedInBulk() {
+        final ArrayContainer<Integer> container = new ArrayContainer<>();
+        container.append(2);
+        container.append(3);
+        container.prepend(1);
+
+        assertThat(new CountIterableToArray<>(container).toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void otherContainerShouldBeTraversed() {
+        final OpenAddressingHashSet<Integer> set = new OpenAddressingHashSet<>();
+        set.add(7);
+
+        assertThat(new CountIterableToArray<>(set).toArray()).containsExactly(7);
+    }
+}
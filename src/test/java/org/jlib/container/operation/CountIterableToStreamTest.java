@@ -0,0 +1,95 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import org.jlib.container.array.ArrayContainer;
+import org.jlib.container.hash.OpenAddressingHashSet;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CountIterableToStreamTest {
+
+    @Test
+    public void arrayContainerShouldBeStreamedSequentially() {
+        final CountIterableToStream<Integer, ArrayContainer<Integer>> toStream =
+            new CountIterableToStream<>(container(1000));
+
+        assertThat(toStream.stream().isParallel()).isFalse();
+        assertThat(toStream.stream().collect(toList())).isEqualTo(expectedItems(1000));
+    }
+
+    @Test
+    public void arrayContainerShouldBeStreamedInParallel() {
+        final CountIterableToStream<Integer, ArrayContainer<Integer>> toStream =
+            new CountIterableToStream<>(container(1000));
+
+        assertThat(toStream.parallelStream().isParallel()).isTrue();
+        assertThat(toStream.parallelStream().collect(toList())).isEqualTo(expectedItems(1000));
+        assertThat(toStream.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(999L * 1000L / 2L);
+    }
+
+    @Test
+    public void arrayContainerShouldBeSplitByIndex() {
+        final Spliterator<Integer> spliterator = new CountIterableToStream<>(container(1000)).stream().spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(1000L);
+
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(500L);
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(500L);
+    }
+
+    @Test
+    public void otherContainerShouldBeStreamedWithKnownSize() {
+        final OpenAddressingHashSet<Integer> set = new OpenAddressingHashSet<>();
+        for (int item = 0; item < 1000; item++)
+            set.add(item);
+
+        final CountIterableToStream<Integer, OpenAddressingHashSet<Integer>> toStream =
+            new CountIterableToStream<>(set);
+
+        assertThat(toStream.stream().spliterator().getExactSizeIfKnown()).isEqualTo(1000L);
+        assertThat(toStream.stream().mapToLong(Integer::longValue).sum()).isEqualTo(999L * 1000L / 2L);
+        assertThat(toStream.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(999L * 1000L / 2L);
+    }
+
+    private static List<Integer> expectedItems(final int count) {
+        return IntStream.range(0, count).boxed().collect(toList());
+    }
+
+    private static ArrayContainer<Integer> container(final int count) {
+        final ArrayContainer<Integer> container = new ArrayContainer<>();
+
+        for (int item = 0; item < count; item++)
+            container.append(item);
+
+        return container;
+    }
+}
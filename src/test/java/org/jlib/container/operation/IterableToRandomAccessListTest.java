@@ -0,0 +1,52 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation;
+
+import java.util.List;
+
+import org.jlib.container.array.ArrayContainer;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IterableToRandomAccessListTest {
+
+    @Test
+    public void copyToArrayContainerShouldBeCopiedInBulk() {
+        final ArrayContainer<String> container = new ArrayContainer<>();
+        container.append("b");
+        container.prepend("a");
+
+        final List<String> list = new IterableToRandomAccessList<>(container).toRandomAccessList();
+        list.add("c");
+
+        assertThat(list).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void plainIterableShouldBeTraversed() {
+        final Iterable<Integer> iterable = asList(1, 2, 3)::iterator;
+
+        assertThat(new IterableToRandomAccessList<>(iterable).toRandomAccessList()).containsExactly(1, 2, 3);
+    }
+}
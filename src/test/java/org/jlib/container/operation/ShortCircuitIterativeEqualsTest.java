@@ -0,0 +1,152 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.jlib.container.array.ArrayContainer;
+import org.jlib.container.basefunction.CachedSequenceHashCode;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShortCircuitIterativeEqualsTest {
+
+    private final ShortCircuitIterativeEquals<Integer> equals = ShortCircuitIterativeEquals.getInstance();
+
+    @Test
+    public void equalItemsShouldBeEqual() {
+        assertThat(equals.areEqual(container(1, 2, 3), container(1, 2, 3))).isTrue();
+        assertThat(equals.areEqual(container(1, 2, 3), asList(1, 2, 3))).isTrue();
+        assertThat(equals.areEqual(container(1, 2, 3), container(1, 3, 2))).isFalse();
+        assertThat(equals.areEqual(container(1, 2, 3), "1, 2, 3")).isFalse();
+    }
+
+    @Test
+    public void differentCountsShouldBeUnequalWithoutTraversal() {
+        final UntraversableItems items1 = new UntraversableItems(3, 42);
+        final UntraversableItems items2 = new UntraversableItems(4, 42);
+
+        assertThat(equals.areEqual(items1, items2)).isFalse();
+    }
+
+    @Test
+    public void differentCachedHashCodesShouldBeUnequalWithoutTraversal() {
+        final UntraversableItems items1 = new UntraversableItems(3, 42);
+        final UntraversableItems items2 = new UntraversableItems(3, 43);
+
+        assertThat(equals.areEqual(items1, items2)).isFalse();
+    }
+
+    @Test
+    public void uncachedHashCodesShouldBeIgnored() {
+        final ArrayContainer<Integer> container = container(1, 2);
+        final List<Integer> list = asList(1, 2);
+
+        assertThat(equals.areEqual(new TraversableItems(list, 1, false), container)).isTrue();
+    }
+
+    private static ArrayContainer<Integer> container(final Integer... items) {
+        final ArrayContainer<Integer> container = new ArrayContainer<>();
+
+        for (final Integer item : items)
+            container.append(item);
+
+        return container;
+    }
+
+    private static class TraversableItems
+        implements Iterable<Integer>,
+                   Count<Integer>,
+                   CachedSequenceHashCode<Integer> {
+
+        private final List<Integer> items;
+
+        private final int sequenceHashCode;
+
+        private final boolean sequenceHashCodeCached;
+
+        private TraversableItems(final List<Integer> items, final int sequenceHashCode,
+                                 final boolean sequenceHashCodeCached) {
+            this.items = items;
+            this.sequenceHashCode = sequenceHashCode;
+            this.sequenceHashCodeCached = sequenceHashCodeCached;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return items.iterator();
+        }
+
+        @Override
+        public int count() {
+            return items.size();
+        }
+
+        @Override
+        public boolean isSequenceHashCodeCached() {
+            return sequenceHashCodeCached;
+        }
+
+        @Override
+        public int getSequenceHashCode() {
+            return sequenceHashCode;
+        }
+    }
+
+    private static class UntraversableItems
+        implements Iterable<Integer>,
+                   Count<Integer>,
+                   CachedSequenceHashCode<Integer> {
+
+        private final int count;
+
+        private final int sequenceHashCode;
+
+        private UntraversableItems(final int count, final int sequenceHashCode) {
+            this.count = count;
+            this.sequenceHashCode = sequenceHashCode;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            throw new AssertionError("traversed");
+        }
+
+        @Override
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public boolean isSequenceHashCodeCached() {
+            return true;
+        }
+
+        @Override
+        public int getSequenceHashCode() {
+            return sequenceHashCode;
+        }
+    }
+}
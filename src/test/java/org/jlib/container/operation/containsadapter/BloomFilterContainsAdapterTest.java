@@ -0,0 +1,120 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation.containsadapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.jlib.container.hash.OpenAddressingHashSet;
+import org.jlib.container.operation.ContainsSingle;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class BloomFilterContainsAdapterTest {
+
+    @Test
+    public void containedItemsShouldPassFilter() {
+        final OpenAddressingHashSet<Integer> items = createItems(10000);
+        final BloomFilterContainsAdapter<Integer> adapter = new BloomFilterContainsAdapter<>(items, 0.01);
+
+        for (int item = 0; item < 10000; item++) {
+            assertThat(adapter.mightContain(item * 3)).isTrue();
+            assertThat(adapter.contains(item * 3)).isTrue();
+        }
+    }
+
+    @Test
+    public void falsePositiveRateShouldMatchProbability() {
+        final BloomFilterContainsAdapter<Integer> adapter = new BloomFilterContainsAdapter<>(createItems(10000), 0.01);
+        int falsePositivesCount = 0;
+
+        for (int item = 0; item < 10000; item++) {
+            final Integer missingItem = item * 3 + 1;
+
+            if (adapter.mightContain(missingItem))
+                falsePositivesCount++;
+
+            assertThat(adapter.contains(missingItem)).isFalse();
+        }
+
+        assertThat(falsePositivesCount).isLessThan(300);
+    }
+
+    @Test
+    public void filterShouldBeBuiltFromItemsAtConstruction() {
+        final List<String> list = new ArrayList<>();
+        list.add("a");
+
+        final BloomFilterContainsAdapter<String> adapter =
+            new BloomFilterContainsAdapter<>(new IterativeContainsAdapter<>(list));
+
+        assertThat(adapter.contains("a")).isTrue();
+        assertThat(adapter).containsExactly("a");
+    }
+
+    @Test
+    public void invalidProbabilityShouldThrowException() {
+        assertThat(catchThrowable(() -> new BloomFilterContainsAdapter<>(createItems(1), 1.0)))
+            .isInstanceOf(InvalidFalsePositiveProbabilityException.class);
+        assertThat(catchThrowable(() -> new BloomFilterContainsAdapter<>(createItems(1), Double.NaN)))
+            .isInstanceOf(InvalidFalsePositiveProbabilityException.class);
+    }
+
+    @Test
+    public void prefilterShouldKeepContainerWithUnknownEquality() {
+        final OpenAddressingHashSet<String> items =
+            new OpenAddressingHashSet<>(1, 0.5f, item -> item.toLowerCase(Locale.ROOT).hashCode(),
+                                        (item, otherItem) -> otherItem instanceof String &&
+                                                             item.equalsIgnoreCase((String) otherItem));
+        items.add("A");
+
+        final ContainsSingle<String> lookupItems = BloomFilterContainsAdapter.prefilter(items, 0.01, null);
+
+        assertThat(lookupItems).isSameAs(items);
+        assertThat(lookupItems.contains("a")).isTrue();
+    }
+
+    @Test
+    public void prefilterShouldFilterByEqualsOrSpecifiedHashCode() {
+        final IterativeContainsAdapter<String> items = new IterativeContainsAdapter<>(asList("a", "b"));
+        final BloomFilterContainsAdapter<String> filter = new BloomFilterContainsAdapter<>(items);
+
+        assertThat(BloomFilterContainsAdapter.prefilter(items, 0.01, null))
+            .isInstanceOf(BloomFilterContainsAdapter.class);
+        assertThat(BloomFilterContainsAdapter.prefilter(createItems(1), 0.01, Object::hashCode))
+            .isInstanceOf(BloomFilterContainsAdapter.class);
+        assertThat(BloomFilterContainsAdapter.prefilter(filter, 0.01, null)).isSameAs(filter);
+    }
+
+    private static OpenAddressingHashSet<Integer> createItems(final int itemsCount) {
+        final OpenAddressingHashSet<Integer> items = new OpenAddressingHashSet<>(itemsCount);
+
+        for (int item = 0; item < itemsCount; item++)
+            items.add(item * 3);
+
+        return items;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.operation.containsadapter;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.jlib.container.array.ArrayContainer;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jlib.container.operation.containsadapter.ContainsAdapterUtility.allOf;
+
+public class IndexingContainsAdapterTest {
+
+    @Test
+    public void largeItemsShouldBeTraversedOnceForAllLookups() {
+        final CountingIterable items = new CountingIterable(asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        final IndexingContainsAdapter<Integer> adapter = new IndexingContainsAdapter<>(items);
+
+        assertThat(adapter.contains(3)).isTrue();
+        assertThat(adapter.contains(10)).isTrue();
+        assertThat(adapter.contains(11)).isFalse();
+        assertThat(items.iteratorsCount).isEqualTo(1);
+    }
+
+    @Test
+    public void smallCollectionShouldBeScanned() {
+        final IndexingContainsAdapter<String> adapter = new IndexingContainsAdapter<>(asList("a", "b"));
+
+        assertThat(adapter.contains("b")).isTrue();
+        assertThat(adapter.contains("c")).isFalse();
+        assertThat(adapter).containsExactly("a", "b");
+    }
+
+    @Test
+    public void retainShouldAcceptIndexingAdapterOfArray() {
+        final ArrayContainer<Integer> container = new ArrayContainer<>();
+        for (int item = 0; item < 20; item++)
+            container.append(item);
+
+        container.retain(allOf(1, 3, 5, 7, 9, 11, 13, 15, 17, 19));
+
+        assertThat(container.toArray()).containsExactly(1, 3, 5, 7, 9, 11, 13, 15, 17, 19);
+    }
+
+    private static class CountingIterable
+        implements Iterable<Integer> {
+
+        private final List<Integer> items;
+
+        private int iteratorsCount;
+
+        private CountingIterable(final List<Integer> items) {
+            this.items = items;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            iteratorsCount++;
+            return items.iterator();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage;
+
+import org.jlib.container.operation.containsadapter.IterativeContainsAdapter;
+import org.jlib.container.storage.array.ArrayStorage;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompactingRemoveMultipleByValueTest {
+
+    @Test
+    public void removeShouldCompactRemainingItemsAndClearTail() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(8);
+        for (int index = 0; index < 8; index++)
+            storage.set(index, index % 4);
+
+        final IndexRange contentIndexRange = new IndexRange(1, 7);
+
+        new CompactingRemoveMultipleByValue<>(storage, contentIndexRange)
+            .remove(new IterativeContainsAdapter<>(asList(0, 2)));
+
+        assertThat(contentIndexRange.getMaximum()).isEqualTo(4);
+
+        final Integer[] items = new Integer[8];
+        storage.getItems(0, 7, items, 0);
+
+        assertThat(items).containsExactly(0, 1, 3, 1, 3, null, null, null);
+    }
+
+    @Test
+    public void removingAllItemsShouldEmptyRange() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(3);
+        storage.setItems(0, 2, new Integer[] { 1, 1, 1 }, 0);
+
+        final IndexRange contentIndexRange = new IndexRange(0, 2);
+
+        new CompactingRemoveMultipleByValue<>(storage, contentIndexRange)
+            .remove(new IterativeContainsAdapter<>(asList(1)));
+
+        assertThat(contentIndexRange.itemsCount()).isEqualTo(0);
+        assertThat(storage.get(0)).isNull();
+    }
+}
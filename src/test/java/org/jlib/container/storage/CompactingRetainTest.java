@@ -0,0 +1,64 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage;
+
+import org.jlib.container.operation.containsadapter.IterativeContainsAdapter;
+import org.jlib.container.storage.array.ArrayStorage;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompactingRetainTest {
+
+    @Test
+    public void retainShouldCompactRetainedItemsAndClearTail() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(10);
+        for (int index = 2; index < 9; index++)
+            storage.set(index, index);
+
+        final IndexRange contentIndexRange = new IndexRange(2, 8);
+
+        new CompactingRetain<>(storage, contentIndexRange).retain(new IterativeContainsAdapter<>(asList(2, 3, 6, 8)));
+
+        assertThat(contentIndexRange.getMinimum()).isEqualTo(2);
+        assertThat(contentIndexRange.getMaximum()).isEqualTo(5);
+
+        final Integer[] items = new Integer[10];
+        storage.getItems(0, 9, items, 0);
+
+        assertThat(items).containsExactly(null, null, 2, 3, 6, 8, null, null, null, null);
+    }
+
+    @Test
+    public void retainingAllItemsShouldKeepRange() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(3);
+        storage.setItems(0, 2, new Integer[] { 1, 2, 3 }, 0);
+
+        final IndexRange contentIndexRange = new IndexRange(0, 2);
+
+        new CompactingRetain<>(storage, contentIndexRange).retain(new IterativeContainsAdapter<>(asList(1, 2, 3)));
+
+        assertThat(contentIndexRange.getMaximum()).isEqualTo(2);
+        assertThat(storage.get(2)).isEqualTo(3);
+    }
+}
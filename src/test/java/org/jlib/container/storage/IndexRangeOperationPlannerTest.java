@@ -0,0 +1,74 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage;
+
+import org.jlib.container.storage.array.ArrayStorage;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jlib.container.storage.IndexRangeOperationPlanner.planCopy;
+import static org.jlib.container.storage.IndexRangeOperationPlanner.planShift;
+
+public class IndexRangeOperationPlannerTest {
+
+    @Test
+    public void adjacentRangesWithEqualDistanceShouldBeMerged() {
+        final IndexRangeOperationDescriptor[] plannedDescriptors = /*
+         */ planCopy(new IndexRangeOperationDescriptor(5, 9, 7), new IndexRangeOperationDescriptor(0, 4, 2));
+
+        assertThat(plannedDescriptors.length).isEqualTo(1);
+        assertThat(plannedDescriptors[0].getSourceMinimumIndex()).isEqualTo(0);
+        assertThat(plannedDescriptors[0].getSourceMaximumIndex()).isEqualTo(9);
+        assertThat(plannedDescriptors[0].getTargetIndex()).isEqualTo(2);
+    }
+
+    @Test
+    public void rangesWithDifferentDistancesShouldNotBeMerged() {
+        assertThat(planCopy(new IndexRangeOperationDescriptor(0, 4, 0),
+                            new IndexRangeOperationDescriptor(5, 9, 8)).length).isEqualTo(2);
+    }
+
+    @Test
+    public void unmovedRangesShouldBeDroppedWhenShifting() {
+        final IndexRangeOperationDescriptor[] plannedDescriptors = /*
+         */ planShift(new IndexRangeOperationDescriptor(0, 4, 0), new IndexRangeOperationDescriptor(5, 9, 8));
+
+        assertThat(plannedDescriptors.length).isEqualTo(1);
+        assertThat(plannedDescriptors[0].getSourceMinimumIndex()).isEqualTo(5);
+    }
+
+    @Test
+    public void shiftsShouldBeOrderedToReadSourcesFirst() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(10);
+        for (int index = 0; index < 6; index++)
+            storage.set(index, index);
+
+        storage.shiftItems(new IndexRangeOperationDescriptor(0, 2, 2), new IndexRangeOperationDescriptor(3, 5, 7));
+
+        assertThat(storage.get(2)).isEqualTo(0);
+        assertThat(storage.get(3)).isEqualTo(1);
+        assertThat(storage.get(4)).isEqualTo(2);
+        assertThat(storage.get(7)).isEqualTo(3);
+        assertThat(storage.get(8)).isEqualTo(4);
+        assertThat(storage.get(9)).isEqualTo(5);
+    }
+}
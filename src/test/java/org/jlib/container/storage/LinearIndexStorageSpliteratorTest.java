@@ -0,0 +1,105 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage;
+
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
+
+import org.jlib.container.storage.array.ArrayStorage;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class LinearIndexStorageSpliteratorTest {
+
+    @Test
+    public void spliteratorShouldTraverseIndexRangeInOrder() {
+        final Spliterator<Integer> spliterator = new LinearIndexStorageSpliterator<>(filledStorage(10), 2, 5);
+
+        assertThat(StreamSupport.stream(spliterator, false).toArray()).containsExactly(2, 3, 4, 5);
+    }
+
+    @Test
+    public void trySplitShouldHalveIndexRange() {
+        final Spliterator<Integer> spliterator = new LinearIndexStorageSpliterator<>(filledStorage(10), 0, 8);
+
+        final Spliterator<Integer> prefixSpliterator = spliterator.trySplit();
+
+        assertThat(prefixSpliterator.estimateSize()).isEqualTo(4L);
+        assertThat(spliterator.estimateSize()).isEqualTo(5L);
+        assertThat(StreamSupport.stream(prefixSpliterator, false).toArray()).containsExactly(0, 1, 2, 3);
+        assertThat(StreamSupport.stream(spliterator, false).toArray()).containsExactly(4, 5, 6, 7, 8);
+    }
+
+    @Test
+    public void singleItemSpliteratorShouldNotSplit() {
+        final Spliterator<Integer> spliterator = new LinearIndexStorageSpliterator<>(filledStorage(10), 3, 3);
+
+        assertThat(spliterator.trySplit()).isNull();
+    }
+
+    @Test
+    public void spliteratorShouldReportSizedCharacteristics() {
+        final Spliterator<Integer> spliterator =
+            new LinearIndexStorageSpliterator<>(filledStorage(10), 0, 9, Spliterator.NONNULL);
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+    }
+
+    @Test
+    public void parallelStreamShouldProcessAllItems() {
+        final Spliterator<Integer> spliterator = new LinearIndexStorageSpliterator<>(filledStorage(10000), 0, 9999);
+
+        assertThat(StreamSupport.stream(spliterator, true).mapToLong(Integer::longValue).sum())
+            .isEqualTo(49995000L);
+    }
+
+    @Test
+    public void emptyIndexRangeShouldBeAccepted() {
+        final Spliterator<Integer> spliterator = new LinearIndexStorageSpliterator<>(filledStorage(10), 10, 9);
+
+        assertThat(spliterator.estimateSize()).isEqualTo(0L);
+    }
+
+    @Test
+    public void indexRangeBehindCapacityShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                new LinearIndexStorageSpliterator<>(filledStorage(10), 5, 10)
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidStorageIndexException.class);
+    }
+
+    private static ArrayStorage<Integer> filledStorage(final int capacity) {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(capacity);
+
+        for (int index = 0; index < capacity; index++)
+            storage.set(index, index);
+
+        return storage;
+    }
+}
@@ -21,6 +21,7 @@
 
 package org.jlib.container.storage.array;
 
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
 import org.jlib.container.storage.InvalidStorageCapacityException;
 import org.jlib.container.storage.InvalidStorageIndexException;
 import org.junit.jupiter.api.Test;
@@ -91,6 +92,126 @@ public class ArrayStorageTest {
         assertThat(storage.get(3)).isEqualTo("new");
     }
 
+    @Test
+    public void shiftItemsWithIndicesShouldMoveItems() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(5);
+        for (int index = 0; index < 3; index++)
+            storage.set(index, index);
+
+        storage.shiftItems(0, 2, 2);
+
+        assertThat(storage.get(2)).isEqualTo(0);
+        assertThat(storage.get(3)).isEqualTo(1);
+        assertThat(storage.get(4)).isEqualTo(2);
+    }
+
+    @Test
+    public void ensureCapacityAndShiftItemsWithIndicesShouldCopyItems() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(3);
+        for (int index = 0; index < 3; index++)
+            storage.set(index, index);
+
+        storage.ensureCapacityAndShiftItems(2, 1, 2, 3);
+
+        assertThat(storage.capacity()).isEqualTo(5);
+        assertThat(storage.get(0)).isNull();
+        assertThat(storage.get(3)).isEqualTo(1);
+        assertThat(storage.get(4)).isEqualTo(2);
+    }
+
+    @Test
+    public void shiftItemsBehindCapacityShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                new ArrayStorage<Integer>(5).shiftItems(0, 2, 3)
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidStorageIndexException.class);
+    }
+
+    @Test
+    public void unmovedShiftBehindCapacityShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                new ArrayStorage<Integer>(5).shiftItems(new IndexRangeOperationDescriptor(0, 1, 0),
+                                                        new IndexRangeOperationDescriptor(6, 8, 6))
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidStorageIndexException.class);
+    }
+
+    @Test
+    public void uncheckedGetShouldReturnItemSetByUncheckedSet() {
+        final ArrayStorage<String> storage = new ArrayStorage<>(5);
+        storage.uncheckedSet(3, "Test");
+
+        assertThat(storage.uncheckedGet(3)).isEqualTo("Test");
+        assertThat(storage.get(3)).isEqualTo("Test");
+    }
+
+    @Test
+    public void readIndexAtCapacityShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                new ArrayStorage<Integer>(5).get(5)
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidStorageIndexException.class);
+    }
+
+    @Test
+    public void getItemsShouldCopyItemsSetBySetItems() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(6);
+        storage.setItems(1, 3, new Integer[] { 9, 10, 11, 12 }, 1);
+
+        final Integer[] items = new Integer[5];
+        storage.getItems(0, 3, items, 1);
+
+        assertThat(items).containsExactly(null, null, 10, 11, 12);
+    }
+
+    @Test
+    public void fillItemsAndClearItemsShouldReplaceItems() {
+        final ArrayStorage<String> storage = new ArrayStorage<>(5);
+        storage.fillItems(0, 4, "Test");
+        storage.clearItems(1, 2);
+
+        assertThat(storage.get(0)).isEqualTo("Test");
+        assertThat(storage.get(1)).isNull();
+        assertThat(storage.get(2)).isNull();
+        assertThat(storage.get(3)).isEqualTo("Test");
+    }
+
+    @Test
+    public void emptyIndexRangeShouldBeAccepted() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(5);
+
+        storage.setItems(5, 4, new Integer[0], 0);
+        storage.clearItems(0, - 1);
+
+        assertThat(storage.capacity()).isEqualTo(5);
+    }
+
+    @Test
+    public void getItemsBehindCapacityShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                new ArrayStorage<Integer>(5).getItems(2, 5, new Integer[4], 0)
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidStorageIndexException.class);
+    }
+
+    @Test
+    public void getItemsIntoTooShortArrayShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                new ArrayStorage<Integer>(5).getItems(0, 3, new Integer[4], 1)
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidStorageIndexException.class);
+    }
+
     @SuppressWarnings("EmptyMethod")
     @Test
     public void testShiftItems() {
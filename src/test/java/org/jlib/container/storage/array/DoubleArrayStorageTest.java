@@ -0,0 +1,122 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.array;
+
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import org.jlib.container.storage.InvalidStorageIndexException;
+import org.jlib.container.storage.InvalidStorageItemException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class DoubleArrayStorageTest {
+
+    @Test
+    public void unsetItemShouldBeZero() {
+        final DoubleArrayStorage storage = new DoubleArrayStorage(5);
+
+        assertThat(storage.getDouble(2)).isEqualTo(0.0);
+    }
+
+    @Test
+    public void getDoublePreviouslySetItemShouldReturnCorrectItem() {
+        final DoubleArrayStorage storage = new DoubleArrayStorage(5);
+        storage.setDouble(3, 42.0);
+
+        assertThat(storage.getDouble(3)).isEqualTo(42.0);
+        assertThat(storage.get(3)).isEqualTo(42.0);
+    }
+
+    @Test
+    public void uncheckedGetDoubleShouldReturnItemSetByUncheckedSetDouble() {
+        final DoubleArrayStorage storage = new DoubleArrayStorage(5);
+        storage.uncheckedSetDouble(3, 42.0);
+
+        assertThat(storage.uncheckedGetDouble(3)).isEqualTo(42.0);
+    }
+
+    @Test
+    public void getDoublesShouldCopyItemsSetBySetDoubles() {
+        final DoubleArrayStorage storage = new DoubleArrayStorage(5);
+        storage.setDoubles(1, 3, new double[] { 1.0, 2.0, 3.0 }, 0);
+
+        final double[] items = new double[5];
+        storage.getDoubles(0, 4, items, 0);
+
+        assertThat(items).containsExactly(0.0, 1.0, 2.0, 3.0, 0.0);
+    }
+
+    @Test
+    public void clearItemsShouldResetItemsToZero() {
+        final DoubleArrayStorage storage = new DoubleArrayStorage(5);
+        storage.fillDoubles(0, 4, 7.0);
+        storage.clearItems(1, 3);
+
+        assertThat(storage.getDouble(0)).isEqualTo(7.0);
+        assertThat(storage.getDouble(2)).isEqualTo(0.0);
+        assertThat(storage.getDouble(4)).isEqualTo(7.0);
+    }
+
+    @Test
+    public void readDoubleOutOfBoundsShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                new DoubleArrayStorage(5).getDouble(5)
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidStorageIndexException.class);
+    }
+
+    @Test
+    public void setNullShouldThrowException() {
+        final DoubleArrayStorage storage = new DoubleArrayStorage(5);
+
+        assertThat(catchThrowable(() -> storage.set(0, null))).isInstanceOf(InvalidStorageItemException.class);
+        assertThat(catchThrowable(() -> storage.fillItems(0, 4, null))).isInstanceOf(InvalidStorageItemException.class);
+        assertThat(storage.getDouble(0)).isEqualTo(0.0);
+    }
+
+    @Test
+    public void ensureCapacityAndShiftItemsShouldMoveItems() {
+        final DoubleArrayStorage storage = new DoubleArrayStorage(3);
+        storage.setDoubles(0, 2, new double[] { 1.0, 2.0, 3.0 }, 0);
+
+        storage.ensureCapacityAndShiftItems(2, new IndexRangeOperationDescriptor(0, 2, 2));
+
+        assertThat(storage.capacity()).isEqualTo(5);
+        assertThat(storage.getDouble(1)).isEqualTo(0.0);
+        assertThat(storage.getDouble(2)).isEqualTo(1.0);
+        assertThat(storage.getDouble(4)).isEqualTo(3.0);
+    }
+
+    @Test
+    public void cloneShouldNotShareItems() {
+        final DoubleArrayStorage storage = new DoubleArrayStorage(2);
+        storage.setDouble(0, 1.0);
+
+        final DoubleArrayStorage clone = storage.clone();
+        clone.setDouble(0, 2.0);
+
+        assertThat(storage.getDouble(0)).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.array;
+
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import org.jlib.container.storage.InvalidStorageIndexException;
+import org.jlib.container.storage.InvalidStorageItemException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class IntArrayStorageTest {
+
+    @Test
+    public void positiveCapacityStorageShouldReturnCorrectCapacity() {
+        final IntArrayStorage storage = new IntArrayStorage(5);
+
+        assertThat(storage.capacity()).isEqualTo(5);
+    }
+
+    @Test
+    public void unsetItemShouldBeZero() {
+        final IntArrayStorage storage = new IntArrayStorage(5);
+
+        assertThat(storage.getInt(2)).isEqualTo(0);
+    }
+
+    @Test
+    public void getIntPreviouslySetItemShouldReturnCorrectItem() {
+        final IntArrayStorage storage = new IntArrayStorage(5);
+        storage.setInt(3, 42);
+
+        assertThat(storage.getInt(3)).isEqualTo(42);
+        assertThat(storage.get(3)).isEqualTo(42);
+    }
+
+    @Test
+    public void uncheckedGetIntShouldReturnItemSetByUncheckedSetInt() {
+        final IntArrayStorage storage = new IntArrayStorage(5);
+        storage.uncheckedSetInt(3, 42);
+
+        assertThat(storage.uncheckedGetInt(3)).isEqualTo(42);
+        assertThat(storage.getInt(3)).isEqualTo(42);
+    }
+
+    @Test
+    public void getIntsShouldCopyItemsSetBySetInts() {
+        final IntArrayStorage storage = new IntArrayStorage(5);
+        storage.setInts(1, 3, new int[] { 1, 2, 3 }, 0);
+
+        final int[] items = new int[5];
+        storage.getInts(0, 4, items, 0);
+
+        assertThat(items[0]).isEqualTo(0);
+        assertThat(items[1]).isEqualTo(1);
+        assertThat(items[3]).isEqualTo(3);
+        assertThat(items[4]).isEqualTo(0);
+    }
+
+    @Test
+    public void clearItemsShouldResetItemsToZero() {
+        final IntArrayStorage storage = new IntArrayStorage(5);
+        storage.fillInts(0, 4, 7);
+        storage.clearItems(1, 3);
+
+        assertThat(storage.getInt(0)).isEqualTo(7);
+        assertThat(storage.getInt(2)).isEqualTo(0);
+        assertThat(storage.getInt(4)).isEqualTo(7);
+    }
+
+    @Test
+    public void readIntOutOfBoundsShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                new IntArrayStorage(5).getInt(5)
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidStorageIndexException.class);
+    }
+
+    @Test
+    public void setNullShouldThrowException() {
+        final IntArrayStorage storage = new IntArrayStorage(5);
+
+        assertThat(catchThrowable(() -> storage.set(0, null))).isInstanceOf(InvalidStorageItemException.class);
+        assertThat(catchThrowable(() -> storage.fillItems(0, 4, null))).isInstanceOf(InvalidStorageItemException.class);
+        assertThat(storage.getInt(0)).isEqualTo(0);
+    }
+
+    @Test
+    public void ensureCapacityAndShiftItemsShouldMoveItems() {
+        final IntArrayStorage storage = new IntArrayStorage(3);
+        storage.setInt(0, 1);
+        storage.setInt(1, 2);
+        storage.setInt(2, 3);
+
+        storage.ensureCapacityAndShiftItems(2, new IndexRangeOperationDescriptor(0, 2, 2));
+
+        assertThat(storage.capacity()).isEqualTo(5);
+        assertThat(storage.getInt(2)).isEqualTo(1);
+        assertThat(storage.getInt(3)).isEqualTo(2);
+        assertThat(storage.getInt(4)).isEqualTo(3);
+    }
+
+    @Test
+    public void shiftItemsShouldMoveItems() {
+        final IntArrayStorage storage = new IntArrayStorage(4);
+        storage.setInt(0, 1);
+        storage.setInt(1, 2);
+
+        storage.shiftItems(new IndexRangeOperationDescriptor(0, 1, 2));
+
+        assertThat(storage.getInt(2)).isEqualTo(1);
+        assertThat(storage.getInt(3)).isEqualTo(2);
+    }
+
+    @Test
+    public void cloneShouldNotShareItems() {
+        final IntArrayStorage storage = new IntArrayStorage(2);
+        storage.setInt(0, 1);
+
+        final IntArrayStorage clone = storage.clone();
+        clone.setInt(0, 2);
+
+        assertThat(storage.getInt(0)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.array;
+
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import org.jlib.container.storage.InvalidStorageIndexException;
+import org.jlib.container.storage.InvalidStorageItemException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class LongArrayStorageTest {
+
+    @Test
+    public void unsetItemShouldBeZero() {
+        final LongArrayStorage storage = new LongArrayStorage(5);
+
+        assertThat(storage.getLong(2)).isEqualTo(0L);
+    }
+
+    @Test
+    public void getLongPreviouslySetItemShouldReturnCorrectItem() {
+        final LongArrayStorage storage = new LongArrayStorage(5);
+        storage.setLong(3, 42L);
+
+        assertThat(storage.getLong(3)).isEqualTo(42L);
+        assertThat(storage.get(3)).isEqualTo(42L);
+    }
+
+    @Test
+    public void uncheckedGetLongShouldReturnItemSetByUncheckedSetLong() {
+        final LongArrayStorage storage = new LongArrayStorage(5);
+        storage.uncheckedSetLong(3, 42L);
+
+        assertThat(storage.uncheckedGetLong(3)).isEqualTo(42L);
+    }
+
+    @Test
+    public void getLongsShouldCopyItemsSetBySetLongs() {
+        final LongArrayStorage storage = new LongArrayStorage(5);
+        storage.setLongs(1, 3, new long[] { 1L, 2L, 3L }, 0);
+
+        final long[] items = new long[5];
+        storage.getLongs(0, 4, items, 0);
+
+        assertThat(items).containsExactly(0L, 1L, 2L, 3L, 0L);
+    }
+
+    @Test
+    public void clearItemsShouldResetItemsToZero() {
+        final LongArrayStorage storage = new LongArrayStorage(5);
+        storage.fillLongs(0, 4, 7L);
+        storage.clearItems(1, 3);
+
+        assertThat(storage.getLong(0)).isEqualTo(7L);
+        assertThat(storage.getLong(2)).isEqualTo(0L);
+        assertThat(storage.getLong(4)).isEqualTo(7L);
+    }
+
+    @Test
+    public void readLongOutOfBoundsShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                new LongArrayStorage(5).getLong(5)
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidStorageIndexException.class);
+    }
+
+    @Test
+    public void setNullShouldThrowException() {
+        final LongArrayStorage storage = new LongArrayStorage(5);
+
+        assertThat(catchThrowable(() -> storage.set(0, null))).isInstanceOf(InvalidStorageItemException.class);
+        assertThat(catchThrowable(() -> storage.fillItems(0, 4, null))).isInstanceOf(InvalidStorageItemException.class);
+        assertThat(storage.getLong(0)).isEqualTo(0L);
+    }
+
+    @Test
+    public void ensureCapacityAndShiftItemsShouldMoveItems() {
+        final LongArrayStorage storage = new LongArrayStorage(3);
+        storage.setLongs(0, 2, new long[] { 1L, 2L, 3L }, 0);
+
+        storage.ensureCapacityAndShiftItems(2, new IndexRangeOperationDescriptor(0, 2, 2));
+
+        assertThat(storage.capacity()).isEqualTo(5);
+        assertThat(storage.getLong(1)).isEqualTo(0L);
+        assertThat(storage.getLong(2)).isEqualTo(1L);
+        assertThat(storage.getLong(4)).isEqualTo(3L);
+    }
+
+    @Test
+    public void cloneShouldNotShareItems() {
+        final LongArrayStorage storage = new LongArrayStorage(2);
+        storage.setLong(0, 1L);
+
+        final LongArrayStorage clone = storage.clone();
+        clone.setLong(0, 2L);
+
+        assertThat(storage.getLong(0)).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.buffer;
+
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import org.jlib.container.storage.InvalidStorageIndexException;
+import org.jlib.container.storage.InvalidStorageItemException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class DirectBufferStorageTest {
+
+    @Test
+    public void positiveCapacityStorageShouldReturnCorrectCapacity() {
+        final DirectBufferStorage<Long> storage = new DirectBufferStorage<>(5, LongItemCodec.getInstance());
+
+        assertThat(storage.capacity()).isEqualTo(5);
+    }
+
+    @Test
+    public void getPreviouslySetItemShouldReturnCorrectItem() {
+        final DirectBufferStorage<Double> storage = new DirectBufferStorage<>(5, DoubleItemCodec.getInstance());
+        storage.set(4, 1.5);
+
+        assertThat(storage.get(4)).isEqualTo(1.5);
+    }
+
+    @Test
+    public void setNullShouldThrowException() {
+        final DirectBufferStorage<Integer> storage = new DirectBufferStorage<>(5, IntItemCodec.getInstance());
+
+        assertThat(catchThrowable(() -> storage.set(0, null))).isInstanceOf(InvalidStorageItemException.class);
+        assertThat(catchThrowable(() -> storage.fillItems(0, 4, null))).isInstanceOf(InvalidStorageItemException.class);
+        assertThat(storage.get(0)).isEqualTo(0);
+    }
+
+    @Test
+    public void readOutOfBoundsShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                new DirectBufferStorage<>(5, IntItemCodec.getInstance()).get(5)
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidStorageIndexException.class);
+    }
+
+    @Test
+    public void ensureCapacityAndShiftItemsShouldMoveItems() {
+        final DirectBufferStorage<Integer> storage = new DirectBufferStorage<>(3, IntItemCodec.getInstance());
+        storage.set(0, 1);
+        storage.set(1, 2);
+        storage.set(2, 3);
+
+        storage.ensureCapacityAndShiftItems(2, new IndexRangeOperationDescriptor(0, 2, 2));
+
+        assertThat(storage.capacity()).isEqualTo(5);
+        assertThat(storage.get(2)).isEqualTo(1);
+        assertThat(storage.get(3)).isEqualTo(2);
+        assertThat(storage.get(4)).isEqualTo(3);
+    }
+
+    @Test
+    public void overlappingShiftsShouldPreserveItems() {
+        final int capacity = 5000;
+        final DirectBufferStorage<Long> storage = new DirectBufferStorage<>(capacity, LongItemCodec.getInstance());
+        for (int index = 0; index < capacity - 1; index++)
+            storage.set(index, (long) index);
+
+        storage.shiftItems(new IndexRangeOperationDescriptor(0, capacity - 2, 1));
+
+        for (int index = 1; index < capacity; index++)
+            assertThat(storage.get(index)).isEqualTo((long) index - 1);
+
+        storage.shiftItems(new IndexRangeOperationDescriptor(1, capacity - 1, 0));
+
+        for (int index = 0; index < capacity - 1; index++)
+            assertThat(storage.get(index)).isEqualTo((long) index);
+    }
+
+    @Test
+    public void clearItemsShouldResetItemsToZero() {
+        final DirectBufferStorage<Long> storage = new DirectBufferStorage<>(4, LongItemCodec.getInstance());
+        storage.fillItems(0, 3, 7L);
+        storage.clearItems(1, 2);
+
+        assertThat(storage.get(0)).isEqualTo(7L);
+        assertThat(storage.get(1)).isEqualTo(0L);
+        assertThat(storage.get(2)).isEqualTo(0L);
+        assertThat(storage.get(3)).isEqualTo(7L);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.buffer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import org.jlib.container.storage.InvalidStorageIndexException;
+import org.jlib.container.storage.InvalidStorageItemException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class MappedFileStorageTest {
+
+    @Test
+    public void newFileStorageShouldProvideInitialCapacity()
+        throws IOException {
+        final Path file = Files.createTempFile("storage", ".bin");
+
+        try (final MappedFileStorage<Long> storage = new MappedFileStorage<>(file, 10, LongItemCodec.getInstance())) {
+            assertThat(storage.capacity()).isEqualTo(10);
+            assertThat(Files.size(file)).isEqualTo(80L);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void reopenedStorageShouldProvideStoredItems()
+        throws IOException {
+        final Path file = Files.createTempFile("storage", ".bin");
+
+        try {
+            try (final MappedFileStorage<Integer> storage = new MappedFileStorage<>(file, 3,
+                                                                                    IntItemCodec.getInstance())) {
+                storage.set(0, 1);
+                storage.set(1, 2);
+                storage.set(2, 3);
+            }
+
+            try (final MappedFileStorage<Integer> storage = new MappedFileStorage<>(file, 0,
+                                                                                    IntItemCodec.getInstance())) {
+                assertThat(storage.capacity()).isEqualTo(3);
+                assertThat(storage.get(0)).isEqualTo(1);
+                assertThat(storage.get(2)).isEqualTo(3);
+            }
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void setNullShouldThrowException()
+        throws IOException {
+        final Path file = Files.createTempFile("storage", ".bin");
+
+        try (final MappedFileStorage<Long> storage = new MappedFileStorage<>(file, 4, LongItemCodec.getInstance())) {
+            assertThat(catchThrowable(() -> storage.set(0, null))).isInstanceOf(InvalidStorageItemException.class);
+            assertThat(storage.get(0)).isEqualTo(0L);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void clearItemsShouldResetItemsToZero()
+        throws IOException {
+        final Path file = Files.createTempFile("storage", ".bin");
+
+        try (final MappedFileStorage<Long> storage = new MappedFileStorage<>(file, 4, LongItemCodec.getInstance())) {
+            storage.fillItems(0, 3, 7L);
+            storage.clearItems(1, 2);
+
+            assertThat(storage.get(0)).isEqualTo(7L);
+            assertThat(storage.get(1)).isEqualTo(0L);
+            assertThat(storage.get(2)).isEqualTo(0L);
+            assertThat(storage.get(3)).isEqualTo(7L);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void ensureCapacityAndShiftItemsShouldMoveItemsWithinFile()
+        throws IOException {
+        final Path file = Files.createTempFile("storage", ".bin");
+
+        try (final MappedFileStorage<Long> storage = new MappedFileStorage<>(file, 3, LongItemCodec.getInstance())) {
+            storage.set(0, 1L);
+            storage.set(1, 2L);
+            storage.set(2, 3L);
+
+            storage.ensureCapacityAndShiftItems(2, new IndexRangeOperationDescriptor(0, 2, 2));
+
+            assertThat(storage.capacity()).isEqualTo(5);
+            assertThat(storage.get(0)).isEqualTo(0L);
+            assertThat(storage.get(1)).isEqualTo(0L);
+            assertThat(storage.get(2)).isEqualTo(1L);
+            assertThat(storage.get(3)).isEqualTo(2L);
+            assertThat(storage.get(4)).isEqualTo(3L);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void invalidDescriptorShouldLeaveFileUnchanged()
+        throws IOException {
+        final Path file = Files.createTempFile("storage", ".bin");
+
+        try (final MappedFileStorage<Long> storage = new MappedFileStorage<>(file, 3, LongItemCodec.getInstance())) {
+            storage.set(0, 1L);
+
+            assertThat(catchThrowable(() -> storage.ensureCapacityAndShiftItems(
+                2, new IndexRangeOperationDescriptor(0, 2, 3)))).isInstanceOf(InvalidStorageIndexException.class);
+            assertThat(catchThrowable(() -> storage.ensureCapacityAndShiftItems(2, 0, 2, 3)))
+                .isInstanceOf(InvalidStorageIndexException.class);
+
+            assertThat(storage.capacity()).isEqualTo(3);
+            assertThat(Files.size(file)).isEqualTo(24L);
+            assertThat(storage.get(0)).isEqualTo(1L);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void reduceCapacityShouldTruncateFile()
+        throws IOException {
+        final Path file = Files.createTempFile("storage", ".bin");
+
+        try (final MappedFileStorage<Integer> storage = new MappedFileStorage<>(file, 10,
+                                                                                IntItemCodec.getInstance())) {
+            for (int index = 0; index < 10; index++)
+                storage.set(index, index);
+
+            storage.reduceCapacityAndShiftItems(6, new IndexRangeOperationDescriptor(6, 9, 0));
+
+            assertThat(storage.capacity()).isEqualTo(4);
+            assertThat(Files.size(file)).isEqualTo(16L);
+            for (int index = 0; index < 4; index++)
+                assertThat(storage.get(index)).isEqualTo(index + 6);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void reduceCapacityShouldClearVacatedSlots()
+        throws IOException {
+        final Path file = Files.createTempFile("storage", ".bin");
+
+        try (final MappedFileStorage<Integer> storage = new MappedFileStorage<>(file, 10,
+                                                                                IntItemCodec.getInstance())) {
+            for (int index = 0; index < 10; index++)
+                storage.set(index, index + 1);
+
+            storage.reduceCapacityAndShiftItems(4, new IndexRangeOperationDescriptor(6, 9, 0));
+
+            assertThat(storage.capacity()).isEqualTo(6);
+            assertThat(storage.get(4)).isEqualTo(0);
+            assertThat(storage.get(5)).isEqualTo(0);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void cloneShouldCopyItemsToTemporaryFile()
+        throws IOException {
+        final Path directory = Files.createTempDirectory("storage");
+        final Path file = directory.resolve("storage.bin");
+
+        try (final MappedFileStorage<Long> storage = new MappedFileStorage<>(file, 3, LongItemCodec.getInstance())) {
+            storage.set(0, 1L);
+            storage.set(2, 3L);
+
+            try (final MappedFileStorage<Long> clone = storage.clone()) {
+                clone.set(0, 2L);
+
+                assertThat(clone.capacity()).isEqualTo(3);
+                assertThat(clone.get(0)).isEqualTo(2L);
+                assertThat(clone.get(2)).isEqualTo(3L);
+                assertThat(storage.get(0)).isEqualTo(1L);
+                assertThat(directory.toFile().list()).hasSize(2);
+            }
+
+            assertThat(directory.toFile().list()).containsExactly("storage.bin");
+        }
+        finally {
+            Files.delete(file);
+            Files.delete(directory);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity.adaptive;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.array.ArrayStorage;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveCapacityStrategyTest {
+
+    @Test
+    public void headInsertionsShouldReserveHeadCapacity() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(0);
+        final IndexRange contentIndexRange = new IndexRange(0, - 1);
+        final AdaptiveCapacityStrategy strategy = new AdaptiveCapacityStrategy(storage, contentIndexRange);
+
+        int reallocationsCount = 0;
+        for (int item = 0; item < 10000; item++) {
+            final int capacity = storage.capacity();
+            strategy.ensureHeadCapacity(1);
+            if (storage.capacity() != capacity)
+                reallocationsCount++;
+
+            contentIndexRange.incrementMinimum(- 1);
+            storage.set(contentIndexRange.getMinimum(), item);
+        }
+
+        assertThat(reallocationsCount).isLessThan(20);
+        assertThat(contentIndexRange.getMinimum()).isGreaterThan(storage.capacity() - 1 -
+                                                                 contentIndexRange.getMaximum());
+        for (int item = 0; item < 10000; item++)
+            assertThat(storage.get(contentIndexRange.getMaximum() - item)).isEqualTo(item);
+    }
+
+    @Test
+    public void splitShouldShiftRightPart() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(4);
+        for (int index = 0; index < 4; index++)
+            storage.set(index, index);
+        final IndexRange contentIndexRange = new IndexRange(0, 3);
+        final AdaptiveCapacityStrategy strategy = new AdaptiveCapacityStrategy(storage, contentIndexRange);
+
+        strategy.ensureSplitCapacity(2, 3);
+
+        assertThat(contentIndexRange.itemsCount()).isEqualTo(7);
+        final int minimum = contentIndexRange.getMinimum();
+        assertThat(storage.get(minimum)).isEqualTo(0);
+        assertThat(storage.get(minimum + 1)).isEqualTo(1);
+        assertThat(storage.get(minimum + 5)).isEqualTo(2);
+        assertThat(storage.get(minimum + 6)).isEqualTo(3);
+    }
+
+    @Test
+    public void dequeOperationsShouldKeepItemOrder() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(0);
+        final IndexRange contentIndexRange = new IndexRange(0, - 1);
+        final AdaptiveCapacityStrategy strategy = new AdaptiveCapacityStrategy(storage, contentIndexRange);
+        final Deque<Integer> expectedItems = new ArrayDeque<>();
+        final Random random = new Random(42);
+
+        for (int item = 0; item < 5000; item++) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    strategy.ensureHeadCapacity(1);
+                    contentIndexRange.incrementMinimum(- 1);
+                    storage.set(contentIndexRange.getMinimum(), item);
+                    expectedItems.addFirst(item);
+                    break;
+                case 1:
+                    strategy.ensureTailCapacity(1);
+                    contentIndexRange.incrementMaximum(1);
+                    storage.set(contentIndexRange.getMaximum(), item);
+                    expectedItems.addLast(item);
+                    break;
+                case 2:
+                    if (! expectedItems.isEmpty()) {
+                        contentIndexRange.incrementMinimum(1);
+                        expectedItems.removeFirst();
+                    }
+                    break;
+                default:
+                    strategy.shrinkCapacity();
+            }
+        }
+
+        assertThat(contentIndexRange.itemsCount()).isEqualTo(expectedItems.size());
+        final Iterator<Integer> expectedItemsIterator = expectedItems.iterator();
+        for (int index = contentIndexRange.getMinimum(); index <= contentIndexRange.getMaximum(); index++)
+            assertThat(storage.get(index)).isEqualTo(expectedItemsIterator.next());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.capacity.geometric;
+
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.array.ArrayStorage;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class GeometricCapacityStrategyTest {
+
+    @Test
+    public void additionalCapacityShouldBeBoundedByIncrements() {
+        final GeometricGrowth growth = new GeometricGrowth(2.0, 4, 100);
+
+        assertThat(growth.getAdditionalCapacity(0, 1)).isEqualTo(4);
+        assertThat(growth.getAdditionalCapacity(10, 1)).isEqualTo(10);
+        assertThat(growth.getAdditionalCapacity(1000, 1)).isEqualTo(100);
+        assertThat(growth.getAdditionalCapacity(1000, 500)).isEqualTo(500);
+        assertThat(growth.getAdditionalCapacity(Integer.MAX_VALUE - 5, 1)).isEqualTo(5);
+    }
+
+    @Test
+    public void invalidFactorShouldThrowException() {
+        assertThat(catchThrowable(() -> new GeometricGrowth(1.0, 0, 0))).isInstanceOf(InvalidGrowthException.class);
+    }
+
+    @Test
+    public void tailGrowthShouldBeAmortized() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(0);
+        final IndexRange contentIndexRange = new IndexRange(0, - 1);
+        final GeometricTailCapacityStrategy strategy = /*
+         */ new GeometricTailCapacityStrategy(storage, contentIndexRange, GeometricGrowth.DOUBLING);
+
+        int reallocationsCount = 0;
+        for (int item = 0; item < 10000; item++) {
+            final int capacity = storage.capacity();
+            strategy.ensureTailCapacity(1);
+            if (storage.capacity() != capacity)
+                reallocationsCount++;
+
+            contentIndexRange.incrementMaximum(1);
+            storage.set(contentIndexRange.getMaximum(), item);
+        }
+
+        assertThat(reallocationsCount).isLessThan(15);
+        for (int item = 0; item < 10000; item++)
+            assertThat(storage.get(item)).isEqualTo(item);
+    }
+
+    @Test
+    public void headGrowthShouldReserveHeadCapacity() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(2);
+        storage.set(0, 0);
+        storage.set(1, 1);
+        final IndexRange contentIndexRange = new IndexRange(0, 1);
+        final GeometricHeadCapacityStrategy strategy = /*
+         */ new GeometricHeadCapacityStrategy(storage, contentIndexRange, GeometricGrowth.DOUBLING);
+
+        strategy.ensureHeadCapacity(1);
+
+        assertThat(storage.capacity()).isEqualTo(18);
+        assertThat(contentIndexRange.getMinimum()).isEqualTo(16);
+        assertThat(contentIndexRange.getMaximum()).isEqualTo(17);
+        assertThat(storage.get(16)).isEqualTo(0);
+        assertThat(storage.get(17)).isEqualTo(1);
+    }
+
+    @Test
+    public void splitGrowthShouldShiftRightPart() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(4);
+        for (int index = 0; index < 4; index++)
+            storage.set(index, index);
+        final IndexRange contentIndexRange = new IndexRange(0, 3);
+        final GeometricSplitCapacityStrategy strategy = /*
+         */ new GeometricSplitCapacityStrategy(storage, contentIndexRange, GeometricGrowth.DOUBLING);
+
+        strategy.ensureSplitCapacity(2, 3);
+
+        assertThat(storage.capacity()).isEqualTo(20);
+        assertThat(storage.get(0)).isEqualTo(0);
+        assertThat(storage.get(1)).isEqualTo(1);
+        assertThat(storage.get(5)).isEqualTo(2);
+        assertThat(storage.get(6)).isEqualTo(3);
+    }
+
+    @Test
+    public void shrinkShouldKeepReserveBelowThreshold() {
+        final ArrayStorage<Integer> storage = new ArrayStorage<>(100);
+        for (int index = 40; index < 50; index++)
+            storage.set(index, index);
+        final IndexRange contentIndexRange = new IndexRange(40, 49);
+        final GeometricShrinkCapacityStrategy strategy = /*
+         */ new GeometricShrinkCapacityStrategy(storage, contentIndexRange, new GeometricGrowth(2.0, 4, 100));
+
+        strategy.shrinkCapacity();
+
+        assertThat(storage.capacity()).isEqualTo(20);
+        assertThat(contentIndexRange.getMinimum()).isEqualTo(0);
+        assertThat(contentIndexRange.getMaximum()).isEqualTo(9);
+        for (int index = 0; index < 10; index++)
+            assertThat(storage.get(index)).isEqualTo(index + 40);
+
+        strategy.shrinkCapacity();
+
+        assertThat(storage.capacity()).isEqualTo(20);
+    }
+
+    @Test
+    public void invalidOccupancyThresholdShouldThrowException() {
+        assertThat(catchThrowable(() -> new GeometricShrinkCapacityStrategy(new ArrayStorage<Integer>(0),
+                                                                            new IndexRange(0, - 1),
+                                                                            GeometricGrowth.DOUBLING, 1.0)))
+            .isInstanceOf(InvalidGrowthException.class);
+    }
+}
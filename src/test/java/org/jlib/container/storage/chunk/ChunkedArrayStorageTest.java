@@ -0,0 +1,186 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.chunk;
+
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import org.jlib.container.storage.InvalidStorageIndexException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ChunkedArrayStorageTest {
+
+    @Test
+    public void capacityShouldBeRoundedUpToChunkSize() {
+        final ChunkedArrayStorage<Integer> storage = new ChunkedArrayStorage<>(5, 3);
+
+        assertThat(storage.capacity()).isEqualTo(8);
+    }
+
+    @Test
+    public void readOutOfBoundsShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                new ChunkedArrayStorage<Integer>(4, 4).get(4)
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidStorageIndexException.class);
+    }
+
+    @Test
+    public void getPreviouslySetItemShouldReturnCorrectItem() {
+        final ChunkedArrayStorage<String> storage = new ChunkedArrayStorage<>(10, 4);
+        storage.set(9, "Test");
+
+        assertThat(storage.get(9)).isEqualTo("Test");
+    }
+
+    @Test
+    public void tailCapacityShouldKeepItems() {
+        final ChunkedArrayStorage<Integer> storage = filledStorage(10, 4);
+
+        storage.ensureCapacityAndShiftItems(4, new IndexRangeOperationDescriptor(0, 9, 0));
+
+        assertThat(storage.capacity()).isEqualTo(16);
+        assertItems(storage, 0, 10);
+    }
+
+    @Test
+    public void chunkAlignedHeadCapacityShouldShiftItems() {
+        final ChunkedArrayStorage<Integer> storage = filledStorage(10, 4);
+
+        storage.ensureCapacityAndShiftItems(8, new IndexRangeOperationDescriptor(0, 9, 8));
+
+        assertThat(storage.capacity()).isEqualTo(20);
+        assertItems(storage, 8, 10);
+    }
+
+    @Test
+    public void unalignedHeadCapacityShouldShiftItems() {
+        final ChunkedArrayStorage<Integer> storage = filledStorage(10, 4);
+
+        storage.ensureCapacityAndShiftItems(3, new IndexRangeOperationDescriptor(0, 9, 3));
+
+        assertThat(storage.capacity()).isEqualTo(16);
+        assertItems(storage, 3, 10);
+    }
+
+    @Test
+    public void shiftItemsAcrossChunksShouldMoveItems() {
+        final ChunkedArrayStorage<Integer> storage = filledStorage(13, 4);
+
+        storage.shiftItems(new IndexRangeOperationDescriptor(1, 12, 3));
+        assertItems(storage, 3, 1, 12);
+
+        storage.shiftItems(new IndexRangeOperationDescriptor(3, 14, 1));
+        assertItems(storage, 1, 1, 12);
+    }
+
+    @Test
+    public void reduceCapacityShouldReleaseChunks() {
+        final ChunkedArrayStorage<Integer> storage = filledStorage(16, 4);
+
+        storage.reduceCapacityAndShiftItems(10, new IndexRangeOperationDescriptor(9, 13, 0));
+
+        assertThat(storage.capacity()).isEqualTo(8);
+        assertItems(storage, 0, 9, 5);
+    }
+
+    @Test
+    public void unalignedHeadCapacityShouldClearVacatedSlots() {
+        final ChunkedArrayStorage<Integer> storage = filledStorage(10, 4);
+
+        storage.ensureCapacityAndShiftItems(3, new IndexRangeOperationDescriptor(0, 9, 3));
+
+        assertNull(storage, 0, 3);
+        assertNull(storage, 13, 3);
+    }
+
+    @Test
+    public void chunkAlignedHeadCapacityShouldClearVacatedSlots() {
+        final ChunkedArrayStorage<Integer> storage = filledStorage(10, 4);
+
+        storage.ensureCapacityAndShiftItems(8, new IndexRangeOperationDescriptor(2, 9, 10));
+
+        assertNull(storage, 0, 10);
+        assertItems(storage, 10, 2, 8);
+        assertNull(storage, 18, 2);
+    }
+
+    @Test
+    public void reduceCapacityShouldClearVacatedSlots() {
+        final ChunkedArrayStorage<Integer> storage = filledStorage(16, 4);
+
+        storage.reduceCapacityAndShiftItems(10, new IndexRangeOperationDescriptor(9, 13, 0));
+
+        assertNull(storage, 5, 3);
+    }
+
+    @Test
+    public void getItemsShouldCopyItemsAcrossChunks() {
+        final ChunkedArrayStorage<Integer> storage = filledStorage(12, 4);
+
+        final Integer[] items = new Integer[7];
+        storage.getItems(2, 8, items, 0);
+
+        assertThat(items).containsExactly(2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    public void setItemsAndFillItemsShouldReplaceItemsAcrossChunks() {
+        final ChunkedArrayStorage<Integer> storage = filledStorage(12, 4);
+        storage.setItems(3, 5, new Integer[] { 30, 40, 50 }, 0);
+        storage.fillItems(7, 9, 0);
+
+        final Integer[] items = new Integer[12];
+        storage.getItems(0, 11, items, 0);
+
+        assertThat(items).containsExactly(0, 1, 2, 30, 40, 50, 6, 0, 0, 0, 10, 11);
+    }
+
+    private static ChunkedArrayStorage<Integer> filledStorage(final int capacity, final int chunkSize) {
+        final ChunkedArrayStorage<Integer> storage = new ChunkedArrayStorage<>(capacity, chunkSize);
+
+        for (int index = 0; index < capacity; index++)
+            storage.set(index, index);
+
+        return storage;
+    }
+
+    private static void assertNull(final ChunkedArrayStorage<Integer> storage, final int beginIndex,
+                                   final int itemsCount) {
+        for (int offset = 0; offset < itemsCount; offset++)
+            assertThat(storage.get(beginIndex + offset)).isNull();
+    }
+
+    private static void assertItems(final ChunkedArrayStorage<Integer> storage, final int beginIndex,
+                                    final int itemsCount) {
+        assertItems(storage, beginIndex, 0, itemsCount);
+    }
+
+    private static void assertItems(final ChunkedArrayStorage<Integer> storage, final int beginIndex,
+                                    final int firstItem, final int itemsCount) {
+        for (int offset = 0; offset < itemsCount; offset++)
+            assertThat(storage.get(beginIndex + offset)).isEqualTo(firstItem + offset);
+    }
+}
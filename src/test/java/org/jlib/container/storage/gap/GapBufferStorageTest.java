@@ -0,0 +1,129 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.gap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import org.jlib.container.storage.InvalidStorageIndexException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class GapBufferStorageTest {
+
+    @Test
+    public void splitItemsShouldRaiseCapacity() {
+        final GapBufferStorage<Integer> storage = new GapBufferStorage<>(5);
+
+        storage.splitItems(2, 3);
+
+        assertThat(storage.capacity()).isEqualTo(8);
+    }
+
+    @Test
+    public void splitItemsBehindCapacityShouldThrowException() {
+        Throwable thrown = catchThrowable(() ->
+                new GapBufferStorage<Integer>(5).splitItems(6, 1)
+        );
+
+        assertThat(thrown)
+                .isInstanceOf(InvalidStorageIndexException.class);
+    }
+
+    @Test
+    public void clusteredSplitsShouldKeepItemOrder() {
+        final GapBufferStorage<Integer> storage = new GapBufferStorage<>(0);
+        final List<Integer> expectedItems = new ArrayList<>();
+        final Random random = new Random(42);
+
+        int splitIndex = 0;
+        for (int item = 0; item < 1000; item++) {
+            splitIndex = Math.max(0, Math.min(expectedItems.size(), splitIndex + random.nextInt(5) - 2));
+
+            storage.splitItems(splitIndex, 1);
+            storage.set(splitIndex, item);
+            expectedItems.add(splitIndex, item);
+            splitIndex++;
+        }
+
+        assertThat(storage.capacity()).isEqualTo(expectedItems.size());
+        for (int index = 0; index < expectedItems.size(); index++)
+            assertThat(storage.get(index)).isEqualTo(expectedItems.get(index));
+    }
+
+    @Test
+    public void shiftItemsShouldMoveItemsAcrossGap() {
+        final GapBufferStorage<Integer> storage = new GapBufferStorage<>(4);
+        for (int index = 0; index < 4; index++)
+            storage.set(index, index);
+
+        storage.splitItems(2, 1);
+        storage.set(2, 9);
+
+        storage.shiftItems(new IndexRangeOperationDescriptor(1, 3, 2));
+
+        assertThat(storage.get(2)).isEqualTo(1);
+        assertThat(storage.get(3)).isEqualTo(9);
+        assertThat(storage.get(4)).isEqualTo(2);
+    }
+
+    @Test
+    public void ensureCapacityAndShiftItemsShouldCopyItemsAcrossGap() {
+        final GapBufferStorage<Integer> storage = new GapBufferStorage<>(4);
+        for (int index = 0; index < 4; index++)
+            storage.set(index, index);
+
+        storage.splitItems(2, 1);
+        storage.set(2, 9);
+
+        storage.ensureCapacityAndShiftItems(2, new IndexRangeOperationDescriptor(0, 4, 2));
+
+        assertThat(storage.capacity()).isEqualTo(7);
+        assertThat(storage.get(2)).isEqualTo(0);
+        assertThat(storage.get(4)).isEqualTo(9);
+        assertThat(storage.get(6)).isEqualTo(3);
+    }
+
+    @Test
+    public void reduceCapacityAndShiftItemsShouldReleaseGap() {
+        final GapBufferStorage<Integer> storage = new GapBufferStorage<>(4);
+        for (int index = 0; index < 4; index++)
+            storage.set(index, index);
+
+        storage.splitItems(2, 1);
+        storage.set(2, 9);
+
+        storage.reduceCapacityAndShiftItems(2, new IndexRangeOperationDescriptor(1, 3, 0));
+
+        assertThat(storage.capacity()).isEqualTo(3);
+        assertThat(storage.get(0)).isEqualTo(1);
+        assertThat(storage.get(1)).isEqualTo(9);
+        assertThat(storage.get(2)).isEqualTo(2);
+
+        storage.splitItems(3, 1);
+        assertThat(storage.capacity()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package org.jlib.container.storage.ring;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.jlib.container.storage.IndexRange;
+import org.jlib.container.storage.IndexRangeOperationDescriptor;
+import org.jlib.container.storage.capacity.ring.RingHeadCapacityStrategy;
+import org.jlib.container.storage.capacity.ring.RingTailCapacityStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RingBufferStorageTest {
+
+    @Test
+    public void rotateShouldChangeItemIndices() {
+        final RingBufferStorage<Integer> storage = new RingBufferStorage<>(4);
+        storage.set(0, 0);
+        storage.set(3, 3);
+
+        storage.rotate(1);
+
+        assertThat(storage.get(1)).isEqualTo(0);
+        assertThat(storage.get(0)).isEqualTo(3);
+
+        storage.rotate(- 2);
+
+        assertThat(storage.get(3)).isEqualTo(0);
+        assertThat(storage.get(2)).isEqualTo(3);
+    }
+
+    @Test
+    public void ensureCapacityAndShiftItemsShouldUnwrapItems() {
+        final RingBufferStorage<Integer> storage = new RingBufferStorage<>(4);
+        for (int index = 0; index < 4; index++)
+            storage.set(index, index);
+
+        storage.rotate(2);
+        storage.ensureCapacityAndShiftItems(2, new IndexRangeOperationDescriptor(0, 3, 1));
+
+        assertThat(storage.capacity()).isEqualTo(6);
+        assertThat(storage.get(1)).isEqualTo(2);
+        assertThat(storage.get(2)).isEqualTo(3);
+        assertThat(storage.get(3)).isEqualTo(0);
+        assertThat(storage.get(4)).isEqualTo(1);
+    }
+
+    @Test
+    public void reduceCapacityAndShiftItemsShouldUnwrapItems() {
+        final RingBufferStorage<Integer> storage = new RingBufferStorage<>(8);
+        storage.rotate(- 6);
+        for (int index = 0; index < 4; index++)
+            storage.set(index, index);
+
+        storage.reduceCapacityAndShiftItems(4, new IndexRangeOperationDescriptor(0, 3, 0));
+
+        assertThat(storage.capacity()).isEqualTo(4);
+        for (int index = 0; index < 4; index++)
+            assertThat(storage.get(index)).isEqualTo(index);
+    }
+
+    @Test
+    public void shiftItemsShouldMoveWrappedItems() {
+        final RingBufferStorage<Integer> storage = new RingBufferStorage<>(6);
+        storage.rotate(- 4);
+        for (int index = 0; index < 5; index++)
+            storage.set(index, index);
+
+        storage.shiftItems(new IndexRangeOperationDescriptor(0, 4, 1));
+
+        for (int index = 1; index < 6; index++)
+            assertThat(storage.get(index)).isEqualTo(index - 1);
+
+        storage.shiftItems(new IndexRangeOperationDescriptor(1, 5, 0));
+
+        for (int index = 0; index < 5; index++)
+            assertThat(storage.get(index)).isEqualTo(index);
+    }
+
+    @Test
+    public void dequeOperationsShouldKeepItemOrder() {
+        final RingBufferStorage<Integer> storage = new RingBufferStorage<>(0);
+        final IndexRange contentIndexRange = new IndexRange(0, - 1);
+        final RingHeadCapacityStrategy headCapacityStrategy = new RingHeadCapacityStrategy(storage, contentIndexRange);
+        final RingTailCapacityStrategy tailCapacityStrategy = new RingTailCapacityStrategy(storage, contentIndexRange);
+        final Deque<Integer> expectedItems = new ArrayDeque<>();
+        final Random random = new Random(42);
+
+        for (int item = 0; item < 1000; item++)
+            switch (random.nextInt(4)) {
+                case 0:
+                    headCapacityStrategy.ensureHeadCapacity(1);
+                    contentIndexRange.incrementMinimum(- 1);
+                    storage.set(contentIndexRange.getMinimum(), item);
+                    expectedItems.addFirst(item);
+                    break;
+
+                case 1:
+                    tailCapacityStrategy.ensureTailCapacity(1);
+                    contentIndexRange.incrementMaximum(1);
+                    storage.set(contentIndexRange.getMaximum(), item);
+                    expectedItems.addLast(item);
+                    break;
+
+                case 2:
+                    if (! expectedItems.isEmpty()) {
+                        contentIndexRange.incrementMinimum(1);
+                        expectedItems.removeFirst();
+                    }
+                    break;
+
+                default:
+                    if (! expectedItems.isEmpty()) {
+                        contentIndexRange.incrementMaximum(- 1);
+                        expectedItems.removeLast();
+                    }
+            }
+
+        assertThat(contentIndexRange.itemsCount()).isEqualTo(expectedItems.size());
+
+        final Iterator<Integer> expectedItemsIterator = expectedItems.iterator();
+        for (int index = contentIndexRange.getMinimum(); index <= contentIndexRange.getMaximum(); index++)
+            assertThat(storage.get(index)).isEqualTo(expectedItemsIterator.next());
+    }
+}